@@ -1,7 +1,21 @@
 package gr.atc.modapto;
 
+import gr.atc.modapto.config.properties.ComponentCatalogProperties;
+import gr.atc.modapto.config.properties.KafkaListenerProperties;
+import gr.atc.modapto.config.properties.KafkaProducerProperties;
 import gr.atc.modapto.config.properties.KeycloakProperties;
+import gr.atc.modapto.config.properties.KpiSeriesMigrationProperties;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
+import gr.atc.modapto.config.properties.KpiStoreProperties;
+import gr.atc.modapto.config.properties.LocalAnalyticsProperties;
+import gr.atc.modapto.config.properties.RealTimeMonitoringProperties;
+import gr.atc.modapto.config.properties.SchedulerClusterProperties;
+import gr.atc.modapto.config.properties.SchedulerEngineProperties;
+import gr.atc.modapto.config.properties.SchedulerExecutorProperties;
+import gr.atc.modapto.config.properties.SchedulerHistoryProperties;
+import gr.atc.modapto.config.properties.SchedulerRecoveryProperties;
 import gr.atc.modapto.config.properties.SmartServiceDebugProperties;
+import gr.atc.modapto.config.properties.WebSocketLoggingProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -11,7 +25,11 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @SpringBootApplication
 @EnableCaching
 @EnableAsync
-@EnableConfigurationProperties({KeycloakProperties.class, SmartServiceDebugProperties.class})
+@EnableConfigurationProperties({KeycloakProperties.class, SmartServiceDebugProperties.class, SchedulerClusterProperties.class, SchedulerRecoveryProperties.class,
+		SchedulerEngineProperties.class, SchedulerExecutorProperties.class, SchedulerHistoryProperties.class, LocalAnalyticsProperties.class,
+		KpiStoreProperties.class, RealTimeMonitoringProperties.class, KpiSeriesMigrationProperties.class,
+		LatestResultCacheProperties.class, KafkaListenerProperties.class, WebSocketLoggingProperties.class,
+		KafkaProducerProperties.class, ComponentCatalogProperties.class})
 public class ModaptoEvaluationAndDecisionSupportApplication {
 
 	public static void main(String[] args) {
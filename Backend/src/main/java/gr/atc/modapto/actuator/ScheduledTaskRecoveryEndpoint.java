@@ -0,0 +1,26 @@
+package gr.atc.modapto.actuator;
+
+import gr.atc.modapto.dto.ScheduledTaskRecoveryStatusDto;
+import gr.atc.modapto.service.interfaces.IScheduledTaskService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing the progress of the start-up recovery of overdue Scheduled Tasks
+ */
+@Component
+@Endpoint(id = "taskrecovery")
+public class ScheduledTaskRecoveryEndpoint {
+
+    private final IScheduledTaskService scheduledTaskService;
+
+    public ScheduledTaskRecoveryEndpoint(IScheduledTaskService scheduledTaskService) {
+        this.scheduledTaskService = scheduledTaskService;
+    }
+
+    @ReadOperation
+    public ScheduledTaskRecoveryStatusDto recoveryStatus() {
+        return scheduledTaskService.retrieveRecoveryStatus();
+    }
+}
@@ -1,10 +1,19 @@
 package gr.atc.modapto.config;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -15,12 +24,13 @@ import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 
-import gr.atc.modapto.dto.EventDto;
+import gr.atc.modapto.config.properties.KafkaListenerProperties;
+import lombok.extern.slf4j.Slf4j;
 
 @Configuration
 @EnableKafka
+@Slf4j
 public class KafkaConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -32,31 +42,39 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String kafkaOffsetStrategy;
 
+    @Value("${kafka.topics}")
+    private String kafkaTopics;
+
+    private final KafkaListenerProperties listenerProperties;
+
+    public KafkaConfig(KafkaListenerProperties listenerProperties) {
+        this.listenerProperties = listenerProperties;
+    }
+
     @Bean
-    public ConsumerFactory<String, EventDto> consumerFactory() {
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBrokers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, kafkaGroupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, kafkaOffsetStrategy);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-
-        // Configure advanced JSON deserialization
-        JsonDeserializer<EventDto> jsonDeserializer = new JsonDeserializer<>(EventDto.class, false);
-        jsonDeserializer.addTrustedPackages("gr.atc.modapto.dto");
-        jsonDeserializer.setUseTypeHeaders(true);
-
+        // Event values are consumed as raw bytes, the handler only reads their envelope and forwards the results unchanged
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, listenerProperties.maxPollRecords());
 
         return new DefaultKafkaConsumerFactory<>(props,
                 new ErrorHandlingDeserializer<>(new StringDeserializer()),
-                new ErrorHandlingDeserializer<>(jsonDeserializer));
+                new ByteArrayDeserializer());
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, EventDto> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, EventDto> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        // Records of a poll are delivered together, offsets are committed once the whole batch has been processed
+        factory.setBatchListener(true);
+        factory.setConcurrency(resolveConcurrency());
         return factory;
     }
 
@@ -66,4 +84,40 @@ public class KafkaConfig {
         configs.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBrokers);
         return new KafkaAdmin(configs);
     }
+
+    /*
+     * Helper method to resolve the number of consumer threads. Unless configured, it matches the largest partition
+     * count of the consumed topics, as the partitions of each topic are assigned by range to the consumers
+     */
+    private int resolveConcurrency() {
+        if (listenerProperties.concurrency() > 0)
+            return listenerProperties.concurrency();
+
+        List<String> topics = Arrays.stream(kafkaTopics.split(",")).map(String::trim).filter(topic -> !topic.isEmpty()).toList();
+        long timeoutMillis = listenerProperties.partitionLookupTimeout().toMillis();
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBrokers);
+        configs.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) timeoutMillis);
+        configs.put(AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, (int) timeoutMillis);
+
+        int partitions = 0;
+        try (AdminClient adminClient = AdminClient.create(configs)) {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            for (Map.Entry<String, KafkaFuture<TopicDescription>> topic : adminClient.describeTopics(topics).topicNameValues().entrySet()) {
+                try {
+                    long remaining = Math.max(0, deadline - System.currentTimeMillis());
+                    partitions = Math.max(partitions, topic.getValue().get(remaining, TimeUnit.MILLISECONDS).partitions().size());
+                } catch (ExecutionException | TimeoutException e) {
+                    // Missing topics are created later by their producers
+                    log.debug("Unable to describe Kafka topic {} - Error: {}", topic.getKey(), e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int concurrency = Math.clamp(partitions, 1, listenerProperties.maxConcurrency());
+        log.info("Kafka listener concurrency set to {} for {} partitions", concurrency, partitions);
+        return concurrency;
+    }
 }
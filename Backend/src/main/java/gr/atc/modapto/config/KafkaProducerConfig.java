@@ -1,5 +1,6 @@
 package gr.atc.modapto.config;
 
+import gr.atc.modapto.config.properties.KafkaProducerProperties;
 import gr.atc.modapto.dto.EventDto;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -20,6 +21,12 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String kafkaBootstrapServers;
 
+    private final KafkaProducerProperties producerProperties;
+
+    public KafkaProducerConfig(KafkaProducerProperties producerProperties) {
+        this.producerProperties = producerProperties;
+    }
+
     @Bean
     public ProducerFactory<String, EventDto> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -32,6 +39,15 @@ public class KafkaProducerConfig {
         configProps.put(
                 ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
                 JsonSerializer.class);
+
+        // Batching and compression of the events of the same partition
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, (int) producerProperties.linger().toMillis());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, producerProperties.batchSize());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producerProperties.compressionType());
+
+        // Events are acknowledged by all in-sync replicas
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producerProperties.idempotence());
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -39,4 +55,4 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, EventDto> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
-}
\ No newline at end of file
+}
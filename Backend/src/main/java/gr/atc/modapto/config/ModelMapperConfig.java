@@ -1,5 +1,8 @@
 package gr.atc.modapto.config;
 
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.util.KpiSeriesCodec;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.context.annotation.Bean;
@@ -13,6 +16,13 @@ public class ModelMapperConfig {
     public ModelMapper modelMapper() {
         ModelMapper modelMapper = new ModelMapper();
         modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+        // Compressed Monitoring KPIs series are copied as a single string and decoded once into 'Data_list'
+        modelMapper.typeMap(SewSelfAwarenessMonitoringKpisResults.class, SewSelfAwarenessMonitoringKpisResultsDto.class)
+                .setPostConverter(context -> {
+                    KpiSeriesCodec.decompress(context.getDestination());
+                    return context.getDestination();
+                });
         return modelMapper;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package gr.atc.modapto.config;
+
+import gr.atc.modapto.config.properties.SchedulerEngineProperties;
+import gr.atc.modapto.scheduling.TimingWheelTaskScheduler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulerConfig {
+
+    /**
+     * Dedicated Task Scheduler for Smart Service Scheduled Tasks
+     */
+    @Bean(name = "smartServiceTaskScheduler", destroyMethod = "shutdown")
+    public TimingWheelTaskScheduler smartServiceTaskScheduler(SchedulerEngineProperties engineProperties) {
+        return new TimingWheelTaskScheduler(engineProperties.tickDuration(), engineProperties.wheelSize(), engineProperties.maxConcurrency());
+    }
+
+    /**
+     * Task Scheduler for the periodic housekeeping jobs, separate from the Smart Service Scheduled Tasks
+     */
+    @Bean(name = "housekeepingTaskScheduler")
+    public ThreadPoolTaskScheduler housekeepingTaskScheduler(SchedulerEngineProperties engineProperties) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(engineProperties.housekeepingPoolSize());
+        taskScheduler.setThreadNamePrefix("housekeeping-");
+        return taskScheduler;
+    }
+}
@@ -0,0 +1,29 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory catalog of the SEW Components List and the cached Monitor KPIs Components Lists.
+ */
+@ConfigurationProperties(prefix = "component-catalog")
+public record ComponentCatalogProperties(
+
+    /**
+     * Maximum age of the catalog and of every cached Monitor KPIs Components List before they are loaded again from
+     * Elasticsearch. Bounds staleness for Components Lists stored, updated or deleted by another instance.
+     * Default: 1m
+     */
+    Duration maxAge
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public ComponentCatalogProperties {
+        if (maxAge == null || maxAge.isZero() || maxAge.isNegative()) {
+            maxAge = Duration.ofMinutes(1);
+        }
+    }
+}
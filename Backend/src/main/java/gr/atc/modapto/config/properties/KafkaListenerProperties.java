@@ -0,0 +1,55 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the batch consumption of the Kafka event topics.
+ */
+@ConfigurationProperties(prefix = "kafka.listener")
+public record KafkaListenerProperties(
+
+    /**
+     * Number of consumer threads. When 0, it matches the largest partition count of the consumed topics.
+     * Default: 0
+     */
+    Integer concurrency,
+
+    /**
+     * Upper bound of the consumer threads when the concurrency matches the partition count.
+     * Default: 8
+     */
+    Integer maxConcurrency,
+
+    /**
+     * Maximum duration of the partition count lookup at start-up, a single consumer thread is used if it times out.
+     * Default: 5s
+     */
+    Duration partitionLookupTimeout,
+
+    /**
+     * Maximum number of records delivered in a single batch.
+     * Default: 500
+     */
+    Integer maxPollRecords
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public KafkaListenerProperties {
+        if (concurrency == null || concurrency < 0) {
+            concurrency = 0;
+        }
+        if (maxConcurrency == null || maxConcurrency < 1) {
+            maxConcurrency = 8;
+        }
+        if (partitionLookupTimeout == null || partitionLookupTimeout.isZero() || partitionLookupTimeout.isNegative()) {
+            partitionLookupTimeout = Duration.ofSeconds(5);
+        }
+        if (maxPollRecords == null || maxPollRecords < 1) {
+            maxPollRecords = 500;
+        }
+    }
+}
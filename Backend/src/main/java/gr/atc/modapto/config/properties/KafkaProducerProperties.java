@@ -0,0 +1,89 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Configuration properties for the publishing of events to Kafka.
+ */
+@ConfigurationProperties(prefix = "kafka.producer")
+public record KafkaProducerProperties(
+
+    /**
+     * Time the producer waits for more events of the same partition before sending a batch.
+     * Default: 20ms
+     */
+    Duration linger,
+
+    /**
+     * Maximum size in bytes of a batch of events of the same partition.
+     * Default: 65536
+     */
+    Integer batchSize,
+
+    /**
+     * Compression of the batches, one of none, gzip, snappy, lz4 or zstd.
+     * Default: lz4
+     */
+    String compressionType,
+
+    /**
+     * Whether the producer is idempotent, so that broker retries never duplicate or reorder events.
+     * Default: true
+     */
+    Boolean idempotence,
+
+    /**
+     * Maximum number of failed events kept in memory to be published again, 0 disables the retry buffer.
+     * Buffered events are published after newer events of the same Module, and an event whose acknowledgement was lost
+     * may be published twice, so enabling the buffer gives up the per-Module ordering and the idempotence of the producer.
+     * Default: 0
+     */
+    Integer retryBufferCapacity,
+
+    /**
+     * Interval between the attempts to publish the buffered events.
+     * Default: 10s
+     */
+    Duration retryInterval,
+
+    /**
+     * Maximum number of attempts to publish a buffered event before it is dropped.
+     * Default: 3
+     */
+    Integer maxRetryAttempts
+) {
+
+    private static final Set<String> COMPRESSION_TYPES = Set.of("none", "gzip", "snappy", "lz4", "zstd");
+
+    /**
+     * Default constructor with fallback values
+     */
+    public KafkaProducerProperties {
+        if (linger == null || linger.isNegative()) {
+            linger = Duration.ofMillis(20);
+        }
+        if (batchSize == null || batchSize < 0) {
+            batchSize = 65536;
+        }
+        if (compressionType == null || !COMPRESSION_TYPES.contains(compressionType.toLowerCase())) {
+            compressionType = "lz4";
+        } else {
+            compressionType = compressionType.toLowerCase();
+        }
+        if (idempotence == null) {
+            idempotence = true;
+        }
+        if (retryBufferCapacity == null || retryBufferCapacity < 0) {
+            retryBufferCapacity = 0;
+        }
+        if (retryInterval == null || retryInterval.isZero() || retryInterval.isNegative()) {
+            retryInterval = Duration.ofSeconds(10);
+        }
+        if (maxRetryAttempts == null || maxRetryAttempts < 1) {
+            maxRetryAttempts = 3;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the migration of the stored SEW Self-Awareness Monitoring KPIs series to the compressed storage form.
+ */
+@ConfigurationProperties(prefix = "kpi-series-migration")
+public record KpiSeriesMigrationProperties(
+
+    /**
+     * Whether the stored series are compressed once the application has started. The migration is idempotent.
+     * Default: false
+     */
+    Boolean enabled,
+
+    /**
+     * Number of results read and re-indexed per bulk request.
+     * Default: 500
+     */
+    Integer pageSize
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public KpiSeriesMigrationProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (pageSize == null || pageSize < 1 || pageSize > 1000) {
+            pageSize = 500;
+        }
+    }
+}
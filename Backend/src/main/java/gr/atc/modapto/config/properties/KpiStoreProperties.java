@@ -0,0 +1,65 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory columnar store of the SEW Self-Awareness Monitoring KPIs.
+ */
+@ConfigurationProperties(prefix = "kpi-store")
+public record KpiStoreProperties(
+
+    /**
+     * Whether the Monitoring KPIs results are loaded in memory and kept up to date.
+     * Default: true
+     */
+    Boolean enabled,
+
+    /**
+     * Maximum number of KPI values kept in memory. Each value takes 16 bytes, the oldest segments are evicted beyond this.
+     * Default: 4000000 (~64 MB)
+     */
+    Long maxValues,
+
+    /**
+     * Number of values per segment of a series.
+     * Default: 4096
+     */
+    Integer segmentSize,
+
+    /**
+     * Interval at which new Monitoring KPIs results are appended to the store.
+     * Default: 30s
+     */
+    Duration refreshInterval,
+
+    /**
+     * Window before the latest appended result that every refresh reads again, so that results indexed late with
+     * an older timestamp are not missed. Results indexed later than this are never appended.
+     * Default: 5m
+     */
+    Duration refreshOverlap
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public KpiStoreProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (maxValues == null || maxValues < 1) {
+            maxValues = 4_000_000L;
+        }
+        if (segmentSize == null || segmentSize < 1) {
+            segmentSize = 4096;
+        }
+        if (refreshInterval == null || refreshInterval.isZero() || refreshInterval.isNegative()) {
+            refreshInterval = Duration.ofSeconds(30);
+        }
+        if (refreshOverlap == null || refreshOverlap.isNegative()) {
+            refreshOverlap = Duration.ofMinutes(5);
+        }
+    }
+}
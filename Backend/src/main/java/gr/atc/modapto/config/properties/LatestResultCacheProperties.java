@@ -0,0 +1,49 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cache of the latest Smart Service results.
+ */
+@ConfigurationProperties(prefix = "latest-result-cache")
+public record LatestResultCacheProperties(
+
+    /**
+     * Whether the latest results are cached.
+     * Default: true
+     */
+    Boolean enabled,
+
+    /**
+     * Maximum age of a cached result before it is read again from Elasticsearch. Bounds staleness for results
+     * written without an event or whose event was consumed by another instance, since replicas sharing the consumer group
+     * only receive the events of their own partitions. Longer ages save queries at the cost of serving an outdated result
+     * on the other replicas for that long.
+     * Default: 10s
+     */
+    Duration maxAge,
+
+    /**
+     * Maximum number of cached (result type, Module ID) entries.
+     * Default: 10000
+     */
+    Integer maxEntries
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public LatestResultCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (maxAge == null || maxAge.isZero() || maxAge.isNegative()) {
+            maxAge = Duration.ofSeconds(10);
+        }
+        if (maxEntries == null || maxEntries < 1) {
+            maxEntries = 10000;
+        }
+    }
+}
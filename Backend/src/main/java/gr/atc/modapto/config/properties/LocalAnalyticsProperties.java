@@ -0,0 +1,27 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the SEW Local Analytics process.
+ */
+@ConfigurationProperties(prefix = "local-analytics")
+public record LocalAnalyticsProperties(
+
+    /**
+     * Whether the filtering options are computed locally with an Elasticsearch aggregation.
+     * If disabled, all Monitoring KPIs results are sent to the DTM Local Analytics service instead.
+     * Default: true
+     */
+    Boolean localFilteringOptions
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public LocalAnalyticsProperties {
+        if (localFilteringOptions == null) {
+            localFilteringOptions = true;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory state of the SEW Self-Awareness Real-Time Monitoring results.
+ */
+@ConfigurationProperties(prefix = "real-time-monitoring")
+public record RealTimeMonitoringProperties(
+
+    /**
+     * Event topic carrying the Real-Time Monitoring results.
+     * Default: self-awareness-real-time-monitoring
+     */
+    String eventTopic,
+
+    /**
+     * Number of most recent results kept per (moduleId, component, property).
+     * Default: 32
+     */
+    Integer bufferSize,
+
+    /**
+     * Maximum number of (moduleId, component, property) keys. The least recently updated key is evicted beyond this.
+     * Default: 10000
+     */
+    Integer maxKeys,
+
+    /**
+     * Interval at which the changed keys are pushed as WebSocket deltas.
+     * Default: 1s
+     */
+    Duration deltaInterval
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public RealTimeMonitoringProperties {
+        if (eventTopic == null || eventTopic.isBlank()) {
+            eventTopic = "self-awareness-real-time-monitoring";
+        }
+        if (bufferSize == null || bufferSize < 1) {
+            bufferSize = 32;
+        }
+        if (maxKeys == null || maxKeys < 1) {
+            maxKeys = 10000;
+        }
+        if (deltaInterval == null || deltaInterval.isZero() || deltaInterval.isNegative()) {
+            deltaInterval = Duration.ofSeconds(1);
+        }
+    }
+}
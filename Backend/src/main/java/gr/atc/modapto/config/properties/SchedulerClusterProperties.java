@@ -0,0 +1,67 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Configuration properties for running the Scheduled Tasks across multiple EDS replicas.
+ * Each execution is guarded by a lease in Elasticsearch so that only one replica runs it.
+ */
+@ConfigurationProperties(prefix = "scheduler.cluster")
+public record SchedulerClusterProperties(
+
+    /**
+     * Enable or disable lease-based task ownership.
+     * When disabled every replica executes all of its scheduled tasks, so it must be enabled when running more than one replica.
+     * Default: false
+     */
+    Boolean enabled,
+
+    /**
+     * Unique identifier of this replica.
+     * Default: random UUID
+     */
+    String instanceId,
+
+    /**
+     * Interval at which this replica announces that it is alive.
+     * Default: 10s
+     */
+    Duration heartbeatInterval,
+
+    /**
+     * Time after the last heartbeat at which a replica is considered dead and its tasks are taken over.
+     * Default: 30s
+     */
+    Duration instanceTimeout,
+
+    /**
+     * Interval at which the locally scheduled tasks are synchronized with the stored ones.
+     * Default: 1m
+     */
+    Duration synchronizationInterval
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public SchedulerClusterProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (instanceId == null || instanceId.trim().isEmpty()) {
+            instanceId = UUID.randomUUID().toString();
+        }
+        if (heartbeatInterval == null) {
+            heartbeatInterval = Duration.ofSeconds(10);
+        }
+        if (instanceTimeout == null) {
+            instanceTimeout = Duration.ofSeconds(30);
+        }
+        if (synchronizationInterval == null) {
+            synchronizationInterval = Duration.ofMinutes(1);
+        }
+    }
+}
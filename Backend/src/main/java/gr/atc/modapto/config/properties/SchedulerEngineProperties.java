@@ -0,0 +1,65 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the timing-wheel engine executing the Scheduled Tasks.
+ */
+@ConfigurationProperties(prefix = "scheduler.engine")
+public record SchedulerEngineProperties(
+
+    /**
+     * Resolution of the timing wheel. Tasks run at most one tick after their scheduled time.
+     * Default: 100ms
+     */
+    Duration tickDuration,
+
+    /**
+     * Number of slots per timing wheel level.
+     * Default: 512
+     */
+    Integer wheelSize,
+
+    /**
+     * Maximum number of scheduled tasks running concurrently.
+     * Default: 64
+     */
+    Integer maxConcurrency,
+
+    /**
+     * Interval at which the next execution times of the tasks are persisted in bulk.
+     * Default: 5s
+     */
+    Duration persistenceFlushInterval,
+
+    /**
+     * Number of threads of the scheduler running the housekeeping jobs (retries, flushes, heartbeats, refreshes),
+     * kept apart from the Scheduled Tasks so that they do not compete for the same concurrency.
+     * Default: 4
+     */
+    Integer housekeepingPoolSize
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public SchedulerEngineProperties {
+        if (tickDuration == null || tickDuration.isZero() || tickDuration.isNegative()) {
+            tickDuration = Duration.ofMillis(100);
+        }
+        if (wheelSize == null || wheelSize < 2) {
+            wheelSize = 512;
+        }
+        if (maxConcurrency == null || maxConcurrency < 1) {
+            maxConcurrency = 64;
+        }
+        if (persistenceFlushInterval == null || persistenceFlushInterval.isZero() || persistenceFlushInterval.isNegative()) {
+            persistenceFlushInterval = Duration.ofSeconds(5);
+        }
+        if (housekeepingPoolSize == null || housekeepingPoolSize < 1) {
+            housekeepingPoolSize = 4;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration properties for the per smart-service type execution pools of the Scheduled Tasks.
+ */
+@ConfigurationProperties(prefix = "scheduler.executors")
+public record SchedulerExecutorProperties(
+
+    /**
+     * Maximum number of concurrent executions of a smart-service type without a specific limit.
+     * Default: 2
+     */
+    Integer defaultConcurrency,
+
+    /**
+     * Maximum number of executions of a smart-service type waiting for a free slot, without a specific limit.
+     * Default: 100
+     */
+    Integer defaultQueueCapacity,
+
+    /**
+     * Concurrency limits per smart-service type.
+     */
+    Map<String, Integer> concurrency,
+
+    /**
+     * Queue capacities per smart-service type.
+     */
+    Map<String, Integer> queueCapacity,
+
+    /**
+     * Window within which scheduled runs of the same type are grouped to share a single snapshot of their inputs.
+     * Runs start at most one window after their scheduled time, so coalescing is only worth enabling when many runs of a type fire together.
+     * Zero disables coalescing.
+     * Default: 0s
+     */
+    Duration coalescingWindow
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public SchedulerExecutorProperties {
+        if (defaultConcurrency == null || defaultConcurrency < 1) {
+            defaultConcurrency = 2;
+        }
+        if (defaultQueueCapacity == null || defaultQueueCapacity < 0) {
+            defaultQueueCapacity = 100;
+        }
+        if (concurrency == null) {
+            concurrency = Map.of();
+        }
+        if (queueCapacity == null) {
+            queueCapacity = Map.of();
+        }
+        if (coalescingWindow == null || coalescingWindow.isNegative()) {
+            coalescingWindow = Duration.ZERO;
+        }
+    }
+
+    /**
+     * Retrieve the concurrency limit of a smart-service type
+     *
+     * @param smartServiceType : Smart Service Type
+     * @return Concurrency limit
+     */
+    public int concurrencyOf(String smartServiceType) {
+        Integer limit = concurrency.get(smartServiceType);
+        return limit != null && limit > 0 ? limit : defaultConcurrency;
+    }
+
+    /**
+     * Retrieve the queue capacity of a smart-service type
+     *
+     * @param smartServiceType : Smart Service Type
+     * @return Queue capacity
+     */
+    public int queueCapacityOf(String smartServiceType) {
+        Integer capacity = queueCapacity.get(smartServiceType);
+        return capacity != null && capacity >= 0 ? capacity : defaultQueueCapacity;
+    }
+}
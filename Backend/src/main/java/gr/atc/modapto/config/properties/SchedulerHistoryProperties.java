@@ -0,0 +1,46 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the execution history of the Scheduled Tasks.
+ */
+@ConfigurationProperties(prefix = "scheduler.history")
+public record SchedulerHistoryProperties(
+
+    /**
+     * Whether an execution record is stored for every run of a Scheduled Task.
+     * Default: true
+     */
+    Boolean enabled,
+
+    /**
+     * Interval at which the buffered execution records are stored in bulk.
+     * Default: 10s
+     */
+    Duration flushInterval,
+
+    /**
+     * Maximum number of execution records buffered in memory. Records beyond this are dropped.
+     * Default: 10000
+     */
+    Integer bufferCapacity
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public SchedulerHistoryProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (flushInterval == null || flushInterval.isZero() || flushInterval.isNegative()) {
+            flushInterval = Duration.ofSeconds(10);
+        }
+        if (bufferCapacity == null || bufferCapacity < 1) {
+            bufferCapacity = 10000;
+        }
+    }
+}
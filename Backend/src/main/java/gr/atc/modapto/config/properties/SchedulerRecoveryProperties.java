@@ -0,0 +1,47 @@
+package gr.atc.modapto.config.properties;
+
+import gr.atc.modapto.enums.MissedRunPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for recovering overdue Scheduled Tasks on application start-up.
+ */
+@ConfigurationProperties(prefix = "scheduler.recovery")
+public record SchedulerRecoveryProperties(
+
+    /**
+     * Policy for missed runs: CATCH_UP executes each overdue task once, SKIP moves it to its next run.
+     * Default: CATCH_UP
+     */
+    MissedRunPolicy missedRunPolicy,
+
+    /**
+     * Window over which the catch-up runs are randomly spread.
+     * Default: 5m
+     */
+    Duration catchUpWindow,
+
+    /**
+     * Maximum number of catch-up runs executed concurrently.
+     * Default: 4
+     */
+    Integer maxConcurrency
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public SchedulerRecoveryProperties {
+        if (missedRunPolicy == null) {
+            missedRunPolicy = MissedRunPolicy.CATCH_UP;
+        }
+        if (catchUpWindow == null || catchUpWindow.isNegative()) {
+            catchUpWindow = Duration.ofMinutes(5);
+        }
+        if (maxConcurrency == null || maxConcurrency < 1) {
+            maxConcurrency = 4;
+        }
+    }
+}
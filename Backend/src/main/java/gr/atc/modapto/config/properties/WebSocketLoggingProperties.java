@@ -0,0 +1,35 @@
+package gr.atc.modapto.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the logging of the messages sent to the WebSocket topics.
+ */
+@ConfigurationProperties(prefix = "websocket.logging")
+public record WebSocketLoggingProperties(
+
+    /**
+     * One in every body-sample-rate message bodies is logged, 0 disables the logging of message bodies.
+     * Default: 100
+     */
+    Integer bodySampleRate,
+
+    /**
+     * Maximum number of characters of a logged message body.
+     * Default: 256
+     */
+    Integer bodyMaxLength
+) {
+
+    /**
+     * Default constructor with fallback values
+     */
+    public WebSocketLoggingProperties {
+        if (bodySampleRate == null || bodySampleRate < 0) {
+            bodySampleRate = 100;
+        }
+        if (bodyMaxLength == null || bodyMaxLength < 1) {
+            bodyMaxLength = 256;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package gr.atc.modapto.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.HistoricalResultsQueryDto;
+import gr.atc.modapto.enums.HistoricalResultType;
+import gr.atc.modapto.service.SearchAfterPaginationService;
+import gr.atc.modapto.service.interfaces.IHistoricalResultsService;
+import gr.atc.modapto.util.NdjsonStreamUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/eds/results")
+@Validated
+@Tag(name = "Historical Results Controller", description = "Historical queries over the stored Smart Service results")
+public class HistoricalResultsController {
+
+    private final IHistoricalResultsService historicalResultsService;
+
+    private final ObjectMapper objectMapper;
+
+    public HistoricalResultsController(IHistoricalResultsService historicalResultsService, ObjectMapper objectMapper) {
+        this.historicalResultsService = historicalResultsService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Retrieve a page of historical Smart Service results, newest first unless ascending, with cursor-based pagination
+     *
+     * @param resultType : Type of results
+     * @param moduleId : Module ID, all Modules if not given
+     * @param smartServiceId : Smart Service ID, all Smart Services if not given
+     * @param from : Start of the time range, inclusive
+     * @param to : End of the time range, inclusive
+     * @param fields : Stored fields to fetch, every field except the large ones if not given, '*' for all fields
+     * @param ascending : Oldest results first
+     * @param cursor : Cursor returned by the previous page, first page if not given
+     * @param size : Results per page
+     * @return CursorPaginatedResultsDto<Object>
+     */
+    @Operation(summary = "Retrieve a page of historical Smart Service results with filters and field projection", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Historical results page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid result type, time range, fields or Smart Service filter | Invalid or expired cursor | Size must be between 1 and 1000"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
+            @ApiResponse(responseCode = "500", description = "Internal mapping exception")
+    })
+    @GetMapping("/{resultType}/history")
+    public ResponseEntity<BaseResponse<CursorPaginatedResultsDto<Object>>> retrieveHistoricalResults(
+            @PathVariable HistoricalResultType resultType,
+            @RequestParam(required = false) String moduleId,
+            @RequestParam(required = false) String smartServiceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Stored fields to fetch, e.g. 'baseline', '*' for all fields") @RequestParam(required = false) List<String> fields,
+            @RequestParam(required = false, defaultValue = "false") boolean ascending,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "100") @Min(1) @Max(SearchAfterPaginationService.MAX_PAGE_SIZE) int size) {
+        HistoricalResultsQueryDto query = buildQuery(resultType, moduleId, smartServiceId, from, to, fields, ascending);
+        return new ResponseEntity<>(
+                BaseResponse.success(
+                        historicalResultsService.retrieveHistoricalResults(query, cursor, size),
+                        "Historical " + resultType + " results page retrieved successfully"),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Stream all historical Smart Service results matching the filters as newline-delimited JSON
+     *
+     * @param resultType : Type of results
+     * @param moduleId : Module ID, all Modules if not given
+     * @param smartServiceId : Smart Service ID, all Smart Services if not given
+     * @param from : Start of the time range, inclusive
+     * @param to : End of the time range, inclusive
+     * @param fields : Stored fields to fetch, every field except the large ones if not given, '*' for all fields
+     * @param ascending : Oldest results first
+     * @return One JSON document per line
+     */
+    @Operation(summary = "Stream historical Smart Service results as newline-delimited JSON", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Historical results streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid result type, time range, fields or Smart Service filter"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again.")
+    })
+    @GetMapping(value = "/{resultType}/history/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamHistoricalResults(
+            @PathVariable HistoricalResultType resultType,
+            @RequestParam(required = false) String moduleId,
+            @RequestParam(required = false) String smartServiceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Stored fields to fetch, e.g. 'baseline', '*' for all fields") @RequestParam(required = false) List<String> fields,
+            @RequestParam(required = false, defaultValue = "false") boolean ascending) {
+        HistoricalResultsQueryDto query = buildQuery(resultType, moduleId, smartServiceId, from, to, fields, ascending);
+        // Invalid queries are rejected before the response is committed
+        historicalResultsService.validateHistoricalResultsQuery(query);
+        return NdjsonStreamUtils.streamAsNdjson(objectMapper, pageConsumer -> historicalResultsService.streamHistoricalResults(query, pageConsumer));
+    }
+
+    private HistoricalResultsQueryDto buildQuery(HistoricalResultType resultType, String moduleId, String smartServiceId,
+                                                 LocalDateTime from, LocalDateTime to, List<String> fields, boolean ascending) {
+        return HistoricalResultsQueryDto.builder()
+                .resultType(resultType)
+                .moduleId(moduleId)
+                .smartServiceId(smartServiceId)
+                .from(from)
+                .to(to)
+                .fields(fields)
+                .ascending(ascending)
+                .build();
+    }
+}
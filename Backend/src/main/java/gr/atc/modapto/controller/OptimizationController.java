@@ -11,11 +11,14 @@ import gr.atc.modapto.dto.serviceResults.sew.SewOptimizationResultsDto;
 import gr.atc.modapto.service.interfaces.IKhPickingSequenceOptimizationService;
 import gr.atc.modapto.service.interfaces.IProductionScheduleOptimizationService;
 import gr.atc.modapto.service.interfaces.IRobotConfigurationOptimizationService;
+import gr.atc.modapto.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +28,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Optimization Controller", description = "Handles optimization functionalities amongst Pilot Cases")
 public class OptimizationController {
 
+    // Results are polled, clients revalidate with their ETag on every request
+    private static final CacheControl LATEST_RESULTS_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final IKhPickingSequenceOptimizationService khPickingSequenceOptimizationService;
 
     private final IProductionScheduleOptimizationService productionScheduleOptimizationService;
@@ -46,14 +52,16 @@ public class OptimizationController {
     @Operation(summary = "Retrieve latest CRF Optimization Results", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest FFT Optimization results retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No CRF Optimization Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/fft/latest")
-    public ResponseEntity<BaseResponse<FftOptimizationResultsDto>> retrieveLatestFftResults() {
-        return new ResponseEntity<>(BaseResponse.success(robotConfigurationOptimizationService.retrieveLatestOptimizationResults(),
-                "Latest FFT Optimization results retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<FftOptimizationResultsDto>> retrieveLatestFftResults(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        FftOptimizationResultsDto results = robotConfigurationOptimizationService.retrieveLatestOptimizationResults();
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest FFT Optimization results retrieved successfully"));
     }
 
     /**
@@ -64,14 +72,17 @@ public class OptimizationController {
     @Operation(summary = "Retrieve latest CRF Optimization Results by MODAPTO Module", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest FFT Optimization results for Module: [moduleId] retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No CRF Optimization Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/fft/modules/{moduleId}/latest")
-    public ResponseEntity<BaseResponse<FftOptimizationResultsDto>> retrieveLatestFftResultsByProductionModule(@PathVariable String moduleId) {
-        return new ResponseEntity<>(BaseResponse.success(robotConfigurationOptimizationService.retrieveLatestOptimizationResultsByModuleId(moduleId),
-                "Latest FFT Optimization results for Module " + moduleId + " retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<FftOptimizationResultsDto>> retrieveLatestFftResultsByProductionModule(@PathVariable String moduleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        FftOptimizationResultsDto results = robotConfigurationOptimizationService.retrieveLatestOptimizationResultsByModuleId(moduleId);
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest FFT Optimization results for Module " + moduleId + " retrieved successfully"));
     }
 
     /**
@@ -103,14 +114,16 @@ public class OptimizationController {
     @Operation(summary = "Retrieve latest CRF Optimization Results", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest CRF Optimization results retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No CRF Optimization Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/crf/latest")
-    public ResponseEntity<BaseResponse<CrfOptimizationResultsDto>> retrieveLatestCrfResults() {
-        return new ResponseEntity<>(BaseResponse.success(khPickingSequenceOptimizationService.retrieveLatestOptimizationResults(),
-                "Latest CRF Optimization results retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<CrfOptimizationResultsDto>> retrieveLatestCrfResults(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CrfOptimizationResultsDto results = khPickingSequenceOptimizationService.retrieveLatestOptimizationResults();
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest CRF Optimization results retrieved successfully"));
     }
 
     /**
@@ -121,14 +134,17 @@ public class OptimizationController {
     @Operation(summary = "Retrieve latest CRF Optimization Results by MODAPTO Module", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest CRF Optimization results for Module: [moduleId] retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No CRF Optimization Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/crf/modules/{moduleId}/latest")
-    public ResponseEntity<BaseResponse<CrfOptimizationResultsDto>> retrieveLatestCrfResultsByProductionModule(@PathVariable String moduleId) {
-        return new ResponseEntity<>(BaseResponse.success(khPickingSequenceOptimizationService.retrieveLatestOptimizationResultsByModuleId(moduleId),
-                "Latest CRF Optimization results for Module " + moduleId + " retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<CrfOptimizationResultsDto>> retrieveLatestCrfResultsByProductionModule(@PathVariable String moduleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CrfOptimizationResultsDto results = khPickingSequenceOptimizationService.retrieveLatestOptimizationResultsByModuleId(moduleId);
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest CRF Optimization results for Module " + moduleId + " retrieved successfully"));
     }
 
     /**
@@ -146,7 +162,7 @@ public class OptimizationController {
     })
     @PostMapping("/pilots/crf/kh-picking-sequence/optimize")
     public ResponseEntity<BaseResponse<Void>> invokeOptimizationOfKhPickingSequence(@RequestBody CrfInvocationInputDto invocationData) {
-        khPickingSequenceOptimizationService.invokeOptimizationOfKhPickingSequence(invocationData);
+        khPickingSequenceOptimizationService.invokeAndRegisterOptimizationOfKhPickingSequence(invocationData);
         return new ResponseEntity<>(BaseResponse.success(null,
                 "Request for optimization of CRF KH Picking Sequence has been successfully submitted"), HttpStatus.OK);
     }
@@ -178,14 +194,16 @@ public class OptimizationController {
     @Operation(summary = "Retrieve latest SEW Optimization Results", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest SEW Optimization results retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No SEW Optimization Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/sew/latest")
-    public ResponseEntity<BaseResponse<SewOptimizationResultsDto>> retrieveLatestSewResults() {
-        return new ResponseEntity<>(BaseResponse.success(productionScheduleOptimizationService.retrieveLatestOptimizationResults(),
-                "Latest SEW Optimization results retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<SewOptimizationResultsDto>> retrieveLatestSewResults(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SewOptimizationResultsDto results = productionScheduleOptimizationService.retrieveLatestOptimizationResults();
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest SEW Optimization results retrieved successfully"));
     }
 
     /**
@@ -196,14 +214,17 @@ public class OptimizationController {
     @Operation(summary = "Retrieve latest SEW Optimization Results by MODAPTO Module", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest SEW Optimization results for Module: [moduleId] retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No SEW Optimization Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/sew/modules/{moduleId}/latest")
-    public ResponseEntity<BaseResponse<SewOptimizationResultsDto>> retrieveLatestSewResultsByProductionModule(@PathVariable String moduleId) {
-        return new ResponseEntity<>(BaseResponse.success(productionScheduleOptimizationService.retrieveLatestOptimizationResultsByModuleId(moduleId),
-                "Latest SEW Optimization results for Module " + moduleId + " retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<SewOptimizationResultsDto>> retrieveLatestSewResultsByProductionModule(@PathVariable String moduleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SewOptimizationResultsDto results = productionScheduleOptimizationService.retrieveLatestOptimizationResultsByModuleId(moduleId);
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest SEW Optimization results for Module " + moduleId + " retrieved successfully"));
     }
 
     /**
@@ -10,6 +10,7 @@ import gr.atc.modapto.dto.sew.SewComponentInfoDto;
 import gr.atc.modapto.dto.serviceInvocations.SewGroupingPredictiveMaintenanceInputDataDto;
 import gr.atc.modapto.service.interfaces.IPredictiveMaintenanceService;
 import gr.atc.modapto.service.interfaces.IScheduledTaskService;
+import gr.atc.modapto.util.ETagUtils;
 import gr.atc.modapto.util.PaginationUtils;
 import gr.atc.modapto.validation.ValidExcelFile;
 import io.swagger.v3.oas.annotations.Hidden;
@@ -24,6 +25,8 @@ import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -39,6 +42,9 @@ import java.util.List;
 @Tag(name = "Predictive Maintenance Controller", description = "API Controller for managing Predictive Maintenance")
 public class PredictiveMaintenanceController {
 
+    // Results are polled, clients revalidate with their ETag on every request
+    private static final CacheControl LATEST_RESULTS_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final IPredictiveMaintenanceService predictiveMaintenanceService;
 
     private final IScheduledTaskService scheduledTaskService;
@@ -128,7 +134,7 @@ public class PredictiveMaintenanceController {
     })
     @PostMapping("/predict/grouping-maintenance")
     public ResponseEntity<BaseResponse<String>> invokeGroupingPredictiveMaintenance(@Valid @RequestBody SewGroupingPredictiveMaintenanceInputDataDto invocationData) {
-        predictiveMaintenanceService.invokeGroupingPredictiveMaintenance(invocationData);
+        predictiveMaintenanceService.invokeAndRegisterGroupingPredictiveMaintenance(invocationData);
         return new ResponseEntity<>(
                 BaseResponse.success(null, "Predictive Maintenance service for Grouping Maintenance invoked successfully"),
                 HttpStatus.OK);
@@ -164,18 +170,18 @@ public class PredictiveMaintenanceController {
     @Operation(summary = "Retrieve the latest grouping predictive maintenance results for a specific Module [PdM1]", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Grouping Predictive Maintenance latest results retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No SEW Grouping Predictive Maintenance Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/predict/grouping-maintenance/results")
     public ResponseEntity<BaseResponse<SewGroupingPredictiveMaintenanceOutputDto>> retrieveGroupingMaintenanceLatestResults(
-            @RequestParam String moduleId) {
-        return new ResponseEntity<>(
-                BaseResponse.success(
-                        predictiveMaintenanceService.retrieveLatestGroupingMaintenanceResults(moduleId),
-                        "Grouping Predictive Maintenance latest results retrieved successfully"),
-                HttpStatus.OK);
+            @RequestParam String moduleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SewGroupingPredictiveMaintenanceOutputDto results = predictiveMaintenanceService.retrieveLatestGroupingMaintenanceResults(moduleId);
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Grouping Predictive Maintenance latest results retrieved successfully"));
     }
 
     /**
@@ -187,18 +193,18 @@ public class PredictiveMaintenanceController {
     @Operation(summary = "Retrieve the latest threshold-based  predictive maintenance results for a specific Module [PdM2]", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Threshold-Based Predictive Maintenance latest results retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No SEW Threshold-based Predictive Maintenance Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/predict/threshold-based-maintenance/results")
     public ResponseEntity<BaseResponse<SewThresholdBasedPredictiveMaintenanceOutputDto>> retrieveThresholdBasedMaintenanceLatestResults(
-            @RequestParam String moduleId) {
-        return new ResponseEntity<>(
-                BaseResponse.success(
-                        predictiveMaintenanceService.retrieveLatestThresholdBasedMaintenanceResults(moduleId),
-                        "Threshold-Based Predictive Maintenance latest results retrieved successfully"),
-                HttpStatus.OK);
+            @RequestParam String moduleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SewThresholdBasedPredictiveMaintenanceOutputDto results = predictiveMaintenanceService.retrieveLatestThresholdBasedMaintenanceResults(moduleId);
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Threshold-Based Predictive Maintenance latest results retrieved successfully"));
     }
 
     /**
@@ -0,0 +1,58 @@
+package gr.atc.modapto.controller;
+
+import gr.atc.modapto.dto.ScheduledTaskExecutionDto;
+import gr.atc.modapto.service.interfaces.IScheduledTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/eds/scheduled-tasks")
+@Validated
+@Tag(name = "Scheduled Task Controller", description = "API Controller for monitoring the Scheduled Tasks of every smart-service type")
+public class ScheduledTaskController {
+
+    private final IScheduledTaskService scheduledTaskService;
+
+    public ScheduledTaskController(IScheduledTaskService scheduledTaskService) {
+        this.scheduledTaskService = scheduledTaskService;
+    }
+
+    /**
+     * Retrieve the most recent executions of a Scheduled Task
+     *
+     * @param taskId : Task ID
+     * @param limit : Maximum number of executions
+     * @return List<ScheduledTaskExecutionDto>
+     */
+    @Operation(summary = "Retrieve the most recent executions of a Scheduled Task", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scheduled Task executions retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error | Limit must be between 1 and 100"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
+            @ApiResponse(responseCode = "500", description = "Internal mapping exception")
+    })
+    @GetMapping("/{taskId}/executions")
+    public ResponseEntity<BaseResponse<List<ScheduledTaskExecutionDto>>> retrieveScheduledTaskExecutions(
+            @PathVariable String taskId,
+            @RequestParam(required = false, defaultValue = "20") @Min(1) @Max(100) int limit) {
+        return new ResponseEntity<>(
+                BaseResponse.success(scheduledTaskService.retrieveRecentExecutions(taskId, limit),
+                        "Scheduled Task executions retrieved successfully"),
+                HttpStatus.OK);
+    }
+}
@@ -1,5 +1,7 @@
 package gr.atc.modapto.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
 import gr.atc.modapto.dto.PaginatedResultsDto;
 import gr.atc.modapto.dto.crf.CrfKitHolderEventDto;
 import gr.atc.modapto.dto.crf.CrfSelfAwarenessParametersDto;
@@ -8,11 +10,23 @@ import gr.atc.modapto.dto.serviceInvocations.SewLocalAnalyticsInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessMonitoringKpisInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessRealTimeMonitoringInputDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewHistogramDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiQueryResultDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiStoreStatusDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewRealTimeMonitoringSeriesDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessRealTimeMonitoringResultsDto;
+import gr.atc.modapto.dto.sew.SewKpiQueryDto;
 import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
+import gr.atc.modapto.enums.DownsamplingMethod;
+import gr.atc.modapto.enums.SeriesEncoding;
 import gr.atc.modapto.service.interfaces.ICrfSelfAwarenessService;
+import gr.atc.modapto.service.SearchAfterPaginationService;
+import gr.atc.modapto.service.TimeSeriesDownsamplingService;
 import gr.atc.modapto.service.interfaces.ISewSelfAwarenessService;
+import gr.atc.modapto.util.ETagUtils;
+import gr.atc.modapto.util.KpiSeriesCodec;
+import gr.atc.modapto.util.NdjsonStreamUtils;
 import gr.atc.modapto.util.PaginationUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,14 +34,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
@@ -38,13 +57,23 @@ import java.util.List;
 @Tag(name = "Self Awareness Controller", description = "API Controller for managing Self-Awareness")
 public class SelfAwarenessController {
 
+    // Results are polled, clients revalidate with their ETag on every request
+    private static final CacheControl LATEST_RESULTS_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final ISewSelfAwarenessService sewSelfAwarenessService;
 
     private final ICrfSelfAwarenessService crfSelfAwarenessService;
 
-    public SelfAwarenessController(ISewSelfAwarenessService sewSelfAwarenessService, ICrfSelfAwarenessService crfSelfAwarenessService){
+    private final ObjectMapper objectMapper;
+
+    private final TimeSeriesDownsamplingService downsamplingService;
+
+    public SelfAwarenessController(ISewSelfAwarenessService sewSelfAwarenessService, ICrfSelfAwarenessService crfSelfAwarenessService, ObjectMapper objectMapper,
+                                   TimeSeriesDownsamplingService downsamplingService){
         this.sewSelfAwarenessService = sewSelfAwarenessService;
         this.crfSelfAwarenessService = crfSelfAwarenessService;
+        this.objectMapper = objectMapper;
+        this.downsamplingService = downsamplingService;
     }
 
     /*
@@ -65,7 +94,7 @@ public class SelfAwarenessController {
     })
     @PostMapping("/pilots/sew/monitor-kpis/invoke")
     public ResponseEntity<BaseResponse<String>> invokeSelfAwarenessMonitoringKpisProcess(@Valid @RequestBody SewSelfAwarenessMonitoringKpisInputDto invocationData) {
-        sewSelfAwarenessService.invokeSelfAwarenessMonitoringKpisAlgorithm(invocationData);
+        sewSelfAwarenessService.invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(invocationData);
         return new ResponseEntity<>(
                 BaseResponse.success(null, "Self-Awareness Monitoring KPIs algorithm invoked successfully"),
                 HttpStatus.OK);
@@ -74,63 +103,86 @@ public class SelfAwarenessController {
     /**
      * Retrieve latest Self-Awareness Monitoring KPIs Results
      *
+     * @param downsampling : Downsampling method of the series, LTTB if only the points are given
+     * @param points : Maximum number of points per series, 500 if only the method is given
+     * @param encoding : Encoding of the series, GORILLA returns the compressed series in 'Data_encoded' instead of 'Data_list'
      * @return SewSelfAwarenessMonitoringKpisResultsDto
      */
     @Operation(summary = "Retrieve latest Self-Awareness Monitoring KPIs Results", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest Self-Awareness Monitoring KPIs results retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid downsampling method, points or encoding"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No Self-Awareness Monitoring KPIs results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/sew/monitor-kpis/results/latest")
-    public ResponseEntity<BaseResponse<SewSelfAwarenessMonitoringKpisResultsDto>> retrieveLatestSelfAwarenessMonitoringKpisResults() {
-        return new ResponseEntity<>(
-                BaseResponse.success(
-                        sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResults(),
-                        "Latest Self-Awareness Monitoring KPIs results retrieved successfully"),
-                HttpStatus.OK);
+    public ResponseEntity<BaseResponse<SewSelfAwarenessMonitoringKpisResultsDto>> retrieveLatestSelfAwarenessMonitoringKpisResults(
+            @RequestParam(required = false) DownsamplingMethod downsampling,
+            @RequestParam(required = false) @Min(TimeSeriesDownsamplingService.MIN_TARGET_POINTS) @Max(TimeSeriesDownsamplingService.MAX_TARGET_POINTS) Integer points,
+            @RequestParam(required = false) SeriesEncoding encoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SewSelfAwarenessMonitoringKpisResultsDto results = sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResults();
+        // The series is only downsampled and encoded if the client does not hold the result yet
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp(), downsampling, points, encoding), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(KpiSeriesCodec.applyEncoding(downsamplingService.downsample(results, downsampling, points), encoding), "Latest Self-Awareness Monitoring KPIs results retrieved successfully"));
     }
 
     /**
      * Retrieve latest Self-Awareness Monitoring KPIs Results by Module ID
      *
      * @param moduleId : Module ID
+     * @param downsampling : Downsampling method of the series, LTTB if only the points are given
+     * @param points : Maximum number of points per series, 500 if only the method is given
+     * @param encoding : Encoding of the series, GORILLA returns the compressed series in 'Data_encoded' instead of 'Data_list'
      * @return SewSelfAwarenessMonitoringKpisResultsDto
      */
     @Operation(summary = "Retrieve latest Self-Awareness Monitoring KPIs Results by Module ID", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest Self-Awareness Monitoring KPIs results for Module retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid downsampling method, points or encoding"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No Self-Awareness Monitoring KPIs results found for the specified module"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/sew/monitor-kpis/results/{moduleId}/latest")
     public ResponseEntity<BaseResponse<SewSelfAwarenessMonitoringKpisResultsDto>> retrieveLatestSelfAwarenessMonitoringKpisResultsByModuleId(
-            @PathVariable @NotBlank(message = "Module ID cannot be empty") String moduleId) {
-        return new ResponseEntity<>(
-                BaseResponse.success(
-                        sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResultsByModuleId(moduleId),
-                        "Latest Self-Awareness Monitoring KPIs results for Module " + moduleId + " retrieved successfully"),
-                HttpStatus.OK);
+            @PathVariable @NotBlank(message = "Module ID cannot be empty") String moduleId,
+            @RequestParam(required = false) DownsamplingMethod downsampling,
+            @RequestParam(required = false) @Min(TimeSeriesDownsamplingService.MIN_TARGET_POINTS) @Max(TimeSeriesDownsamplingService.MAX_TARGET_POINTS) Integer points,
+            @RequestParam(required = false) SeriesEncoding encoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SewSelfAwarenessMonitoringKpisResultsDto results = sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResultsByModuleId(moduleId);
+        // The series is only downsampled and encoded if the client does not hold the result yet
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp(), downsampling, points, encoding), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(KpiSeriesCodec.applyEncoding(downsamplingService.downsample(results, downsampling, points), encoding), "Latest Self-Awareness Monitoring KPIs results for Module " + moduleId + " retrieved successfully"));
     }
 
     /**
      * Retrieve all Self-Awareness Monitoring KPIs Results
      *
+     * @param downsampling : Downsampling method of the series, LTTB if only the points are given
+     * @param points : Maximum number of points per series, 500 if only the method is given
+     * @param encoding : Encoding of the series, GORILLA returns the compressed series in 'Data_encoded' instead of 'Data_list'
      * @return List<SewSelfAwarenessMonitoringKpisResultsDto>
      */
     @Operation(summary = "Retrieve all Self-Awareness Monitoring KPIs Results", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "All Self-Awareness Monitoring KPIs results retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid downsampling method, points or encoding"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/sew/monitor-kpis/results")
-    public ResponseEntity<BaseResponse<List<SewSelfAwarenessMonitoringKpisResultsDto>>> retrieveAllSelfAwarenessMonitoringKpisResults() {
+    public ResponseEntity<BaseResponse<List<SewSelfAwarenessMonitoringKpisResultsDto>>> retrieveAllSelfAwarenessMonitoringKpisResults(
+            @RequestParam(required = false) DownsamplingMethod downsampling,
+            @RequestParam(required = false) @Min(TimeSeriesDownsamplingService.MIN_TARGET_POINTS) @Max(TimeSeriesDownsamplingService.MAX_TARGET_POINTS) Integer points,
+            @RequestParam(required = false) SeriesEncoding encoding) {
         return new ResponseEntity<>(
                 BaseResponse.success(
-                        sewSelfAwarenessService.retrieveAllSelfAwarenessMonitoringKpisResults(),
+                        KpiSeriesCodec.applyEncoding(downsamplingService.downsample(sewSelfAwarenessService.retrieveAllSelfAwarenessMonitoringKpisResults(), downsampling, points), encoding),
                         "All Self-Awareness Monitoring KPIs results retrieved successfully"),
                 HttpStatus.OK);
     }
@@ -139,24 +191,80 @@ public class SelfAwarenessController {
      * Retrieve all Self-Awareness Monitoring KPIs Results by Module ID
      *
      * @param moduleId : Module ID
+     * @param downsampling : Downsampling method of the series, LTTB if only the points are given
+     * @param points : Maximum number of points per series, 500 if only the method is given
+     * @param encoding : Encoding of the series, GORILLA returns the compressed series in 'Data_encoded' instead of 'Data_list'
      * @return List<SewSelfAwarenessMonitoringKpisResultsDto>
      */
     @Operation(summary = "Retrieve all Self-Awareness Monitoring KPIs Results by Module ID", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "All Self-Awareness Monitoring KPIs results for Module retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid downsampling method, points or encoding"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/sew/monitor-kpis/results/{moduleId}")
     public ResponseEntity<BaseResponse<List<SewSelfAwarenessMonitoringKpisResultsDto>>> retrieveAllSelfAwarenessMonitoringKpisResultsByModuleId(
-            @PathVariable @NotBlank(message = "Module ID cannot be empty") String moduleId) {
+            @PathVariable @NotBlank(message = "Module ID cannot be empty") String moduleId,
+            @RequestParam(required = false) DownsamplingMethod downsampling,
+            @RequestParam(required = false) @Min(TimeSeriesDownsamplingService.MIN_TARGET_POINTS) @Max(TimeSeriesDownsamplingService.MAX_TARGET_POINTS) Integer points,
+            @RequestParam(required = false) SeriesEncoding encoding) {
         return new ResponseEntity<>(
                 BaseResponse.success(
-                        sewSelfAwarenessService.retrieveAllSelfAwarenessMonitoringKpisResultsByModuleId(moduleId),
+                        KpiSeriesCodec.applyEncoding(downsamplingService.downsample(sewSelfAwarenessService.retrieveAllSelfAwarenessMonitoringKpisResultsByModuleId(moduleId), downsampling, points), encoding),
                         "All Self-Awareness Monitoring KPIs results for Module " + moduleId + " retrieved successfully"),
                 HttpStatus.OK);
     }
 
+    /**
+     * Retrieve a page of Self-Awareness Monitoring KPIs Results, newest first, with cursor-based pagination
+     *
+     * @param moduleId : Module ID, all Modules if not given
+     * @param cursor : Cursor returned by the previous page, first page if not given
+     * @param size : Results per page
+     * @param downsampling : Downsampling method of the series, LTTB if only the points are given
+     * @param points : Maximum number of points per series, 500 if only the method is given
+     * @param encoding : Encoding of the series, GORILLA returns the compressed series in 'Data_encoded' instead of 'Data_list'
+     * @return CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto>
+     */
+    @Operation(summary = "Retrieve a page of Self-Awareness Monitoring KPIs Results with cursor-based pagination", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Self-Awareness Monitoring KPIs results page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid or expired cursor | Size must be between 1 and 1000 | Invalid downsampling method, points or encoding"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
+            @ApiResponse(responseCode = "500", description = "Internal mapping exception")
+    })
+    @GetMapping("/pilots/sew/monitor-kpis/results/pages")
+    public ResponseEntity<BaseResponse<CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto>>> retrieveSelfAwarenessMonitoringKpisResultsPage(
+            @RequestParam(required = false) String moduleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "100") @Min(1) @Max(SearchAfterPaginationService.MAX_PAGE_SIZE) int size,
+            @RequestParam(required = false) DownsamplingMethod downsampling,
+            @RequestParam(required = false) @Min(TimeSeriesDownsamplingService.MIN_TARGET_POINTS) @Max(TimeSeriesDownsamplingService.MAX_TARGET_POINTS) Integer points,
+            @RequestParam(required = false) SeriesEncoding encoding) {
+        return new ResponseEntity<>(
+                BaseResponse.success(
+                        KpiSeriesCodec.applyEncoding(downsamplingService.downsample(sewSelfAwarenessService.retrieveSelfAwarenessMonitoringKpisResultsPage(moduleId, cursor, size), downsampling, points), encoding),
+                        "Self-Awareness Monitoring KPIs results page retrieved successfully"),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Stream all Self-Awareness Monitoring KPIs Results, newest first, as newline-delimited JSON
+     *
+     * @param moduleId : Module ID, all Modules if not given
+     * @return One JSON document per line
+     */
+    @Operation(summary = "Stream all Self-Awareness Monitoring KPIs Results as newline-delimited JSON", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Self-Awareness Monitoring KPIs results streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again.")
+    })
+    @GetMapping(value = "/pilots/sew/monitor-kpis/results/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamSelfAwarenessMonitoringKpisResults(@RequestParam(required = false) String moduleId) {
+        return NdjsonStreamUtils.<SewSelfAwarenessMonitoringKpisResultsDto>streamAsNdjson(objectMapper, pageConsumer -> sewSelfAwarenessService.streamSelfAwarenessMonitoringKpisResults(moduleId, pageConsumer));
+    }
+
     /**
      * Invoke Self-Awareness Real-Time Monitoring of KPIs algorithm [SEW - SA2]
      *
@@ -172,7 +280,7 @@ public class SelfAwarenessController {
     })
     @PostMapping("/pilots/sew/real-time-monitoring/invoke")
     public ResponseEntity<BaseResponse<String>> invokeSelfAwarenessRealTimeMonitoringProcess(@Valid @RequestBody SewSelfAwarenessRealTimeMonitoringInputDto invocationData) {
-        sewSelfAwarenessService.invokeSelfAwarenessRealTimeMonitoringAlgorithm(invocationData);
+        sewSelfAwarenessService.invokeAndRegisterSelfAwarenessRealTimeMonitoringAlgorithm(invocationData);
         return new ResponseEntity<>(
                 BaseResponse.success(null, "Self-Awareness Real-Time Monitoring algorithm invoked successfully"),
                 HttpStatus.OK);
@@ -220,6 +328,94 @@ public class SelfAwarenessController {
                 HttpStatus.OK);
     }
 
+    /**
+     * Retrieve a page of Self-Awareness Real-Time Monitoring Results, newest first, with cursor-based pagination
+     *
+     * @param moduleId : Module ID, all Modules if not given
+     * @param cursor : Cursor returned by the previous page, first page if not given
+     * @param size : Results per page
+     * @return CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResultsDto>
+     */
+    @Operation(summary = "Retrieve a page of Self-Awareness Real-Time Monitoring Results with cursor-based pagination", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Self-Awareness Real-Time Monitoring results page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid or expired cursor | Size must be between 1 and 1000"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
+            @ApiResponse(responseCode = "500", description = "Internal mapping exception")
+    })
+    @GetMapping("/pilots/sew/real-time-monitoring/results/pages")
+    public ResponseEntity<BaseResponse<CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResultsDto>>> retrieveSelfAwarenessRealTimeMonitoringResultsPage(
+            @RequestParam(required = false) String moduleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "100") @Min(1) @Max(SearchAfterPaginationService.MAX_PAGE_SIZE) int size) {
+        return new ResponseEntity<>(
+                BaseResponse.success(
+                        sewSelfAwarenessService.retrieveSelfAwarenessRealTimeMonitoringResultsPage(moduleId, cursor, size),
+                        "Self-Awareness Real-Time Monitoring results page retrieved successfully"),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Retrieve the latest Self-Awareness Real-Time Monitoring Result of every component property, served from memory
+     *
+     * @param moduleId : Module ID, all Modules if not given
+     * @return List<SewSelfAwarenessRealTimeMonitoringResultsDto>
+     */
+    @Operation(summary = "Retrieve the current state of every component property from the Real-Time Monitoring Results", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Current Self-Awareness Real-Time Monitoring results retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again.")
+    })
+    @GetMapping("/pilots/sew/real-time-monitoring/results/current")
+    public ResponseEntity<BaseResponse<List<SewSelfAwarenessRealTimeMonitoringResultsDto>>> retrieveCurrentSelfAwarenessRealTimeMonitoringResults(
+            @RequestParam(required = false) String moduleId) {
+        return new ResponseEntity<>(
+                BaseResponse.success(
+                        sewSelfAwarenessService.retrieveCurrentSelfAwarenessRealTimeMonitoringResults(moduleId),
+                        "Current Self-Awareness Real-Time Monitoring results retrieved successfully"),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Retrieve the most recent Self-Awareness Real-Time Monitoring Results of every component property, served from memory
+     *
+     * @param moduleId : Module ID, all Modules if not given
+     * @param limit : Maximum number of results per component property, capped at the configured buffer size
+     * @return List<SewRealTimeMonitoringSeriesDto>
+     */
+    @Operation(summary = "Retrieve the most recent Real-Time Monitoring Results of every component property", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recent Self-Awareness Real-Time Monitoring results retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Limit must be between 1 and 1000"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again.")
+    })
+    @GetMapping("/pilots/sew/real-time-monitoring/results/recent")
+    public ResponseEntity<BaseResponse<List<SewRealTimeMonitoringSeriesDto>>> retrieveRecentSelfAwarenessRealTimeMonitoringResults(
+            @RequestParam(required = false) String moduleId,
+            @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(1000) int limit) {
+        return new ResponseEntity<>(
+                BaseResponse.success(
+                        sewSelfAwarenessService.retrieveRecentSelfAwarenessRealTimeMonitoringResults(moduleId, limit),
+                        "Recent Self-Awareness Real-Time Monitoring results retrieved successfully"),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Stream all Self-Awareness Real-Time Monitoring Results, newest first, as newline-delimited JSON
+     *
+     * @param moduleId : Module ID, all Modules if not given
+     * @return One JSON document per line
+     */
+    @Operation(summary = "Stream all Self-Awareness Real-Time Monitoring Results as newline-delimited JSON", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Self-Awareness Real-Time Monitoring results streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again.")
+    })
+    @GetMapping(value = "/pilots/sew/real-time-monitoring/results/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamSelfAwarenessRealTimeMonitoringResults(@RequestParam(required = false) String moduleId) {
+        return NdjsonStreamUtils.<SewSelfAwarenessRealTimeMonitoringResultsDto>streamAsNdjson(objectMapper, pageConsumer -> sewSelfAwarenessService.streamSelfAwarenessRealTimeMonitoringResults(moduleId, pageConsumer));
+    }
+
     /**
      * Upload Components List of MODAPTO Module for Self-Awareness Operations
      *
@@ -325,6 +521,67 @@ public class SelfAwarenessController {
                 HttpStatus.OK);
     }
 
+    /**
+     * Compute Histogram of Comparison of Modules in-process
+     *
+     * @param request : Filtering Options and bin options
+     * @return SewHistogramDto with bin edges, counts and summary statistics
+     */
+    @Operation(summary = "Compute Histogram of Comparison of Modules in-process [SEW]", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Histogram computed successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
+            @ApiResponse(responseCode = "404", description = "No KPI values found for the given parameters"),
+            @ApiResponse(responseCode = "500", description = "Internal mapping exception")
+    })
+    @PostMapping("/pilots/sew/analytics/histogram")
+    public ResponseEntity<BaseResponse<SewHistogramDto>> computeHistogramForComparingModules(@Valid @RequestBody GlobalRequestDto<SewLocalAnalyticsInputDto> request) {
+        if (request.getInput() == null)
+            return new ResponseEntity<>(BaseResponse.error("Invalid histogram parameters", "Histogram input is required"), HttpStatus.BAD_REQUEST);
+
+        return new ResponseEntity<>(
+                BaseResponse.success(sewSelfAwarenessService.computeHistogramForComparingModules(request), "Histogram computed successfully"),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Query range statistics of the SEW Monitoring KPIs series kept in memory
+     *
+     * @param query : Filters, time range, grouping dimensions and percentiles
+     * @return SewKpiQueryResultDto with the statistics of every group
+     */
+    @Operation(summary = "Query range statistics of the in-memory Monitoring KPIs series [SEW]", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "KPI statistics retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
+            @ApiResponse(responseCode = "500", description = "Internal mapping exception")
+    })
+    @PostMapping("/pilots/sew/analytics/kpis/query")
+    public ResponseEntity<BaseResponse<SewKpiQueryResultDto>> queryMonitoringKpisStore(@Valid @RequestBody SewKpiQueryDto query) {
+        return new ResponseEntity<>(
+                BaseResponse.success(sewSelfAwarenessService.queryMonitoringKpisStore(query), "KPI statistics retrieved successfully"),
+                HttpStatus.OK);
+    }
+
+    /**
+     * Retrieve the size and memory footprint of the in-memory SEW Monitoring KPIs store
+     *
+     * @return SewKpiStoreStatusDto
+     */
+    @Operation(summary = "Retrieve the status of the in-memory Monitoring KPIs store [SEW]", security = @SecurityRequirement(name = "bearerToken"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "KPI store status retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again.")
+    })
+    @GetMapping("/pilots/sew/analytics/kpis/status")
+    public ResponseEntity<BaseResponse<SewKpiStoreStatusDto>> retrieveMonitoringKpisStoreStatus() {
+        return new ResponseEntity<>(
+                BaseResponse.success(sewSelfAwarenessService.retrieveMonitoringKpisStoreStatus(), "KPI store status retrieved successfully"),
+                HttpStatus.OK);
+    }
+
     /*
      *--------------------------------- CRF --------------------------------
      */
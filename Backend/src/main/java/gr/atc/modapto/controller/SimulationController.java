@@ -9,12 +9,15 @@ import gr.atc.modapto.dto.serviceResults.sew.SewSimulationResultsDto;
 import gr.atc.modapto.dto.sew.SewPlantEnvironmentDto;
 import gr.atc.modapto.service.interfaces.IKitHolderSimulationService;
 import gr.atc.modapto.service.interfaces.IProductionScheduleSimulationService;
+import gr.atc.modapto.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -26,6 +29,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Simulation Controller", description = "Handles simulation functionalities amongst Pilot Cases")
 public class SimulationController {
 
+    // Results are polled, clients revalidate with their ETag on every request
+    private static final CacheControl LATEST_RESULTS_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final IKitHolderSimulationService crfSimulationService;
 
     private final IProductionScheduleSimulationService sewSimulationService;
@@ -45,14 +51,16 @@ public class SimulationController {
     @Operation(summary = "Retrieve latest CRF Simulation Results", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest CRF Simulation results retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No CRF Simulation Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/crf/latest")
-    public ResponseEntity<BaseResponse<CrfSimulationResultsDto>> retrieveLatestCrfResults() {
-        return new ResponseEntity<>(BaseResponse.success(crfSimulationService.retrieveLatestSimulationResults(),
-                "Latest CRF Simulation results retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<CrfSimulationResultsDto>> retrieveLatestCrfResults(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CrfSimulationResultsDto results = crfSimulationService.retrieveLatestSimulationResults();
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest CRF Simulation results retrieved successfully"));
     }
 
     /**
@@ -63,14 +71,17 @@ public class SimulationController {
     @Operation(summary = "Retrieve latest CRF Simulation Results by MODAPTO Module", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest CRF Simulation results for Module: [moduleId] retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No CRF Simulation Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/crf/modules/{moduleId}/latest")
-    public ResponseEntity<BaseResponse<CrfSimulationResultsDto>> retrieveLatestCrfResultsByProductionModule(@PathVariable String moduleId) {
-        return new ResponseEntity<>(BaseResponse.success(crfSimulationService.retrieveLatestSimulationResultsByModule(moduleId),
-                "Latest CRF Simulation results for Module " + moduleId + " retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<CrfSimulationResultsDto>> retrieveLatestCrfResultsByProductionModule(@PathVariable String moduleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CrfSimulationResultsDto results = crfSimulationService.retrieveLatestSimulationResultsByModule(moduleId);
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest CRF Simulation results for Module " + moduleId + " retrieved successfully"));
     }
 
     /**
@@ -120,14 +131,16 @@ public class SimulationController {
     @Operation(summary = "Retrieve latest SEW Simulation Results", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest SEW Simulation results retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No SEW Simulation Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/sew/latest")
-    public ResponseEntity<BaseResponse<SewSimulationResultsDto>> retrieveLatestSewResults() {
-        return new ResponseEntity<>(BaseResponse.success(sewSimulationService.retrieveLatestSimulationResults(),
-                "Latest SEW Simulation results retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<SewSimulationResultsDto>> retrieveLatestSewResults(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SewSimulationResultsDto results = sewSimulationService.retrieveLatestSimulationResults();
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest SEW Simulation results retrieved successfully"));
     }
 
     /**
@@ -139,14 +152,17 @@ public class SimulationController {
     @Operation(summary = "Retrieve latest SEW Simulation Results by MODAPTO Module", security = @SecurityRequirement(name = "bearerToken"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Latest SEW Simulation results for Module: [moduleId] retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Latest results not modified since the given ETag"),
             @ApiResponse(responseCode = "401", description = "Unauthorized request. Check token and try again."),
             @ApiResponse(responseCode = "404", description = "No SEW Simulation Results found"),
             @ApiResponse(responseCode = "500", description = "Internal mapping exception")
     })
     @GetMapping("/pilots/sew/modules/{moduleId}/latest")
-    public ResponseEntity<BaseResponse<SewSimulationResultsDto>> retrieveLatestSewResultsByProductionModule(@PathVariable String moduleId) {
-        return new ResponseEntity<>(BaseResponse.success(sewSimulationService.retrieveLatestSimulationResultsByModule(moduleId),
-                "Latest SEW Simulation results for Module " + moduleId + " retrieved successfully"), HttpStatus.OK);
+    public ResponseEntity<BaseResponse<SewSimulationResultsDto>> retrieveLatestSewResultsByProductionModule(@PathVariable String moduleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SewSimulationResultsDto results = sewSimulationService.retrieveLatestSimulationResultsByModule(moduleId);
+        return ETagUtils.conditionalResponse(ifNoneMatch, ETagUtils.resultETag(results.getId(), results.getTimestamp()), LATEST_RESULTS_CACHE_CONTROL,
+                () -> BaseResponse.success(results, "Latest SEW Simulation results for Module " + moduleId + " retrieved successfully"));
     }
 
     /**
@@ -164,7 +180,7 @@ public class SimulationController {
     })
     @PostMapping("/pilots/sew/schedules/simulate")
     public ResponseEntity<BaseResponse<SewOptimizationResultsDto>> invokeSimulationOfProductionSchedules(@RequestBody @Valid SewSimulationInputDto invocationData) {
-        sewSimulationService.invokeSimulationOfProductionSchedules(invocationData);
+        sewSimulationService.invokeAndRegisterSimulationOfProductionSchedules(invocationData);
         return new ResponseEntity<>(BaseResponse.success(null,
                 "Request for simulation of SEW Production Schedules has been successfully submitted"), HttpStatus.OK);
     }
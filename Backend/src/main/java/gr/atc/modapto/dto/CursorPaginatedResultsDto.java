@@ -0,0 +1,24 @@
+package gr.atc.modapto.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPaginatedResultsDto<T> {
+
+    @JsonProperty("results")
+    private List<T> results;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("lastPage")
+    private Boolean lastPage;
+}
@@ -0,0 +1,35 @@
+package gr.atc.modapto.dto;
+
+import gr.atc.modapto.enums.HistoricalResultType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Filters and projection of a historical results query, every filter is optional
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class HistoricalResultsQueryDto {
+
+    private HistoricalResultType resultType;
+
+    private String moduleId;
+
+    private String smartServiceId;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    // Stored fields to fetch, the large fields of the result type are excluded if not given
+    private List<String> fields;
+
+    private boolean ascending;
+}
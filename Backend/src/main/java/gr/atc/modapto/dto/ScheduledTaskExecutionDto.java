@@ -0,0 +1,38 @@
+package gr.atc.modapto.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import gr.atc.modapto.enums.ScheduledTaskExecutionOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduledTaskExecutionDto {
+
+    private String taskId;
+
+    private String smartServiceType;
+
+    private String moduleId;
+
+    private LocalDateTime scheduledTime;
+
+    private LocalDateTime startedAt;
+
+    private Long lagMillis;
+
+    private Long durationMillis;
+
+    private ScheduledTaskExecutionOutcome outcome;
+
+    private Integer payloadSize;
+
+    private String error;
+}
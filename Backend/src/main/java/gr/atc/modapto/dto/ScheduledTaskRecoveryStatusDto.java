@@ -0,0 +1,38 @@
+package gr.atc.modapto.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import gr.atc.modapto.enums.MissedRunPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduledTaskRecoveryStatusDto {
+
+    private String status;
+
+    private MissedRunPolicy missedRunPolicy;
+
+    private Integer totalTasks;
+
+    private Integer overdueTasks;
+
+    private Integer pendingRuns;
+
+    private Integer recoveredRuns;
+
+    private Integer skippedRuns;
+
+    private Integer failedRuns;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+}
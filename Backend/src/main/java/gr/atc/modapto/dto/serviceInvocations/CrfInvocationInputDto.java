@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
+import gr.atc.modapto.enums.FrequencyType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -36,4 +37,10 @@ public class CrfInvocationInputDto {
     @NotNull(message = "Input data can not be null")
     @JsonProperty("data")
     private JsonNode data;
+
+    @Schema(description = "Frequency value for scheduling the request - The request is registered as a Scheduled Task when given along with the frequency type", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Integer frequencyValue;
+
+    @Schema(description = "Frequency type for scheduling the request - Valid: 'MINUTES/HOURS'/'DAYS'", enumAsRef = true, requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private FrequencyType frequencyType;
 }
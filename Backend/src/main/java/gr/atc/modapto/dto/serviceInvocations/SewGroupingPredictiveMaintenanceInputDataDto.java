@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gr.atc.modapto.dto.sew.SewComponentInfoDto;
+import gr.atc.modapto.enums.FrequencyType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -69,4 +70,9 @@ public class SewGroupingPredictiveMaintenanceInputDataDto {
     @JsonProperty("timeWindowEnd")
     private LocalDateTime timeWindowEnd;
 
+    @Schema(description = "Frequency value for scheduling the request - The request is registered as a Scheduled Task when given along with the frequency type", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Integer frequencyValue;
+
+    @Schema(description = "Frequency type for scheduling the request - Valid: 'MINUTES/HOURS'/'DAYS'", enumAsRef = true, requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private FrequencyType frequencyType;
 }
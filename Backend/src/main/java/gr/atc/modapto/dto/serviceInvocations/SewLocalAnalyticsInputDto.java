@@ -5,9 +5,15 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.enums.HistogramBinStrategy;
+import gr.atc.modapto.enums.HistogramEngine;
+import gr.atc.modapto.util.HistogramBinning;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,18 +30,43 @@ import java.util.List;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class SewLocalAnalyticsInputDto {
 
+    public static final String HISTOGRAM_DATA_FIELD = "histogram_data";
+
+    public static final String FIRST_PARAMETERS_FIELD = "params1";
+
+    public static final String SECOND_PARAMETERS_FIELD = "params2";
+
     @Schema(description = "Stored Histogram Data - Not required", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
-    @JsonProperty("histogram_data")
+    @JsonProperty(HISTOGRAM_DATA_FIELD)
     private List<SewSelfAwarenessMonitoringKpisResultsDto> histogramData;
 
     @Schema(description = "Parameters of the first module", requiredMode = Schema.RequiredMode.REQUIRED)
     @NotNull(message = "First parameters can not be null")
     @Valid
-    @JsonProperty("params1")
+    @JsonProperty(FIRST_PARAMETERS_FIELD)
     private SewFilteringOptionsDto.Options firstParameters;
 
     @Schema(description = "Optional Parameters of the second module to compare", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
-    @JsonProperty("params2")
+    @JsonProperty(SECOND_PARAMETERS_FIELD)
     @Valid
     private SewFilteringOptionsDto.Options secondParameters;
+
+    @Schema(description = "Engine generating the Histogram, DTM if not given", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @JsonProperty("engine")
+    private HistogramEngine engine;
+
+    @Schema(description = "Bin strategy of the LOCAL engine, FIXED_WIDTH if not given", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @JsonProperty("bin_strategy")
+    private HistogramBinStrategy binStrategy;
+
+    @Schema(description = "Number of bins of the FIXED_WIDTH strategy, 20 if neither bins nor bin width are given", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @JsonProperty("bins")
+    @Min(value = 1, message = "Bins must be at least 1")
+    @Max(value = HistogramBinning.MAX_BINS, message = "Bins must be at most " + HistogramBinning.MAX_BINS)
+    private Integer bins;
+
+    @Schema(description = "Width of the bins of the FIXED_WIDTH strategy, overrides the number of bins", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    @JsonProperty("bin_width")
+    @Positive(message = "Bin width must be positive")
+    private Double binWidth;
 }
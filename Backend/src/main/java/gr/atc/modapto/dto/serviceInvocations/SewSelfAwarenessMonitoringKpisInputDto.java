@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
+import gr.atc.modapto.enums.FrequencyType;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,4 +40,9 @@ public class SewSelfAwarenessMonitoringKpisInputDto {
 
     @JsonProperty("components")
     private List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto> components;
+
+    // Optional frequency, the request is registered as a Scheduled Task when both values are given
+    private Integer frequencyValue;
+
+    private FrequencyType frequencyType;
 }
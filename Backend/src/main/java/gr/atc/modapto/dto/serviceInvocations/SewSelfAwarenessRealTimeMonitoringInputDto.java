@@ -3,6 +3,7 @@ package gr.atc.modapto.dto.serviceInvocations;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
+import gr.atc.modapto.enums.FrequencyType;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,4 +29,9 @@ public class SewSelfAwarenessRealTimeMonitoringInputDto {
 
     @JsonProperty("components")
     private List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto> components;
+
+    // Optional frequency, the request is registered as a Scheduled Task when both values are given
+    private Integer frequencyValue;
+
+    private FrequencyType frequencyType;
 }
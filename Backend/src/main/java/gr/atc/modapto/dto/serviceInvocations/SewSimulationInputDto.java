@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import gr.atc.modapto.dto.sew.SewPlantEnvironmentDto;
+import gr.atc.modapto.enums.FrequencyType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -56,6 +57,12 @@ public class SewSimulationInputDto {
     @JsonAlias({"simulated_env", "simulatedEnv"})
     private SewPlantEnvironmentDto.PlantData simulatedEnv;
 
+    @Schema(description = "Frequency value for scheduling the request - The request is registered as a Scheduled Task when given along with the frequency type", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Integer frequencyValue;
+
+    @Schema(description = "Frequency type for scheduling the request - Valid: 'MINUTES/HOURS'/'DAYS'", enumAsRef = true, requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private FrequencyType frequencyType;
+
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
@@ -0,0 +1,74 @@
+package gr.atc.modapto.dto.serviceResults.sew;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "Histogram", description = "SEW Histogram comparing the KPI values of two modules over common bins")
+public class SewHistogramDto {
+
+    @JsonProperty("bin_strategy")
+    private String binStrategy;
+
+    @JsonProperty("bin_edges")
+    @Schema(description = "Ascending bin edges, one more than the number of bins")
+    private List<Double> binEdges;
+
+    @JsonProperty("first_series")
+    private Series firstSeries;
+
+    @JsonProperty("second_series")
+    private Series secondSeries;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Series {
+
+        private SewFilteringOptionsDto.Options parameters;
+
+        private List<Long> counts;
+
+        private Statistics statistics;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Statistics {
+
+        private Integer count;
+
+        private Double min;
+
+        private Double max;
+
+        private Double mean;
+
+        @JsonProperty("standard_deviation")
+        private Double standardDeviation;
+
+        @JsonProperty("first_quartile")
+        private Double firstQuartile;
+
+        private Double median;
+
+        @JsonProperty("third_quartile")
+        private Double thirdQuartile;
+    }
+}
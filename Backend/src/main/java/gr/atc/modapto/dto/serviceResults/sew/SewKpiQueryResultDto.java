@@ -0,0 +1,64 @@
+package gr.atc.modapto.dto.serviceResults.sew;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "SewKpiQueryResult", description = "Range statistics of the in-memory SEW Monitoring KPIs series per group")
+public class SewKpiQueryResultDto {
+
+    @JsonProperty("groups")
+    private List<Group> groups;
+
+    @JsonProperty("series_scanned")
+    private Integer seriesScanned;
+
+    @JsonProperty("values_scanned")
+    private Long valuesScanned;
+
+    @JsonProperty("took_micros")
+    private Long tookMicros;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Group {
+
+        @JsonProperty("key")
+        @Schema(description = "Value of every grouping dimension")
+        private Map<String, String> key;
+
+        @JsonProperty("count")
+        private Long count;
+
+        @JsonProperty("min")
+        private Double min;
+
+        @JsonProperty("max")
+        private Double max;
+
+        @JsonProperty("mean")
+        private Double mean;
+
+        @JsonProperty("standard_deviation")
+        private Double standardDeviation;
+
+        @JsonProperty("percentiles")
+        @Schema(description = "Requested percentiles keyed by their rank, e.g. p95")
+        private Map<String, Double> percentiles;
+    }
+}
@@ -0,0 +1,40 @@
+package gr.atc.modapto.dto.serviceResults.sew;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "SewKpiStoreStatus", description = "Size and memory footprint of the in-memory SEW Monitoring KPIs store")
+public class SewKpiStoreStatusDto {
+
+    @JsonProperty("enabled")
+    private Boolean enabled;
+
+    @JsonProperty("series_count")
+    private Integer seriesCount;
+
+    @JsonProperty("value_count")
+    private Long valueCount;
+
+    @JsonProperty("max_values")
+    private Long maxValues;
+
+    @JsonProperty("estimated_bytes")
+    private Long estimatedBytes;
+
+    @JsonProperty("latest_result")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime latestResult;
+}
@@ -0,0 +1,37 @@
+package gr.atc.modapto.dto.serviceResults.sew;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "SewRealTimeMonitoringDelta", description = "Latest state of a changed component property, thresholds are only included when they changed")
+public class SewRealTimeMonitoringDeltaDto {
+
+    private String moduleId;
+
+    private String component;
+
+    private String property;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    private String value;
+
+    private Double deviationPercentage;
+
+    private Double lowThreshold;
+
+    private Double highThreshold;
+}
@@ -0,0 +1,28 @@
+package gr.atc.modapto.dto.serviceResults.sew;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "SewRealTimeMonitoringSeries", description = "Most recent Real-Time Monitoring results of a component property")
+public class SewRealTimeMonitoringSeriesDto {
+
+    private String moduleId;
+
+    private String component;
+
+    private String property;
+
+    @Schema(description = "Results from the oldest to the most recent")
+    private List<SewSelfAwarenessRealTimeMonitoringResultsDto> results;
+}
@@ -12,7 +12,7 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class SewSelfAwarenessMonitoringKpisResultsDto extends BaseEventResultsDto {
 
@@ -62,4 +62,12 @@ public class SewSelfAwarenessMonitoringKpisResultsDto extends BaseEventResultsDt
 
     @JsonProperty("Data_list")
     private List<Double> data;
+
+    // Positions of the 'Data_list' points in the original series, only present when the series was downsampled
+    @JsonProperty("Data_indices")
+    private List<Integer> dataIndices;
+
+    // Base64 of the Gorilla-compressed 'Data_list', only present when the compact encoding is requested
+    @JsonProperty("Data_encoded")
+    private String encodedData;
 }
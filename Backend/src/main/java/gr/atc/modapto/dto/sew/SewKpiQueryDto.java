@@ -0,0 +1,64 @@
+package gr.atc.modapto.dto.sew;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import gr.atc.modapto.enums.KpiDimension;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "SewKpiQuery", description = "Range statistics query over the in-memory SEW Monitoring KPIs series")
+public class SewKpiQueryDto {
+
+    @Schema(description = "Module IDs to include, all if empty")
+    @JsonProperty("module_ids")
+    private List<String> moduleIds;
+
+    @Schema(description = "Components to include, all if empty")
+    @JsonProperty("components")
+    private List<String> components;
+
+    @Schema(description = "Variables to include, all if empty")
+    @JsonProperty("variables")
+    private List<String> variables;
+
+    @Schema(description = "Buckets to include, all if empty")
+    @JsonProperty("buckets")
+    private List<String> buckets;
+
+    @Schema(description = "Start of the time range, inclusive", example = "2025-01-01T00:00:00")
+    @JsonProperty("from")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime from;
+
+    @Schema(description = "End of the time range, inclusive", example = "2025-01-31T23:59:59")
+    @JsonProperty("to")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime to;
+
+    @Schema(description = "Dimensions to group the statistics by, a single group if empty")
+    @JsonProperty("group_by")
+    private List<@NotNull KpiDimension> groupBy;
+
+    @Schema(description = "Percentiles between 0 and 100 to compute for every group", example = "[50, 95, 99]")
+    @JsonProperty("percentiles")
+    @Size(max = 20, message = "At most 20 percentiles can be requested")
+    private List<@NotNull @DecimalMin("0") @DecimalMax("100") Double> percentiles;
+}
@@ -0,0 +1,21 @@
+package gr.atc.modapto.enums;
+
+/**
+ * Methods to reduce a KPI time-series to a target number of points
+ */
+public enum DownsamplingMethod {
+    LTTB("LTTB"),
+    MIN_MAX("MIN_MAX"),
+    AVERAGE("AVERAGE");
+
+    private final String method;
+
+    DownsamplingMethod(final String method) {
+        this.method = method;
+    }
+
+    @Override
+    public String toString() {
+        return method;
+    }
+}
@@ -0,0 +1,20 @@
+package gr.atc.modapto.enums;
+
+/**
+ * Strategies to split KPI values into Histogram bins
+ */
+public enum HistogramBinStrategy {
+    FIXED_WIDTH("FIXED_WIDTH"),
+    FREEDMAN_DIACONIS("FREEDMAN_DIACONIS");
+
+    private final String strategy;
+
+    HistogramBinStrategy(final String strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public String toString() {
+        return strategy;
+    }
+}
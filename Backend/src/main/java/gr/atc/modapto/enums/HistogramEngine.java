@@ -0,0 +1,20 @@
+package gr.atc.modapto.enums;
+
+/**
+ * Engines able to generate the Histogram comparing two modules
+ */
+public enum HistogramEngine {
+    DTM("DTM"),
+    LOCAL("LOCAL");
+
+    private final String engine;
+
+    HistogramEngine(final String engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public String toString() {
+        return engine;
+    }
+}
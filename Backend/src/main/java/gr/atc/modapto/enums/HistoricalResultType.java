@@ -0,0 +1,103 @@
+package gr.atc.modapto.enums;
+
+import gr.atc.modapto.dto.serviceResults.crf.CrfOptimizationResultsDto;
+import gr.atc.modapto.dto.serviceResults.crf.CrfSimulationResultsDto;
+import gr.atc.modapto.dto.serviceResults.fft.FftOptimizationResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewGroupingPredictiveMaintenanceOutputDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewOptimizationResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSimulationResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewThresholdBasedPredictiveMaintenanceOutputDto;
+import gr.atc.modapto.model.serviceResults.CrfOptimizationResults;
+import gr.atc.modapto.model.serviceResults.CrfSimulationResults;
+import gr.atc.modapto.model.serviceResults.FftOptimizationResults;
+import gr.atc.modapto.model.serviceResults.SewGroupingPredictiveMaintenanceResult;
+import gr.atc.modapto.model.serviceResults.SewOptimizationResults;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.model.serviceResults.SewSimulationResults;
+import gr.atc.modapto.model.serviceResults.SewThresholdBasedPredictiveMaintenanceResult;
+
+import java.util.List;
+
+/**
+ * Smart Service result indices available for historical queries, with the properties used for filtering and
+ * the large fields that are only fetched when requested
+ */
+public enum HistoricalResultType {
+    CRF_SIMULATION(CrfSimulationResults.class, CrfSimulationResultsDto.class, "moduleId", null, false,
+            List.of("baseline", "best_phase")),
+    CRF_OPTIMIZATION(CrfOptimizationResults.class, CrfOptimizationResultsDto.class, "moduleId", null, false,
+            List.of("optimization_results")),
+    FFT_OPTIMIZATION(FftOptimizationResults.class, FftOptimizationResultsDto.class, "module", null, false,
+            List.of("robotConfiguration", "optimizedCode_src", "optimizedCode_dat")),
+    SEW_SIMULATION(SewSimulationResults.class, SewSimulationResultsDto.class, "moduleId", "smartServiceId", true,
+            List.of("data")),
+    SEW_OPTIMIZATION(SewOptimizationResults.class, SewOptimizationResultsDto.class, "moduleId", null, true,
+            List.of("data")),
+    SEW_GROUPING_PREDICTIVE_MAINTENANCE(SewGroupingPredictiveMaintenanceResult.class, SewGroupingPredictiveMaintenanceOutputDto.class, "moduleId", "smartServiceId", false,
+            List.of("groupingMaintenance", "individualMaintenance")),
+    SEW_THRESHOLD_PREDICTIVE_MAINTENANCE(SewThresholdBasedPredictiveMaintenanceResult.class, SewThresholdBasedPredictiveMaintenanceOutputDto.class, "moduleId", "smartServiceId", false,
+            List.of()),
+    SEW_SELF_AWARENESS_MONITORING_KPIS(SewSelfAwarenessMonitoringKpisResults.class, SewSelfAwarenessMonitoringKpisResultsDto.class, "moduleId", "smartServiceId", false,
+            List.of("data", "encodedData"));
+
+    private final Class<?> entityClass;
+
+    private final Class<?> resultClass;
+
+    private final String moduleIdProperty;
+
+    private final String smartServiceIdProperty;
+
+    private final boolean keywordTimestamp;
+
+    private final List<String> largeFields;
+
+    HistoricalResultType(final Class<?> entityClass, final Class<?> resultClass, final String moduleIdProperty,
+                         final String smartServiceIdProperty, final boolean keywordTimestamp, final List<String> largeFields) {
+        this.entityClass = entityClass;
+        this.resultClass = resultClass;
+        this.moduleIdProperty = moduleIdProperty;
+        this.smartServiceIdProperty = smartServiceIdProperty;
+        this.keywordTimestamp = keywordTimestamp;
+        this.largeFields = largeFields;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public Class<?> getResultClass() {
+        return resultClass;
+    }
+
+    public String getModuleIdProperty() {
+        return moduleIdProperty;
+    }
+
+    /**
+     * Property holding the Smart Service ID, null if the results do not store it
+     */
+    public String getSmartServiceIdProperty() {
+        return smartServiceIdProperty;
+    }
+
+    /**
+     * Whether the timestamp is stored as an ISO string keyword instead of a date
+     */
+    public boolean hasKeywordTimestamp() {
+        return keywordTimestamp;
+    }
+
+    /**
+     * Stored fields that are excluded unless requested explicitly
+     */
+    public List<String> getLargeFields() {
+        return largeFields;
+    }
+
+    @Override
+    public String toString() {
+        return name();
+    }
+}
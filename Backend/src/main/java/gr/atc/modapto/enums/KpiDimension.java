@@ -0,0 +1,22 @@
+package gr.atc.modapto.enums;
+
+/**
+ * Keyword dimensions of the series in the in-memory KPI store, used to filter and group the KPI values
+ */
+public enum KpiDimension {
+    MODULE_ID("MODULE_ID"),
+    COMPONENT("COMPONENT"),
+    VARIABLE("VARIABLE"),
+    BUCKET("BUCKET");
+
+    private final String dimension;
+
+    KpiDimension(final String dimension) {
+        this.dimension = dimension;
+    }
+
+    @Override
+    public String toString() {
+        return dimension;
+    }
+}
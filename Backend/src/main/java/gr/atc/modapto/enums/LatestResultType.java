@@ -0,0 +1,57 @@
+package gr.atc.modapto.enums;
+
+import gr.atc.modapto.dto.serviceResults.crf.CrfOptimizationResultsDto;
+import gr.atc.modapto.dto.serviceResults.crf.CrfSimulationResultsDto;
+import gr.atc.modapto.dto.serviceResults.fft.FftOptimizationResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewGroupingPredictiveMaintenanceOutputDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewOptimizationResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSimulationResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewThresholdBasedPredictiveMaintenanceOutputDto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Smart Service results whose latest entry is cached, with the event topic announcing new results if there is one
+ */
+public enum LatestResultType {
+    CRF_SIMULATION(KafkaTopics.CRF_SIMULATION_RESULTS, CrfSimulationResultsDto.class),
+    CRF_OPTIMIZATION(KafkaTopics.CRF_OPTIMIZATION_RESULTS, CrfOptimizationResultsDto.class),
+    SEW_SIMULATION(KafkaTopics.SEW_SIMULATION_RESULTS, SewSimulationResultsDto.class),
+    SEW_OPTIMIZATION(KafkaTopics.SEW_OPTIMIZATION_RESULTS, SewOptimizationResultsDto.class),
+    SEW_GROUPING_PREDICTIVE_MAINTENANCE(KafkaTopics.SEW_GROUPING_PREDICTIVE_MAINTENANCE, SewGroupingPredictiveMaintenanceOutputDto.class),
+    SEW_THRESHOLD_PREDICTIVE_MAINTENANCE(KafkaTopics.SEW_THRESHOLD_PREDICTIVE_MAINTENANCE, SewThresholdBasedPredictiveMaintenanceOutputDto.class),
+    SEW_SELF_AWARENESS_MONITORING_KPIS(KafkaTopics.SEW_SELF_AWARENESS_MONITORING_KPIS, SewSelfAwarenessMonitoringKpisResultsDto.class),
+    FFT_OPTIMIZATION(null, FftOptimizationResultsDto.class);
+
+    private final KafkaTopics eventTopic;
+
+    private final Class<?> resultClass;
+
+    LatestResultType(final KafkaTopics eventTopic, final Class<?> resultClass) {
+        this.eventTopic = eventTopic;
+        this.resultClass = resultClass;
+    }
+
+    public Class<?> getResultClass() {
+        return resultClass;
+    }
+
+    /**
+     * Find the result type announced on an event topic
+     *
+     * @param topic : Event topic
+     * @return Optional<LatestResultType>, empty if the topic carries no cached results
+     */
+    public static Optional<LatestResultType> fromEventTopic(String topic) {
+        return Arrays.stream(values())
+                .filter(type -> type.eventTopic != null && type.eventTopic.toString().equalsIgnoreCase(topic))
+                .findFirst();
+    }
+
+    @Override
+    public String toString() {
+        return name();
+    }
+}
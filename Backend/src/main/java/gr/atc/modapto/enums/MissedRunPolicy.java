@@ -0,0 +1,20 @@
+package gr.atc.modapto.enums;
+
+/**
+ * Policy applied to Scheduled Tasks whose execution was missed while the application was down
+ */
+public enum MissedRunPolicy {
+    CATCH_UP("CATCH_UP"),
+    SKIP("SKIP");
+
+    private final String policy;
+
+    MissedRunPolicy(final String policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public String toString() {
+        return policy;
+    }
+}
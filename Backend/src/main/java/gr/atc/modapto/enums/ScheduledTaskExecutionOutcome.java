@@ -0,0 +1,21 @@
+package gr.atc.modapto.enums;
+
+/**
+ * Outcome of a single execution of a Scheduled Task
+ */
+public enum ScheduledTaskExecutionOutcome {
+    SUCCESS("SUCCESS"),
+    FAILURE("FAILURE"),
+    REJECTED("REJECTED");
+
+    private final String outcome;
+
+    ScheduledTaskExecutionOutcome(final String outcome) {
+        this.outcome = outcome;
+    }
+
+    @Override
+    public String toString() {
+        return outcome;
+    }
+}
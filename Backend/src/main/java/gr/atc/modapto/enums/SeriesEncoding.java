@@ -0,0 +1,20 @@
+package gr.atc.modapto.enums;
+
+/**
+ * Representations of a KPI time-series in the API responses
+ */
+public enum SeriesEncoding {
+    LIST("LIST"),
+    GORILLA("GORILLA");
+
+    private final String encoding;
+
+    SeriesEncoding(final String encoding) {
+        this.encoding = encoding;
+    }
+
+    @Override
+    public String toString() {
+        return encoding;
+    }
+}
@@ -28,13 +28,14 @@ public class AppEventListener {
 
         try{
             if (scheduledTaskService.registerScheduledTask(newTask))
-                logger.info("Successfully registered scheduled task for threshold-based maintenance - Module: {}, Frequency: {} {}",
+                logger.info("Successfully registered scheduled task for type '{}' - Module: {}, Frequency: {} {}",
+                        appEvent.getTaskType(),
                         newTask.getModuleId(),
                         newTask.getFrequencyValue(),
                         newTask.getFrequencyType());
 
         } catch (Exception e) {
-            logger.error("Error creating scheduled task for threshold-based maintenance: {}", e.getMessage());
+            logger.error("Error creating scheduled task for type '{}': {}", appEvent.getTaskType(), e.getMessage());
         }
     }
 }
@@ -17,6 +17,8 @@ public class CustomExceptions{
         public PaginationException(Throwable cause) {
             super("Invalid pagination parameters were given. Cause: {}", cause);
         }
+
+        public PaginationException(String message) { super(message); }
     }
 
     public static class FileHandlingException extends RuntimeException{
@@ -53,4 +55,8 @@ public class CustomExceptions{
         public ServiceOperationException(String message) { super(message); }
     }
 
+    public static class InvalidQueryException extends RuntimeException{
+        public InvalidQueryException(String message) { super(message); }
+    }
+
 }
\ No newline at end of file
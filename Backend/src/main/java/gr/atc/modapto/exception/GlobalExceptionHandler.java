@@ -155,6 +155,12 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @ExceptionHandler(InvalidQueryException.class)
+    public ResponseEntity<BaseResponse<String>> handleInvalidQueryException(InvalidQueryException ex) {
+        BaseResponse<String> response = BaseResponse.error("Invalid query parameters were given", ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<BaseResponse<String>> handleMissingServletRequestParameterException(MissingServletRequestParameterException ex) {
         BaseResponse<String> response = BaseResponse.error("Missing input parameter", ex.getMessage());
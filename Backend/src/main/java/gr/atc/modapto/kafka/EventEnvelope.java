@@ -0,0 +1,129 @@
+package gr.atc.modapto.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.enums.MessagePriority;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Envelope fields of a serialized Event, read with a streaming parser. The 'results' are not parsed, only their
+ * byte range in the serialized Event is kept, so that they can be forwarded unchanged
+ *
+ * @param priority : Priority of the Event, null if missing
+ * @param module : Production Module, null if missing
+ * @param topic : Topic of the Event, null if missing
+ * @param eventType : Type of the Event
+ * @param description : Description of the Event
+ * @param source : Serialized Event
+ * @param resultsOffset : Offset of the 'results' in the serialized Event
+ * @param resultsLength : Length of the 'results', 0 if missing or null
+ */
+public record EventEnvelope(MessagePriority priority, String module, String topic, String eventType, String description,
+                            byte[] source, int resultsOffset, int resultsLength) {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Read the envelope of a serialized Event
+     *
+     * @param event : Serialized Event
+     * @return EventEnvelope
+     * @throws IOException if the Event is not a valid JSON object or its priority is unknown
+     */
+    public static EventEnvelope read(byte[] event) throws IOException {
+        MessagePriority priority = null;
+        String module = null;
+        String topic = null;
+        String eventType = null;
+        String description = null;
+        int resultsOffset = 0;
+        int resultsLength = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(event)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                throw new JsonParseException(parser, "Event must be a JSON object");
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals("results")) {
+                    if (value == JsonToken.VALUE_NULL)
+                        continue;
+                    resultsOffset = (int) parser.currentTokenLocation().getByteOffset();
+                    // Skips the results while still validating their syntax
+                    parser.skipChildren();
+                    parser.finishToken();
+                    resultsLength = (int) parser.currentLocation().getByteOffset() - resultsOffset;
+                    continue;
+                }
+
+                if (value.isStructStart()) {
+                    parser.skipChildren();
+                    continue;
+                }
+                switch (field) {
+                    case "priority" -> priority = readPriority(parser);
+                    case "module" -> module = parser.getValueAsString();
+                    case "topic" -> topic = parser.getValueAsString();
+                    case "eventType" -> eventType = parser.getValueAsString();
+                    case "description" -> description = parser.getValueAsString();
+                    default -> {
+                        // Remaining fields are not needed for routing
+                    }
+                }
+            }
+        }
+        return new EventEnvelope(priority, module, topic, eventType, description, event, resultsOffset, resultsLength);
+    }
+
+    private static MessagePriority readPriority(JsonParser parser) throws IOException {
+        String priority = parser.getValueAsString();
+        if (priority == null)
+            return null;
+        try {
+            return MessagePriority.valueOf(priority);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, "Unknown priority '" + priority + "'");
+        }
+    }
+
+    /**
+     * Create a copy of the envelope with a different topic
+     *
+     * @param eventTopic : Topic of the Event
+     * @return EventEnvelope
+     */
+    public EventEnvelope withTopic(String eventTopic) {
+        return new EventEnvelope(priority, module, eventTopic, eventType, description, source, resultsOffset, resultsLength);
+    }
+
+    public boolean hasResults() {
+        return resultsLength > 0;
+    }
+
+    /**
+     * Serialized results, exactly as they appear in the Event
+     *
+     * @return JSON bytes of the results
+     */
+    public byte[] results() {
+        return Arrays.copyOfRange(source, resultsOffset, resultsOffset + resultsLength);
+    }
+
+    /**
+     * Parse the results, only needed when their content is used
+     *
+     * @param objectMapper : JSON parser
+     * @return Results tree
+     * @throws IOException if the results cannot be parsed
+     */
+    public JsonNode readResults(ObjectMapper objectMapper) throws IOException {
+        return objectMapper.readTree(source, resultsOffset, resultsLength);
+    }
+}
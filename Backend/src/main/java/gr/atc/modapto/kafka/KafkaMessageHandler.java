@@ -1,15 +1,30 @@
 package gr.atc.modapto.kafka;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
-import gr.atc.modapto.dto.EventDto;
+import gr.atc.modapto.service.LatestResultCacheService;
+import gr.atc.modapto.service.SewRealTimeMonitoringStore;
 import gr.atc.modapto.service.WebSocketService;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,43 +34,166 @@ public class KafkaMessageHandler {
 
     private final WebSocketService webSocketService;
 
+    private final SewRealTimeMonitoringStore realTimeMonitoringStore;
+
+    private final LatestResultCacheService latestResultCache;
+
+    private final KafkaTopicConsumptionMetrics consumerMetrics;
+
     private static final String MODAPTO_MQTT_TOPIC = "modapto-mqtt-topics";
 
     private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
-    public KafkaMessageHandler(WebSocketService webSocketService) {
+    public KafkaMessageHandler(WebSocketService webSocketService, SewRealTimeMonitoringStore realTimeMonitoringStore,
+                               LatestResultCacheService latestResultCache, KafkaTopicConsumptionMetrics consumerMetrics) {
         this.webSocketService = webSocketService;
+        this.realTimeMonitoringStore = realTimeMonitoringStore;
+        this.latestResultCache = latestResultCache;
+        this.consumerMetrics = consumerMetrics;
     }
 
     /**
-     * Kafka consumer method to receive a JSON Event message - From Kafka Producers
+     * Kafka batch consumer method to receive the JSON Event messages of a poll - From Kafka Producers.
+     * Partitions are processed concurrently on virtual threads and the records of each partition in order.
+     * WebSocket notifications are dispatched once the whole batch has been processed
      *
-     * @param event: Event occurred in MODAPTO
-     * @param messageKey: Key value of Event
+     * @param records : Records of the poll, with the serialized Events
+     * @param consumer : Kafka consumer, used for the lag of the polled partitions
      */
     @KafkaListener(topics = "#{'${kafka.topics}'.split(',')}", groupId = "${spring.kafka.consumer.group-id}")
-    public void consume(EventDto event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Header(value = KafkaHeaders.RECEIVED_KEY, required = false) String messageKey) {
+    public void consumeBatch(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        long start = System.nanoTime();
+        Map<TopicPartition, List<ConsumerRecord<String, byte[]>>> partitionRecords = records.stream()
+                .collect(Collectors.groupingBy(consumerRecord -> new TopicPartition(consumerRecord.topic(), consumerRecord.partition()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        dispatchNotifications(processPartitions(partitionRecords.values()));
+
+        // The consumer is not thread-safe, so the lag is read on the listener thread
+        partitionRecords.forEach((partition, partitionBatch) -> {
+            consumerMetrics.recordConsumed(partition.topic(), partitionBatch.size());
+            consumer.currentLag(partition).ifPresent(lag -> consumerMetrics.recordLag(partition, lag));
+        });
+        consumerMetrics.recordBatchDuration(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Process a single JSON Event message and notify the WebSocket topic of the Event immediately
+     *
+     * @param event: Serialized Event occurred in MODAPTO
+     * @param topic: Kafka topic the Event was received from
+     * @param messageKey: Key value of Event
+     */
+    public void consume(byte[] event, String topic, String messageKey) {
+        process(event, topic, messageKey)
+                .ifPresent(notification -> webSocketService.notifyInWebSocketTopic(notification.payload(), notification.topic()));
+    }
+
+    /*
+     * Helper method to process the records of every partition, concurrently if more than one partition was polled
+     */
+    private List<List<WebSocketNotification>> processPartitions(Collection<List<ConsumerRecord<String, byte[]>>> partitionRecords) {
+        if (partitionRecords.size() <= 1)
+            return partitionRecords.stream().map(this::processRecords).toList();
+
+        List<Future<List<WebSocketNotification>>> partitionResults;
+        // Closing the executor waits for every partition to be processed
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            partitionResults = partitionRecords.stream()
+                    .map(partitionBatch -> executor.submit(() -> processRecords(partitionBatch)))
+                    .toList();
+        }
+        return partitionResults.stream().map(Future::resultNow).toList();
+    }
+
+    /*
+     * Helper method to process the records of a partition in order. Failures are logged per record, so that a single
+     * record does not cause the redelivery of the whole batch
+     */
+    private List<WebSocketNotification> processRecords(List<ConsumerRecord<String, byte[]>> partitionBatch) {
+        List<WebSocketNotification> notifications = new ArrayList<>(partitionBatch.size());
+        for (ConsumerRecord<String, byte[]> consumerRecord : partitionBatch) {
+            if (consumerRecord.value() == null) {
+                log.error("Message discarded! Empty event at offset {} of {}-{}", consumerRecord.offset(), consumerRecord.topic(), consumerRecord.partition());
+                continue;
+            }
+            try {
+                process(consumerRecord.value(), consumerRecord.topic(), consumerRecord.key()).ifPresent(notifications::add);
+            } catch (RuntimeException e) {
+                log.error("Unable to process event at offset {} of {}-{} - Error: {}", consumerRecord.offset(), consumerRecord.topic(), consumerRecord.partition(), e.getMessage());
+            }
+        }
+        return notifications;
+    }
+
+    /*
+     * Helper method to validate an Event, keep its results in memory and create its WebSocket notification. Only the envelope
+     * of the Event is parsed, the results are parsed only for the topics whose results are kept in memory
+     */
+    private Optional<WebSocketNotification> process(byte[] event, String topic, String messageKey) {
+        EventEnvelope envelope;
+        try {
+            envelope = EventEnvelope.read(event);
+        } catch (IOException e) {
+            log.error("Message discarded! Unable to parse event received on topic: {} - Error: {}", topic, e.getMessage());
+            return Optional.empty();
+        }
+
         // Validate that same essential variables are present
-        log.debug("Event message received on topic: {} with Event Data Type: {}, with Description: {}", topic, event.getEventType(), event.getDescription());
-        if (event.getPriority() == null || event.getModule() == null || event.getTopic() == null) {
+        log.debug("Event message received on topic: {} with Event Data Type: {}, with Description: {}", topic, envelope.eventType(), envelope.description());
+        if (envelope.priority() == null || envelope.module() == null || envelope.topic() == null) {
             log.error("Message discarded! Either priority, topic or production module are missing from the event. Message is discarded!");
-            return;
+            return Optional.empty();
         }
 
         // Check if message is from MQTT
         if (topic.equalsIgnoreCase(MODAPTO_MQTT_TOPIC))
-            event.setTopic(messageKey);
+            envelope = envelope.withTopic(messageKey);
 
-        String eventTopic = event.getTopic();
+        String eventTopic = envelope.topic();
         // If no results are present then consume the message and return
-        if(event.getResults().isNull()){
-            return;
+        if (!envelope.hasResults()) {
+            return Optional.empty();
         }
-        try{
-            // Route Topic Message to WebSocket message
-            webSocketService.notifyInWebSocketTopic(objectMapper.writeValueAsString(event.getResults()), eventTopic);
-        } catch (JsonProcessingException e) {
-            log.error("Unable to parse Event JSON or Results JSON to String Object - Error: {}", e.getMessage());
+
+        boolean realTimeMonitoringTopic = realTimeMonitoringStore.isRealTimeMonitoringTopic(eventTopic);
+        boolean latestResultTopic = latestResultCache.isResultEventTopic(eventTopic);
+        if (realTimeMonitoringTopic || latestResultTopic) {
+            JsonNode results;
+            try {
+                results = envelope.readResults(objectMapper);
+            } catch (IOException e) {
+                log.error("Unable to parse Results JSON of event received on topic: {} - Error: {}", topic, e.getMessage());
+                return Optional.empty();
+            }
+
+            // Keep the current state of Real-Time Monitoring results in memory
+            if (realTimeMonitoringTopic)
+                realTimeMonitoringStore.recordEventResults(results);
+
+            // Replace the cached latest results of the Module with the announced ones
+            if (latestResultTopic)
+                latestResultCache.recordResultEvent(eventTopic, envelope.module(), results);
         }
+
+        // Results of topics without WebSocket subscribers are neither copied nor dispatched
+        if (!webSocketService.hasSubscribers(eventTopic))
+            return Optional.empty();
+
+        // Route the results to the WebSocket topic exactly as they were received
+        return Optional.of(new WebSocketNotification(eventTopic, envelope.results()));
+    }
+
+    /*
+     * Helper method to dispatch the notifications of a batch grouped by WebSocket topic, keeping the order of each partition
+     */
+    private void dispatchNotifications(List<List<WebSocketNotification>> partitionNotifications) {
+        Map<String, List<byte[]>> topicPayloads = new LinkedHashMap<>();
+        partitionNotifications.forEach(notifications -> notifications.forEach(notification ->
+                topicPayloads.computeIfAbsent(notification.topic(), topic -> new ArrayList<>()).add(notification.payload())));
+        topicPayloads.forEach((topic, payloads) -> webSocketService.notifyInWebSocketTopic(payloads, topic));
+    }
+
+    private record WebSocketNotification(String topic, byte[] payload) {
     }
-}
\ No newline at end of file
+}
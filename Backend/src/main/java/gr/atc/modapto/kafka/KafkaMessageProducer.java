@@ -1,23 +1,167 @@
 package gr.atc.modapto.kafka;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+import gr.atc.modapto.config.properties.KafkaProducerProperties;
 import gr.atc.modapto.dto.EventDto;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Asynchronous publisher of the MODAPTO events. Events are keyed by their Module, so that the events of a Module keep
+ * their order in a single partition, and the broker acknowledgement of every event is tracked. If the retry buffer is enabled,
+ * failed events are kept in a bounded in-memory buffer and published again periodically. Such events are published after
+ * newer events of their Module and may be duplicated, so the retry buffer trades the per-Module ordering for fewer lost events
+ */
 @Component
 @Slf4j
 public class KafkaMessageProducer {
 
     private final KafkaTemplate<String, EventDto> kafkaTemplate;
 
-    public KafkaMessageProducer(KafkaTemplate<String, EventDto> kafkaTemplate) {
+    private final TaskScheduler taskScheduler;
+
+    private final KafkaProducerProperties producerProperties;
+
+    private final KafkaPublishMetrics publishMetrics;
+
+    private final BlockingQueue<PendingEvent> retryBuffer;
+
+    private ScheduledFuture<?> retryFuture;
+
+    public KafkaMessageProducer(KafkaTemplate<String, EventDto> kafkaTemplate,
+                                @Qualifier("housekeepingTaskScheduler") TaskScheduler taskScheduler,
+                                KafkaProducerProperties producerProperties,
+                                KafkaPublishMetrics publishMetrics) {
         this.kafkaTemplate = kafkaTemplate;
+        this.taskScheduler = taskScheduler;
+        this.producerProperties = producerProperties;
+        this.publishMetrics = publishMetrics;
+        this.retryBuffer = producerProperties.retryBufferCapacity() > 0
+                ? new LinkedBlockingQueue<>(producerProperties.retryBufferCapacity())
+                : null;
+        if (retryBuffer != null)
+            publishMetrics.monitorRetryBuffer(retryBuffer);
     }
 
+    /*
+     * Start the periodic publishing of the buffered events
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRetries() {
+        if (retryBuffer != null)
+            retryFuture = taskScheduler.scheduleWithFixedDelay(this::retryBufferedEvents, producerProperties.retryInterval());
+    }
+
+    /**
+     * Publish an event without waiting for its acknowledgement
+     *
+     * @param topic : Kafka topic
+     * @param message : Event
+     */
     public void sendMessage(String topic, EventDto message) {
         log.debug("Sent message to topic {}: {}", topic, message);
-        kafkaTemplate.send(topic, message);
+        send(new PendingEvent(topic, message, 1));
+    }
+
+    /**
+     * Publish again the events of the retry buffer
+     */
+    public void retryBufferedEvents() {
+        if (retryBuffer == null || retryBuffer.isEmpty())
+            return;
+
+        List<PendingEvent> pendingEvents = new ArrayList<>(retryBuffer.size());
+        retryBuffer.drainTo(pendingEvents);
+        log.info("Publishing again {} buffered Kafka events", pendingEvents.size());
+        pendingEvents.forEach(pendingEvent -> send(pendingEvent.nextAttempt()));
+    }
+
+    /**
+     * Retrieve the number of events waiting in the retry buffer
+     *
+     * @return Number of buffered events
+     */
+    public int getRetryBufferSize() {
+        return retryBuffer != null ? retryBuffer.size() : 0;
+    }
+
+    /*
+     * Helper method to send an event and track its acknowledgement
+     */
+    private void send(PendingEvent pendingEvent) {
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, EventDto>> future;
+        try {
+            future = kafkaTemplate.send(pendingEvent.topic(), pendingEvent.key(), pendingEvent.event());
+        } catch (RuntimeException e) {
+            // Serialization errors, exhausted producer buffer or unavailable metadata
+            onFailure(pendingEvent, e);
+            return;
+        }
+
+        if (future == null)
+            return;
+        future.whenComplete((result, ex) -> {
+            if (ex == null)
+                publishMetrics.recordSuccess(pendingEvent.topic(), Duration.ofNanos(System.nanoTime() - start));
+            else
+                onFailure(pendingEvent, ex);
+        });
+    }
+
+    /*
+     * Helper method to buffer a failed event, unless its attempts are exhausted or the buffer is full
+     */
+    private void onFailure(PendingEvent pendingEvent, Throwable failure) {
+        publishMetrics.recordFailure(pendingEvent.topic());
+        if (retryBuffer == null || pendingEvent.event() == null || pendingEvent.attempt() >= producerProperties.maxRetryAttempts()) {
+            log.error("Kafka event dropped after {} attempt(s) on topic {} - Error: {}", pendingEvent.attempt(), pendingEvent.topic(), failure.getMessage());
+            publishMetrics.recordDropped(pendingEvent.topic());
+            return;
+        }
+
+        if (retryBuffer.offer(pendingEvent)) {
+            log.warn("Unable to publish Kafka event on topic {}, it will be published again - Error: {}", pendingEvent.topic(), failure.getMessage());
+        } else {
+            log.error("Kafka event dropped on topic {} as the retry buffer is full - Error: {}", pendingEvent.topic(), failure.getMessage());
+            publishMetrics.recordDropped(pendingEvent.topic());
+        }
+    }
+
+    /**
+     * Stop the retries and publish the remaining buffered events on application shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (retryFuture != null)
+            retryFuture.cancel(false);
+        retryBufferedEvents();
+        kafkaTemplate.flush();
+    }
+
+    private record PendingEvent(String topic, EventDto event, int attempt) {
+
+        String key() {
+            return event != null ? event.getModule() : null;
+        }
+
+        PendingEvent nextAttempt() {
+            return new PendingEvent(topic, event, attempt + 1);
+        }
     }
 }
@@ -0,0 +1,102 @@
+package gr.atc.modapto.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per topic metrics of the published Kafka events. Every publish attempt is counted by outcome in 'kafka.producer.records'
+ * (success, failure or dropped) and the latency until the broker acknowledgement is timed for the successful ones
+ */
+@Component
+public class KafkaPublishMetrics {
+
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+    static final String DROPPED = "dropped";
+
+    private static final String UNKNOWN_TOPIC = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, Counter> recordCounters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+
+    public KafkaPublishMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Record an event acknowledged by the broker
+     *
+     * @param topic : Kafka topic
+     * @param latency : Duration between the send and the acknowledgement
+     */
+    public void recordSuccess(String topic, Duration latency) {
+        String topicTag = Objects.requireNonNullElse(topic, UNKNOWN_TOPIC);
+        counter(topicTag, SUCCESS).increment();
+        latencyTimers.computeIfAbsent(topicTag, key -> Timer.builder("kafka.producer.send.latency")
+                        .description("Duration between the send of a Kafka event and its acknowledgement")
+                        .tag("topic", key)
+                        .register(meterRegistry))
+                .record(latency);
+    }
+
+    /**
+     * Record a failed publish attempt
+     *
+     * @param topic : Kafka topic
+     */
+    public void recordFailure(String topic) {
+        counter(Objects.requireNonNullElse(topic, UNKNOWN_TOPIC), FAILURE).increment();
+    }
+
+    /**
+     * Record an event that will not be published again
+     *
+     * @param topic : Kafka topic
+     */
+    public void recordDropped(String topic) {
+        counter(Objects.requireNonNullElse(topic, UNKNOWN_TOPIC), DROPPED).increment();
+    }
+
+    /**
+     * Expose the number of events waiting in the retry buffer
+     *
+     * @param retryBuffer : Buffered events
+     */
+    public void monitorRetryBuffer(Collection<?> retryBuffer) {
+        Gauge.builder("kafka.producer.retry.buffer.size", retryBuffer, Collection::size)
+                .description("Number of failed Kafka events waiting to be published again")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Number of publish attempts of a topic with the given outcome
+     *
+     * @param topic : Kafka topic
+     * @param outcome : success, failure or dropped
+     * @return Number of attempts
+     */
+    public double getCount(String topic, String outcome) {
+        Counter counter = recordCounters.get(topic + ":" + outcome);
+        return counter != null ? counter.count() : 0;
+    }
+
+    private Counter counter(String topic, String outcome) {
+        return recordCounters.computeIfAbsent(topic + ":" + outcome, key -> Counter.builder("kafka.producer.records")
+                .description("Number of Kafka events by publish outcome")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,92 @@
+package gr.atc.modapto.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per topic metrics of the consumed Kafka events. Consumed records are counted, so that records/s is the rate of
+ * 'kafka.consumer.records', and the consumer lag is the sum of the last known lag of every assigned partition
+ */
+@Component
+public class KafkaTopicConsumptionMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, Counter> recordCounters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<TopicPartition, Long> partitionLags = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Gauge> lagGauges = new ConcurrentHashMap<>();
+
+    private final Timer batchTimer;
+
+    public KafkaTopicConsumptionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = Timer.builder("kafka.consumer.batch.duration")
+                .description("Processing duration of a batch of Kafka records")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Count the records of a topic consumed in a batch
+     *
+     * @param topic : Kafka topic
+     * @param records : Number of consumed records
+     */
+    public void recordConsumed(String topic, int records) {
+        recordCounters.computeIfAbsent(topic, key -> Counter.builder("kafka.consumer.records")
+                        .description("Number of consumed Kafka records")
+                        .tag("topic", key)
+                        .register(meterRegistry))
+                .increment(records);
+    }
+
+    /**
+     * Update the last known lag of a partition
+     *
+     * @param partition : Topic partition
+     * @param lag : Records between the consumer position and the end of the partition
+     */
+    public void recordLag(TopicPartition partition, long lag) {
+        partitionLags.put(partition, lag);
+        lagGauges.computeIfAbsent(partition.topic(), topic -> Gauge.builder("kafka.consumer.lag", partitionLags, lags -> topicLag(lags, topic))
+                .description("Records between the consumer position and the end of the topic partitions")
+                .tag("topic", topic)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Record the processing duration of a batch
+     *
+     * @param duration : Processing duration
+     */
+    public void recordBatchDuration(Duration duration) {
+        batchTimer.record(duration);
+    }
+
+    /**
+     * Last known lag of a topic
+     *
+     * @param topic : Kafka topic
+     * @return Sum of the lag of its partitions
+     */
+    public long getLag(String topic) {
+        return (long) topicLag(partitionLags, topic);
+    }
+
+    private static double topicLag(ConcurrentMap<TopicPartition, Long> lags, String topic) {
+        return lags.entrySet().stream()
+                .filter(entry -> entry.getKey().topic().equals(topic))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+}
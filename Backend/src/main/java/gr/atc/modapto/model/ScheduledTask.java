@@ -2,6 +2,11 @@ package gr.atc.modapto.model;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import gr.atc.modapto.dto.serviceInvocations.CrfInvocationInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewGroupingPredictiveMaintenanceInputDataDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessMonitoringKpisInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessRealTimeMonitoringInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSimulationInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewThresholdBasedMaintenanceInputDataDto;
 import gr.atc.modapto.enums.FrequencyType;
 import lombok.AllArgsConstructor;
@@ -51,6 +56,11 @@ public class ScheduledTask {
     @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
     @JsonSubTypes({
             @JsonSubTypes.Type(value = SewThresholdBasedMaintenanceInputDataDto.class, name = "threshold-based-pdm-input"),
+            @JsonSubTypes.Type(value = SewGroupingPredictiveMaintenanceInputDataDto.class, name = "grouping-pdm-input"),
+            @JsonSubTypes.Type(value = SewSelfAwarenessMonitoringKpisInputDto.class, name = "self-awareness-monitoring-kpis-input"),
+            @JsonSubTypes.Type(value = SewSelfAwarenessRealTimeMonitoringInputDto.class, name = "self-awareness-real-time-monitoring-input"),
+            @JsonSubTypes.Type(value = SewSimulationInputDto.class, name = "sew-simulation-input"),
+            @JsonSubTypes.Type(value = CrfInvocationInputDto.class, name = "crf-optimization-input"),
     })
     private Object requestBody;
 
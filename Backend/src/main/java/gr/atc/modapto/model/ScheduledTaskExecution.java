@@ -0,0 +1,59 @@
+package gr.atc.modapto.model;
+
+import gr.atc.modapto.enums.ScheduledTaskExecutionOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a single execution of a Scheduled Task.
+ * Records are stored in monthly partitions (scheduled-task-executions-yyyy.MM) created on first write
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(indexName = "scheduled-task-executions", createIndex = false)
+public class ScheduledTaskExecution {
+
+    @Id
+    private String id;
+
+    @Field(type = FieldType.Keyword)
+    private String taskId;
+
+    @Field(type = FieldType.Keyword)
+    private String smartServiceType;
+
+    @Field(type = FieldType.Keyword)
+    private String moduleId;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
+    private LocalDateTime scheduledTime;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime startedAt;
+
+    @Field(type = FieldType.Long)
+    private Long lagMillis;
+
+    @Field(type = FieldType.Long)
+    private Long durationMillis;
+
+    @Field(type = FieldType.Keyword)
+    private ScheduledTaskExecutionOutcome outcome;
+
+    @Field(type = FieldType.Integer)
+    private Integer payloadSize;
+
+    @Field(type = FieldType.Text, index = false)
+    private String error;
+}
@@ -0,0 +1,40 @@
+package gr.atc.modapto.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ownership lease of a Scheduled Task. Document ID is the Scheduled Task ID.
+ * Leases are only modified with optimistic concurrency control (seq_no / primary_term)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(indexName = "scheduled-task-leases")
+public class ScheduledTaskLease {
+
+    @Id
+    private String id;
+
+    @Field(type = FieldType.Keyword)
+    private String owner;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
+    private LocalDateTime acquiredAt;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
+    private LocalDateTime expiresAt;
+
+    private SeqNoPrimaryTerm seqNoPrimaryTerm;
+}
@@ -71,4 +71,8 @@ public class SewSelfAwarenessMonitoringKpisResults {
 
     @Field(type = FieldType.Double)
     private List<Double> data;
+
+    // Base64 of the Gorilla-compressed series, replaces 'data' once migrated. Binary fields are neither indexed nor searchable
+    @Field(type = FieldType.Binary)
+    private String encodedData;
 }
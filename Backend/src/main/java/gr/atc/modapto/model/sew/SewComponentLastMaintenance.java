@@ -0,0 +1,43 @@
+package gr.atc.modapto.model.sew;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized view of the latest maintenance intervention per Component (Stage / Cell / Module / Module ID).
+ * Document ID is the Component key, so lookups are performed by ID
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document(indexName = "sew-component-last-maintenance")
+public class SewComponentLastMaintenance {
+
+    @Id
+    private String id;
+
+    @Field(type = FieldType.Keyword)
+    private String stage;
+
+    @Field(type = FieldType.Keyword)
+    private String cell;
+
+    @Field(type = FieldType.Keyword)
+    private String module;
+
+    @Field(type = FieldType.Keyword)
+    private String moduleId;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
+    private LocalDateTime lastMaintenanceActionTime;
+}
@@ -0,0 +1,9 @@
+package gr.atc.modapto.repository;
+
+import gr.atc.modapto.model.ScheduledTaskLease;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduledTaskLeaseRepository extends ElasticsearchRepository<ScheduledTaskLease, String> {
+}
@@ -0,0 +1,14 @@
+package gr.atc.modapto.repository;
+
+import gr.atc.modapto.model.SchedulerInstance;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SchedulerInstanceRepository extends ElasticsearchRepository<SchedulerInstance, String> {
+
+    List<SchedulerInstance> findByExpiresAtAfter(LocalDateTime time);
+}
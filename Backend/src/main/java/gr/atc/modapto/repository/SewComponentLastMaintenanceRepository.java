@@ -0,0 +1,9 @@
+package gr.atc.modapto.repository;
+
+import gr.atc.modapto.model.sew.SewComponentLastMaintenance;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SewComponentLastMaintenanceRepository extends ElasticsearchRepository<SewComponentLastMaintenance, String> {
+}
@@ -10,4 +10,5 @@ import java.util.Optional;
 public interface SewMonitorKpisComponentsRepository extends ElasticsearchRepository<SewMonitorKpisComponents, String> {
     Optional<SewMonitorKpisComponents> findByModuleId(String moduleId);
     void deleteByModuleId(String moduleId);
+    void deleteByModuleIdAndIdNot(String moduleId, String id);
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package gr.atc.modapto.scheduling;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel with O(1) insert and cancel.
+ * Level 0 has one bucket per tick and every higher level covers a full rotation of the level below it.
+ * Entries of higher levels are cascaded to the lower levels as their slot approaches.
+ * Not thread-safe, callers must serialize access
+ */
+class HierarchicalTimingWheel {
+
+    static final int LEVELS = 4;
+
+    /*
+     * Element of the wheel, linked in the bucket of its slot
+     */
+    static class Entry {
+        long deadlineTick;
+        private Entry previous;
+        private Entry next;
+        private Bucket bucket;
+
+        boolean isQueued() {
+            return bucket != null;
+        }
+    }
+
+    /*
+     * Doubly-linked list of the entries of a slot
+     */
+    private static final class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        void add(Entry entry) {
+            entry.bucket = this;
+            entry.previous = tail;
+            entry.next = null;
+            if (tail == null)
+                head = entry;
+            else
+                tail.next = entry;
+            tail = entry;
+        }
+
+        void remove(Entry entry) {
+            if (entry.previous == null)
+                head = entry.next;
+            else
+                entry.previous.next = entry.next;
+            if (entry.next == null)
+                tail = entry.previous;
+            else
+                entry.next.previous = entry.previous;
+            entry.previous = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+
+        Entry detachAll() {
+            Entry first = head;
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+
+    private final int wheelBits;
+    private final long mask;
+    private final long maxDelta;
+    private final Bucket[][] buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param wheelSize : Number of slots per level, rounded up to a power of two
+     * @param startTick : Initial tick of the wheel
+     */
+    HierarchicalTimingWheel(int wheelSize, long startTick) {
+        this.wheelBits = 32 - Integer.numberOfLeadingZeros(Math.max(wheelSize, 2) - 1);
+        this.mask = (1L << wheelBits) - 1;
+        this.maxDelta = (1L << (wheelBits * LEVELS)) - 1;
+        this.buckets = new Bucket[LEVELS][1 << wheelBits];
+        for (Bucket[] level : buckets)
+            for (int i = 0; i < level.length; i++)
+                level[i] = new Bucket();
+        this.currentTick = startTick;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Insert an entry in the slot of its deadline
+     *
+     * @param entry : Entry with its deadline tick set
+     * @return False if the deadline has already been reached and the entry was not inserted
+     */
+    boolean insert(Entry entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0)
+            return false;
+
+        // Entries beyond the range of the wheel are parked in the last slot and cascaded again later
+        long slotTick = delta > maxDelta ? currentTick + maxDelta : entry.deadlineTick;
+        int level = 0;
+        while (level < LEVELS - 1 && (slotTick - currentTick) >>> (wheelBits * (level + 1)) != 0)
+            level++;
+
+        int index = (int) ((slotTick >>> (wheelBits * level)) & mask);
+        buckets[level][index].add(entry);
+        size++;
+        return true;
+    }
+
+    /**
+     * Remove a queued entry
+     *
+     * @param entry : Entry to remove
+     */
+    void remove(Entry entry) {
+        if (entry.bucket != null) {
+            entry.bucket.remove(entry);
+            size--;
+        }
+    }
+
+    /**
+     * Advance the wheel by one tick, cascading the higher levels whose slot boundary was reached
+     *
+     * @param expired : Consumer of the entries whose deadline was reached
+     */
+    void advance(Consumer<Entry> expired) {
+        currentTick++;
+
+        int highestLevel = 0;
+        while (highestLevel < LEVELS - 1 && (currentTick & ((1L << (wheelBits * (highestLevel + 1))) - 1)) == 0)
+            highestLevel++;
+
+        for (int level = highestLevel; level > 0; level--)
+            reinsert(buckets[level][(int) ((currentTick >>> (wheelBits * level)) & mask)], expired);
+
+        reinsert(buckets[0][(int) (currentTick & mask)], expired);
+    }
+
+    /**
+     * Jump directly to a later tick, only allowed when the wheel is empty
+     *
+     * @param tick : Target tick
+     */
+    void skipTo(long tick) {
+        if (size == 0 && tick > currentTick)
+            currentTick = tick;
+    }
+
+    /*
+     * Helper method to re-insert the entries of a bucket, expiring the ones whose deadline was reached
+     */
+    private void reinsert(Bucket bucket, Consumer<Entry> expired) {
+        Entry entry = bucket.detachAll();
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.previous = null;
+            entry.next = null;
+            entry.bucket = null;
+            size--;
+            if (!insert(entry))
+                expired.accept(entry);
+            entry = next;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package gr.atc.modapto.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Task Scheduler backed by a hierarchical timing wheel, suited for large numbers of periodic tasks.
+ * Scheduling and cancelling are O(1), a single ticker thread advances the wheel and due tasks are
+ * dispatched to virtual threads, with at most 'maxConcurrency' of them running at the same time.
+ * Due tasks beyond the limit wait in FIFO order and are handed to a thread only once a running task completes.
+ * Tasks never run before their scheduled time and run at most one tick after it, unless the limit is reached
+ */
+public final class TimingWheelTaskScheduler implements TaskScheduler {
+
+    private final Logger logger = LoggerFactory.getLogger(TimingWheelTaskScheduler.class);
+
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+    private final long tickNanos;
+    private final long startNanos;
+    private final HierarchicalTimingWheel wheel;
+    private final Executor dispatchExecutor;
+    private final Semaphore dispatchPermits;
+    private final Queue<WheelTimeout> waitingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread ticker;
+    private volatile boolean running = true;
+
+    /**
+     * @param tickDuration : Resolution of the wheel
+     * @param wheelSize : Number of slots per wheel level
+     * @param maxConcurrency : Maximum number of tasks running concurrently
+     */
+    public TimingWheelTaskScheduler(Duration tickDuration, int wheelSize, int maxConcurrency) {
+        this(tickDuration, wheelSize, maxConcurrency, Clock.systemDefaultZone(), System::nanoTime,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("timing-wheel-task-", 0).factory()), true);
+    }
+
+    /**
+     * @param tickDuration : Resolution of the wheel
+     * @param wheelSize : Number of slots per wheel level
+     * @param maxConcurrency : Maximum number of tasks running concurrently
+     * @param clock : Wall clock of the scheduled times
+     * @param nanoClock : Monotonic time in nanoseconds advancing the wheel, consistent with the clock
+     * @param dispatchExecutor : Executor of the due tasks
+     * @param startTicker : Whether a ticker thread advances the wheel, otherwise the wheel is advanced with advance()
+     */
+    TimingWheelTaskScheduler(Duration tickDuration, int wheelSize, int maxConcurrency, Clock clock, LongSupplier nanoClock,
+                             Executor dispatchExecutor, boolean startTicker) {
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+        this.tickNanos = Math.max(tickDuration.toNanos(), TimeUnit.MILLISECONDS.toNanos(1));
+        this.startNanos = nanoClock.getAsLong();
+        this.wheel = new HierarchicalTimingWheel(wheelSize, 0);
+        this.dispatchExecutor = dispatchExecutor;
+        this.dispatchPermits = new Semaphore(maxConcurrency);
+        this.ticker = startTicker ? Thread.ofPlatform().name("timing-wheel-ticker").daemon().start(this::runTicker) : null;
+    }
+
+    @Override
+    @NonNull
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(@NonNull Runnable task, @NonNull Instant startTime) {
+        WheelTimeout timeout = new WheelTimeout(task, startTime);
+        arm(timeout);
+        return timeout;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(@NonNull Runnable task, @NonNull Trigger trigger) {
+        SimpleTriggerContext triggerContext = new SimpleTriggerContext(clock);
+        Instant firstExecution = trigger.nextExecution(triggerContext);
+        if (firstExecution == null)
+            return null;
+
+        return new RecurringTimeout(task, firstExecution, (execution) -> {
+            triggerContext.update(execution.scheduled(), execution.started(), execution.completed());
+            return trigger.nextExecution(triggerContext);
+        });
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(@NonNull Runnable task, @NonNull Instant startTime, @NonNull Duration period) {
+        return new RecurringTimeout(task, startTime, execution -> execution.scheduled().plus(period));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(@NonNull Runnable task, @NonNull Duration period) {
+        return scheduleAtFixedRate(task, clock.instant(), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(@NonNull Runnable task, @NonNull Instant startTime, @NonNull Duration delay) {
+        return new RecurringTimeout(task, startTime, execution -> execution.completed().plus(delay));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(@NonNull Runnable task, @NonNull Duration delay) {
+        return scheduleWithFixedDelay(task, clock.instant(), delay);
+    }
+
+    /**
+     * Retrieve the number of tasks waiting in the wheel
+     *
+     * @return Number of pending tasks
+     */
+    public int getPendingTaskCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    /**
+     * Retrieve the number of due tasks waiting for a free slot of the concurrency limit
+     *
+     * @return Number of waiting tasks
+     */
+    public int getWaitingTaskCount() {
+        return waitingTimeouts.size();
+    }
+
+    /**
+     * Stop the ticker and the running tasks
+     */
+    public void shutdown() {
+        running = false;
+        waitingTimeouts.clear();
+        if (ticker != null)
+            LockSupport.unpark(ticker);
+        if (dispatchExecutor instanceof ExecutorService executorService)
+            executorService.shutdownNow();
+    }
+
+    /*
+     * Helper method to queue a timeout in the wheel, or dispatch it directly if already due
+     */
+    private void arm(WheelTimeout timeout) {
+        boolean queued;
+        synchronized (wheel) {
+            if (timeout.isCancelled())
+                return;
+            queued = wheel.insert(timeout);
+        }
+        if (!queued)
+            dispatch(timeout);
+    }
+
+    /*
+     * Helper method to execute a due timeout on a virtual thread within the concurrency limit
+     */
+    private void dispatch(WheelTimeout timeout) {
+        if (!running)
+            return;
+
+        waitingTimeouts.add(timeout);
+        drainWaitingTimeouts();
+    }
+
+    /*
+     * Helper method to hand waiting timeouts to the executor while permits are available
+     * A permit is taken before a thread is started, so no thread is created for a task that cannot run yet.
+     * Called after every enqueue and every release, so a waiting timeout is never left behind a free permit
+     */
+    private void drainWaitingTimeouts() {
+        while (running && !waitingTimeouts.isEmpty() && dispatchPermits.tryAcquire()) {
+            WheelTimeout timeout = waitingTimeouts.poll();
+            if (timeout == null) {
+                dispatchPermits.release();
+                continue;
+            }
+
+            try {
+                dispatchExecutor.execute(() -> runWithPermit(timeout));
+            } catch (RejectedExecutionException e) {
+                dispatchPermits.release();
+                logger.warn("Scheduled task was rejected by the dispatch executor - Error: {}", e.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Helper method to run a timeout holding a permit, followed by the timeouts waiting meanwhile, before releasing the permit
+     */
+    private void runWithPermit(WheelTimeout timeout) {
+        WheelTimeout next = timeout;
+        try {
+            while (next != null) {
+                next.run();
+                next = running ? waitingTimeouts.poll() : null;
+            }
+        } finally {
+            dispatchPermits.release();
+        }
+        drainWaitingTimeouts();
+    }
+
+    /*
+     * Ticker loop advancing the wheel up to the current time
+     */
+    private void runTicker() {
+        while (running) {
+            long elapsedTicks = advance();
+            LockSupport.parkNanos(startNanos + (elapsedTicks + 1) * tickNanos - nanoClock.getAsLong());
+        }
+    }
+
+    /**
+     * Advance the wheel up to the current time and dispatch the due tasks
+     *
+     * @return Number of ticks elapsed since the start of the scheduler
+     */
+    long advance() {
+        List<WheelTimeout> expired = new ArrayList<>();
+        long elapsedTicks = (nanoClock.getAsLong() - startNanos) / tickNanos;
+        synchronized (wheel) {
+            wheel.skipTo(elapsedTicks);
+            while (wheel.currentTick() < elapsedTicks)
+                wheel.advance(entry -> expired.add((WheelTimeout) entry));
+        }
+
+        expired.forEach(this::dispatch);
+        return elapsedTicks;
+    }
+
+    /*
+     * Helper method to convert a point in time to the first tick at or after it
+     */
+    private long toDeadlineTick(Instant time) {
+        long delayNanos;
+        try {
+            delayNanos = Duration.between(clock.instant(), time).toNanos();
+        } catch (ArithmeticException e) {
+            delayNanos = Long.MAX_VALUE / 2;
+        }
+        long deadlineNanos = nanoClock.getAsLong() - startNanos + Math.max(delayNanos, 0);
+        return Math.floorDiv(deadlineNanos + tickNanos - 1, tickNanos);
+    }
+
+    /*
+     * Single execution of a task queued in the wheel
+     */
+    private final class WheelTimeout extends HierarchicalTimingWheel.Entry implements ScheduledFuture<Object> {
+        private final Runnable task;
+        private final Instant scheduledTime;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final CompletableFuture<Object> completion = new CompletableFuture<>();
+
+        WheelTimeout(Runnable task, Instant scheduledTime) {
+            this.task = task;
+            this.scheduledTime = scheduledTime;
+            this.deadlineTick = toDeadlineTick(scheduledTime);
+        }
+
+        void run() {
+            if (!state.compareAndSet(PENDING, RUNNING))
+                return;
+
+            try {
+                task.run();
+                completion.complete(null);
+            } catch (Throwable e) {
+                logger.error("Unexpected error occurred in scheduled task - Error: {}", e.getMessage(), e);
+                completion.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!state.compareAndSet(PENDING, CANCELLED))
+                return false;
+
+            synchronized (wheel) {
+                wheel.remove(this);
+            }
+            completion.cancel(false);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return completion.isDone();
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            return completion.get();
+        }
+
+        @Override
+        public Object get(long timeout, @NonNull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return completion.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(@NonNull TimeUnit unit) {
+            return unit.convert(Duration.between(clock.instant(), scheduledTime));
+        }
+
+        @Override
+        public int compareTo(@NonNull Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /*
+     * Timestamps of a completed execution of a recurring task
+     */
+    private record Execution(Instant scheduled, Instant started, Instant completed) {
+    }
+
+    /*
+     * Recurring task re-armed in the wheel after every execution
+     */
+    private final class RecurringTimeout implements ScheduledFuture<Object> {
+        private final Runnable task;
+        private final Function<Execution, Instant> nextExecution;
+        private final CompletableFuture<Object> completion = new CompletableFuture<>();
+        private volatile WheelTimeout current;
+        private volatile boolean cancelled;
+
+        RecurringTimeout(Runnable task, Instant firstExecution, Function<Execution, Instant> nextExecution) {
+            this.task = task;
+            this.nextExecution = nextExecution;
+            scheduleNext(firstExecution);
+        }
+
+        private void scheduleNext(Instant scheduledTime) {
+            WheelTimeout timeout = new WheelTimeout(() -> runAndReschedule(scheduledTime), scheduledTime);
+            current = timeout;
+            if (cancelled)
+                timeout.cancel(false);
+            else
+                arm(timeout);
+        }
+
+        private void runAndReschedule(Instant scheduledTime) {
+            Instant started = clock.instant();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // Errors of recurring tasks are logged and the task keeps running, as in ThreadPoolTaskScheduler
+                logger.error("Unexpected error occurred in recurring scheduled task - Error: {}", e.getMessage(), e);
+            }
+
+            Instant next = nextExecution.apply(new Execution(scheduledTime, started, clock.instant()));
+            if (next == null)
+                completion.complete(null);
+            else if (!cancelled)
+                scheduleNext(next);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            cancelled = true;
+            current.cancel(mayInterruptIfRunning);
+            return completion.cancel(false);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return completion.isDone();
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            return completion.get();
+        }
+
+        @Override
+        public Object get(long timeout, @NonNull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return completion.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(@NonNull TimeUnit unit) {
+            return current.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(@NonNull Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
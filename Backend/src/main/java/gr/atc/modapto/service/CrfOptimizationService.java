@@ -6,16 +6,20 @@ import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import gr.atc.modapto.dto.ScheduledTaskDto;
 import gr.atc.modapto.dto.crf.CrfOptimizationKittingConfigDto;
 import gr.atc.modapto.dto.serviceInvocations.CrfInvocationInputDto;
 import gr.atc.modapto.dto.serviceResults.crf.CrfOptimizationResultsDto;
 import static gr.atc.modapto.enums.OptEngineRoute.ROBOT_PICKING_SEQUENCE;
+import gr.atc.modapto.enums.FrequencyType;
+import gr.atc.modapto.enums.LatestResultType;
+import gr.atc.modapto.events.ScheduledTaskRegistrationEvent;
 import gr.atc.modapto.exception.CustomExceptions;
 import gr.atc.modapto.exception.CustomExceptions.ModelMappingException;
 import gr.atc.modapto.exception.CustomExceptions.ResourceNotFoundException;
-import gr.atc.modapto.model.serviceResults.CrfOptimizationResults;
 import gr.atc.modapto.repository.CrfOptimizationKittingConfigRepository;
 import gr.atc.modapto.repository.CrfOptimizationResultsRepository;
 import gr.atc.modapto.service.interfaces.IKhPickingSequenceOptimizationService;
@@ -39,12 +43,20 @@ public class CrfOptimizationService implements IKhPickingSequenceOptimizationSer
 
     private final ModelMapper modelMapper;
 
-    public CrfOptimizationService(CrfOptimizationKittingConfigRepository crfOptimizationKittingConfigRepository,ExceptionHandlerService exceptionHandlerService, CrfOptimizationResultsRepository crfOptimizationResultsRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService){
+    private final LatestResultCacheService latestResultCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String SCHEDULED_TASK_TYPE = "CRF_OPTIMIZATION";
+
+    public CrfOptimizationService(CrfOptimizationKittingConfigRepository crfOptimizationKittingConfigRepository,ExceptionHandlerService exceptionHandlerService, CrfOptimizationResultsRepository crfOptimizationResultsRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService, LatestResultCacheService latestResultCache, ApplicationEventPublisher eventPublisher){
         this.crfOptimizationResultsRepository = crfOptimizationResultsRepository;
         this.smartServicesInvocationService = smartServicesInvocationService;
         this.modelMapper = modelMapper;
         this.exceptionHandlerService = exceptionHandlerService;
         this.crfOptimizationKittingConfigRepository = crfOptimizationKittingConfigRepository;
+        this.latestResultCache = latestResultCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -55,11 +67,12 @@ public class CrfOptimizationService implements IKhPickingSequenceOptimizationSer
     @Override
     public CrfOptimizationResultsDto retrieveLatestOptimizationResults() {
         try {
-            Optional<CrfOptimizationResults> latestResult = crfOptimizationResultsRepository.findFirstByOrderByTimestampDesc();
+            Optional<CrfOptimizationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, null,
+                    () -> crfOptimizationResultsRepository.findFirstByOrderByTimestampDesc().map(result -> modelMapper.map(result, CrfOptimizationResultsDto.class)));
             if (latestResult.isEmpty())
                 throw new CustomExceptions.ResourceNotFoundException("No CRF Optimization Results found");
 
-            return modelMapper.map(latestResult.get(), CrfOptimizationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e){
             log.error(MAPPING_ERROR + "{}", e.getMessage());
             throw new ModelMappingException("Unable to parse CRF Optimization Results to DTO - Error: " + e.getMessage());
@@ -77,17 +90,32 @@ public class CrfOptimizationService implements IKhPickingSequenceOptimizationSer
     @Override
     public CrfOptimizationResultsDto retrieveLatestOptimizationResultsByModuleId(String moduleId) {
         try {
-            Optional<CrfOptimizationResults> latestResult = crfOptimizationResultsRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId);
+            Optional<CrfOptimizationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, moduleId,
+                    () -> crfOptimizationResultsRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId).map(result -> modelMapper.map(result, CrfOptimizationResultsDto.class)));
             if (latestResult.isEmpty())
                 throw new ResourceNotFoundException("No CRF Optimization Results for Module: " + moduleId + " found");
 
-            return modelMapper.map(latestResult.get(), CrfOptimizationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e){
             log.error(MAPPING_ERROR + "for Module {} - {}", moduleId, e.getMessage());
             throw new ModelMappingException("Unable to parse CRF Optimization Results to DTO for Module: " + moduleId + " - Error: " + e.getMessage());
         }
     }
 
+    /**
+     * Invoke Optimization of Kit Holder Picking Sequence and Register the Scheduled Task with the input data, if a frequency is given
+     *
+     * @param invocationData Invocation Data
+     */
+    @Override
+    public void invokeAndRegisterOptimizationOfKhPickingSequence(CrfInvocationInputDto invocationData) {
+        invokeOptimizationOfKhPickingSequence(invocationData);
+
+        if (invocationData.getFrequencyValue() != null && invocationData.getFrequencyType() != null)
+            publishScheduledTaskRegistration(invocationData.getModuleId(), invocationData.getSmartServiceId(),
+                    invocationData.getFrequencyValue(), invocationData.getFrequencyType(), invocationData);
+    }
+
     /**
      * Invoke Optimization of Kit Holder Picking Sequence
      *
@@ -109,4 +137,24 @@ public class CrfOptimizationService implements IKhPickingSequenceOptimizationSer
                 .map(config -> modelMapper.map(config, CrfOptimizationKittingConfigDto.class))
                 .get(), "retrieveOptimizationKittingConfig");
     }
+
+    /*
+     * Helper method to publish the event that registers a new Scheduled Task
+     */
+    private void publishScheduledTaskRegistration(String moduleId, String smartServiceId, Integer frequencyValue, FrequencyType frequencyType, Object requestBody) {
+        // Create the scheduled task
+        ScheduledTaskDto newTask = ScheduledTaskDto.builder()
+                .frequencyValue(frequencyValue)
+                .frequencyType(frequencyType)
+                .smartServiceId(smartServiceId)
+                .moduleId(moduleId)
+                .smartServiceType(SCHEDULED_TASK_TYPE)
+                .requestBody(requestBody)
+                .build();
+
+        // Publish event
+        ScheduledTaskRegistrationEvent event = new ScheduledTaskRegistrationEvent(this, newTask, SCHEDULED_TASK_TYPE);
+        eventPublisher.publishEvent(event);
+        log.debug("Event published to register a new Scheduled Task - Event: {}", event);
+    }
 }
@@ -3,8 +3,8 @@ package gr.atc.modapto.service;
 import gr.atc.modapto.dto.crf.CrfSimulationKittingConfigDto;
 import gr.atc.modapto.dto.serviceInvocations.CrfInvocationInputDto;
 import gr.atc.modapto.dto.serviceResults.crf.CrfSimulationResultsDto;
+import gr.atc.modapto.enums.LatestResultType;
 import gr.atc.modapto.exception.CustomExceptions;
-import gr.atc.modapto.model.serviceResults.CrfSimulationResults;
 import gr.atc.modapto.repository.CrfSimulationKittingConfigRepository;
 import gr.atc.modapto.repository.CrfSimulationResultsRepository;
 import gr.atc.modapto.service.interfaces.IKitHolderSimulationService;
@@ -38,12 +38,15 @@ public class CrfSimulationService implements IKitHolderSimulationService {
 
     private final ModelMapper modelMapper;
 
-    public CrfSimulationService(ExceptionHandlerService exceptionHandlerService, CrfSimulationKittingConfigRepository crfSimulationKittingConfigRepository, CrfSimulationResultsRepository crfSimulationResultsRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService){
+    private final LatestResultCacheService latestResultCache;
+
+    public CrfSimulationService(ExceptionHandlerService exceptionHandlerService, CrfSimulationKittingConfigRepository crfSimulationKittingConfigRepository, CrfSimulationResultsRepository crfSimulationResultsRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService, LatestResultCacheService latestResultCache){
         this.crfSimulationResultsRepository = crfSimulationResultsRepository;
         this.modelMapper = modelMapper;
         this.smartServicesInvocationService = smartServicesInvocationService;
         this.exceptionHandlerService = exceptionHandlerService;
         this.crfSimulationKittingConfigRepository = crfSimulationKittingConfigRepository;
+        this.latestResultCache = latestResultCache;
     }
 
     /**
@@ -54,11 +57,12 @@ public class CrfSimulationService implements IKitHolderSimulationService {
     @Override
     public CrfSimulationResultsDto retrieveLatestSimulationResults() {
         try {
-            Optional<CrfSimulationResults> latestResult = crfSimulationResultsRepository.findFirstByOrderByTimestampDesc();
+            Optional<CrfSimulationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.CRF_SIMULATION, null,
+                    () -> crfSimulationResultsRepository.findFirstByOrderByTimestampDesc().map(result -> modelMapper.map(result, CrfSimulationResultsDto.class)));
             if (latestResult.isEmpty())
                 throw new CustomExceptions.ResourceNotFoundException("No CRF Simulation Results found");
 
-            return modelMapper.map(latestResult.get(), CrfSimulationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e){
             log.error(MAPPING_ERROR + "{}", e.getMessage());
             throw new ModelMappingException("Unable to parse CRF Simulation Results to DTO - Error: " + e.getMessage());
@@ -76,11 +80,12 @@ public class CrfSimulationService implements IKitHolderSimulationService {
     @Override
     public CrfSimulationResultsDto retrieveLatestSimulationResultsByModule(String module) {
         try {
-            Optional<CrfSimulationResults> latestResult = crfSimulationResultsRepository.findFirstByModuleIdOrderByTimestampDesc(module);
+            Optional<CrfSimulationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.CRF_SIMULATION, module,
+                    () -> crfSimulationResultsRepository.findFirstByModuleIdOrderByTimestampDesc(module).map(result -> modelMapper.map(result, CrfSimulationResultsDto.class)));
             if (latestResult.isEmpty())
                 throw new ResourceNotFoundException("No CRF Simulation Results for Module: " + module + " found");
 
-            return modelMapper.map(latestResult.get(), CrfSimulationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e){
             log.error(MAPPING_ERROR + "for Module {} - {}", module, e.getMessage());
             throw new ModelMappingException("Unable to parse CRF Simulation Results to DTO for Module: " + module + " - Error: " + e.getMessage());
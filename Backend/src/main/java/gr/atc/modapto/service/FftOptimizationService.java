@@ -2,9 +2,9 @@ package gr.atc.modapto.service;
 
 import gr.atc.modapto.dto.serviceInvocations.FftOptimizationInputDto;
 import gr.atc.modapto.dto.serviceResults.fft.FftOptimizationResultsDto;
+import gr.atc.modapto.enums.LatestResultType;
 import gr.atc.modapto.exception.CustomExceptions.ModelMappingException;
 import gr.atc.modapto.exception.CustomExceptions.ResourceNotFoundException;
-import gr.atc.modapto.model.serviceResults.FftOptimizationResults;
 import gr.atc.modapto.repository.FftOptimizationResultsRepository;
 import gr.atc.modapto.service.interfaces.IRobotConfigurationOptimizationService;
 import org.modelmapper.MappingException;
@@ -30,10 +30,13 @@ public class FftOptimizationService implements IRobotConfigurationOptimizationSe
 
     private final ModelMapper modelMapper;
 
-    public FftOptimizationService(FftOptimizationResultsRepository fftOptimizationResultsRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService){
+    private final LatestResultCacheService latestResultCache;
+
+    public FftOptimizationService(FftOptimizationResultsRepository fftOptimizationResultsRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService, LatestResultCacheService latestResultCache){
         this.fftOptimizationResultsRepository = fftOptimizationResultsRepository;
         this.smartServicesInvocationService = smartServicesInvocationService;
         this.modelMapper = modelMapper;
+        this.latestResultCache = latestResultCache;
     }
 
     /**
@@ -44,11 +47,12 @@ public class FftOptimizationService implements IRobotConfigurationOptimizationSe
     @Override
     public FftOptimizationResultsDto retrieveLatestOptimizationResults() {
         try {
-            Optional<FftOptimizationResults> latestResult = fftOptimizationResultsRepository.findFirstByOrderByTimestampDesc();
+            Optional<FftOptimizationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.FFT_OPTIMIZATION, null,
+                    () -> fftOptimizationResultsRepository.findFirstByOrderByTimestampDesc().map(result -> modelMapper.map(result, FftOptimizationResultsDto.class)));
             if (latestResult.isEmpty())
                 throw new ResourceNotFoundException("No FFT Optimization Results found");
 
-            return modelMapper.map(latestResult.get(), FftOptimizationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e){
             log.error(MAPPING_ERROR + "{}", e.getMessage());
             throw new ModelMappingException("Unable to parse FFT Optimization Results to DTO - Error: " + e.getMessage());
@@ -66,11 +70,12 @@ public class FftOptimizationService implements IRobotConfigurationOptimizationSe
     @Override
     public FftOptimizationResultsDto retrieveLatestOptimizationResultsByModuleId(String moduleId) {
         try {
-            Optional<FftOptimizationResults> latestResult = fftOptimizationResultsRepository.findFirstByModuleOrderByTimestampDesc(moduleId);
+            Optional<FftOptimizationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.FFT_OPTIMIZATION, moduleId,
+                    () -> fftOptimizationResultsRepository.findFirstByModuleOrderByTimestampDesc(moduleId).map(result -> modelMapper.map(result, FftOptimizationResultsDto.class)));
             if (latestResult.isEmpty())
                 throw new ResourceNotFoundException("No FFT Optimization Results for Module: " + moduleId + " found");
 
-            return modelMapper.map(latestResult.get(), FftOptimizationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e){
             log.error(MAPPING_ERROR + "for Module {} - {}", moduleId, e.getMessage());
             throw new ModelMappingException("Unable to parse FFT Optimization Results to DTO for Module: " + moduleId + " - Error: " + e.getMessage());
@@ -0,0 +1,166 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.HistoricalResultsQueryDto;
+import gr.atc.modapto.enums.HistoricalResultType;
+import gr.atc.modapto.exception.CustomExceptions.InvalidQueryException;
+import gr.atc.modapto.service.interfaces.IHistoricalResultsService;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Historical queries over the stored Smart Service results. Filters are evaluated by Elasticsearch, results are read
+ * with 'search_after' over a point-in-time, and the large fields of every result type are only fetched when requested
+ */
+@Service
+public class HistoricalResultsService implements IHistoricalResultsService {
+
+    public static final String ALL_FIELDS = "*";
+
+    private static final String TIMESTAMP_PROPERTY = "timestamp";
+
+    // Keyword timestamps are compared as strings, so the bounds use the fixed-width format of the stored results
+    private static final DateTimeFormatter KEYWORD_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final SearchAfterPaginationService paginationService;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private final ExceptionHandlerService exceptionHandler;
+
+    private final ModelMapper modelMapper;
+
+    public HistoricalResultsService(SearchAfterPaginationService paginationService,
+                                    ElasticsearchOperations elasticsearchOperations,
+                                    ExceptionHandlerService exceptionHandler,
+                                    ModelMapper modelMapper) {
+        this.paginationService = paginationService;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.exceptionHandler = exceptionHandler;
+        this.modelMapper = modelMapper;
+    }
+
+    /**
+     * Retrieve a page of historical results with cursor-based pagination
+     *
+     * @param query : Result type, filters and projection
+     * @param cursor : Cursor returned by the previous page, first page if null
+     * @param size : Results per page
+     * @return CursorPaginatedResultsDto with the results mapped to the DTO of their type
+     */
+    @Override
+    public CursorPaginatedResultsDto<Object> retrieveHistoricalResults(HistoricalResultsQueryDto query, String cursor, int size) {
+        HistoricalResultType type = query.getResultType();
+        CursorPaginatedResultsDto<?> page = paginationService.retrievePage(type.getEntityClass(), buildCriteria(query), buildSort(query),
+                buildSourceFilter(query), cursor, size);
+        return exceptionHandler.handleOperation(() -> new CursorPaginatedResultsDto<>(
+                mapResults(type, page.getResults()),
+                page.getNextCursor(),
+                page.getLastPage()), "retrieveHistoricalResults");
+    }
+
+    /**
+     * Validate the filters and projection of a query, before the streaming of its results has started
+     *
+     * @param query : Result type, filters and projection
+     */
+    @Override
+    public void validateHistoricalResultsQuery(HistoricalResultsQueryDto query) {
+        buildCriteria(query);
+        buildSourceFilter(query);
+    }
+
+    /**
+     * Stream all historical results matching a query, one page at a time
+     *
+     * @param query : Result type, filters and projection
+     * @param pageConsumer : Consumer of every page of results
+     */
+    @Override
+    public void streamHistoricalResults(HistoricalResultsQueryDto query, Consumer<List<Object>> pageConsumer) {
+        HistoricalResultType type = query.getResultType();
+        paginationService.streamAll(type.getEntityClass(), buildCriteria(query), buildSort(query), buildSourceFilter(query),
+                SearchAfterPaginationService.DEFAULT_PAGE_SIZE,
+                page -> pageConsumer.accept(mapResults(type, page)));
+    }
+
+    /*
+     * Helper method to build the Module, Smart Service and time range filters of a query
+     */
+    private Criteria buildCriteria(HistoricalResultsQueryDto query) {
+        HistoricalResultType type = query.getResultType();
+        if (query.getFrom() != null && query.getTo() != null && query.getFrom().isAfter(query.getTo()))
+            throw new InvalidQueryException("Start of the time range must be before or equal to its end");
+        if (query.getSmartServiceId() != null && type.getSmartServiceIdProperty() == null)
+            throw new InvalidQueryException("Results of type " + type + " do not store a Smart Service ID");
+
+        Criteria criteria = new Criteria();
+        if (query.getModuleId() != null)
+            criteria = criteria.and(new Criteria(type.getModuleIdProperty()).is(query.getModuleId()));
+        if (query.getSmartServiceId() != null)
+            criteria = criteria.and(new Criteria(type.getSmartServiceIdProperty()).is(query.getSmartServiceId()));
+        if (query.getFrom() != null)
+            criteria = criteria.and(new Criteria(TIMESTAMP_PROPERTY).greaterThanEqual(timestampBound(type, query.getFrom())));
+        if (query.getTo() != null)
+            criteria = criteria.and(new Criteria(TIMESTAMP_PROPERTY).lessThanEqual(timestampBound(type, query.getTo())));
+        return criteria;
+    }
+
+    private Sort buildSort(HistoricalResultsQueryDto query) {
+        return Sort.by(query.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC, TIMESTAMP_PROPERTY);
+    }
+
+    /*
+     * Helper method to build the projection of a query. Without requested fields every field except the large ones is fetched,
+     * otherwise only the requested fields, the timestamp and the Module ID
+     */
+    private SourceFilter buildSourceFilter(HistoricalResultsQueryDto query) {
+        HistoricalResultType type = query.getResultType();
+        List<String> fields = query.getFields();
+        if (fields == null || fields.isEmpty())
+            return type.getLargeFields().isEmpty() ? null : new FetchSourceFilterBuilder()
+                    .withExcludes(type.getLargeFields().toArray(String[]::new))
+                    .build();
+        if (fields.contains(ALL_FIELDS))
+            return null;
+
+        ElasticsearchPersistentEntity<?> entity = elasticsearchOperations.getElasticsearchConverter()
+                .getMappingContext().getRequiredPersistentEntity(type.getEntityClass());
+        Set<String> includes = new LinkedHashSet<>();
+        includes.add(entity.getRequiredPersistentProperty(TIMESTAMP_PROPERTY).getFieldName());
+        includes.add(entity.getRequiredPersistentProperty(type.getModuleIdProperty()).getFieldName());
+        for (String field : fields) {
+            // Sub-fields of objects are selected with their dotted path
+            String rootField = field.split("\\.", 2)[0];
+            if (entity.getPersistentPropertyWithFieldName(rootField) == null)
+                throw new InvalidQueryException("Unknown field '" + field + "' for results of type " + type);
+            includes.add(field);
+        }
+        return new FetchSourceFilterBuilder()
+                .withIncludes(includes.toArray(String[]::new))
+                .build();
+    }
+
+    private Object timestampBound(HistoricalResultType type, LocalDateTime bound) {
+        return type.hasKeywordTimestamp() ? bound.format(KEYWORD_TIMESTAMP_FORMAT) : bound;
+    }
+
+    private List<Object> mapResults(HistoricalResultType type, List<?> results) {
+        return results.stream()
+                .map(result -> (Object) modelMapper.map(result, type.getResultClass()))
+                .toList();
+    }
+}
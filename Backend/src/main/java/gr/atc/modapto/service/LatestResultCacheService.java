@@ -0,0 +1,244 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
+import gr.atc.modapto.dto.BaseEventResultsDto;
+import gr.atc.modapto.enums.LatestResultType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Write-through cache of the latest Smart Service result per (result type, Module ID), where a null Module ID holds the latest result overall.
+ * Entries hold the already mapped DTOs and are replaced by the result events and the local result writers, so steady-state lookups
+ * never query Elasticsearch. Concurrent misses of the same entry share a single query.
+ * <p>
+ * Entries are read again once older than 'max-age' (seconds by default), which bounds staleness for results announced to another instance.
+ * Returned results are shared between callers and must not be modified
+ */
+@Service
+public class LatestResultCacheService {
+
+    private final Logger logger = LoggerFactory.getLogger(LatestResultCacheService.class);
+
+    private final LatestResultCacheProperties cacheProperties;
+
+    private final ObjectMapper eventMapper;
+
+    private final ConcurrentMap<CacheKey, CachedResult> results = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<CacheKey, CompletableFuture<Optional<?>>> pendingLoads = new ConcurrentHashMap<>();
+
+    // Incremented on every write-through, loads started before a write are not cached as they may be older than it
+    private long version;
+
+    public LatestResultCacheService(LatestResultCacheProperties cacheProperties, ObjectMapper objectMapper) {
+        this.cacheProperties = cacheProperties;
+        // Event results are read as their concrete DTO, without the deduction of the result type
+        this.eventMapper = objectMapper.copy()
+                .addMixIn(BaseEventResultsDto.class, WithoutTypeInfo.class)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    private abstract static class WithoutTypeInfo {}
+
+    private record CacheKey(LatestResultType type, String moduleId) {}
+
+    private record CachedResult(Optional<?> result, LocalDateTime timestamp, long cachedAtNanos) {}
+
+    /**
+     * Retrieve the latest result of a type, loading it on a miss. Absent results are cached as well
+     *
+     * @param type : Result type
+     * @param moduleId : Module ID, null for the latest result overall
+     * @param loader : Query of the latest mapped result in Elasticsearch
+     * @return Optional of the latest result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> retrieveLatest(LatestResultType type, String moduleId, Supplier<Optional<T>> loader) {
+        if (!cacheProperties.enabled())
+            return loader.get();
+
+        CacheKey key = new CacheKey(type, moduleId);
+        CachedResult cached = results.get(key);
+        if (cached != null && !isExpired(cached))
+            return (Optional<T>) cached.result();
+
+        CompletableFuture<Optional<?>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<?>> pendingLoad = pendingLoads.putIfAbsent(key, load);
+        if (pendingLoad != null)
+            return (Optional<T>) awaitLoad(pendingLoad);
+
+        try {
+            // The entry may have been loaded between the lookup and the registration of this load
+            cached = results.get(key);
+            Optional<T> result = cached != null && !isExpired(cached) ? (Optional<T>) cached.result() : load(key, loader);
+            load.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLoads.remove(key, load);
+        }
+    }
+
+    /**
+     * Replace the latest result of a Module, and the latest result overall, with a newly stored result unless a newer one is cached
+     *
+     * @param type : Result type
+     * @param moduleId : Module ID of the result
+     * @param result : Mapped result
+     */
+    public synchronized void update(LatestResultType type, String moduleId, Object result) {
+        if (!cacheProperties.enabled() || result == null)
+            return;
+
+        version++;
+        LocalDateTime timestamp = timestampOf(result);
+        if (moduleId != null)
+            putUnlessNewer(new CacheKey(type, moduleId), result, timestamp);
+        putUnlessNewer(new CacheKey(type, null), result, timestamp);
+    }
+
+    /**
+     * Remove the latest result of a Module and the latest result overall, so that both are read again on the next lookup
+     *
+     * @param type : Result type
+     * @param moduleId : Module ID
+     */
+    public synchronized void invalidate(LatestResultType type, String moduleId) {
+        version++;
+        if (moduleId != null)
+            results.remove(new CacheKey(type, moduleId));
+        results.remove(new CacheKey(type, null));
+    }
+
+    /**
+     * Whether the results of an event topic update the cache, so that other topics do not need their results parsed
+     *
+     * @param topic : Event topic
+     * @return True if the results of the topic are cached
+     */
+    public boolean isResultEventTopic(String topic) {
+        return cacheProperties.enabled() && LatestResultType.fromEventTopic(topic).isPresent();
+    }
+
+    /**
+     * Update the cache with the results of an event. Topics without cached results are ignored, and results that cannot be read
+     * as their DTO invalidate the entries of the Module instead
+     *
+     * @param topic : Event topic
+     * @param moduleId : Module ID of the event
+     * @param eventResults : Results of the event, either a single result or an array of results
+     */
+    public void recordResultEvent(String topic, String moduleId, JsonNode eventResults) {
+        Optional<LatestResultType> type = LatestResultType.fromEventTopic(topic);
+        if (type.isEmpty() || !cacheProperties.enabled())
+            return;
+
+        try {
+            update(type.get(), moduleId, readLatestEventResult(type.get(), eventResults));
+        } catch (Exception e) {
+            logger.warn("Unable to read {} event results, invalidating cached latest results - Error: {}", type.get(), e.getMessage());
+            invalidate(type.get(), moduleId);
+        }
+    }
+
+    /*
+     * Helper method to query the latest result and cache it unless a newer result was written meanwhile
+     */
+    private <T> Optional<T> load(CacheKey key, Supplier<Optional<T>> loader) {
+        long loadVersion;
+        synchronized (this) {
+            loadVersion = version;
+        }
+
+        Optional<T> result = loader.get();
+        synchronized (this) {
+            if (loadVersion == version && (results.size() < cacheProperties.maxEntries() || results.containsKey(key)))
+                results.put(key, new CachedResult(result, result.map(this::timestampOf).orElse(null), System.nanoTime()));
+        }
+        return result;
+    }
+
+    /*
+     * Helper method to wait for the load of another caller, rethrowing its failure
+     */
+    private Optional<?> awaitLoad(CompletableFuture<Optional<?>> pendingLoad) {
+        try {
+            return pendingLoad.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    /*
+     * Helper method to cache a result unless the cached one is newer, the caller holds the lock
+     */
+    private void putUnlessNewer(CacheKey key, Object result, LocalDateTime timestamp) {
+        CachedResult cached = results.get(key);
+        if (cached != null && cached.timestamp() != null && timestamp != null && timestamp.isBefore(cached.timestamp()))
+            return;
+        if (cached == null && results.size() >= cacheProperties.maxEntries())
+            return;
+        results.put(key, new CachedResult(Optional.of(result), timestamp, System.nanoTime()));
+    }
+
+    /*
+     * Helper method to read the result of an event, the newest one if the event holds several
+     */
+    private Object readLatestEventResult(LatestResultType type, JsonNode eventResults) throws Exception {
+        if (!eventResults.isArray())
+            return eventMapper.treeToValue(eventResults, type.getResultClass());
+        if (eventResults.isEmpty())
+            throw new IllegalArgumentException("Event holds no results");
+
+        Object latest = null;
+        LocalDateTime latestTimestamp = null;
+        for (JsonNode eventResult : eventResults) {
+            Object result = eventMapper.treeToValue(eventResult, type.getResultClass());
+            LocalDateTime timestamp = timestampOf(result);
+            if (latest == null || (timestamp != null && (latestTimestamp == null || !timestamp.isBefore(latestTimestamp)))) {
+                latest = result;
+                latestTimestamp = timestamp;
+            }
+        }
+        return latest;
+    }
+
+    /*
+     * Helper method to read the timestamp of a result DTO, stored either as LocalDateTime or as ISO string
+     */
+    private LocalDateTime timestampOf(Object result) {
+        try {
+            Object timestamp = result.getClass().getMethod("getTimestamp").invoke(result);
+            if (timestamp instanceof LocalDateTime localDateTime)
+                return localDateTime;
+            if (timestamp instanceof String value)
+                return LocalDateTime.parse(value);
+        } catch (ReflectiveOperationException | DateTimeParseException e) {
+            logger.debug("Unable to read timestamp of {} - Error: {}", result.getClass().getSimpleName(), e.getMessage());
+        }
+        return null;
+    }
+
+    private boolean isExpired(CachedResult cached) {
+        return System.nanoTime() - cached.cachedAtNanos() > cacheProperties.maxAge().toNanos();
+    }
+}
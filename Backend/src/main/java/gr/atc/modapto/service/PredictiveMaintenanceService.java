@@ -13,42 +13,63 @@ import gr.atc.modapto.dto.serviceResults.sew.SewThresholdBasedPredictiveMaintena
 import gr.atc.modapto.dto.sew.MaintenanceDataDto;
 import gr.atc.modapto.dto.sew.SewComponentInfoDto;
 import gr.atc.modapto.dto.serviceInvocations.SewGroupingPredictiveMaintenanceInputDataDto;
+import gr.atc.modapto.enums.FrequencyType;
 import gr.atc.modapto.enums.KafkaTopics;
+import gr.atc.modapto.enums.LatestResultType;
 import gr.atc.modapto.enums.ModaptoHeader;
 import gr.atc.modapto.events.ScheduledTaskRegistrationEvent;
 import gr.atc.modapto.model.MaintenanceData;
 import gr.atc.modapto.model.sew.SewComponentInfo;
-import gr.atc.modapto.model.serviceResults.SewGroupingPredictiveMaintenanceResult;
-import gr.atc.modapto.model.serviceResults.SewThresholdBasedPredictiveMaintenanceResult;
+import gr.atc.modapto.model.sew.SewComponentLastMaintenance;
 import gr.atc.modapto.repository.MaintenanceDataRepository;
 import gr.atc.modapto.repository.SewComponentInfoRepository;
+import gr.atc.modapto.repository.SewComponentLastMaintenanceRepository;
 import gr.atc.modapto.repository.SewGroupingBasedPredictiveMaintenanceRepository;
 import gr.atc.modapto.repository.SewThresholdBasedPredictiveMaintenanceRepository;
 import gr.atc.modapto.service.interfaces.IPredictiveMaintenanceService;
 import gr.atc.modapto.service.processors.ThresholdBasedMaintenanceResponseProcessor;
 import gr.atc.modapto.util.ExcelFilesUtils;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregationSource;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.MaxAggregate;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import gr.atc.modapto.dto.EventDto;
 import gr.atc.modapto.enums.MessagePriority;
@@ -66,6 +87,10 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
 
     private final SewComponentInfoRepository componentInfoRepository;
 
+    private final SewComponentLastMaintenanceRepository componentLastMaintenanceRepository;
+
+    private final SewComponentCatalogService componentCatalogService;
+
     private final SewGroupingBasedPredictiveMaintenanceRepository sewGroupingBasedPredictiveMaintenanceRepository;
 
     private final SewThresholdBasedPredictiveMaintenanceRepository sewThresholdBasedPredictiveMaintenanceRepository;
@@ -78,6 +103,8 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
 
     private final ModelMapper modelMapper;
 
+    private final LatestResultCacheService latestResultCache;
+
     private final ObjectMapper objectMapper;
 
     private final ApplicationEventPublisher eventPublisher;
@@ -88,23 +115,54 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
 
     private static final String THRESHOLD_BASED_TYPE = "THRESHOLD_BASED_PREDICTIVE_MAINTENANCE";
 
+    private static final String GROUPING_TYPE = "GROUPING_PREDICTIVE_MAINTENANCE";
+
     private static final int BATCH_SIZE = 1000; // Batch Size
 
+    private static final String LAST_MAINTENANCE_ACTION_FIELD = "last_maintenance_action_time";
+
+    private static final String COMPONENT_KEYS_AGGREGATION = "component_keys";
+
+    private static final String LATEST_INTERVENTION_AGGREGATION = "latest_intervention";
+
+    private static final List<String> COMPONENT_KEY_FIELDS = List.of("stage", "cell", "module", "moduleId");
+
+    private static final String COMPONENT_KEY_DELIMITER = "|";
+
+    // Stored format of the last maintenance action time (date_hour_minute_second), ordered lexicographically
+    private static final DateTimeFormatter LAST_MAINTENANCE_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+
+    // Keeps the latest action time when concurrent writers update the same Component key
+    private static final String KEEP_LATEST_MAINTENANCE_SCRIPT = """
+            if (ctx._source.lastMaintenanceActionTime == null || ctx._source.lastMaintenanceActionTime.compareTo(params.time) < 0) {
+                ctx._source.lastMaintenanceActionTime = params.time;
+            } else {
+                ctx.op = 'noop';
+            }
+            """;
+
+    private static final int UPDATE_RETRIES_ON_CONFLICT = 3;
+
     public PredictiveMaintenanceService(MaintenanceDataRepository maintenanceDataRepository,
                                         ModelMapper modelMapper,
                                         ElasticsearchOperations elasticsearchOperations,
                                         SewComponentInfoRepository componentInfoRepository,
+                                        SewComponentLastMaintenanceRepository componentLastMaintenanceRepository,
+                                        SewComponentCatalogService componentCatalogService,
                                         SmartServicesInvocationService smartServicesInvocationService,
                                         SewGroupingBasedPredictiveMaintenanceRepository sewGroupingBasedPredictiveMaintenanceRepository,
                                         SewThresholdBasedPredictiveMaintenanceRepository sewThresholdBasedPredictiveMaintenanceRepository,
                                         ThresholdBasedMaintenanceResponseProcessor thresholdBasedMaintenanceResponseProcessor,
                                         ObjectMapper objectMapper,
                                         ApplicationEventPublisher eventPublisher,
-                                        KafkaMessageProducer kafkaMessageProducer) {
+                                        KafkaMessageProducer kafkaMessageProducer,
+                                        LatestResultCacheService latestResultCache) {
         this.maintenanceDataRepository = maintenanceDataRepository;
         this.modelMapper = modelMapper;
         this.elasticsearchOperations = elasticsearchOperations;
         this.componentInfoRepository = componentInfoRepository;
+        this.componentLastMaintenanceRepository = componentLastMaintenanceRepository;
+        this.componentCatalogService = componentCatalogService;
         this.smartServicesInvocationService = smartServicesInvocationService;
         this.sewGroupingBasedPredictiveMaintenanceRepository = sewGroupingBasedPredictiveMaintenanceRepository;
         this.sewThresholdBasedPredictiveMaintenanceRepository = sewThresholdBasedPredictiveMaintenanceRepository;
@@ -112,6 +170,7 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
         this.objectMapper = objectMapper;
         this.eventPublisher = eventPublisher;
         this.kafkaMessageProducer = kafkaMessageProducer;
+        this.latestResultCache = latestResultCache;
     }
 
     @Override
@@ -148,6 +207,9 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
             // Save new data
             List<SewComponentInfo> componentData = componentInfoList.stream().map(componentInfoDto -> modelMapper.map(componentInfoDto, SewComponentInfo.class)).toList();
             componentInfoRepository.saveAll(componentData);
+
+            // Replace the cached Component catalog with the new data
+            componentCatalogService.rebuildCatalog(componentData);
         } catch (MappingException e) {
             throw new ModelMappingException("Unable to parse DTO SewComponentInfo to Model - Error: " + e.getMessage());
         }
@@ -163,6 +225,7 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
                 List<MaintenanceDataDto> dtoBatch = chunkData.subList(i, Math.min(i + BATCH_SIZE, chunkData.size()));
                 List<MaintenanceData> batch = dtoBatch.stream().map(maintenanceDataDto -> modelMapper.map(maintenanceDataDto, MaintenanceData.class)).toList();
                 maintenanceDataRepository.saveAll(batch);
+                refreshLastMaintenanceActions(batch);
             }
         } catch (MappingException e) {
             logger.error(MAPPING_ERROR + "{}", e.getMessage());
@@ -210,10 +273,19 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
     @Override
     public List<SewComponentInfoDto> retrieveComponentListGivenFilterAttributes(String stage, String cell, String module, String moduleId) {
         try {
-            return componentInfoRepository.findByStageAndCellAndModuleAndModuleId(stage, cell, module, moduleId)
+            List<SewComponentInfoDto> components = componentInfoRepository.findByStageAndCellAndModuleAndModuleId(stage, cell, module, moduleId)
                     .stream()
                     .map(component -> modelMapper.map(component, SewComponentInfoDto.class))
                     .toList();
+            if (components.isEmpty())
+                return components;
+
+            // All components share the same key, so a single lookup by ID resolves the last maintenance action
+            componentLastMaintenanceRepository.findById(buildComponentKey(stage, cell, module, moduleId))
+                    .ifPresent(lastMaintenance -> components.forEach(component ->
+                            component.setLastMaintenanceActionTime(formatLastMaintenanceActionTime(lastMaintenance))));
+
+            return components;
         } catch (MappingException e) {
             logger.error(COMPONENT_MAPPING_ERROR + "{}", e.getMessage());
             throw new ModelMappingException(COMPONENT_MAPPING_ERROR + e.getMessage());
@@ -221,34 +293,185 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
     }
 
     /**
-     * Locate the latest maintenance action (by started time) for a specific component and update the equivalent value in the Components List
+     * Locate the latest maintenance action (by started time) for each component and update the equivalent value in the Components List
+     * The latest start time per Stage / Cell / Module / Module ID is computed with a single paged composite aggregation over the
+     * Maintenance Data and the results are written back with one bulk partial update
      */
     @Override
     @Async("taskExecutor")
     public void locateLastMaintenanceActionForStoredComponents() {
-        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "tsInterventionStarted"));
-
         // Retrieve all Components
         List<SewComponentInfo> componentInfoList = componentInfoRepository.findAll(Pageable.unpaged()).getContent();
-        componentInfoList.forEach(component -> {
-            // Set the search criteria
-            Criteria criteria = new Criteria("stage").is(component.getStage())
-                    .and(new Criteria("cell").is(component.getCell()))
-                    .and(new Criteria("module").is(component.getModule()))
-                    .and(new Criteria("moduleId").is(component.getModuleId()));
-
-            // Execute query
-            CriteriaQuery query = new CriteriaQuery(criteria, pageable);
+        if (componentInfoList.isEmpty())
+            return;
+
+        // Locate the latest intervention start for every Component key and rebuild the materialized view
+        Map<String, SewComponentLastMaintenance> lastMaintenanceActions = aggregateLastMaintenanceActions();
+        componentLastMaintenanceRepository.saveAll(lastMaintenanceActions.values());
+
+        // Keys without any Maintenance Data left are removed from the view
+        List<String> staleKeys = StreamSupport.stream(componentLastMaintenanceRepository.findAll().spliterator(), false)
+                .map(SewComponentLastMaintenance::getId)
+                .filter(key -> !lastMaintenanceActions.containsKey(key))
+                .toList();
+        if (!staleKeys.isEmpty())
+            componentLastMaintenanceRepository.deleteAllById(staleKeys);
+
+        // Update instances partially with the located values
+        List<UpdateQuery> updateQueries = componentInfoList.stream()
+                .map(component -> {
+                    String lastMaintenanceTime = formatLastMaintenanceActionTime(lastMaintenanceActions.get(
+                            buildComponentKey(component.getStage(), component.getCell(), component.getModule(), component.getModuleId())));
+                    component.setLastMaintenanceActionTime(lastMaintenanceTime);
+
+                    Document document = Document.create();
+                    document.put(LAST_MAINTENANCE_ACTION_FIELD, lastMaintenanceTime);
+                    return UpdateQuery.builder(component.getId())
+                            .withDocument(document)
+                            .build();
+                })
+                .toList();
+
+        elasticsearchOperations.bulkUpdate(updateQueries, SewComponentInfo.class);
+        componentCatalogService.rebuildCatalog(componentInfoList);
+        logger.debug("Updated last maintenance action time for {} components", updateQueries.size());
+    }
+
+    /*
+     * Helper method to compute the latest 'tsInterventionStarted' per Stage / Cell / Module / Module ID with a composite aggregation paged via 'after_key'
+     */
+    private Map<String, SewComponentLastMaintenance> aggregateLastMaintenanceActions() {
+        Map<String, SewComponentLastMaintenance> lastMaintenanceActions = new HashMap<>();
+        Map<String, FieldValue> afterKey = null;
+
+        do {
+            final Map<String, FieldValue> currentAfterKey = afterKey;
+            NativeQuery query = NativeQuery.builder()
+                    .withMaxResults(0)
+                    .withAggregation(COMPONENT_KEYS_AGGREGATION, Aggregation.of(aggregation -> aggregation
+                            .composite(composite -> {
+                                composite.size(BATCH_SIZE)
+                                        .sources(COMPONENT_KEY_FIELDS.stream()
+                                                .map(field -> Map.of(field, CompositeAggregationSource.of(source -> source.terms(terms -> terms.field(field).missingBucket(true)))))
+                                                .toList());
+                                if (currentAfterKey != null)
+                                    composite.after(currentAfterKey);
+                                return composite;
+                            })
+                            .aggregations(LATEST_INTERVENTION_AGGREGATION, Aggregation.of(max -> max.max(m -> m.field("tsInterventionStarted"))))))
+                    .build();
+
             SearchHits<MaintenanceData> searchHits = elasticsearchOperations.search(query, MaintenanceData.class);
+            if (!(searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations) || aggregations.get(COMPONENT_KEYS_AGGREGATION) == null)
+                break;
+
+            CompositeAggregate compositeAggregate = aggregations.get(COMPONENT_KEYS_AGGREGATION).aggregation().getAggregate().composite();
+            List<CompositeBucket> buckets = compositeAggregate.buckets().array();
+            buckets.forEach(bucket -> {
+                MaxAggregate latestIntervention = bucket.aggregations().get(LATEST_INTERVENTION_AGGREGATION).max();
+                // Buckets whose documents have no intervention start time are ignored
+                if (Double.isFinite(latestIntervention.value())) {
+                    Map<String, FieldValue> key = bucket.key();
+                    SewComponentLastMaintenance lastMaintenance = SewComponentLastMaintenance.builder()
+                            .stage(keyValue(key, "stage"))
+                            .cell(keyValue(key, "cell"))
+                            .module(keyValue(key, "module"))
+                            .moduleId(keyValue(key, "moduleId"))
+                            .lastMaintenanceActionTime(LocalDateTime.ofInstant(Instant.ofEpochMilli((long) latestIntervention.value()), ZoneOffset.UTC))
+                            .build();
+                    lastMaintenance.setId(buildComponentKey(lastMaintenance.getStage(), lastMaintenance.getCell(), lastMaintenance.getModule(), lastMaintenance.getModuleId()));
+                    lastMaintenanceActions.put(lastMaintenance.getId(), lastMaintenance);
+                }
+            });
+
+            afterKey = buckets.size() < BATCH_SIZE ? null : compositeAggregate.afterKey();
+        } while (afterKey != null && !afterKey.isEmpty());
+
+        return lastMaintenanceActions;
+    }
 
-            // Check if nothing found
-            if (searchHits.isEmpty())
-                component.setLastMaintenanceActionTime("");
-            else
-                component.setLastMaintenanceActionTime(searchHits.getSearchHits().getFirst().getContent().getTsInterventionStarted().format(DateTimeFormatter.ISO_DATE_TIME));
-        });
-        // Update instances
-        componentInfoRepository.saveAll(componentInfoList);
+    /*
+     * Helper method to read a source of a composite key, documents missing the field form a bucket with a null value
+     */
+    private static String keyValue(Map<String, FieldValue> key, String field) {
+        FieldValue value = key.get(field);
+        return value == null || value.isNull() ? null : value.stringValue();
+    }
+
+    /*
+     * Helper method to incrementally update the materialized last maintenance actions given new or updated Maintenance Data
+     * Each key is written with a scripted upsert, so the stored time only moves forward even with concurrent writers
+     */
+    private void refreshLastMaintenanceActions(List<MaintenanceData> maintenanceData) {
+        // Locate the latest intervention start per Component key in the given data
+        Map<String, SewComponentLastMaintenance> candidates = new HashMap<>();
+        maintenanceData.stream()
+                .filter(data -> data.getTsInterventionStarted() != null)
+                .forEach(data -> {
+                    String key = buildComponentKey(data.getStage(), data.getCell(), data.getModule(), data.getModuleId());
+                    SewComponentLastMaintenance current = candidates.get(key);
+                    if (current == null || data.getTsInterventionStarted().isAfter(current.getLastMaintenanceActionTime()))
+                        candidates.put(key, new SewComponentLastMaintenance(key, data.getStage(), data.getCell(), data.getModule(), data.getModuleId(), data.getTsInterventionStarted()));
+                });
+        if (candidates.isEmpty())
+            return;
+
+        // Keys not stored yet are created with the candidate, stored keys are updated only if the candidate is newer
+        List<UpdateQuery> updateQueries = candidates.values().stream()
+                .map(candidate -> {
+                    String lastMaintenanceTime = candidate.getLastMaintenanceActionTime().format(LAST_MAINTENANCE_TIME_FORMATTER);
+
+                    Document upsert = Document.create();
+                    upsert.put("stage", candidate.getStage());
+                    upsert.put("cell", candidate.getCell());
+                    upsert.put("module", candidate.getModule());
+                    upsert.put("moduleId", candidate.getModuleId());
+                    upsert.put("lastMaintenanceActionTime", lastMaintenanceTime);
+                    return UpdateQuery.builder(candidate.getId())
+                            .withScript(KEEP_LATEST_MAINTENANCE_SCRIPT)
+                            .withScriptType(ScriptType.INLINE)
+                            .withLang("painless")
+                            .withParams(Map.of("time", lastMaintenanceTime))
+                            .withUpsert(upsert)
+                            .withRetryOnConflict(UPDATE_RETRIES_ON_CONFLICT)
+                            .build();
+                })
+                .toList();
+
+        elasticsearchOperations.bulkUpdate(updateQueries, SewComponentLastMaintenance.class);
+    }
+
+    /*
+     * Helper method to copy a catalog Component with the given last maintenance action time
+     */
+    private static SewComponentInfoDto copyComponentWithLastMaintenance(SewComponentInfoDto component, String lastMaintenanceActionTime) {
+        return SewComponentInfoDto.builder()
+                .stage(component.getStage())
+                .cell(component.getCell())
+                .module(component.getModule())
+                .moduleId(component.getModuleId())
+                .alpha(component.getAlpha())
+                .beta(component.getBeta())
+                .averageMaintenanceDuration(component.getAverageMaintenanceDuration())
+                .mtbf(component.getMtbf())
+                .lastMaintenanceActionTime(lastMaintenanceActionTime)
+                .build();
+    }
+
+    /*
+     * Helper method to format the last maintenance action time as stored in the Components List
+     */
+    private static String formatLastMaintenanceActionTime(SewComponentLastMaintenance lastMaintenance) {
+        if (lastMaintenance == null || lastMaintenance.getLastMaintenanceActionTime() == null)
+            return "";
+        return lastMaintenance.getLastMaintenanceActionTime().format(DateTimeFormatter.ISO_DATE_TIME);
+    }
+
+    /*
+     * Helper method to generate the key that identifies a Component in the Maintenance Data
+     */
+    private static String buildComponentKey(String stage, String cell, String module, String moduleId) {
+        return String.join(COMPONENT_KEY_DELIMITER, Objects.toString(stage, ""), Objects.toString(cell, ""), Objects.toString(module, ""), Objects.toString(moduleId, ""));
     }
 
     /**
@@ -260,16 +483,31 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
     @Override
     public void invokeGroupingPredictiveMaintenance(SewGroupingPredictiveMaintenanceInputDataDto invocationData) {
         try {
-            // Retrieve Component List
-            List<SewComponentInfoDto> componentInfoDto = componentInfoRepository.findAll(Pageable.unpaged())
-                    .getContent()
-                    .stream()
-                    .map(component -> modelMapper.map(component, SewComponentInfoDto.class))
+            // Retrieve the Components of the requested Module from the catalog, or the whole plant if the Module has no Components
+            List<SewComponentInfoDto> components = componentCatalogService.retrieveComponentsByModuleId(invocationData.getModuleId());
+            if (components.isEmpty())
+                components = componentCatalogService.retrieveAllComponents();
+
+            // Resolve the last maintenance actions of the selected components with a single lookup by ID
+            Set<String> componentKeys = components.stream()
+                    .map(component -> buildComponentKey(component.getStage(), component.getCell(), component.getModule(), component.getModuleId()))
+                    .collect(Collectors.toSet());
+            Map<String, SewComponentLastMaintenance> lastMaintenanceActions = new HashMap<>();
+            if (!componentKeys.isEmpty())
+                componentLastMaintenanceRepository.findAllById(componentKeys).forEach(lastMaintenance -> lastMaintenanceActions.put(lastMaintenance.getId(), lastMaintenance));
+
+            // Catalog entries are shared, so a copy is created for each component of the request
+            List<SewComponentInfoDto> componentInfoDto = components.stream()
+                    .map(component -> {
+                        SewComponentLastMaintenance lastMaintenance = lastMaintenanceActions.get(
+                                buildComponentKey(component.getStage(), component.getCell(), component.getModule(), component.getModuleId()));
+                        return copyComponentWithLastMaintenance(component, lastMaintenance != null
+                                ? formatLastMaintenanceActionTime(lastMaintenance)
+                                : component.getLastMaintenanceActionTime());
+                    })
                     .toList();
 
             invocationData.setComponentList(componentInfoDto);
-
-
         } catch (MappingException e) {
             logger.error("Exception occurred while mapping Grouping Predictive Maintenance Entity to DTO: {}", e.getMessage());
             throw new ModelMappingException("Exception occurred while mapping Grouping Predictive Maintenance Entity to DTO: " + e.getMessage());
@@ -293,42 +531,69 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
         // Reset maintenance data
         invocationData.setEvents(null);
 
+        publishScheduledTaskRegistration(THRESHOLD_BASED_TYPE, invocationData.getModuleId(), invocationData.getSmartServiceId(),
+                invocationData.getFrequencyValue(), invocationData.getFrequencyType(), invocationData);
+
+        return responseData;
+    }
+
+    /**
+     * Invoke Grouping Predictive Maintenance and Register the Scheduled Task with the input data, if a frequency is given
+     *
+     * @param invocationData : Input Data
+     */
+    @Override
+    public void invokeAndRegisterGroupingPredictiveMaintenance(SewGroupingPredictiveMaintenanceInputDataDto invocationData) {
+        invokeGroupingPredictiveMaintenance(invocationData);
+
+        if (invocationData.getFrequencyValue() == null || invocationData.getFrequencyType() == null)
+            return;
+
+        // Reset components, each scheduled run locates them in the catalog
+        invocationData.setComponentList(null);
+
+        publishScheduledTaskRegistration(GROUPING_TYPE, invocationData.getModuleId(), invocationData.getSmartServiceId(),
+                invocationData.getFrequencyValue(), invocationData.getFrequencyType(), invocationData);
+    }
+
+    /*
+     * Helper method to publish the event that registers a new Scheduled Task
+     */
+    private void publishScheduledTaskRegistration(String type, String moduleId, String smartServiceId, Integer frequencyValue, FrequencyType frequencyType, Object requestBody) {
         // Create the scheduled task
         ScheduledTaskDto newTask = ScheduledTaskDto.builder()
-                .frequencyValue(invocationData.getFrequencyValue())
-                .frequencyType(invocationData.getFrequencyType())
-                .smartServiceId(invocationData.getSmartServiceId())
-                .moduleId(invocationData.getModuleId())
-                .smartServiceType(THRESHOLD_BASED_TYPE)
-                .requestBody(invocationData)
+                .frequencyValue(frequencyValue)
+                .frequencyType(frequencyType)
+                .smartServiceId(smartServiceId)
+                .moduleId(moduleId)
+                .smartServiceType(type)
+                .requestBody(requestBody)
                 .build();
 
         // Publish event
-        ScheduledTaskRegistrationEvent event = new ScheduledTaskRegistrationEvent(this, newTask, THRESHOLD_BASED_TYPE);
+        ScheduledTaskRegistrationEvent event = new ScheduledTaskRegistrationEvent(this, newTask, type);
         eventPublisher.publishEvent(event);
         logger.debug("Event published to register a new Scheduled Task - Event: {}", event);
-
-        return responseData;
     }
 
     @Override
     public SewThresholdBasedPredictiveMaintenanceOutputDto invokeThresholdBasedPredictiveMaintenance(SewThresholdBasedMaintenanceInputDataDto invocationData) {
+        return invokeThresholdBasedPredictiveMaintenance(invocationData, retrieveThresholdBasedMaintenanceEvents());
+    }
+
+    /**
+     * Invoke Threshold Based Predictive Maintenance with already retrieved maintenance events,
+     * allowing scheduled invocations that fire together to share a single snapshot of the CORIM data
+     *
+     * @param invocationData : Input Data
+     * @param maintenanceEvents : Maintenance events as returned by retrieveThresholdBasedMaintenanceEvents
+     * @return SewThresholdBasedPredictiveMaintenanceOutputDto
+     */
+    @Override
+    public SewThresholdBasedPredictiveMaintenanceOutputDto invokeThresholdBasedPredictiveMaintenance(SewThresholdBasedMaintenanceInputDataDto invocationData, List<MaintenanceDataDto> maintenanceEvents) {
         SmartServiceRequest request;
         try {
-            // Retrieve all CORIM Data
-            List<MaintenanceDataDto> maintenanceData = maintenanceDataRepository.findAll(Pageable.unpaged())
-                    .getContent()
-                    .stream()
-                    .map(data -> {
-                        MaintenanceDataDto dto = modelMapper.map(data, MaintenanceDataDto.class);
-                        // Remove/Hide unnecessary fields
-                        refactorMaintenanceDto(dto);
-
-                        return dto;
-                    })
-                    .toList();
-
-            invocationData.setEvents(maintenanceData);
+            invocationData.setEvents(maintenanceEvents);
 
             // Encode the invocationData to Base64
             String encodedInput = Base64.getEncoder().encodeToString(objectMapper.writeValueAsString(invocationData).getBytes());
@@ -336,9 +601,6 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
                     .request(encodedInput)
                     .build();
 
-        } catch (MappingException e) {
-            logger.error("Exception occurred while mapping Threshold Based Predictive Maintenance Entity to DTO: {}", e.getMessage());
-            throw new ModelMappingException("Exception occurred while mapping Threshold Based Predictive Maintenance Entity to DTO: " + e.getMessage());
         } catch (JsonProcessingException e) {
             logger.error("Unable to convert Threshold-Based Predictive Maintenance input to Base64 Encoding");
             throw new SmartServiceInvocationException("Unable to convert Threshold-Based Predictive Maintenance input to Base64 Encoding");
@@ -384,6 +646,31 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
         return results;
     }
 
+    /**
+     * Retrieve all CORIM data in the form used as input of Threshold Based Predictive Maintenance
+     *
+     * @return Unmodifiable List of MaintenanceDataDto
+     */
+    @Override
+    public List<MaintenanceDataDto> retrieveThresholdBasedMaintenanceEvents() {
+        try {
+            return maintenanceDataRepository.findAll(Pageable.unpaged())
+                    .getContent()
+                    .stream()
+                    .map(data -> {
+                        MaintenanceDataDto dto = modelMapper.map(data, MaintenanceDataDto.class);
+                        // Remove/Hide unnecessary fields
+                        refactorMaintenanceDto(dto);
+
+                        return dto;
+                    })
+                    .toList();
+        } catch (MappingException e) {
+            logger.error("Exception occurred while mapping Threshold Based Predictive Maintenance Entity to DTO: {}", e.getMessage());
+            throw new ModelMappingException("Exception occurred while mapping Threshold Based Predictive Maintenance Entity to DTO: " + e.getMessage());
+        }
+    }
+
     /*
      * Remove unnecessary fields
      */
@@ -407,11 +694,12 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
     @Override
     public SewThresholdBasedPredictiveMaintenanceOutputDto retrieveLatestThresholdBasedMaintenanceResults(String moduleId) {
         try {
-            Optional<SewThresholdBasedPredictiveMaintenanceResult> latestResult = sewThresholdBasedPredictiveMaintenanceRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId);
+            Optional<SewThresholdBasedPredictiveMaintenanceOutputDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.SEW_THRESHOLD_PREDICTIVE_MAINTENANCE, moduleId,
+                    () -> sewThresholdBasedPredictiveMaintenanceRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId).map(result -> modelMapper.map(result, SewThresholdBasedPredictiveMaintenanceOutputDto.class)));
             if (latestResult.isEmpty())
                 throw new ResourceNotFoundException("No SEW Grouping Based Predictive Maintenance Results for Module: " + moduleId + " found");
 
-            return modelMapper.map(latestResult.get(), SewThresholdBasedPredictiveMaintenanceOutputDto.class);
+            return latestResult.get();
         } catch (MappingException e) {
             logger.error(MAPPING_ERROR + "for Module {} - {}", moduleId, e.getMessage());
             throw new ModelMappingException("Unable to parse SEW Threshold Based Maintenance Results Results to DTO for Module: " + moduleId + " - Error: " + e.getMessage());
@@ -429,11 +717,12 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
     @Override
     public SewGroupingPredictiveMaintenanceOutputDto retrieveLatestGroupingMaintenanceResults(String moduleId) {
         try {
-            Optional<SewGroupingPredictiveMaintenanceResult> latestResult = sewGroupingBasedPredictiveMaintenanceRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId);
+            Optional<SewGroupingPredictiveMaintenanceOutputDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.SEW_GROUPING_PREDICTIVE_MAINTENANCE, moduleId,
+                    () -> sewGroupingBasedPredictiveMaintenanceRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId).map(result -> modelMapper.map(result, SewGroupingPredictiveMaintenanceOutputDto.class)));
             if (latestResult.isEmpty())
                 throw new ResourceNotFoundException("No SEW Grouping Based Predictive Maintenance Results for Module: " + moduleId + " found");
 
-            return modelMapper.map(latestResult.get(), SewGroupingPredictiveMaintenanceOutputDto.class);
+            return latestResult.get();
         } catch (MappingException e) {
             logger.error(MAPPING_ERROR + "for Module {} - {}", moduleId, e.getMessage());
             throw new ModelMappingException("Unable to parse SEW Grouping Maintenance Results to DTO for Module: " + moduleId + " - Error: " + e.getMessage());
@@ -464,6 +753,7 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
         try {
             MaintenanceData entity = modelMapper.map(processDriftData, MaintenanceData.class);
             MaintenanceData storedDrift = maintenanceDataRepository.save(entity);
+            refreshLastMaintenanceActions(List.of(storedDrift));
 
             // Send Event via MB
             EventDto event = EventDto.builder()
@@ -547,6 +837,7 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
 
         drift.setTsInterventionFinished(endDatetime);
         maintenanceDataRepository.save(drift);
+        refreshLastMaintenanceActions(List.of(drift));
 
         // Send Event via MB
         EventDto event = EventDto.builder()
@@ -574,5 +865,6 @@ public class PredictiveMaintenanceService implements IPredictiveMaintenanceServi
     @Override
     public void deleteAllMaintenanceData() {
         maintenanceDataRepository.deleteAll();
+        componentLastMaintenanceRepository.deleteAll();
     }
 }
@@ -0,0 +1,252 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.SchedulerHistoryProperties;
+import gr.atc.modapto.dto.ScheduledTaskExecutionDto;
+import gr.atc.modapto.exception.CustomExceptions.*;
+import gr.atc.modapto.model.ScheduledTaskExecution;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.modelmapper.MappingException;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Execution history of the Scheduled Tasks.
+ * One compact record is kept per run and the records are stored periodically with a single bulk request
+ * in monthly partitions of the 'scheduled-task-executions' index
+ */
+@Service
+public class ScheduledTaskExecutionHistoryService {
+
+    private final Logger logger = LoggerFactory.getLogger(ScheduledTaskExecutionHistoryService.class);
+
+    static final String INDEX_PREFIX = "scheduled-task-executions-";
+    private static final DateTimeFormatter PARTITION_FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM");
+    private static final int MAX_ERROR_LENGTH = 256;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private final TaskScheduler taskScheduler;
+
+    private final ModelMapper modelMapper;
+
+    private final SchedulerHistoryProperties historyProperties;
+
+    private final Counter droppedCounter;
+
+    private final ConcurrentLinkedQueue<ScheduledTaskExecution> pendingExecutions = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Set<String> createdPartitions = ConcurrentHashMap.newKeySet();
+
+    private ScheduledFuture<?> flushFuture;
+
+    public ScheduledTaskExecutionHistoryService(ElasticsearchOperations elasticsearchOperations,
+                                                @Qualifier("housekeepingTaskScheduler") TaskScheduler taskScheduler,
+                                                ModelMapper modelMapper,
+                                                SchedulerHistoryProperties historyProperties,
+                                                MeterRegistry meterRegistry) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.taskScheduler = taskScheduler;
+        this.modelMapper = modelMapper;
+        this.historyProperties = historyProperties;
+        this.droppedCounter = Counter.builder("scheduled.tasks.history.dropped")
+                .description("Execution records dropped because the history buffer was full")
+                .register(meterRegistry);
+    }
+
+    /*
+     * Start the periodic flush of the buffered records
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPeriodicFlush() {
+        if (historyProperties.enabled())
+            flushFuture = taskScheduler.scheduleWithFixedDelay(this::flush, historyProperties.flushInterval());
+    }
+
+    /**
+     * Check whether execution records are stored
+     *
+     * @return True if the execution history is enabled, False otherwise
+     */
+    public boolean isEnabled() {
+        return historyProperties.enabled();
+    }
+
+    /**
+     * Buffer the record of a finished run. Records beyond the buffer capacity are dropped
+     *
+     * @param execution : Execution record
+     */
+    public void record(ScheduledTaskExecution execution) {
+        if (!historyProperties.enabled())
+            return;
+
+        if (execution.getError() != null && execution.getError().length() > MAX_ERROR_LENGTH)
+            execution.setError(execution.getError().substring(0, MAX_ERROR_LENGTH));
+
+        if (pendingCount.incrementAndGet() > historyProperties.bufferCapacity()) {
+            pendingCount.decrementAndGet();
+            droppedCounter.increment();
+            return;
+        }
+        pendingExecutions.add(execution);
+    }
+
+    /**
+     * Retrieve the number of records waiting to be stored
+     *
+     * @return Number of buffered records
+     */
+    public int getPendingRecordCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Store all buffered records with a single bulk request per monthly partition
+     */
+    public void flush() {
+        List<ScheduledTaskExecution> batch = new ArrayList<>();
+        ScheduledTaskExecution execution;
+        while ((execution = pendingExecutions.poll()) != null) {
+            pendingCount.decrementAndGet();
+            if (execution.getId() == null)
+                execution.setId(UUID.randomUUID().toString());
+            batch.add(execution);
+        }
+
+        if (batch.isEmpty())
+            return;
+
+        batch.stream()
+                .collect(Collectors.groupingBy(this::partitionOf))
+                .forEach(this::storePartition);
+    }
+
+    /*
+     * Helper method to store the records of a single monthly partition, creating it on first write
+     */
+    private void storePartition(String partition, List<ScheduledTaskExecution> executions) {
+        IndexCoordinates coordinates = IndexCoordinates.of(partition);
+        Map<String, ScheduledTaskExecution> executionsById = new HashMap<>();
+        List<IndexQuery> indexQueries = new ArrayList<>(executions.size());
+        executions.forEach(execution -> {
+            executionsById.put(execution.getId(), execution);
+            indexQueries.add(new IndexQueryBuilder().withId(execution.getId()).withObject(execution).build());
+        });
+
+        try {
+            createPartitionIfMissing(partition, coordinates);
+            elasticsearchOperations.bulkIndex(indexQueries, coordinates);
+            logger.debug("Stored {} scheduled task execution records in {}", indexQueries.size(), partition);
+        } catch (BulkFailureException e) {
+            // Failed records are retried on the next flush
+            e.getFailedDocuments().keySet().forEach(id -> requeue(executionsById.get(id)));
+            logger.warn("Unable to store {} scheduled task execution records in {}", e.getFailedDocuments().size(), partition);
+        } catch (Exception e) {
+            executions.forEach(this::requeue);
+            logger.error("Unable to store scheduled task execution records in {} - Error: {}", partition, e.getMessage());
+        }
+    }
+
+    /*
+     * Helper method to create a monthly partition with the mapping of the execution records
+     */
+    private void createPartitionIfMissing(String partition, IndexCoordinates coordinates) {
+        if (createdPartitions.contains(partition))
+            return;
+
+        IndexOperations indexOperations = elasticsearchOperations.indexOps(coordinates);
+        if (!indexOperations.exists())
+            indexOperations.create(Map.of(), indexOperations.createMapping(ScheduledTaskExecution.class));
+        createdPartitions.add(partition);
+    }
+
+    /*
+     * Helper method to buffer a failed record again if there is still room
+     */
+    private void requeue(ScheduledTaskExecution execution) {
+        if (execution == null)
+            return;
+
+        if (pendingCount.incrementAndGet() > historyProperties.bufferCapacity()) {
+            pendingCount.decrementAndGet();
+            droppedCounter.increment();
+            return;
+        }
+        pendingExecutions.add(execution);
+    }
+
+    /*
+     * Helper method to resolve the monthly partition of a record
+     */
+    private String partitionOf(ScheduledTaskExecution execution) {
+        LocalDateTime startedAt = execution.getStartedAt() != null ? execution.getStartedAt() : LocalDateTime.now();
+        return INDEX_PREFIX + startedAt.format(PARTITION_FORMATTER);
+    }
+
+    /**
+     * Retrieve the most recent runs of a Scheduled Task across all partitions
+     *
+     * @param taskId : Scheduled Task ID
+     * @param limit : Maximum number of runs
+     * @return List<ScheduledTaskExecutionDto>
+     */
+    public List<ScheduledTaskExecutionDto> retrieveRecentExecutions(String taskId, int limit) {
+        try {
+            CriteriaQuery query = new CriteriaQuery(new Criteria("taskId").is(taskId),
+                    PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "startedAt")));
+
+            return elasticsearchOperations.search(query, ScheduledTaskExecution.class, IndexCoordinates.of(INDEX_PREFIX + "*"))
+                    .stream()
+                    .map(SearchHit::getContent)
+                    .map(execution -> modelMapper.map(execution, ScheduledTaskExecutionDto.class))
+                    .toList();
+        } catch (MappingException e) {
+            throw new ModelMappingException("Unable to parse Scheduled Task Execution to DTO - Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Store the remaining records on application shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (flushFuture != null)
+            flushFuture.cancel(false);
+        flush();
+    }
+}
@@ -0,0 +1,152 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.SchedulerEngineProperties;
+import gr.atc.modapto.model.ScheduledTask;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Write-behind buffer for the next execution times of the Scheduled Tasks.
+ * Updates are coalesced per task and persisted periodically with a single bulk partial update
+ */
+@Service
+public class ScheduledTaskExecutionTimeWriter {
+
+    private final Logger logger = LoggerFactory.getLogger(ScheduledTaskExecutionTimeWriter.class);
+
+    private static final String NEXT_EXECUTION_TIME_FIELD = "nextExecutionTime";
+    private static final DateTimeFormatter EXECUTION_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private final TaskScheduler taskScheduler;
+
+    private final SchedulerEngineProperties engineProperties;
+
+    private final Map<String, LocalDateTime> pendingExecutionTimes = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> flushFuture;
+
+    public ScheduledTaskExecutionTimeWriter(ElasticsearchOperations elasticsearchOperations,
+                                            @Qualifier("housekeepingTaskScheduler") TaskScheduler taskScheduler,
+                                            SchedulerEngineProperties engineProperties) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.taskScheduler = taskScheduler;
+        this.engineProperties = engineProperties;
+    }
+
+    /*
+     * Start the periodic flush of the pending updates
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPeriodicFlush() {
+        flushFuture = taskScheduler.scheduleWithFixedDelay(this::flush, engineProperties.persistenceFlushInterval());
+    }
+
+    /**
+     * Queue the next execution time of a task, replacing any pending value
+     *
+     * @param taskId : Scheduled Task ID
+     * @param nextExecutionTime : Next execution time
+     */
+    public void enqueue(String taskId, LocalDateTime nextExecutionTime) {
+        pendingExecutionTimes.put(taskId, nextExecutionTime);
+    }
+
+    /**
+     * Drop the pending update of a deleted task
+     *
+     * @param taskId : Scheduled Task ID
+     */
+    public void discard(String taskId) {
+        pendingExecutionTimes.remove(taskId);
+    }
+
+    /**
+     * Retrieve the number of updates waiting to be persisted
+     *
+     * @return Number of pending updates
+     */
+    public int getPendingUpdateCount() {
+        return pendingExecutionTimes.size();
+    }
+
+    /**
+     * Persist all pending updates with a single bulk request
+     */
+    public void flush() {
+        if (pendingExecutionTimes.isEmpty())
+            return;
+
+        // Take the pending updates, keeping any value queued concurrently for the next flush
+        Map<String, LocalDateTime> batch = new HashMap<>();
+        for (String taskId : List.copyOf(pendingExecutionTimes.keySet())) {
+            LocalDateTime nextExecutionTime = pendingExecutionTimes.get(taskId);
+            if (nextExecutionTime != null && pendingExecutionTimes.remove(taskId, nextExecutionTime))
+                batch.put(taskId, nextExecutionTime);
+        }
+
+        if (batch.isEmpty())
+            return;
+
+        List<UpdateQuery> updateQueries = new ArrayList<>(batch.size());
+        batch.forEach((taskId, nextExecutionTime) -> {
+            Document document = Document.create();
+            document.put(NEXT_EXECUTION_TIME_FIELD, nextExecutionTime.format(EXECUTION_TIME_FORMATTER));
+            updateQueries.add(UpdateQuery.builder(taskId).withDocument(document).build());
+        });
+
+        try {
+            elasticsearchOperations.bulkUpdate(updateQueries, ScheduledTask.class);
+            logger.debug("Persisted next execution time of {} scheduled tasks", updateQueries.size());
+        } catch (BulkFailureException e) {
+            // Tasks deleted in the meantime are dropped, other failures are retried on the next flush
+            e.getFailedDocuments().forEach((taskId, failure) -> {
+                if (failure.status() == null || failure.status() != HttpStatus.NOT_FOUND.value())
+                    requeue(taskId, batch.get(taskId));
+            });
+            logger.warn("Unable to persist next execution time of {} scheduled tasks", e.getFailedDocuments().size());
+        } catch (Exception e) {
+            batch.forEach(this::requeue);
+            logger.error("Unable to persist next execution times of scheduled tasks - Error: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * Helper method to queue a failed update again unless a newer value was queued in the meantime
+     */
+    private void requeue(String taskId, LocalDateTime nextExecutionTime) {
+        if (nextExecutionTime != null)
+            pendingExecutionTimes.putIfAbsent(taskId, nextExecutionTime);
+    }
+
+    /**
+     * Persist the remaining updates on application shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (flushFuture != null)
+            flushFuture.cancel(false);
+        flush();
+    }
+}
@@ -0,0 +1,429 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.SchedulerExecutorProperties;
+import gr.atc.modapto.dto.serviceInvocations.CrfInvocationInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewGroupingPredictiveMaintenanceInputDataDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessMonitoringKpisInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessRealTimeMonitoringInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSimulationInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewThresholdBasedMaintenanceInputDataDto;
+import gr.atc.modapto.enums.ScheduledTaskExecutionOutcome;
+import gr.atc.modapto.model.ScheduledTask;
+import gr.atc.modapto.model.ScheduledTaskExecution;
+import gr.atc.modapto.service.interfaces.IKhPickingSequenceOptimizationService;
+import gr.atc.modapto.service.interfaces.IPredictiveMaintenanceService;
+import gr.atc.modapto.service.interfaces.IProductionScheduleSimulationService;
+import gr.atc.modapto.service.interfaces.ISewSelfAwarenessService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the executors of the Scheduled Tasks per smart-service type.
+ * Each type runs in its own pool with a bounded concurrency and queue, so that a slow smart service
+ * cannot starve the others, publishes its scheduling lag and execution duration metrics and records every run in the execution history.
+ * Types with shared inputs coalesce the runs firing within a window, loading the inputs once for the whole group
+ */
+@Service
+public class ScheduledTaskExecutorRegistry {
+
+    private final Logger logger = LoggerFactory.getLogger(ScheduledTaskExecutorRegistry.class);
+
+    public static final String THRESHOLD_BASED_PREDICTIVE_MAINTENANCE = "THRESHOLD_BASED_PREDICTIVE_MAINTENANCE";
+    public static final String GROUPING_PREDICTIVE_MAINTENANCE = "GROUPING_PREDICTIVE_MAINTENANCE";
+    public static final String SELF_AWARENESS_MONITORING_KPIS = "SELF_AWARENESS_MONITORING_KPIS";
+    public static final String SELF_AWARENESS_REAL_TIME_MONITORING = "SELF_AWARENESS_REAL_TIME_MONITORING";
+    public static final String SEW_SIMULATION = "SEW_SIMULATION";
+    public static final String CRF_OPTIMIZATION = "CRF_OPTIMIZATION";
+
+    private static final String TYPE_TAG = "type";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final ScheduledTaskExecutionHistoryService executionHistoryService;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final SchedulerExecutorProperties executorProperties;
+
+    private final Executor taskExecutor;
+
+    private final TaskScheduler taskScheduler;
+
+    private final Map<String, TaskTypeExecutor<?, ?>> executors = new ConcurrentHashMap<>();
+
+    public ScheduledTaskExecutorRegistry(IPredictiveMaintenanceService predictiveMaintenanceService,
+                                         ISewSelfAwarenessService sewSelfAwarenessService,
+                                         IProductionScheduleSimulationService productionScheduleSimulationService,
+                                         IKhPickingSequenceOptimizationService khPickingSequenceOptimizationService,
+                                         ScheduledTaskExecutionHistoryService executionHistoryService,
+                                         ObjectMapper objectMapper,
+                                         MeterRegistry meterRegistry,
+                                         SchedulerExecutorProperties executorProperties,
+                                         @Qualifier("taskExecutor") Executor taskExecutor,
+                                         @Qualifier("smartServiceTaskScheduler") TaskScheduler taskScheduler) {
+        this.executionHistoryService = executionHistoryService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.executorProperties = executorProperties;
+        this.taskExecutor = taskExecutor;
+        this.taskScheduler = taskScheduler;
+
+        // The scheduled task stores the invocation input built by the service on its first invocation
+        // Threshold-based runs firing together share a single snapshot of the maintenance events
+        // The invocation sets the events on its input, so each run works on a copy of the stored input
+        registerExecutor(THRESHOLD_BASED_PREDICTIVE_MAINTENANCE, SewThresholdBasedMaintenanceInputDataDto.class,
+                predictiveMaintenanceService::retrieveThresholdBasedMaintenanceEvents,
+                (invocationData, maintenanceEvents) -> predictiveMaintenanceService.invokeThresholdBasedPredictiveMaintenance(
+                        invocationData.toBuilder().build(), maintenanceEvents));
+        registerExecutor(GROUPING_PREDICTIVE_MAINTENANCE, SewGroupingPredictiveMaintenanceInputDataDto.class,
+                predictiveMaintenanceService::invokeGroupingPredictiveMaintenance);
+        registerExecutor(SELF_AWARENESS_MONITORING_KPIS, SewSelfAwarenessMonitoringKpisInputDto.class,
+                sewSelfAwarenessService::invokeSelfAwarenessMonitoringKpisAlgorithm);
+        registerExecutor(SELF_AWARENESS_REAL_TIME_MONITORING, SewSelfAwarenessRealTimeMonitoringInputDto.class,
+                sewSelfAwarenessService::invokeSelfAwarenessRealTimeMonitoringAlgorithm);
+        registerExecutor(SEW_SIMULATION, SewSimulationInputDto.class,
+                productionScheduleSimulationService::invokeSimulationOfProductionSchedules);
+        registerExecutor(CRF_OPTIMIZATION, CrfInvocationInputDto.class,
+                khPickingSequenceOptimizationService::invokeOptimizationOfKhPickingSequence);
+    }
+
+    /**
+     * Register the executor of a smart-service type, replacing any existing one
+     *
+     * @param smartServiceType : Smart Service Type
+     * @param invocationType : Type of the invocation input stored in the Scheduled Task
+     * @param invocation : Invocation of the smart service
+     */
+    public <T> void registerExecutor(String smartServiceType, Class<T> invocationType, Consumer<T> invocation) {
+        registerExecutor(smartServiceType, invocationType, null, (T invocationData, Object snapshot) -> invocation.accept(invocationData));
+    }
+
+    /**
+     * Register the executor of a smart-service type whose runs share inputs, replacing any existing one.
+     * Runs firing within the coalescing window are grouped and the snapshot is loaded once per group
+     *
+     * @param smartServiceType : Smart Service Type
+     * @param invocationType : Type of the invocation input stored in the Scheduled Task
+     * @param snapshotLoader : Loader of the inputs shared by all runs of a group
+     * @param invocation : Invocation of the smart service with the shared snapshot
+     */
+    public <T, S> void registerExecutor(String smartServiceType, Class<T> invocationType, Supplier<S> snapshotLoader, BiConsumer<T, S> invocation) {
+        // Gauges of a replaced executor must be removed before registering the new ones
+        TaskTypeExecutor<?, ?> previous = executors.remove(smartServiceType);
+        if (previous != null)
+            previous.removeGauges();
+
+        TaskTypeExecutor<T, S> executor = new TaskTypeExecutor<>(smartServiceType, invocationType, snapshotLoader, invocation,
+                executorProperties.concurrencyOf(smartServiceType), executorProperties.queueCapacityOf(smartServiceType));
+        executors.put(smartServiceType, executor);
+        logger.debug("Registered scheduled task executor for type {} - Concurrency: {}, Queue capacity: {}",
+                smartServiceType, executor.concurrency, executor.queueCapacity);
+    }
+
+    /**
+     * Check whether a smart-service type can be scheduled
+     *
+     * @param smartServiceType : Smart Service Type
+     * @return True if an executor is registered, False otherwise
+     */
+    public boolean supports(String smartServiceType) {
+        return smartServiceType != null && executors.containsKey(smartServiceType);
+    }
+
+    /**
+     * Retrieve the smart-service types that can be scheduled
+     *
+     * @return Set of Smart Service Types
+     */
+    public Set<String> retrieveSupportedTypes() {
+        return Set.copyOf(executors.keySet());
+    }
+
+    /**
+     * Submit a Scheduled Task to the pool of its smart-service type
+     *
+     * @param task : Scheduled Task
+     * @return Future completed when the execution finishes, or failed with a RejectedExecutionException if the pool is full
+     */
+    public CompletableFuture<Void> submit(ScheduledTask task) {
+        TaskTypeExecutor<?, ?> executor = task.getSmartServiceType() == null ? null : executors.get(task.getSmartServiceType());
+        if (executor == null)
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown smart service type: " + task.getSmartServiceType()));
+
+        return executor.submit(task);
+    }
+
+    /*
+     * Pending execution of a Scheduled Task
+     */
+    private record PendingRun(ScheduledTask task, LocalDateTime scheduledTime, CompletableFuture<Void> completion) {
+    }
+
+    /*
+     * Execution pool of a single smart-service type
+     */
+    private final class TaskTypeExecutor<T, S> {
+        private final String smartServiceType;
+        private final Class<T> invocationType;
+        private final Supplier<S> snapshotLoader;
+        private final BiConsumer<T, S> invocation;
+        private final int concurrency;
+        private final int queueCapacity;
+        private final Semaphore permits;
+        private final AtomicInteger submitted = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final Timer lagTimer;
+        private final Timer successTimer;
+        private final Timer failureTimer;
+        private final Counter rejectedCounter;
+        private final DistributionSummary batchSizeSummary;
+        private final Gauge queuedGauge;
+        private final Gauge activeGauge;
+        private List<PendingRun> pendingBatch;
+
+        TaskTypeExecutor(String smartServiceType, Class<T> invocationType, Supplier<S> snapshotLoader, BiConsumer<T, S> invocation,
+                         int concurrency, int queueCapacity) {
+            this.smartServiceType = smartServiceType;
+            this.invocationType = invocationType;
+            this.snapshotLoader = snapshotLoader;
+            this.invocation = invocation;
+            this.concurrency = concurrency;
+            this.queueCapacity = queueCapacity;
+            this.permits = new Semaphore(concurrency, true);
+            this.lagTimer = Timer.builder("scheduled.tasks.lag")
+                    .description("Delay between the scheduled and the actual start of a Scheduled Task execution")
+                    .tag(TYPE_TAG, smartServiceType)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.successTimer = durationTimer("success");
+            this.failureTimer = durationTimer("failure");
+            this.rejectedCounter = Counter.builder("scheduled.tasks.rejected")
+                    .description("Scheduled Task executions rejected because the pool of their type was full")
+                    .tag(TYPE_TAG, smartServiceType)
+                    .register(meterRegistry);
+            this.batchSizeSummary = DistributionSummary.builder("scheduled.tasks.batch.size")
+                    .description("Number of Scheduled Task executions sharing a single snapshot of their inputs")
+                    .tag(TYPE_TAG, smartServiceType)
+                    .register(meterRegistry);
+            this.queuedGauge = Gauge.builder("scheduled.tasks.queued", this, executor -> executor.submitted.get() - executor.active.get())
+                    .description("Scheduled Task executions waiting for a free slot")
+                    .tag(TYPE_TAG, smartServiceType)
+                    .register(meterRegistry);
+            this.activeGauge = Gauge.builder("scheduled.tasks.active", active, AtomicInteger::get)
+                    .description("Scheduled Task executions currently running")
+                    .tag(TYPE_TAG, smartServiceType)
+                    .register(meterRegistry);
+        }
+
+        private Timer durationTimer(String outcome) {
+            return Timer.builder("scheduled.tasks.duration")
+                    .description("Execution duration of Scheduled Tasks")
+                    .tags(TYPE_TAG, smartServiceType, OUTCOME_TAG, outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        CompletableFuture<Void> submit(ScheduledTask task) {
+            // Running and waiting executions are bounded by the concurrency plus the queue capacity
+            if (submitted.incrementAndGet() > concurrency + queueCapacity) {
+                submitted.decrementAndGet();
+                rejectedCounter.increment();
+                recordExecution(task, task.getNextExecutionTime(), LocalDateTime.now(), Duration.ZERO,
+                        ScheduledTaskExecutionOutcome.REJECTED, "Execution pool is full");
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "Execution pool of smart service type " + smartServiceType + " is full"));
+            }
+
+            PendingRun run = new PendingRun(task, task.getNextExecutionTime(), new CompletableFuture<>());
+            if (snapshotLoader != null && !executorProperties.coalescingWindow().isZero())
+                addToBatch(run);
+            else
+                dispatch(run, null);
+            return run.completion();
+        }
+
+        /*
+         * Helper method to add a run to the open group, opening a new one that closes after the coalescing window
+         */
+        private synchronized void addToBatch(PendingRun run) {
+            if (pendingBatch == null) {
+                List<PendingRun> batch = new ArrayList<>();
+                pendingBatch = batch;
+                try {
+                    taskScheduler.schedule(() -> taskExecutor.execute(() -> dispatchBatch(batch)),
+                            Instant.now().plus(executorProperties.coalescingWindow()));
+                } catch (RuntimeException e) {
+                    pendingBatch = null;
+                    logger.warn("Unable to coalesce runs of type {} - Error: {}", smartServiceType, e.getMessage());
+                    dispatch(run, null);
+                    return;
+                }
+            }
+            pendingBatch.add(run);
+        }
+
+        /*
+         * Helper method to close a group, load its shared snapshot once and dispatch all its runs
+         */
+        private void dispatchBatch(List<PendingRun> batch) {
+            synchronized (this) {
+                if (pendingBatch == batch)
+                    pendingBatch = null;
+            }
+
+            S snapshot;
+            try {
+                snapshot = snapshotLoader.get();
+            } catch (Exception e) {
+                logger.error("Unable to load shared inputs of {} runs of type {} - Error: {}", batch.size(), smartServiceType, e.getMessage());
+                LocalDateTime failedAt = LocalDateTime.now();
+                batch.forEach(run -> {
+                    submitted.decrementAndGet();
+                    recordExecution(run.task(), run.scheduledTime(), failedAt, Duration.ZERO, ScheduledTaskExecutionOutcome.FAILURE, e.getMessage());
+                    run.completion().completeExceptionally(e);
+                });
+                return;
+            }
+
+            batchSizeSummary.record(batch.size());
+            logger.debug("Dispatching {} coalesced runs of type {}", batch.size(), smartServiceType);
+            batch.forEach(run -> dispatch(run, snapshot));
+        }
+
+        /*
+         * Helper method to hand a run to the pool, runs without a shared snapshot load their own inputs
+         */
+        private void dispatch(PendingRun run, S snapshot) {
+            try {
+                taskExecutor.execute(() -> run(run, snapshot));
+            } catch (RejectedExecutionException e) {
+                submitted.decrementAndGet();
+                rejectedCounter.increment();
+                recordExecution(run.task(), run.scheduledTime(), LocalDateTime.now(), Duration.ZERO, ScheduledTaskExecutionOutcome.REJECTED, e.getMessage());
+                run.completion().completeExceptionally(e);
+            }
+        }
+
+        private void run(PendingRun run, S snapshot) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                submitted.decrementAndGet();
+                run.completion().completeExceptionally(e);
+                return;
+            }
+
+            active.incrementAndGet();
+            LocalDateTime startedAt = LocalDateTime.now();
+            if (run.scheduledTime() != null)
+                lagTimer.record(Duration.between(run.scheduledTime(), startedAt).abs());
+
+            long startTime = System.nanoTime();
+            try {
+                S inputs = snapshot == null && snapshotLoader != null ? snapshotLoader.get() : snapshot;
+                invocation.accept(resolveInvocationData(run.task()), inputs);
+                Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+                successTimer.record(duration);
+                recordExecution(run.task(), run.scheduledTime(), startedAt, duration, ScheduledTaskExecutionOutcome.SUCCESS, null);
+                run.completion().complete(null);
+            } catch (Exception e) {
+                Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+                failureTimer.record(duration);
+                recordExecution(run.task(), run.scheduledTime(), startedAt, duration, ScheduledTaskExecutionOutcome.FAILURE, e.getMessage());
+                logger.error("Failed to execute task with ID: {}, for Service Type: {} - Error: {}", run.task().getId(), smartServiceType, e.getMessage());
+                run.completion().completeExceptionally(e);
+            } finally {
+                active.decrementAndGet();
+                submitted.decrementAndGet();
+                permits.release();
+            }
+        }
+
+        /*
+         * Helper method to retrieve the stored invocation input, converting it if it was stored as a generic document
+         */
+        private T resolveInvocationData(ScheduledTask task) {
+            Object requestBody = task.getRequestBody();
+            if (requestBody == null)
+                throw new IllegalArgumentException("Scheduled task " + task.getId() + " has no invocation data");
+            if (invocationType.isInstance(requestBody))
+                return invocationType.cast(requestBody);
+
+            T invocationData = objectMapper.convertValue(requestBody, invocationType);
+            task.setRequestBody(invocationData);
+            return invocationData;
+        }
+
+        /*
+         * Helper method to add a run to the execution history
+         */
+        private void recordExecution(ScheduledTask task, LocalDateTime scheduledTime, LocalDateTime startedAt, Duration duration,
+                                     ScheduledTaskExecutionOutcome outcome, String error) {
+            if (!executionHistoryService.isEnabled())
+                return;
+
+            try {
+                executionHistoryService.record(ScheduledTaskExecution.builder()
+                        .taskId(task.getId())
+                        .smartServiceType(smartServiceType)
+                        .moduleId(task.getModuleId())
+                        .scheduledTime(scheduledTime)
+                        .startedAt(startedAt)
+                        .lagMillis(scheduledTime != null ? Duration.between(scheduledTime, startedAt).toMillis() : null)
+                        .durationMillis(duration.toMillis())
+                        .outcome(outcome)
+                        .payloadSize(payloadSizeOf(task))
+                        .error(error)
+                        .build());
+            } catch (Exception e) {
+                logger.warn("Unable to record execution of task with ID: {} - Error: {}", task.getId(), e.getMessage());
+            }
+        }
+
+        /*
+         * Helper method to compute the serialized size of the stored invocation input
+         */
+        private Integer payloadSizeOf(ScheduledTask task) {
+            if (task.getRequestBody() == null)
+                return null;
+            try {
+                return objectMapper.writeValueAsBytes(task.getRequestBody()).length;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        void removeGauges() {
+            meterRegistry.remove(queuedGauge);
+            meterRegistry.remove(activeGauge);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.SchedulerClusterProperties;
+import gr.atc.modapto.model.ScheduledTaskLease;
+import gr.atc.modapto.model.SchedulerInstance;
+import gr.atc.modapto.repository.ScheduledTaskLeaseRepository;
+import gr.atc.modapto.repository.SchedulerInstanceRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Coordinates Scheduled Task execution between EDS replicas.
+ * Every replica announces itself with a heartbeat, tasks are assigned to live replicas with rendezvous hashing
+ * and each execution must first acquire the task lease with optimistic concurrency control.
+ * When a replica dies its heartbeat expires and its tasks are taken over by the surviving replicas
+ */
+@Service
+public class ScheduledTaskLeaseService {
+
+    private final Logger logger = LoggerFactory.getLogger(ScheduledTaskLeaseService.class);
+
+    private final ScheduledTaskLeaseRepository leaseRepository;
+
+    private final SchedulerInstanceRepository instanceRepository;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private final TaskScheduler taskScheduler;
+
+    private final SchedulerClusterProperties clusterProperties;
+
+    private final AtomicReference<List<String>> liveInstances;
+
+    private ScheduledFuture<?> heartbeatFuture;
+
+    public ScheduledTaskLeaseService(ScheduledTaskLeaseRepository leaseRepository,
+                                     SchedulerInstanceRepository instanceRepository,
+                                     ElasticsearchOperations elasticsearchOperations,
+                                     @Qualifier("housekeepingTaskScheduler") TaskScheduler taskScheduler,
+                                     SchedulerClusterProperties clusterProperties) {
+        this.leaseRepository = leaseRepository;
+        this.instanceRepository = instanceRepository;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.taskScheduler = taskScheduler;
+        this.clusterProperties = clusterProperties;
+        this.liveInstances = new AtomicReference<>(List.of(clusterProperties.instanceId()));
+    }
+
+    /*
+     * Register this replica and start its heartbeat before the Scheduled Tasks are initialized
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void startHeartbeat() {
+        if (!clusterProperties.enabled())
+            return;
+
+        sendHeartbeat();
+        heartbeatFuture = taskScheduler.scheduleWithFixedDelay(this::sendHeartbeat, clusterProperties.heartbeatInterval());
+        logger.info("Scheduler instance {} joined the cluster", clusterProperties.instanceId());
+    }
+
+    /**
+     * Try to acquire the lease of a Scheduled Task for a single execution
+     *
+     * @param taskId : Scheduled Task ID
+     * @param leaseDuration : Duration for which the lease will be held
+     * @return True if this replica must execute the task, False otherwise
+     */
+    public boolean tryAcquireLease(String taskId, Duration leaseDuration) {
+        if (!clusterProperties.enabled())
+            return true;
+
+        try {
+            LocalDateTime now = LocalDateTime.now().withNano(0);
+            Optional<ScheduledTaskLease> existingLease = leaseRepository.findById(taskId);
+
+            // No lease exists - Only the preferred replica creates it
+            if (existingLease.isEmpty()) {
+                if (!isPreferredOwner(taskId))
+                    return false;
+
+                ScheduledTaskLease lease = ScheduledTaskLease.builder()
+                        .id(taskId)
+                        .owner(clusterProperties.instanceId())
+                        .acquiredAt(now)
+                        .expiresAt(now.plus(leaseDuration))
+                        .build();
+                IndexQuery createQuery = new IndexQueryBuilder()
+                        .withId(taskId)
+                        .withObject(lease)
+                        .withOpType(IndexQuery.OpType.CREATE)
+                        .build();
+                elasticsearchOperations.index(createQuery, elasticsearchOperations.getIndexCoordinatesFor(ScheduledTaskLease.class));
+                return true;
+            }
+
+            // Skip if the lease is held by another replica, or it has expired but another replica is preferred
+            ScheduledTaskLease lease = existingLease.get();
+            boolean ownedByThisInstance = clusterProperties.instanceId().equals(lease.getOwner());
+            boolean expired = lease.getExpiresAt() == null || !lease.getExpiresAt().isAfter(now);
+            if (!ownedByThisInstance && (!expired || !isPreferredOwner(taskId)))
+                return false;
+
+            // Renew or take over the lease - Fails if another replica modified it concurrently
+            if (!ownedByThisInstance)
+                lease.setAcquiredAt(now);
+            lease.setOwner(clusterProperties.instanceId());
+            lease.setExpiresAt(now.plus(leaseDuration));
+            leaseRepository.save(lease);
+            return true;
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            logger.debug("Lease of task {} was acquired by another scheduler instance", taskId);
+            return false;
+        } catch (Exception e) {
+            logger.error("Unable to acquire lease of task {} - Error: {}", taskId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Delete the lease of a removed Scheduled Task
+     *
+     * @param taskId : Scheduled Task ID
+     */
+    public void deleteLease(String taskId) {
+        if (!clusterProperties.enabled())
+            return;
+
+        try {
+            leaseRepository.deleteById(taskId);
+        } catch (Exception e) {
+            logger.warn("Unable to delete lease of task {} - Error: {}", taskId, e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether lease-based ownership is enabled
+     *
+     * @return True if enabled, False otherwise
+     */
+    public boolean isClusterModeEnabled() {
+        return clusterProperties.enabled();
+    }
+
+    /**
+     * Retrieve the interval at which the locally scheduled tasks are synchronized with the stored ones
+     *
+     * @return Duration
+     */
+    public Duration getSynchronizationInterval() {
+        return clusterProperties.synchronizationInterval();
+    }
+
+    /**
+     * Check whether this replica is the preferred owner of a Scheduled Task among the live replicas
+     *
+     * @param taskId : Scheduled Task ID
+     * @return True if preferred, False otherwise
+     */
+    public boolean isPreferredOwner(String taskId) {
+        return liveInstances.get().stream()
+                .max(Comparator.comparingLong((String instanceId) -> rendezvousScore(instanceId, taskId))
+                        .thenComparing(Comparator.naturalOrder()))
+                .map(clusterProperties.instanceId()::equals)
+                .orElse(true);
+    }
+
+    /*
+     * Helper method to renew the heartbeat of this replica and refresh the live replicas
+     */
+    void sendHeartbeat() {
+        try {
+            LocalDateTime now = LocalDateTime.now().withNano(0);
+            instanceRepository.save(SchedulerInstance.builder()
+                    .id(clusterProperties.instanceId())
+                    .lastHeartbeat(now)
+                    .expiresAt(now.plus(clusterProperties.instanceTimeout()))
+                    .build());
+
+            List<String> instances = Stream.concat(
+                            Stream.of(clusterProperties.instanceId()),
+                            instanceRepository.findByExpiresAtAfter(now).stream().map(SchedulerInstance::getId))
+                    .distinct()
+                    .sorted()
+                    .toList();
+
+            List<String> previousInstances = liveInstances.getAndSet(instances);
+            if (!previousInstances.equals(instances))
+                logger.info("Live scheduler instances changed to {}", instances);
+        } catch (Exception e) {
+            logger.error("Unable to send scheduler heartbeat - Error: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * Helper method to calculate the rendezvous (highest random weight) score of an instance for a task
+     */
+    private static long rendezvousScore(String instanceId, String taskId) {
+        long hash = ((long) instanceId.hashCode() << 32) ^ Integer.toUnsignedLong(taskId.hashCode());
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * Leave the cluster on application shutdown so that tasks fail over without waiting for the heartbeat timeout
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!clusterProperties.enabled())
+            return;
+
+        if (heartbeatFuture != null)
+            heartbeatFuture.cancel(false);
+
+        try {
+            instanceRepository.deleteById(clusterProperties.instanceId());
+            logger.debug("Scheduler instance {} left the cluster", clusterProperties.instanceId());
+        } catch (Exception e) {
+            logger.warn("Unable to remove scheduler instance {} - Error: {}", clusterProperties.instanceId(), e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package gr.atc.modapto.service;
 
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import gr.atc.modapto.config.properties.SchedulerRecoveryProperties;
 import gr.atc.modapto.dto.ScheduledTaskDto;
-import gr.atc.modapto.dto.serviceInvocations.SewThresholdBasedMaintenanceInputDataDto;
+import gr.atc.modapto.dto.ScheduledTaskExecutionDto;
+import gr.atc.modapto.dto.ScheduledTaskRecoveryStatusDto;
 import gr.atc.modapto.enums.FrequencyType;
+import gr.atc.modapto.enums.MissedRunPolicy;
 import gr.atc.modapto.model.ScheduledTask;
 import gr.atc.modapto.repository.ScheduledTaskRepository;
-import gr.atc.modapto.service.interfaces.IPredictiveMaintenanceService;
 import gr.atc.modapto.service.interfaces.IScheduledTaskService;
 import gr.atc.modapto.exception.CustomExceptions.*;
 import jakarta.annotation.PreDestroy;
@@ -14,6 +16,7 @@ import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
@@ -22,13 +25,27 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class ScheduledTaskService implements IScheduledTaskService {
@@ -37,20 +54,42 @@ public class ScheduledTaskService implements IScheduledTaskService {
     private final ScheduledTaskRepository taskRepository;
     private final TaskScheduler taskScheduler;
     private final ModelMapper modelMapper;
-    private final IPredictiveMaintenanceService predictiveMaintenanceService;
+    private final ScheduledTaskExecutorRegistry executorRegistry;
+    private final ScheduledTaskLeaseService leaseService;
+    private final ScheduledTaskExecutionTimeWriter executionTimeWriter;
+    private final ScheduledTaskExecutionHistoryService executionHistoryService;
+    private final SchedulerRecoveryProperties recoveryProperties;
+    private final Executor taskExecutor;
+    private final Semaphore recoveryPermits;
+    private final Queue<CatchUpRun> pendingCatchUpRuns = new ConcurrentLinkedQueue<>();
+    private final RecoveryProgress recoveryProgress = new RecoveryProgress();
     private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    // Tasks whose run has fired and not completed yet, including the time spent queued in the pool of their type
+    private final Map<String, CompletableFuture<Void>> runningTasks = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> synchronizationFuture;
     
-    private static final String THRESHOLD_BASED_SERVICE_TYPE = "THRESHOLD_BASED_PREDICTIVE_MAINTENANCE";
+    private static final Duration DEFAULT_LEASE_DURATION = Duration.ofMinutes(1);
     private static final String MAPPING_ERROR = "Unable to map DTO to entity or vice-versa - Error: ";
 
     public ScheduledTaskService(ScheduledTaskRepository taskRepository, 
-                               TaskScheduler taskScheduler, 
+                               @Qualifier("smartServiceTaskScheduler") TaskScheduler taskScheduler, 
                                ModelMapper modelMapper,
-                                IPredictiveMaintenanceService predictiveMaintenanceService){
+                               ScheduledTaskExecutorRegistry executorRegistry,
+                               ScheduledTaskLeaseService leaseService,
+                               ScheduledTaskExecutionTimeWriter executionTimeWriter,
+                               ScheduledTaskExecutionHistoryService executionHistoryService,
+                               SchedulerRecoveryProperties recoveryProperties,
+                               @Qualifier("taskExecutor") Executor taskExecutor){
         this.taskRepository = taskRepository;
         this.taskScheduler = taskScheduler;
         this.modelMapper = modelMapper;
-        this.predictiveMaintenanceService = predictiveMaintenanceService;
+        this.executorRegistry = executorRegistry;
+        this.leaseService = leaseService;
+        this.executionTimeWriter = executionTimeWriter;
+        this.executionHistoryService = executionHistoryService;
+        this.recoveryProperties = recoveryProperties;
+        this.taskExecutor = taskExecutor;
+        this.recoveryPermits = new Semaphore(recoveryProperties.maxConcurrency());
     }
 
     /*
@@ -58,6 +97,14 @@ public class ScheduledTaskService implements IScheduledTaskService {
      */
     @EventListener(ApplicationReadyEvent.class)
     public void initializeScheduledTasks(){
+        // Recover in the background so that application readiness is not delayed
+        taskExecutor.execute(this::loadAndRecoverScheduledTasks);
+    }
+
+    /*
+     * Helper method to schedule the stored tasks and recover the overdue ones
+     */
+    private void loadAndRecoverScheduledTasks() {
         logger.info("Loading scheduled tasks from database...");
 
         try {
@@ -67,6 +114,7 @@ public class ScheduledTaskService implements IScheduledTaskService {
 
             logger.info("Found {} scheduled tasks to initialize", activeTasks.size());
 
+            List<ScheduledTask> overdueTasks = new ArrayList<>();
             for (ScheduledTask task : activeTasks) {
                 try {
                     if (task.getNextExecutionTime().isAfter(now)) {
@@ -74,17 +122,158 @@ public class ScheduledTaskService implements IScheduledTaskService {
                         scheduleTask(task);
                         logger.debug("Scheduled task {} for execution at {}", task.getId(), task.getNextExecutionTime());
                     } else {
-                        // Task is overdue, so we need execute immediately and reschedule
-                        logger.warn("Task {} is overdue (scheduled for {}). Executing immediately.", task.getId(), task.getNextExecutionTime());
-                        executeTaskAndReschedule(task);
+                        overdueTasks.add(task);
                     }
                 } catch (Exception e) {
                     logger.error("Failed to initialize task {}: {}", task.getId(), e.getMessage());
                 }
             }
 
+            // Recover overdue tasks in the background according to the missed run policy
+            recoveryProgress.start(activeTasks.size(), overdueTasks.size(), recoveryProperties.missedRunPolicy());
+            if (recoveryProperties.missedRunPolicy() == MissedRunPolicy.SKIP)
+                skipMissedRuns(overdueTasks);
+            else
+                scheduleCatchUpRuns(overdueTasks);
+
         } catch (Exception e) {
             logger.error("Failed to initialize scheduled tasks", e);
+            recoveryProgress.fail();
+        }
+
+        // Pick up tasks registered or deleted by other replicas
+        if (leaseService.isClusterModeEnabled()) {
+            Duration synchronizationInterval = leaseService.getSynchronizationInterval();
+            synchronizationFuture = taskScheduler.scheduleWithFixedDelay(this::synchronizeScheduledTasks,
+                    Instant.now().plus(synchronizationInterval), synchronizationInterval);
+        }
+    }
+
+    /*
+     * Helper method to move overdue tasks directly to their next run without executing the missed ones
+     */
+    private void skipMissedRuns(List<ScheduledTask> overdueTasks) {
+        if (overdueTasks.isEmpty())
+            return;
+
+        overdueTasks.forEach(task -> task.setNextExecutionTime(calculateNextExecutionTime(task.getFrequencyType(), task.getFrequencyValue())));
+        taskRepository.saveAll(overdueTasks);
+
+        for (ScheduledTask task : overdueTasks) {
+            try {
+                scheduleTask(task);
+                recoveryProgress.recordSkipped();
+                logger.debug("Skipped missed run of task {} - Next execution at {}", task.getId(), task.getNextExecutionTime());
+            } catch (Exception e) {
+                logger.error("Failed to reschedule task {} after skipping its missed run: {}", task.getId(), e.getMessage());
+                recoveryProgress.recordFailed();
+            }
+        }
+        logger.info("Skipped missed runs of {} overdue tasks", overdueTasks.size());
+    }
+
+    /*
+     * Helper method to spread the catch-up runs of overdue tasks randomly over the catch-up window
+     */
+    private void scheduleCatchUpRuns(List<ScheduledTask> overdueTasks) {
+        long catchUpWindowMillis = recoveryProperties.catchUpWindow().toMillis();
+        for (ScheduledTask task : overdueTasks) {
+            try {
+                Instant catchUpTime = Instant.now().plusMillis(ThreadLocalRandom.current().nextLong(catchUpWindowMillis + 1));
+                ScheduledFuture<?> future = taskScheduler.schedule(() -> startCatchUpRun(task), catchUpTime);
+                scheduledTasks.put(task.getId(), future);
+                logger.warn("Task {} is overdue (scheduled for {}). Catch-up run at {}", task.getId(), task.getNextExecutionTime(), catchUpTime);
+            } catch (Exception e) {
+                logger.error("Failed to schedule catch-up run of task {}: {}", task.getId(), e.getMessage());
+                recoveryProgress.recordFailed();
+            }
+        }
+    }
+
+    /*
+     * Helper method to mark a catch-up run as running and queue it until a recovery permit is free
+     */
+    private void startCatchUpRun(ScheduledTask task) {
+        try {
+            trackRun(task, () -> {
+                CatchUpRun catchUpRun = new CatchUpRun(task, new CompletableFuture<>());
+                pendingCatchUpRuns.add(catchUpRun);
+                try {
+                    taskExecutor.execute(this::dispatchCatchUpRuns);
+                } catch (RejectedExecutionException e) {
+                    pendingCatchUpRuns.remove(catchUpRun);
+                    throw e;
+                }
+                return catchUpRun.completion();
+            }).whenComplete((result, error) -> {
+                if (error == null) {
+                    recoveryProgress.recordRecovered();
+                } else {
+                    logger.error("Catch-up run of task {} failed: {}", task.getId(), error.getMessage());
+                    recoveryProgress.recordFailed();
+                }
+            });
+        } catch (Exception e) {
+            logger.error("Catch-up run of task {} failed: {}", task.getId(), e.getMessage());
+            recoveryProgress.recordFailed();
+        }
+    }
+
+    /*
+     * Helper method to start the queued catch-up runs while respecting the recovery concurrency limit.
+     * Each permit is released once its run completes in the pool of its smart-service type, which dispatches the next runs
+     */
+    private void dispatchCatchUpRuns() {
+        while (!pendingCatchUpRuns.isEmpty() && recoveryPermits.tryAcquire()) {
+            CatchUpRun catchUpRun = pendingCatchUpRuns.poll();
+            if (catchUpRun == null) {
+                recoveryPermits.release();
+                return;
+            }
+
+            CompletableFuture<Void> execution;
+            try {
+                execution = executeTaskIfLeaseAcquired(catchUpRun.task());
+            } catch (Exception e) {
+                execution = CompletableFuture.failedFuture(e);
+            }
+            execution.whenComplete((result, error) -> {
+                recoveryPermits.release();
+                if (error != null)
+                    catchUpRun.completion().completeExceptionally(error);
+                else
+                    catchUpRun.completion().complete(null);
+                if (!pendingCatchUpRuns.isEmpty())
+                    taskExecutor.execute(this::dispatchCatchUpRuns);
+            });
+        }
+    }
+
+    /*
+     * Synchronize the locally scheduled tasks with the stored ones
+     */
+    void synchronizeScheduledTasks() {
+        try {
+            List<ScheduledTask> storedTasks = taskRepository.findAll(Pageable.unpaged()).getContent();
+            Set<String> storedTaskIds = storedTasks.stream().map(ScheduledTask::getId).collect(Collectors.toSet());
+
+            // Cancel tasks deleted by other replicas
+            scheduledTasks.keySet().stream()
+                    .filter(taskId -> !storedTaskIds.contains(taskId))
+                    .toList()
+                    .forEach(this::cancelTask);
+
+            // Schedule tasks registered by other replicas or left unscheduled after a failure
+            // Running tasks are rescheduled by their own run once completed
+            for (ScheduledTask task : storedTasks) {
+                if (runningTasks.containsKey(task.getId()))
+                    continue;
+                ScheduledFuture<?> future = scheduledTasks.get(task.getId());
+                if (future == null || future.isDone())
+                    scheduleTask(task);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to synchronize scheduled tasks - Error: {}", e.getMessage());
         }
     }
 
@@ -93,6 +282,11 @@ public class ScheduledTaskService implements IScheduledTaskService {
      */
     @Override
     public boolean registerScheduledTask(ScheduledTaskDto task) {
+        if (!executorRegistry.supports(task.getSmartServiceType())) {
+            logger.error("Unable to register Scheduled Task - No executor for smart service type: {}", task.getSmartServiceType());
+            return false;
+        }
+
         try{
             ScheduledTask scheduledTask = modelMapper.map(task, ScheduledTask.class);
             scheduledTask.setCreatedAt(LocalDateTime.now().withNano(0));
@@ -136,8 +330,10 @@ public class ScheduledTaskService implements IScheduledTaskService {
             ScheduledTask task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Scheduled task with ID: " + taskId + " not found"));
             
-            // Cancel the scheduled task
+            // Cancel the scheduled task and release its lease
             cancelTask(taskId);
+            leaseService.deleteLease(taskId);
+            executionTimeWriter.discard(taskId);
             
             // Delete from repository
             taskRepository.delete(task);
@@ -151,24 +347,47 @@ public class ScheduledTaskService implements IScheduledTaskService {
         }
     }
 
+    /**
+     * Retrieve the progress of the start-up recovery of overdue tasks
+     *
+     * @return ScheduledTaskRecoveryStatusDto
+     */
+    @Override
+    public ScheduledTaskRecoveryStatusDto retrieveRecoveryStatus() {
+        return recoveryProgress.toDto();
+    }
+
+    /**
+     * Retrieve the most recent runs of a Scheduled Task, newest first
+     *
+     * @param taskId : Scheduled Task ID
+     * @param limit : Maximum number of runs
+     * @return List<ScheduledTaskExecutionDto>
+     */
+    @Override
+    public List<ScheduledTaskExecutionDto> retrieveRecentExecutions(String taskId, int limit) {
+        try {
+            return executionHistoryService.retrieveRecentExecutions(taskId, limit);
+        } catch (ModelMappingException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error retrieving executions of scheduled task with ID: {} - Error: {}", taskId, e.getMessage());
+            throw new DatabaseException("Failed to retrieve executions of scheduled task - Error: " + e.getMessage());
+        }
+    }
+
     /*
      * Helper method to schedule a Task
      */
     private void scheduleTask(ScheduledTask task) {
         // Cancel existing schedule if any existent
-        cancelTask(task.getId());
+        cancelScheduledRun(task.getId());
 
         Runnable taskRunnable = () -> {
             try {
-                executeTaskAndReschedule(task);
-                // Update next execution time
-                task.setNextExecutionTime(calculateNextExecutionTime(task.getFrequencyType(), task.getFrequencyValue()));
-                taskRepository.save(task);
+                trackRun(task, () -> executeTaskIfLeaseAcquired(task));
             } catch (Exception e) {
                 logger.error("Error executing scheduled task: {}", task.getId(), e);
-            } finally {
-                // Clean up the completed future task
-                scheduledTasks.remove(task.getId());
             }
         };
 
@@ -183,16 +402,89 @@ public class ScheduledTaskService implements IScheduledTaskService {
     }
 
     /*
-     * Helper method to execute a Task and schedule it
-     */
-    /**
-     * Execute task and reschedule for next execution
+     * Helper method to mark a Task as running until its run completes, so that the synchronization does not schedule it again
      */
-    private void executeTaskAndReschedule(ScheduledTask task) {
+    private CompletableFuture<Void> trackRun(ScheduledTask task, Supplier<CompletableFuture<Void>> run) {
+        CompletableFuture<Void> running = new CompletableFuture<>();
+        runningTasks.put(task.getId(), running);
         try {
-            // Execute the task
-            executeTask(task);
+            run.get().whenComplete((result, error) -> {
+                runningTasks.remove(task.getId(), running);
+                if (error != null)
+                    running.completeExceptionally(error);
+                else
+                    running.complete(null);
+            });
+        } catch (RuntimeException e) {
+            runningTasks.remove(task.getId(), running);
+            throw e;
+        }
+        return running;
+    }
+
+    /*
+     * Helper method to check whether a Task was cancelled, e.g. deleted, while its run was in progress
+     */
+    private boolean isCancelledDuringRun(ScheduledTask task) {
+        if (runningTasks.containsKey(task.getId()))
+            return false;
+
+        logger.debug("Task {} was cancelled during its run and is not rescheduled", task.getId());
+        return true;
+    }
 
+    /*
+     * Helper method to execute a Task only if this replica acquires its lease, otherwise follow the schedule of the owner
+     */
+    private CompletableFuture<Void> executeTaskIfLeaseAcquired(ScheduledTask task) {
+        if (leaseService.tryAcquireLease(task.getId(), calculateLeaseDuration(task)))
+            return executeTaskAndReschedule(task);
+
+        logger.debug("Task {} is executed by another scheduler instance", task.getId());
+        Optional<ScheduledTask> storedTask = taskRepository.findById(task.getId());
+        if (storedTask.isEmpty()) {
+            scheduledTasks.remove(task.getId());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // Keep the task scheduled so that it can be taken over if the owner fails
+        if (isCancelledDuringRun(task))
+            return CompletableFuture.completedFuture(null);
+        ScheduledTask ownerTask = storedTask.get();
+        if (ownerTask.getNextExecutionTime() == null || !ownerTask.getNextExecutionTime().isAfter(LocalDateTime.now()))
+            ownerTask.setNextExecutionTime(calculateNextExecutionTime(ownerTask.getFrequencyType(), ownerTask.getFrequencyValue()));
+        scheduleTask(ownerTask);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * Helper method to execute a Task in the pool of its smart-service type and reschedule it once completed
+     */
+    private CompletableFuture<Void> executeTaskAndReschedule(ScheduledTask task) {
+        logger.debug("Executing scheduled task: {} at {}", task.getId(), LocalDateTime.now());
+
+        return executorRegistry.submit(task).handle((result, error) -> {
+            if (error instanceof RejectedExecutionException) {
+                // The pool of the smart-service type is full - Retry later instead of queuing more runs
+                logger.warn("Task {} was rejected: {}", task.getId(), error.getMessage());
+                handleTaskExecutionError(task);
+            } else {
+                if (error != null)
+                    logger.error("Failed to execute task with ID: {}, for Service Type: {}", task.getId(), task.getSmartServiceType());
+                rescheduleTask(task);
+            }
+            return null;
+        });
+    }
+
+    /*
+     * Helper method to schedule the next execution of a Task
+     */
+    private void rescheduleTask(ScheduledTask task) {
+        if (isCancelledDuringRun(task))
+            return;
+
+        try {
             // Calculate and update next execution time
             LocalDateTime nextExecution = calculateNextExecutionTime(
                     task.getFrequencyType(),
@@ -200,14 +492,15 @@ public class ScheduledTaskService implements IScheduledTaskService {
             );
             task.setNextExecutionTime(nextExecution);
 
-            taskRepository.save(task);
+            // Persisted in bulk together with the other executed tasks
+            executionTimeWriter.enqueue(task.getId(), nextExecution);
 
             // Schedule next execution
             scheduleTask(task);
 
             logger.debug("Task {} completed and rescheduled for {}", task.getId(), nextExecution);
         } catch (Exception e) {
-            logger.error("Error executing scheduled task {}: {}", task.getId(), e.getMessage());
+            logger.error("Error rescheduling task {}: {}", task.getId(), e.getMessage());
             // On error retry after 5 minutes
             handleTaskExecutionError(task);
         }
@@ -217,11 +510,14 @@ public class ScheduledTaskService implements IScheduledTaskService {
      * Handle task execution errors with retry logic
      */
     private void handleTaskExecutionError(ScheduledTask task) {
+        if (isCancelledDuringRun(task))
+            return;
+
         try {
             // Schedule retry after 5 minutes
             LocalDateTime retryTime = LocalDateTime.now().plusMinutes(5);
             task.setNextExecutionTime(retryTime);
-            taskRepository.save(task);
+            executionTimeWriter.enqueue(task.getId(), retryTime);
             scheduleTask(task);
 
             logger.warn("Task {} failed, scheduled retry at {}", task.getId(), retryTime);
@@ -230,50 +526,20 @@ public class ScheduledTaskService implements IScheduledTaskService {
         }
     }
 
-    /*
-     * Helper method to execute a Task
-     */
-    private void executeTask(ScheduledTask task) {
-        try{
-            logger.debug("Executing scheduled task: {} at {}", task.getId(), LocalDateTime.now());
-
-            // Execute the scheduled task based on its type
-            if (THRESHOLD_BASED_SERVICE_TYPE.equals(task.getSmartServiceType())) {
-                executeThresholdBasedMaintenanceTask(task);
-            } else {
-                logger.warn("Unknown smart service type: {}", task.getSmartServiceType());
-            }
-        } catch (Exception e) {
-                logger.error("Failed to execute task with ID: {}, for Service Type: {}", task.getId(), task.getSmartServiceType());
-        }
+    private void cancelTask(String taskId) {
+        // A run in progress completes but does not reschedule the task
+        runningTasks.remove(taskId);
+        cancelScheduledRun(taskId);
     }
 
-    private void cancelTask(String taskId) {
-        ScheduledFuture<?> future = scheduledTasks.get(taskId);
+    private void cancelScheduledRun(String taskId) {
+        ScheduledFuture<?> future = scheduledTasks.remove(taskId);
         if (future != null && !future.isDone()) {
             boolean cancelled = future.cancel(false);
-            scheduledTasks.remove(taskId);
             logger.debug("Cancelled scheduled task {}: {}", taskId, cancelled ? "success" : "already completed");
         }
     }
 
-    /*
-     * Smart Service specific operations
-     */
-    private void executeThresholdBasedMaintenanceTask(ScheduledTask task) {
-        try {
-            logger.debug("Executing threshold-based maintenance task for module: {}", task.getModuleId());
-
-            SewThresholdBasedMaintenanceInputDataDto invocationData = task.getThresholdBasedData();
-            predictiveMaintenanceService.invokeThresholdBasedPredictiveMaintenance(invocationData);
-            invocationData.setEvents(null);
-
-            logger.debug("Successfully executed threshold-based maintenance task for module: {}", task.getModuleId());
-        } catch (Exception e) {
-            logger.error("Failed to execute threshold-based maintenance task for module: {} - Error: {}", task.getModuleId(), e.getMessage());
-        }
-    }
-
     /*
      * Helper methods to calculate next execution times
      */
@@ -287,6 +553,16 @@ public class ScheduledTaskService implements IScheduledTaskService {
         };
     }
 
+    /*
+     * Helper method to calculate the lease duration of a single execution as half of the task period,
+     * so that the lease has expired by the next execution and the task can move to another replica
+     */
+    private Duration calculateLeaseDuration(ScheduledTask task) {
+        if (task.getFrequencyType() == null || task.getFrequencyValue() == null)
+            return DEFAULT_LEASE_DURATION;
+        return Duration.ofMillis(calculateDelayInMillis(task.getFrequencyType(), task.getFrequencyValue()) / 2);
+    }
+
     private long calculateDelayInMillis(FrequencyType frequencyType, Integer frequencyValue) {
         return switch (frequencyType) {
             case FrequencyType.MINUTES -> frequencyValue * 60 * 1000L;
@@ -303,6 +579,9 @@ public class ScheduledTaskService implements IScheduledTaskService {
     public void shutdown() {
         logger.debug("Shutting down scheduler - cancelling {} active tasks", scheduledTasks.size());
 
+        if (synchronizationFuture != null)
+            synchronizationFuture.cancel(false);
+
         scheduledTasks.values().forEach(future -> {
             if (!future.isDone()) {
                 future.cancel(false);
@@ -312,4 +591,82 @@ public class ScheduledTaskService implements IScheduledTaskService {
         scheduledTasks.clear();
         logger.debug("Scheduler shutdown completed");
     }
-}
\ No newline at end of file
+
+    /*
+     * Catch-up run waiting for a recovery permit
+     */
+    private record CatchUpRun(ScheduledTask task, CompletableFuture<Void> completion) {
+    }
+
+    /*
+     * Progress of the start-up recovery of overdue tasks
+     */
+    private static final class RecoveryProgress {
+        private volatile String status = "NOT_STARTED";
+        private volatile MissedRunPolicy missedRunPolicy;
+        private volatile int totalTasks;
+        private volatile int overdueTasks;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private final AtomicInteger pendingRuns = new AtomicInteger();
+        private final AtomicInteger recoveredRuns = new AtomicInteger();
+        private final AtomicInteger skippedRuns = new AtomicInteger();
+        private final AtomicInteger failedRuns = new AtomicInteger();
+
+        synchronized void start(int totalTasks, int overdueTasks, MissedRunPolicy missedRunPolicy) {
+            this.totalTasks = totalTasks;
+            this.overdueTasks = overdueTasks;
+            this.missedRunPolicy = missedRunPolicy;
+            this.startedAt = LocalDateTime.now().withNano(0);
+            this.pendingRuns.set(overdueTasks);
+            this.status = "IN_PROGRESS";
+            if (overdueTasks == 0)
+                complete();
+        }
+
+        void recordRecovered() {
+            recoveredRuns.incrementAndGet();
+            completeIfDone();
+        }
+
+        void recordSkipped() {
+            skippedRuns.incrementAndGet();
+            completeIfDone();
+        }
+
+        void recordFailed() {
+            failedRuns.incrementAndGet();
+            completeIfDone();
+        }
+
+        synchronized void fail() {
+            status = "FAILED";
+            completedAt = LocalDateTime.now().withNano(0);
+        }
+
+        private void completeIfDone() {
+            if (pendingRuns.decrementAndGet() == 0)
+                complete();
+        }
+
+        private synchronized void complete() {
+            status = "COMPLETED";
+            completedAt = LocalDateTime.now().withNano(0);
+        }
+
+        ScheduledTaskRecoveryStatusDto toDto() {
+            return ScheduledTaskRecoveryStatusDto.builder()
+                    .status(status)
+                    .missedRunPolicy(missedRunPolicy)
+                    .totalTasks(totalTasks)
+                    .overdueTasks(overdueTasks)
+                    .pendingRuns(Math.max(pendingRuns.get(), 0))
+                    .recoveredRuns(recoveredRuns.get())
+                    .skippedRuns(skippedRuns.get())
+                    .failedRuns(failedRuns.get())
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.exception.CustomExceptions.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Cursor-based reading of large indices with 'search_after' over a point-in-time (PIT).
+ * Only one page of documents is kept in memory at a time, regardless of the size of the index.
+ * Documents are sorted by the given field and the implicit '_shard_doc' tiebreaker of the PIT.
+ * A PIT search is not bound to the index of the requested documents, so every cursor carries its index and is only accepted for it
+ */
+@Service
+public class SearchAfterPaginationService {
+
+    private final Logger logger = LoggerFactory.getLogger(SearchAfterPaginationService.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final Duration POINT_IN_TIME_KEEP_ALIVE = Duration.ofMinutes(2);
+    private static final String POINT_IN_TIME_KEY = "pit";
+    private static final String SEARCH_AFTER_KEY = "after";
+    private static final String INDEX_KEY = "index";
+    private static final String EXPIRED_CONTEXT_ERROR = "search_context_missing";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private final ObjectMapper objectMapper;
+
+    public SearchAfterPaginationService(ElasticsearchOperations elasticsearchOperations, ObjectMapper objectMapper) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Retrieve a single page of documents. Every page returns the cursor of the next one, over a PIT opened by the first page.
+     * Results fitting in a single page are returned without opening a PIT, at the cost of one extra search when they do not.
+     * The PIT is closed once the last page is returned or the first page fails, and expires if the next page is not requested in time
+     *
+     * @param entityClass : Class of the stored documents
+     * @param criteria : Filtering criteria, empty for all documents
+     * @param sort : Sort order of the documents
+     * @param cursor : Cursor returned by the previous page, null for the first page
+     * @param size : Number of documents per page
+     * @return CursorPaginatedResultsDto with the documents and the cursor of the next page
+     */
+    public <T> CursorPaginatedResultsDto<T> retrievePage(Class<T> entityClass, Criteria criteria, Sort sort, String cursor, int size) {
+        return retrievePage(entityClass, criteria, sort, null, cursor, size);
+    }
+
+    /**
+     * Retrieve a single page of documents, fetching only the fields selected by the source filter
+     *
+     * @param entityClass : Class of the stored documents
+     * @param criteria : Filtering criteria, empty for all documents
+     * @param sort : Sort order of the documents
+     * @param sourceFilter : Fields of the documents to fetch, all fields if null
+     * @param cursor : Cursor returned by the previous page, null for the first page
+     * @param size : Number of documents per page
+     * @return CursorPaginatedResultsDto with the documents and the cursor of the next page
+     */
+    public <T> CursorPaginatedResultsDto<T> retrievePage(Class<T> entityClass, Criteria criteria, Sort sort, SourceFilter sourceFilter, String cursor, int size) {
+        String pointInTimeId = null;
+        List<Object> searchAfter = null;
+        boolean firstPage = cursor == null || cursor.isBlank();
+        if (!firstPage) {
+            Map<String, Object> decodedCursor = decodeCursor(cursor);
+            // The PIT would otherwise return the documents of the index the cursor was issued for
+            if (!indexNameOf(entityClass).equals(decodedCursor.get(INDEX_KEY)))
+                throw new PaginationException("Cursor does not belong to the requested results");
+            pointInTimeId = (String) decodedCursor.get(POINT_IN_TIME_KEY);
+            searchAfter = castSearchAfter(decodedCursor.get(SEARCH_AFTER_KEY));
+        }
+
+        try {
+            if (firstPage) {
+                // Results fitting in a single page are served without a PIT, which is opened only when a next cursor is issued
+                List<SearchHit<T>> firstHits = search(entityClass, criteria, sort, sourceFilter, null, null, size + 1).getSearchHits();
+                if (firstHits.size() <= size)
+                    return new CursorPaginatedResultsDto<>(firstHits.stream().map(SearchHit::getContent).toList(), null, true);
+
+                pointInTimeId = openPointInTime(entityClass);
+            }
+
+            SearchHits<T> searchHits = search(entityClass, criteria, sort, sourceFilter, pointInTimeId, searchAfter, size);
+            List<SearchHit<T>> hits = searchHits.getSearchHits();
+            String nextPointInTimeId = searchHits.getPointInTimeId() != null ? searchHits.getPointInTimeId() : pointInTimeId;
+
+            boolean lastPage = hits.size() < size;
+            if (lastPage)
+                closePointInTime(nextPointInTimeId);
+
+            return new CursorPaginatedResultsDto<>(
+                    hits.stream().map(SearchHit::getContent).toList(),
+                    lastPage ? null : encodeCursor(indexNameOf(entityClass), nextPointInTimeId, hits.getLast().getSortValues()),
+                    lastPage);
+        } catch (RuntimeException e) {
+            if (firstPage && pointInTimeId != null)
+                closePointInTime(pointInTimeId);
+            if (e instanceof DatabaseException)
+                throw e;
+            if (isExpiredContext(e))
+                throw new PaginationException("Cursor has expired. Please restart the pagination from the first page");
+            logger.error("Unable to retrieve page of {} - Error: {}", entityClass.getSimpleName(), e.getMessage());
+            throw new DatabaseException("Unable to retrieve page of results - Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read all documents page by page over a single PIT, handing each page to the consumer before the next one is requested
+     *
+     * @param entityClass : Class of the stored documents
+     * @param criteria : Filtering criteria, empty for all documents
+     * @param sort : Sort order of the documents
+     * @param pageSize : Number of documents per page
+     * @param pageConsumer : Consumer of every page of documents
+     */
+    public <T> void streamAll(Class<T> entityClass, Criteria criteria, Sort sort, int pageSize, Consumer<List<T>> pageConsumer) {
+        streamAll(entityClass, criteria, sort, null, pageSize, pageConsumer);
+    }
+
+    /**
+     * Read all documents page by page over a single PIT, fetching only the fields selected by the source filter
+     *
+     * @param entityClass : Class of the stored documents
+     * @param criteria : Filtering criteria, empty for all documents
+     * @param sort : Sort order of the documents
+     * @param sourceFilter : Fields of the documents to fetch, all fields if null
+     * @param pageSize : Number of documents per page
+     * @param pageConsumer : Consumer of every page of documents
+     */
+    public <T> void streamAll(Class<T> entityClass, Criteria criteria, Sort sort, SourceFilter sourceFilter, int pageSize, Consumer<List<T>> pageConsumer) {
+        String pointInTimeId = openPointInTime(entityClass);
+        try {
+            List<Object> searchAfter = null;
+            List<SearchHit<T>> hits;
+            do {
+                SearchHits<T> searchHits = search(entityClass, criteria, sort, sourceFilter, pointInTimeId, searchAfter, pageSize);
+                if (searchHits.getPointInTimeId() != null)
+                    pointInTimeId = searchHits.getPointInTimeId();
+
+                hits = searchHits.getSearchHits();
+                if (!hits.isEmpty()) {
+                    pageConsumer.accept(hits.stream().map(SearchHit::getContent).toList());
+                    searchAfter = hits.getLast().getSortValues();
+                }
+            } while (hits.size() == pageSize);
+        } finally {
+            closePointInTime(pointInTimeId);
+        }
+    }
+
+    /*
+     * Helper method to search a page of documents after the given sort values, directly on the index if no PIT is given
+     */
+    private <T> SearchHits<T> search(Class<T> entityClass, Criteria criteria, Sort sort, SourceFilter sourceFilter, String pointInTimeId, List<Object> searchAfter, int size) {
+        CriteriaQueryBuilder queryBuilder = CriteriaQuery.builder(criteria)
+                .withSort(sort)
+                .withMaxResults(size);
+        if (pointInTimeId != null)
+            queryBuilder.withPointInTime(new Query.PointInTime(pointInTimeId, POINT_IN_TIME_KEEP_ALIVE));
+        if (searchAfter != null)
+            queryBuilder.withSearchAfter(searchAfter);
+        if (sourceFilter != null)
+            queryBuilder.withSourceFilter(sourceFilter);
+
+        return elasticsearchOperations.search(queryBuilder.build(), entityClass);
+    }
+
+    /*
+     * Helper method to open a PIT on the index of the documents
+     */
+    private String openPointInTime(Class<?> entityClass) {
+        try {
+            return elasticsearchOperations.openPointInTime(elasticsearchOperations.getIndexCoordinatesFor(entityClass), POINT_IN_TIME_KEEP_ALIVE);
+        } catch (RuntimeException e) {
+            logger.error("Unable to open point-in-time for {} - Error: {}", entityClass.getSimpleName(), e.getMessage());
+            throw new DatabaseException("Unable to open point-in-time - Error: " + e.getMessage());
+        }
+    }
+
+    /*
+     * Helper method to release a PIT, an already expired PIT is ignored
+     */
+    private void closePointInTime(String pointInTimeId) {
+        try {
+            elasticsearchOperations.closePointInTime(pointInTimeId);
+        } catch (RuntimeException e) {
+            logger.debug("Unable to close point-in-time - Error: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * Helper method to retrieve the name of the index of the documents
+     */
+    private String indexNameOf(Class<?> entityClass) {
+        return elasticsearchOperations.getIndexCoordinatesFor(entityClass).getIndexName();
+    }
+
+    /*
+     * Helper method to encode the index, the PIT and the sort values of the last document as an opaque URL-safe cursor
+     */
+    private String encodeCursor(String indexName, String pointInTimeId, List<Object> searchAfter) {
+        try {
+            byte[] cursor = objectMapper.writeValueAsBytes(Map.of(INDEX_KEY, indexName, POINT_IN_TIME_KEY, pointInTimeId, SEARCH_AFTER_KEY, searchAfter));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor);
+        } catch (Exception e) {
+            throw new DatabaseException("Unable to encode the cursor of the next page - Error: " + e.getMessage());
+        }
+    }
+
+    /*
+     * Helper method to decode a cursor
+     */
+    private Map<String, Object> decodeCursor(String cursor) {
+        try {
+            Map<String, Object> decodedCursor = objectMapper.readValue(
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), new TypeReference<>() {});
+            if (!(decodedCursor.get(INDEX_KEY) instanceof String) || !(decodedCursor.get(POINT_IN_TIME_KEY) instanceof String)
+                    || !(decodedCursor.get(SEARCH_AFTER_KEY) instanceof List<?>))
+                throw new IllegalArgumentException("Missing cursor attributes");
+            return decodedCursor;
+        } catch (Exception e) {
+            throw new PaginationException("Invalid cursor was given");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> castSearchAfter(Object searchAfter) {
+        return (List<Object>) searchAfter;
+    }
+
+    /*
+     * Helper method to check whether a search failed because its PIT has expired
+     */
+    private boolean isExpiredContext(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(EXPIRED_CONTEXT_ERROR))
+                return true;
+        }
+        return false;
+    }
+}
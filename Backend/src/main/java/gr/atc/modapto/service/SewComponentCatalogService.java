@@ -0,0 +1,134 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.ComponentCatalogProperties;
+import gr.atc.modapto.dto.sew.SewComponentInfoDto;
+import gr.atc.modapto.model.sew.SewComponentInfo;
+import gr.atc.modapto.repository.SewComponentInfoRepository;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a pre-mapped snapshot of the SEW Components List indexed by Module ID.
+ * The snapshot is loaded lazily on first use, replaced whenever the Components List is stored and loaded again once older
+ * than 'max-age', which bounds staleness for Components Lists stored by another instance.
+ * The returned lists are unmodifiable, but the components are mutable DTOs shared between callers and must be copied before any change
+ */
+@Service
+public class SewComponentCatalogService {
+
+    private final Logger logger = LoggerFactory.getLogger(SewComponentCatalogService.class);
+
+    private final SewComponentInfoRepository componentInfoRepository;
+
+    private final ModelMapper modelMapper;
+
+    private final ComponentCatalogProperties catalogProperties;
+
+    private final AtomicReference<ComponentCatalogSnapshot> snapshot = new AtomicReference<>();
+
+    public SewComponentCatalogService(SewComponentInfoRepository componentInfoRepository, ModelMapper modelMapper,
+                                      ComponentCatalogProperties catalogProperties) {
+        this.componentInfoRepository = componentInfoRepository;
+        this.modelMapper = modelMapper;
+        this.catalogProperties = catalogProperties;
+    }
+
+    /**
+     * Retrieve all Components of the catalog
+     *
+     * @return List<SewComponentInfoDto>
+     */
+    public List<SewComponentInfoDto> retrieveAllComponents() {
+        return currentSnapshot().components();
+    }
+
+    /**
+     * Retrieve the Components of a specific Module ID
+     *
+     * @param moduleId : Module ID
+     * @return List<SewComponentInfoDto>
+     */
+    public List<SewComponentInfoDto> retrieveComponentsByModuleId(String moduleId) {
+        return currentSnapshot().componentsByModuleId().getOrDefault(moduleId, List.of());
+    }
+
+    /**
+     * Replace the catalog with a new snapshot built from the given Components
+     *
+     * @param components : Stored Components
+     */
+    public void rebuildCatalog(List<SewComponentInfo> components) {
+        ComponentCatalogSnapshot rebuilt = buildSnapshot(components);
+        // Set under the lock of the lazy load, so that a load in progress cannot overwrite it with older data
+        synchronized (snapshot) {
+            snapshot.set(rebuilt);
+        }
+        logger.debug("Component catalog rebuilt with {} components", components.size());
+    }
+
+    /**
+     * Drop the current snapshot so that the next lookup reloads it from the repository
+     */
+    public void invalidateCatalog() {
+        snapshot.set(null);
+    }
+
+    /*
+     * Helper method to retrieve the current snapshot or load it on first use and once expired
+     */
+    private ComponentCatalogSnapshot currentSnapshot() {
+        ComponentCatalogSnapshot current = snapshot.get();
+        if (current != null && !isExpired(current))
+            return current;
+
+        synchronized (snapshot) {
+            current = snapshot.get();
+            if (current == null || isExpired(current)) {
+                current = buildSnapshot(componentInfoRepository.findAll(Pageable.unpaged()).getContent());
+                snapshot.set(current);
+                logger.debug("Component catalog loaded with {} components", current.components().size());
+            }
+            return current;
+        }
+    }
+
+    /*
+     * Helper method to map the Components once and index them
+     */
+    private ComponentCatalogSnapshot buildSnapshot(List<SewComponentInfo> components) {
+        List<SewComponentInfoDto> mappedComponents = components.stream()
+                .map(component -> modelMapper.map(component, SewComponentInfoDto.class))
+                .toList();
+
+        return new ComponentCatalogSnapshot(
+                mappedComponents,
+                indexBy(mappedComponents, SewComponentInfoDto::getModuleId),
+                System.nanoTime());
+    }
+
+    private boolean isExpired(ComponentCatalogSnapshot current) {
+        return System.nanoTime() - current.loadedAtNanos() > catalogProperties.maxAge().toNanos();
+    }
+
+    private static Map<String, List<SewComponentInfoDto>> indexBy(List<SewComponentInfoDto> components, Function<SewComponentInfoDto, String> attribute) {
+        return components.stream()
+                .filter(component -> attribute.apply(component) != null)
+                .collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(attribute, Collectors.toUnmodifiableList()),
+                        Map::copyOf));
+    }
+
+    private record ComponentCatalogSnapshot(List<SewComponentInfoDto> components,
+                                            Map<String, List<SewComponentInfoDto>> componentsByModuleId,
+                                            long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,166 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.dto.serviceInvocations.SewLocalAnalyticsInputDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewHistogramDto;
+import gr.atc.modapto.enums.HistogramBinStrategy;
+import gr.atc.modapto.exception.CustomExceptions.ResourceNotFoundException;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.util.HistogramBinning;
+import gr.atc.modapto.util.HistogramImageRenderer;
+import gr.atc.modapto.util.KpiSeriesCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * In-process Histogram engine of SEW Local Analytics. The KPI values selected by the parameters of the two compared modules
+ * are binned over common edges directly from primitive arrays, without a round-trip to the DTM Local Analytics service
+ */
+@Service
+public class SewHistogramService {
+
+    private final Logger logger = LoggerFactory.getLogger(SewHistogramService.class);
+
+    private static final Sort SERIES_SORT = Sort.by(Sort.Direction.ASC, "timestamp");
+
+    private final SearchAfterPaginationService paginationService;
+
+    private final SewLocalAnalyticsQueryService localAnalyticsQueryService;
+
+    public SewHistogramService(SearchAfterPaginationService paginationService, SewLocalAnalyticsQueryService localAnalyticsQueryService) {
+        this.paginationService = paginationService;
+        this.localAnalyticsQueryService = localAnalyticsQueryService;
+    }
+
+    /**
+     * Compute the bin edges, counts and summary statistics of the compared modules
+     *
+     * @param input : Parameters of the compared modules and bin options
+     * @return SewHistogramDto
+     */
+    public SewHistogramDto computeHistogram(SewLocalAnalyticsInputDto input) {
+        ComputedHistogram histogram = compute(input);
+
+        return SewHistogramDto.builder()
+                .binStrategy(histogram.strategy().toString())
+                .binEdges(Arrays.stream(histogram.edges()).boxed().toList())
+                .firstSeries(toSeriesDto(input.getFirstParameters(), histogram.firstData(), histogram.firstCounts()))
+                .secondSeries(histogram.secondData() != null ? toSeriesDto(input.getSecondParameters(), histogram.secondData(), histogram.secondCounts()) : null)
+                .build();
+    }
+
+    /**
+     * Render the Histogram of the compared modules as a Base64 encoded PNG, the same contract as the DTM Local Analytics service
+     *
+     * @param input : Parameters of the compared modules and bin options
+     * @return Base64 encoded PNG image
+     */
+    public String renderHistogram(SewLocalAnalyticsInputDto input) {
+        ComputedHistogram histogram = compute(input);
+
+        byte[] image = HistogramImageRenderer.renderPng(histogram.edges(), histogram.firstCounts(), histogram.secondCounts(),
+                describe(input.getFirstParameters()), histogram.secondData() != null ? describe(input.getSecondParameters()) : null);
+        return Base64.getEncoder().encodeToString(image);
+    }
+
+    private record ComputedHistogram(HistogramBinStrategy strategy, double[] edges,
+                                     double[] firstData, long[] firstCounts,
+                                     double[] secondData, long[] secondCounts) {}
+
+    /*
+     * Helper method to load the selected series and bin them over common edges
+     */
+    private ComputedHistogram compute(SewLocalAnalyticsInputDto input) {
+        double[] firstData = loadSeries(input.getFirstParameters());
+        double[] secondData = input.getSecondParameters() != null ? loadSeries(input.getSecondParameters()) : null;
+        if (firstData.length == 0 && (secondData == null || secondData.length == 0))
+            throw new ResourceNotFoundException("No SEW Self-Awareness Monitoring KPIs values found for the given parameters");
+
+        HistogramBinStrategy strategy = input.getBinStrategy() != null ? input.getBinStrategy() : HistogramBinStrategy.FIXED_WIDTH;
+        double[][] series = secondData != null ? new double[][]{firstData, secondData} : new double[][]{firstData};
+        double[] edges = HistogramBinning.binEdges(series, strategy, input.getBins(), input.getBinWidth());
+
+        logger.debug("Computed Histogram of {} bins over {} and {} values", edges.length - 1, firstData.length, secondData != null ? secondData.length : 0);
+        return new ComputedHistogram(strategy, edges,
+                firstData, HistogramBinning.counts(firstData, edges),
+                secondData, secondData != null ? HistogramBinning.counts(secondData, edges) : null);
+    }
+
+    /*
+     * Helper method to collect the values of all results matching the parameters into a primitive array, page by page
+     */
+    private double[] loadSeries(SewFilteringOptionsDto.Options parameters) {
+        SeriesBuffer buffer = new SeriesBuffer();
+        paginationService.streamAll(SewSelfAwarenessMonitoringKpisResults.class, localAnalyticsQueryService.createHistogramCriteria(parameters, null),
+                SERIES_SORT, SearchAfterPaginationService.DEFAULT_PAGE_SIZE, page -> page.forEach(result -> buffer.addAll(KpiSeriesCodec.values(result))));
+        return buffer.toArray();
+    }
+
+    /*
+     * Growable primitive buffer, stored values are unboxed once while the pages are read
+     */
+    private static final class SeriesBuffer {
+        private double[] values = new double[1024];
+        private int size;
+
+        void addAll(double[] data) {
+            if (size + data.length > values.length)
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + data.length));
+            System.arraycopy(data, 0, values, size, data.length);
+            size += data.length;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /*
+     * Helper method to convert a binned series to DTO, NaN statistics of empty series are omitted
+     */
+    private SewHistogramDto.Series toSeriesDto(SewFilteringOptionsDto.Options parameters, double[] data, long[] counts) {
+        HistogramBinning.Statistics statistics = HistogramBinning.statistics(data);
+        List<Long> countList = new ArrayList<>(counts.length);
+        for (long count : counts)
+            countList.add(count);
+
+        return SewHistogramDto.Series.builder()
+                .parameters(parameters)
+                .counts(countList)
+                .statistics(SewHistogramDto.Statistics.builder()
+                        .count(statistics.count())
+                        .min(finiteOrNull(statistics.min()))
+                        .max(finiteOrNull(statistics.max()))
+                        .mean(finiteOrNull(statistics.mean()))
+                        .standardDeviation(finiteOrNull(statistics.standardDeviation()))
+                        .firstQuartile(finiteOrNull(statistics.firstQuartile()))
+                        .median(finiteOrNull(statistics.median()))
+                        .thirdQuartile(finiteOrNull(statistics.thirdQuartile()))
+                        .build())
+                .build();
+    }
+
+    private Double finiteOrNull(double value) {
+        return Double.isFinite(value) ? value : null;
+    }
+
+    /*
+     * Helper method to describe a set of parameters in the legend of the image
+     */
+    private String describe(SewFilteringOptionsDto.Options parameters) {
+        StringJoiner description = new StringJoiner(" / ");
+        for (String value : Arrays.asList(parameters.getModule(), parameters.getComponent(), parameters.getVariable())) {
+            if (value != null && !value.isBlank())
+                description.add(value);
+        }
+        return description.length() > 0 ? description.toString() : "All";
+    }
+}
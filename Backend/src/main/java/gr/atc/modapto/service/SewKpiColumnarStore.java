@@ -0,0 +1,418 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.KpiStoreProperties;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiQueryResultDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiStoreStatusDto;
+import gr.atc.modapto.dto.sew.SewKpiQueryDto;
+import gr.atc.modapto.enums.KpiDimension;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.util.ColumnarSeries;
+import gr.atc.modapto.util.HistogramBinning;
+import gr.atc.modapto.util.KeywordDictionary;
+import gr.atc.modapto.util.KpiSeriesCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory columnar store of the SEW Self-Awareness Monitoring KPIs.
+ * Every (moduleId, component, variable, bucket) series keeps its values in primitive segments and its keyword dimensions
+ * are dictionary encoded, so range statistics, percentiles, filters and group-by queries are answered without
+ * reading or unboxing the stored results. The store is loaded at startup and new results are appended periodically.
+ * The points of a result are spread evenly between its starting and ending date, or share the result timestamp if those are missing.
+ * Every refresh re-reads an overlap window before the latest appended result, so results indexed late with an older
+ * timestamp are still appended at the end of their series, with their points kept in ascending order.
+ * <p>
+ * Memory is bounded by the maximum number of values, each taking 16 bytes plus ~300 bytes per series,
+ * and the oldest segments across all series are evicted beyond it
+ */
+@Service
+public class SewKpiColumnarStore {
+
+    private final Logger logger = LoggerFactory.getLogger(SewKpiColumnarStore.class);
+
+    private static final Sort LOAD_SORT = Sort.by(Sort.Direction.ASC, "timestamp");
+
+    private final SearchAfterPaginationService paginationService;
+
+    private final TaskScheduler taskScheduler;
+
+    private final KpiStoreProperties storeProperties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<KpiDimension, KeywordDictionary> dictionaries = new EnumMap<>(KpiDimension.class);
+
+    private final Map<SeriesKey, ColumnarSeries> series = new HashMap<>();
+
+    // Results appended within the overlap window are remembered to skip them when the next refresh reads the window again
+    private final Map<String, LocalDateTime> recentResultIds = new HashMap<>();
+
+    private LocalDateTime watermark;
+
+    private long valueCount;
+
+    public SewKpiColumnarStore(SearchAfterPaginationService paginationService,
+                               @Qualifier("housekeepingTaskScheduler") TaskScheduler taskScheduler,
+                               KpiStoreProperties storeProperties) {
+        this.paginationService = paginationService;
+        this.taskScheduler = taskScheduler;
+        this.storeProperties = storeProperties;
+        for (KpiDimension dimension : KpiDimension.values())
+            dictionaries.put(dimension, new KeywordDictionary());
+    }
+
+    private record SeriesKey(int moduleId, int component, int variable, int bucket) {
+        int code(KpiDimension dimension) {
+            return switch (dimension) {
+                case MODULE_ID -> moduleId;
+                case COMPONENT -> component;
+                case VARIABLE -> variable;
+                case BUCKET -> bucket;
+            };
+        }
+    }
+
+    /*
+     * Load the stored results and start the periodic refresh
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPeriodicRefresh() {
+        if (storeProperties.enabled())
+            taskScheduler.scheduleWithFixedDelay(this::refresh, storeProperties.refreshInterval());
+    }
+
+    /**
+     * Check whether the in-memory store is enabled
+     *
+     * @return True if the store is enabled, False otherwise
+     */
+    public boolean isEnabled() {
+        return storeProperties.enabled();
+    }
+
+    /**
+     * Append the results stored after the start of the overlap window before the latest appended one, page by page
+     * in ascending timestamp order. The first refresh loads all stored results
+     */
+    public void refresh() {
+        LocalDateTime latest = readWatermark();
+        Criteria criteria = latest != null ? new Criteria("timestamp").greaterThanEqual(latest.minus(storeProperties.refreshOverlap())) : new Criteria();
+        try {
+            paginationService.streamAll(SewSelfAwarenessMonitoringKpisResults.class, criteria, LOAD_SORT,
+                    SearchAfterPaginationService.MAX_PAGE_SIZE, this::appendAll);
+        } catch (RuntimeException e) {
+            logger.warn("Unable to refresh the in-memory KPI store - Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Append results to their series. Results already appended or older than the overlap window are ignored
+     *
+     * @param results : Results in ascending timestamp order
+     */
+    public void appendAll(Collection<SewSelfAwarenessMonitoringKpisResults> results) {
+        lock.writeLock().lock();
+        try {
+            for (SewSelfAwarenessMonitoringKpisResults result : results)
+                append(result);
+            if (watermark != null) {
+                LocalDateTime windowStart = watermark.minus(storeProperties.refreshOverlap());
+                recentResultIds.values().removeIf(timestamp -> timestamp.isBefore(windowStart));
+            }
+            evictOverflow();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Run a range statistics query over the matching series
+     *
+     * @param query : Filters, time range, grouping dimensions and percentiles
+     * @return SewKpiQueryResultDto with the statistics of every group
+     */
+    public SewKpiQueryResultDto query(SewKpiQueryDto query) {
+        long startTime = System.nanoTime();
+        List<KpiDimension> groupBy = query.getGroupBy() != null ? query.getGroupBy().stream().distinct().toList() : List.of();
+        List<Double> percentiles = query.getPercentiles() != null ? query.getPercentiles() : List.of();
+        long from = query.getFrom() != null ? toEpochMillis(query.getFrom()) : Long.MIN_VALUE;
+        long to = query.getTo() != null ? toEpochMillis(query.getTo()) : Long.MAX_VALUE;
+
+        Map<List<Integer>, GroupAccumulator> groups = new LinkedHashMap<>();
+        int seriesScanned = 0;
+        long valuesScanned = 0;
+
+        lock.readLock().lock();
+        try {
+            Map<KpiDimension, Set<Integer>> filters = resolveFilters(query);
+            for (Map.Entry<SeriesKey, ColumnarSeries> entry : series.entrySet()) {
+                if (!matches(entry.getKey(), filters))
+                    continue;
+
+                ColumnarSeries values = entry.getValue();
+                int start = values.lowerBound(from);
+                int end = to == Long.MAX_VALUE ? values.size() : values.lowerBound(to + 1);
+                if (start >= end)
+                    continue;
+
+                List<Integer> groupKey = new ArrayList<>(groupBy.size());
+                for (KpiDimension dimension : groupBy)
+                    groupKey.add(entry.getKey().code(dimension));
+                GroupAccumulator accumulator = groups.computeIfAbsent(groupKey, key -> new GroupAccumulator(!percentiles.isEmpty()));
+                values.forEachValue(start, end, accumulator::accept);
+
+                seriesScanned++;
+                valuesScanned += end - start;
+            }
+
+            List<SewKpiQueryResultDto.Group> groupResults = new ArrayList<>(groups.size());
+            groups.forEach((groupKey, accumulator) -> groupResults.add(accumulator.toGroup(decodeGroupKey(groupBy, groupKey), percentiles)));
+            return SewKpiQueryResultDto.builder()
+                    .groups(groupResults)
+                    .seriesScanned(seriesScanned)
+                    .valuesScanned(valuesScanned)
+                    .tookMicros((System.nanoTime() - startTime) / 1_000)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieve the size and memory footprint of the store
+     *
+     * @return SewKpiStoreStatusDto
+     */
+    public SewKpiStoreStatusDto getStatus() {
+        lock.readLock().lock();
+        try {
+            long estimatedBytes = 0;
+            for (ColumnarSeries values : series.values())
+                estimatedBytes += values.estimatedBytes();
+
+            return SewKpiStoreStatusDto.builder()
+                    .enabled(storeProperties.enabled())
+                    .seriesCount(series.size())
+                    .valueCount(valueCount)
+                    .maxValues(storeProperties.maxValues())
+                    .estimatedBytes(estimatedBytes)
+                    .latestResult(watermark)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Helper method to append the values of a single result, the caller holds the write lock
+     */
+    private void append(SewSelfAwarenessMonitoringKpisResults result) {
+        if (result.getTimestamp() == null)
+            return;
+        if (watermark != null && result.getTimestamp().isBefore(watermark.minus(storeProperties.refreshOverlap())))
+            return;
+        if (recentResultIds.putIfAbsent(result.getId(), result.getTimestamp()) != null)
+            return;
+        if (watermark == null || result.getTimestamp().isAfter(watermark))
+            watermark = result.getTimestamp();
+
+        double[] data;
+        try {
+            data = KpiSeriesCodec.values(result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping result {} with an invalid encoded series - Error: {}", result.getId(), e.getMessage());
+            return;
+        }
+        if (data.length == 0)
+            return;
+
+        SeriesKey key = new SeriesKey(
+                dictionaries.get(KpiDimension.MODULE_ID).encode(result.getModuleId()),
+                dictionaries.get(KpiDimension.COMPONENT).encode(result.getComponent()),
+                dictionaries.get(KpiDimension.VARIABLE).encode(result.getVariable()),
+                dictionaries.get(KpiDimension.BUCKET).encode(result.getBucket()));
+        ColumnarSeries values = series.computeIfAbsent(key, k -> new ColumnarSeries(storeProperties.segmentSize()));
+
+        Long startingDate = parseEpochMillis(result.getStartingDate());
+        Long endingDate = parseEpochMillis(result.getEndingDate());
+        boolean spread = startingDate != null && endingDate != null && endingDate >= startingDate && data.length > 1;
+        long resultTimestamp = toEpochMillis(result.getTimestamp());
+        double step = spread ? (double) (endingDate - startingDate) / (data.length - 1) : 0;
+        // Points older than the end of the series, e.g. of late or overlapping results, are inserted at their own timestamp
+        for (int i = 0; i < data.length; i++) {
+            long timestamp = spread ? startingDate + Math.round(i * step) : resultTimestamp;
+            values.insert(timestamp, data[i]);
+            valueCount++;
+        }
+    }
+
+    /*
+     * Helper method to parse the starting or ending date of a result, with or without an offset. Unparsable dates are ignored
+     */
+    private static Long parseEpochMillis(String date) {
+        if (date == null || date.isBlank())
+            return null;
+
+        String isoDate = date.trim().replace(' ', 'T');
+        try {
+            return OffsetDateTime.parse(isoDate).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            try {
+                return toEpochMillis(LocalDateTime.parse(isoDate));
+            } catch (DateTimeParseException ex) {
+                return null;
+            }
+        }
+    }
+
+    /*
+     * Helper method to evict the oldest segment across all series until the store fits its bound, the caller holds the write lock
+     */
+    private void evictOverflow() {
+        while (valueCount > storeProperties.maxValues()) {
+            Map.Entry<SeriesKey, ColumnarSeries> oldest = null;
+            for (Map.Entry<SeriesKey, ColumnarSeries> entry : series.entrySet()) {
+                if (oldest == null || entry.getValue().firstTimestamp() < oldest.getValue().firstTimestamp())
+                    oldest = entry;
+            }
+            if (oldest == null)
+                return;
+
+            valueCount -= oldest.getValue().evictOldestSegment();
+            if (oldest.getValue().isEmpty())
+                series.remove(oldest.getKey());
+        }
+    }
+
+    private LocalDateTime readWatermark() {
+        lock.readLock().lock();
+        try {
+            return watermark;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * Helper method to encode the filters of the query. Unknown values match no series
+     */
+    private Map<KpiDimension, Set<Integer>> resolveFilters(SewKpiQueryDto query) {
+        Map<KpiDimension, Set<Integer>> filters = new EnumMap<>(KpiDimension.class);
+        addFilter(filters, KpiDimension.MODULE_ID, query.getModuleIds());
+        addFilter(filters, KpiDimension.COMPONENT, query.getComponents());
+        addFilter(filters, KpiDimension.VARIABLE, query.getVariables());
+        addFilter(filters, KpiDimension.BUCKET, query.getBuckets());
+        return filters;
+    }
+
+    private void addFilter(Map<KpiDimension, Set<Integer>> filters, KpiDimension dimension, List<String> values) {
+        if (values == null || values.isEmpty())
+            return;
+
+        Set<Integer> codes = new HashSet<>();
+        for (String value : values) {
+            int code = dictionaries.get(dimension).codeOf(value);
+            if (code != KeywordDictionary.NULL_CODE)
+                codes.add(code);
+        }
+        filters.put(dimension, codes);
+    }
+
+    private boolean matches(SeriesKey key, Map<KpiDimension, Set<Integer>> filters) {
+        for (Map.Entry<KpiDimension, Set<Integer>> filter : filters.entrySet()) {
+            if (!filter.getValue().contains(key.code(filter.getKey())))
+                return false;
+        }
+        return true;
+    }
+
+    private Map<String, String> decodeGroupKey(List<KpiDimension> groupBy, List<Integer> groupKey) {
+        Map<String, String> key = new LinkedHashMap<>();
+        for (int i = 0; i < groupBy.size(); i++)
+            key.put(groupBy.get(i).toString(), dictionaries.get(groupBy.get(i)).decode(groupKey.get(i)));
+        return key;
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /*
+     * Streaming statistics of a group. NaN values are ignored and values are only kept when percentiles are requested
+     */
+    private static final class GroupAccumulator {
+        private long count;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private double mean;
+        private double squaredDifferences;
+        private double[] values;
+
+        GroupAccumulator(boolean keepValues) {
+            this.values = keepValues ? new double[256] : null;
+        }
+
+        void accept(double value) {
+            if (Double.isNaN(value))
+                return;
+
+            if (values != null) {
+                if (count == values.length)
+                    values = Arrays.copyOf(values, values.length * 2);
+                values[(int) count] = value;
+            }
+
+            // Welford's algorithm for a numerically stable variance
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            squaredDifferences += delta * (value - mean);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        SewKpiQueryResultDto.Group toGroup(Map<String, String> key, List<Double> percentiles) {
+            SewKpiQueryResultDto.Group.GroupBuilder group = SewKpiQueryResultDto.Group.builder()
+                    .key(key)
+                    .count(count);
+            if (count == 0)
+                return group.build();
+
+            group.min(min).max(max).mean(mean).standardDeviation(count > 1 ? Math.sqrt(squaredDifferences / (count - 1)) : 0);
+            if (values != null) {
+                double[] sorted = Arrays.copyOf(values, (int) count);
+                Arrays.sort(sorted);
+                Map<String, Double> percentileValues = new LinkedHashMap<>();
+                for (Double percentile : percentiles)
+                    percentileValues.put("p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                            HistogramBinning.quantile(sorted, percentile / 100));
+                group.percentiles(percentileValues);
+            }
+            return group.build();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.KpiSeriesMigrationProperties;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.repository.SewSelfAwarenessMonitoringKpisResultsRepository;
+import gr.atc.modapto.util.KpiSeriesCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Migration of the stored SEW Self-Awareness Monitoring KPIs results from the 'data' double array to the
+ * Gorilla-compressed binary 'encodedData' field, which is neither indexed nor kept as doc values.
+ * Only results still holding a 'data' array are read, so the migration can be repeated safely
+ */
+@Service
+public class SewKpiSeriesMigrationService {
+
+    private final Logger logger = LoggerFactory.getLogger(SewKpiSeriesMigrationService.class);
+
+    private static final Sort MIGRATION_SORT = Sort.by(Sort.Direction.ASC, "timestamp");
+
+    private final SearchAfterPaginationService paginationService;
+
+    private final SewSelfAwarenessMonitoringKpisResultsRepository resultsRepository;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private final TaskScheduler taskScheduler;
+
+    private final KpiSeriesMigrationProperties migrationProperties;
+
+    public SewKpiSeriesMigrationService(SearchAfterPaginationService paginationService,
+                                        SewSelfAwarenessMonitoringKpisResultsRepository resultsRepository,
+                                        ElasticsearchOperations elasticsearchOperations,
+                                        @Qualifier("housekeepingTaskScheduler") TaskScheduler taskScheduler,
+                                        KpiSeriesMigrationProperties migrationProperties) {
+        this.paginationService = paginationService;
+        this.resultsRepository = resultsRepository;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.taskScheduler = taskScheduler;
+        this.migrationProperties = migrationProperties;
+    }
+
+    /**
+     * Outcome of a migration
+     *
+     * @param migratedResults : Number of rewritten results
+     * @param migratedValues : Number of values of the rewritten results
+     * @param encodedBytes : Size of the compressed series of the rewritten results
+     */
+    public record MigrationSummary(long migratedResults, long migratedValues, long encodedBytes) {}
+
+    /*
+     * Run the migration in the background once the application has started, if enabled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleMigration() {
+        if (Boolean.TRUE.equals(migrationProperties.enabled()))
+            taskScheduler.schedule(this::migrateSafely, Instant.now());
+    }
+
+    /**
+     * Rewrite every stored result that still holds a 'data' array with its compressed series, page by page.
+     * The mapping of the compressed field is added to the existing index first, so that it is not dynamically mapped as text
+     *
+     * @return MigrationSummary
+     */
+    public MigrationSummary migrate() {
+        IndexOperations indexOperations = elasticsearchOperations.indexOps(SewSelfAwarenessMonitoringKpisResults.class);
+        if (!indexOperations.exists())
+            return new MigrationSummary(0, 0, 0);
+        indexOperations.putMapping();
+
+        long[] totals = new long[3];
+        paginationService.streamAll(SewSelfAwarenessMonitoringKpisResults.class, Criteria.where("data").exists(), MIGRATION_SORT,
+                migrationProperties.pageSize(), page -> migratePage(page, totals));
+
+        MigrationSummary summary = new MigrationSummary(totals[0], totals[1], totals[2]);
+        logger.info("Compressed {} Monitoring KPIs series with {} values into {} bytes", summary.migratedResults(), summary.migratedValues(), summary.encodedBytes());
+        return summary;
+    }
+
+    /*
+     * Helper method to log a failed migration, the results of the pages already written stay compressed
+     */
+    private void migrateSafely() {
+        try {
+            migrate();
+        } catch (RuntimeException e) {
+            logger.error("Unable to compress the stored Monitoring KPIs series - Error: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * Helper method to compress a page of results and re-index them with a single bulk request
+     */
+    private void migratePage(List<SewSelfAwarenessMonitoringKpisResults> page, long[] totals) {
+        List<SewSelfAwarenessMonitoringKpisResults> compressed = new ArrayList<>(page.size());
+        for (SewSelfAwarenessMonitoringKpisResults result : page) {
+            int values = result.getData() != null ? result.getData().size() : 0;
+            if (!KpiSeriesCodec.compress(result))
+                continue;
+            compressed.add(result);
+            totals[1] += values;
+            // Base64 holds 3 bytes in every 4 characters
+            totals[2] += result.getEncodedData().length() / 4L * 3;
+        }
+
+        if (compressed.isEmpty())
+            return;
+        resultsRepository.saveAll(compressed);
+        totals[0] += compressed.size();
+    }
+}
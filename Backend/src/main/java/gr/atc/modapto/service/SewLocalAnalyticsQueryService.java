@@ -0,0 +1,179 @@
+package gr.atc.modapto.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeAggregationSource;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.MaxAggregate;
+import gr.atc.modapto.config.properties.LocalAnalyticsProperties;
+import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queries of the SEW Local Analytics process that are answered directly by Elasticsearch over the
+ * 'sew-self-awareness-monitoring-kpis' index, without transferring the stored KPI series
+ */
+@Service
+public class SewLocalAnalyticsQueryService {
+
+    private final Logger logger = LoggerFactory.getLogger(SewLocalAnalyticsQueryService.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String FILTERING_OPTIONS_AGGREGATION = "filtering_options";
+
+    private static final String LATEST_RESULT_AGGREGATION = "latest_result";
+
+    private static final List<String> FILTERING_OPTION_FIELDS = List.of("cell", "module", "subElement", "component", "variable");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private final LocalAnalyticsProperties localAnalyticsProperties;
+
+    public SewLocalAnalyticsQueryService(ElasticsearchOperations elasticsearchOperations, LocalAnalyticsProperties localAnalyticsProperties) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.localAnalyticsProperties = localAnalyticsProperties;
+    }
+
+    /**
+     * Check whether the filtering options are computed locally instead of by the DTM Local Analytics service
+     *
+     * @return True if filtering options are computed locally, False otherwise
+     */
+    public boolean isLocalFilteringOptionsEnabled() {
+        return localAnalyticsProperties.localFilteringOptions();
+    }
+
+    /**
+     * Translate the parameters of the compared modules to a query matching only the Monitoring KPIs results of the selected
+     * series. Each set of parameters matches on all of its non-blank fields and the two sets are combined with OR.
+     * A set without any field matches all results
+     *
+     * @param firstParameters : Parameters of the first module
+     * @param secondParameters : Parameters of the second module, optional
+     * @return Criteria of the histogram data
+     */
+    public Criteria createHistogramCriteria(SewFilteringOptionsDto.Options firstParameters, SewFilteringOptionsDto.Options secondParameters) {
+        Criteria criteria = Criteria.or();
+        for (SewFilteringOptionsDto.Options parameters : Arrays.asList(firstParameters, secondParameters)) {
+            if (parameters == null)
+                continue;
+
+            Criteria parametersCriteria = createParametersCriteria(parameters);
+            if (parametersCriteria == null)
+                return new Criteria();
+            criteria.subCriteria(parametersCriteria);
+        }
+        return criteria.getSubCriteria().isEmpty() ? new Criteria() : criteria;
+    }
+
+    /*
+     * Helper method to match all non-blank fields of a set of parameters, keyword values are matched as a whole
+     */
+    private Criteria createParametersCriteria(SewFilteringOptionsDto.Options parameters) {
+        Map<String, String> fieldValues = new LinkedHashMap<>();
+        fieldValues.put("cell", parameters.getCell());
+        fieldValues.put("module", parameters.getModule());
+        fieldValues.put("subElement", parameters.getSubElement());
+        fieldValues.put("component", parameters.getComponent());
+        fieldValues.put("variable", parameters.getVariable());
+
+        Criteria criteria = null;
+        for (Map.Entry<String, String> fieldValue : fieldValues.entrySet()) {
+            if (fieldValue.getValue() == null || fieldValue.getValue().isBlank())
+                continue;
+            criteria = criteria == null
+                    ? new Criteria(fieldValue.getKey()).matches(fieldValue.getValue())
+                    : criteria.and(fieldValue.getKey()).matches(fieldValue.getValue());
+        }
+        return criteria;
+    }
+
+    /**
+     * Compute every distinct Cell / Module / SubElement / Component / Variable combination of the stored Monitoring KPIs
+     * results with a single composite aggregation paged via 'after_key'. The date of each option is the timestamp of
+     * its latest result. Only the aggregation buckets are transferred, never the documents
+     *
+     * @return List of filtering options sorted by their fields
+     */
+    public List<SewFilteringOptionsDto.Options> aggregateFilteringOptions() {
+        List<SewFilteringOptionsDto.Options> filteringOptions = new ArrayList<>();
+        Map<String, FieldValue> afterKey = null;
+
+        do {
+            final Map<String, FieldValue> currentAfterKey = afterKey;
+            NativeQuery query = NativeQuery.builder()
+                    .withMaxResults(0)
+                    .withAggregation(FILTERING_OPTIONS_AGGREGATION, Aggregation.of(aggregation -> aggregation
+                            .composite(composite -> {
+                                composite.size(BATCH_SIZE)
+                                        .sources(FILTERING_OPTION_FIELDS.stream()
+                                                .map(field -> Map.of(field, CompositeAggregationSource.of(source -> source.terms(terms -> terms.field(field).missingBucket(true)))))
+                                                .toList());
+                                if (currentAfterKey != null)
+                                    composite.after(currentAfterKey);
+                                return composite;
+                            })
+                            .aggregations(LATEST_RESULT_AGGREGATION, Aggregation.of(max -> max.max(m -> m.field("timestamp"))))))
+                    .build();
+
+            SearchHits<SewSelfAwarenessMonitoringKpisResults> searchHits = elasticsearchOperations.search(query, SewSelfAwarenessMonitoringKpisResults.class);
+            if (!(searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations) || aggregations.get(FILTERING_OPTIONS_AGGREGATION) == null)
+                break;
+
+            CompositeAggregate compositeAggregate = aggregations.get(FILTERING_OPTIONS_AGGREGATION).aggregation().getAggregate().composite();
+            List<CompositeBucket> buckets = compositeAggregate.buckets().array();
+            buckets.forEach(bucket -> filteringOptions.add(toFilteringOption(bucket)));
+
+            afterKey = buckets.size() < BATCH_SIZE ? null : compositeAggregate.afterKey();
+        } while (afterKey != null && !afterKey.isEmpty());
+
+        logger.debug("Aggregated {} filtering options for Local Analytics", filteringOptions.size());
+        return filteringOptions;
+    }
+
+    /*
+     * Helper method to convert a composite bucket to a filtering option
+     */
+    private SewFilteringOptionsDto.Options toFilteringOption(CompositeBucket bucket) {
+        Map<String, FieldValue> key = bucket.key();
+        MaxAggregate latestResult = bucket.aggregations().get(LATEST_RESULT_AGGREGATION).max();
+        LocalDateTime date = Double.isFinite(latestResult.value())
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli((long) latestResult.value()), ZoneOffset.UTC)
+                : null;
+
+        return new SewFilteringOptionsDto.Options(
+                keyValue(key, "cell"),
+                keyValue(key, "module"),
+                keyValue(key, "subElement"),
+                keyValue(key, "component"),
+                keyValue(key, "variable"),
+                date);
+    }
+
+    /*
+     * Helper method to read a source of a composite key, documents missing the field form a bucket with a null value
+     */
+    private String keyValue(Map<String, FieldValue> key, String field) {
+        FieldValue value = key.get(field);
+        return value == null || value.isNull() ? null : value.stringValue();
+    }
+}
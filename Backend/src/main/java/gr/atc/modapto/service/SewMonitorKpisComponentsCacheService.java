@@ -0,0 +1,127 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.ComponentCatalogProperties;
+import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
+import gr.atc.modapto.model.sew.SewMonitorKpisComponents;
+import gr.atc.modapto.repository.SewMonitorKpisComponentsRepository;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Read-through cache of the pre-mapped SEW Monitor KPIs Components List per Module ID.
+ * Component lists are stored with the Module ID as document ID, so a cache miss is a single GET by ID.
+ * Entries are replaced on upload, removed on deletion and loaded again once older than the 'component-catalog.max-age',
+ * which bounds staleness for lists uploaded or deleted through another instance. Returned lists are shared between callers and must not be modified
+ */
+@Service
+public class SewMonitorKpisComponentsCacheService {
+
+    private final Logger logger = LoggerFactory.getLogger(SewMonitorKpisComponentsCacheService.class);
+
+    private final SewMonitorKpisComponentsRepository componentsRepository;
+
+    private final ModelMapper modelMapper;
+
+    private final ComponentCatalogProperties catalogProperties;
+
+    private final ConcurrentMap<String, CachedComponentList> componentLists = new ConcurrentHashMap<>();
+
+    public SewMonitorKpisComponentsCacheService(SewMonitorKpisComponentsRepository componentsRepository, ModelMapper modelMapper,
+                                                ComponentCatalogProperties catalogProperties) {
+        this.componentsRepository = componentsRepository;
+        this.modelMapper = modelMapper;
+        this.catalogProperties = catalogProperties;
+    }
+
+    private record CachedComponentList(SewMonitorKpisComponentsDto componentList, long cachedAtNanos) {}
+
+    /**
+     * Retrieve the Components List of a Module, loading it from Elasticsearch on a cache miss or once expired.
+     * Missing lists are not cached, so an upload from another instance is visible on the next lookup
+     *
+     * @param moduleId : Module ID
+     * @return Optional<SewMonitorKpisComponentsDto>
+     */
+    public Optional<SewMonitorKpisComponentsDto> retrieveComponentList(String moduleId) {
+        if (moduleId == null)
+            return Optional.empty();
+
+        CachedComponentList cached = componentLists.get(moduleId);
+        if (cached == null || isExpired(cached))
+            cached = componentLists.compute(moduleId, (key, current) -> current != null && !isExpired(current)
+                    ? current
+                    : findComponentList(key).map(this::toCachedEntry).orElse(null));
+        return Optional.ofNullable(cached).map(CachedComponentList::componentList);
+    }
+
+    /**
+     * Retrieve the pre-mapped Components of a Module
+     *
+     * @param moduleId : Module ID
+     * @return Optional<List<SewMonitorKpisComponentsDataDto>>
+     */
+    public Optional<List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto>> retrieveComponents(String moduleId) {
+        return retrieveComponentList(moduleId).map(SewMonitorKpisComponentsDto::getComponents);
+    }
+
+    /**
+     * Find the stored Components List of a Module. Lists stored before the Module ID became the document ID
+     * are still found through the Module ID field
+     *
+     * @param moduleId : Module ID
+     * @return Optional<SewMonitorKpisComponents>
+     */
+    public Optional<SewMonitorKpisComponents> findComponentList(String moduleId) {
+        return componentsRepository.findById(moduleId)
+                .or(() -> componentsRepository.findByModuleId(moduleId));
+    }
+
+    /**
+     * Replace the cached Components List of a Module with a freshly stored one
+     *
+     * @param componentList : Stored Components List
+     */
+    public void cacheComponentList(SewMonitorKpisComponents componentList) {
+        componentLists.put(componentList.getModuleId(), toCachedEntry(componentList));
+        logger.debug("Cached component list for module: {}", componentList.getModuleId());
+    }
+
+    /**
+     * Remove the cached Components List of a Module
+     *
+     * @param moduleId : Module ID
+     */
+    public void invalidate(String moduleId) {
+        if (moduleId != null && componentLists.remove(moduleId) != null)
+            logger.debug("Invalidated cached component list for module: {}", moduleId);
+    }
+
+    private boolean isExpired(CachedComponentList cached) {
+        return System.nanoTime() - cached.cachedAtNanos() > catalogProperties.maxAge().toNanos();
+    }
+
+    /*
+     * Helper method to map a stored Components List once, with an unmodifiable list of Components
+     */
+    private CachedComponentList toCachedEntry(SewMonitorKpisComponents componentList) {
+        List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto> components = componentList.getComponents() == null
+                ? List.of()
+                : componentList.getComponents().stream()
+                    .map(component -> modelMapper.map(component, SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto.class))
+                    .toList();
+
+        return new CachedComponentList(SewMonitorKpisComponentsDto.builder()
+                .id(componentList.getId())
+                .moduleId(componentList.getModuleId())
+                .timestampCreated(componentList.getTimestampCreated())
+                .components(components)
+                .build(), System.nanoTime());
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import gr.atc.modapto.dto.serviceResults.sew.MaintenanceRecommendationDTO;
+import gr.atc.modapto.enums.LatestResultType;
 import gr.atc.modapto.model.serviceResults.SewThresholdBasedPredictiveMaintenanceResult;
 import gr.atc.modapto.repository.SewThresholdBasedPredictiveMaintenanceRepository;
 import org.modelmapper.MappingException;
@@ -22,7 +23,6 @@ import static gr.atc.modapto.enums.OptEngineRoute.PRODUCTION_SCHEDULE_OPTIMIZATI
 import gr.atc.modapto.exception.CustomExceptions.ModelMappingException;
 import gr.atc.modapto.exception.CustomExceptions.ResourceNotFoundException;
 import gr.atc.modapto.exception.CustomExceptions.SmartServiceInvocationException;
-import gr.atc.modapto.model.serviceResults.SewOptimizationResults;
 import gr.atc.modapto.model.sew.ProductionSchedule;
 import gr.atc.modapto.repository.ProductionScheduleRepository;
 import gr.atc.modapto.repository.SewOptimizationResultsRepository;
@@ -51,13 +51,16 @@ public class SewOptimizationService implements IProductionScheduleOptimizationSe
 
     private final ModelMapper modelMapper;
 
-    public SewOptimizationService(SewThresholdBasedPredictiveMaintenanceRepository thresholdBasedPredictiveMaintenanceRepository, SewOptimizationResultsRepository sewOptimizationResultsRepository, ExceptionHandlerService exceptionHandler, ProductionScheduleRepository productionScheduleRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService) {
+    private final LatestResultCacheService latestResultCache;
+
+    public SewOptimizationService(SewThresholdBasedPredictiveMaintenanceRepository thresholdBasedPredictiveMaintenanceRepository, SewOptimizationResultsRepository sewOptimizationResultsRepository, ExceptionHandlerService exceptionHandler, ProductionScheduleRepository productionScheduleRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService, LatestResultCacheService latestResultCache) {
         this.sewOptimizationResultsRepository = sewOptimizationResultsRepository;
         this.productionScheduleRepository = productionScheduleRepository;
         this.modelMapper = modelMapper;
         this.smartServicesInvocationService = smartServicesInvocationService;
         this.exceptionHandler = exceptionHandler;
         this.thresholdBasedPredictiveMaintenanceRepository = thresholdBasedPredictiveMaintenanceRepository;
+        this.latestResultCache = latestResultCache;
     }
 
     /**
@@ -68,12 +71,13 @@ public class SewOptimizationService implements IProductionScheduleOptimizationSe
     @Override
     public SewOptimizationResultsDto retrieveLatestOptimizationResults() {
         try {
-            Optional<SewOptimizationResults> latestResult = sewOptimizationResultsRepository.findFirstByOrderByTimestampDesc();
+            Optional<SewOptimizationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.SEW_OPTIMIZATION, null,
+                    () -> sewOptimizationResultsRepository.findFirstByOrderByTimestampDesc().map(result -> modelMapper.map(result, SewOptimizationResultsDto.class)));
             if (latestResult.isEmpty()) {
                 throw new ResourceNotFoundException("No SEW Optimization Results found");
             }
 
-            return modelMapper.map(latestResult.get(), SewOptimizationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e) {
             log.error(MAPPING_ERROR + "{}", e.getMessage());
             throw new ModelMappingException("Unable to parse SEW Optimization Results to DTO - Error: " + e.getMessage());
@@ -94,12 +98,13 @@ public class SewOptimizationService implements IProductionScheduleOptimizationSe
     @Override
     public SewOptimizationResultsDto retrieveLatestOptimizationResultsByModuleId(String moduleId) {
         try {
-            Optional<SewOptimizationResults> latestResult = sewOptimizationResultsRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId);
+            Optional<SewOptimizationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.SEW_OPTIMIZATION, moduleId,
+                    () -> sewOptimizationResultsRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId).map(result -> modelMapper.map(result, SewOptimizationResultsDto.class)));
             if (latestResult.isEmpty()) {
                 throw new ResourceNotFoundException("No SEW Optimization Results for Module: " + moduleId + " found");
             }
 
-            return modelMapper.map(latestResult.get(), SewOptimizationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e) {
             log.error(MAPPING_ERROR + "for Module {} - {}", moduleId, e.getMessage());
             throw new ModelMappingException("Unable to parse SEW Optimization Results to DTO for Module: " + moduleId + " - Error: " + e.getMessage());
@@ -0,0 +1,288 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import gr.atc.modapto.config.properties.RealTimeMonitoringProperties;
+import gr.atc.modapto.dto.serviceResults.sew.SewRealTimeMonitoringDeltaDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewRealTimeMonitoringSeriesDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessRealTimeMonitoringResultsDto;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessRealTimeMonitoringResults;
+import gr.atc.modapto.util.RingBuffer;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * In-memory state of the SEW Self-Awareness Real-Time Monitoring results, fed from the result events.
+ * A fixed-size ring buffer is kept per (moduleId, component, property) so the current state and the most recent results
+ * are served without reading the index. Keys changed since the last push are sent periodically as compact WebSocket deltas.
+ * <p>
+ * Memory is strictly bounded to 'max-keys' * 'buffer-size' results, the least recently updated key is evicted beyond it
+ * <p>
+ * The state is only complete on an instance that consumes every partition of the event topics. Replicas sharing the
+ * consumer group each hold the keys of their own partitions, so with several replicas either a single instance serves
+ * the Real-Time Monitoring state or every replica is given its own consumer group ('KAFKA_GROUP')
+ */
+@Service
+public class SewRealTimeMonitoringStore {
+
+    private final Logger logger = LoggerFactory.getLogger(SewRealTimeMonitoringStore.class);
+
+    static final String DELTAS_TOPIC_SUFFIX = "-deltas";
+
+    private final WebSocketService webSocketService;
+
+    private final TaskScheduler taskScheduler;
+
+    private final ModelMapper modelMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectReader resultReader;
+
+    private final RealTimeMonitoringProperties monitoringProperties;
+
+    // Insertion order is kept as update order, so the first key is the least recently updated one
+    private final LinkedHashMap<MonitoringKey, KeyState> states = new LinkedHashMap<>();
+
+    private final Set<MonitoringKey> changedKeys = new LinkedHashSet<>();
+
+    // Whether the deltas topic had subscribers on the last push, so that new subscribers receive the thresholds again
+    private boolean deltasSubscribed;
+
+    public SewRealTimeMonitoringStore(WebSocketService webSocketService,
+                                      @Qualifier("housekeepingTaskScheduler") TaskScheduler taskScheduler,
+                                      ModelMapper modelMapper,
+                                      ObjectMapper objectMapper,
+                                      RealTimeMonitoringProperties monitoringProperties) {
+        this.webSocketService = webSocketService;
+        this.taskScheduler = taskScheduler;
+        this.modelMapper = modelMapper;
+        this.objectMapper = objectMapper;
+        this.resultReader = objectMapper.readerFor(SewSelfAwarenessRealTimeMonitoringResults.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.monitoringProperties = monitoringProperties;
+    }
+
+    private record MonitoringKey(String moduleId, String component, String property) {}
+
+    /*
+     * Results of a key and the thresholds last pushed for it
+     */
+    private static final class KeyState {
+        private final RingBuffer<SewSelfAwarenessRealTimeMonitoringResults> results;
+        private boolean pushed;
+        private Double pushedLowThreshold;
+        private Double pushedHighThreshold;
+
+        KeyState(int bufferSize) {
+            this.results = new RingBuffer<>(bufferSize);
+        }
+    }
+
+    /*
+     * Start the periodic push of the changed keys
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startDeltaPush() {
+        taskScheduler.scheduleWithFixedDelay(this::pushDeltas, monitoringProperties.deltaInterval());
+    }
+
+    /**
+     * Check whether an event topic carries Real-Time Monitoring results
+     *
+     * @param topic : Event topic
+     * @return True if the results of the topic are kept in memory, False otherwise
+     */
+    public boolean isRealTimeMonitoringTopic(String topic) {
+        return monitoringProperties.eventTopic().equalsIgnoreCase(topic);
+    }
+
+    /**
+     * Record the results of a Real-Time Monitoring event, either a single result or an array of results
+     *
+     * @param results : Results of the event
+     */
+    public void recordEventResults(JsonNode results) {
+        if (results == null || results.isNull())
+            return;
+
+        for (JsonNode result : results.isArray() ? results : List.of(results)) {
+            try {
+                record(resultReader.readValue(result));
+            } catch (Exception e) {
+                logger.warn("Unable to parse Real-Time Monitoring result - Error: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Record a single Real-Time Monitoring result. Results without a component or property are ignored
+     *
+     * @param result : Real-Time Monitoring result
+     */
+    public synchronized void record(SewSelfAwarenessRealTimeMonitoringResults result) {
+        if (result == null || result.getComponent() == null || result.getProperty() == null)
+            return;
+
+        MonitoringKey key = new MonitoringKey(result.getModuleId(), result.getComponent(), result.getProperty());
+        KeyState state = states.remove(key);
+        if (state == null) {
+            state = new KeyState(monitoringProperties.bufferSize());
+            evictLeastRecentlyUpdated();
+        }
+        state.results.add(result);
+        states.put(key, state);
+        changedKeys.add(key);
+    }
+
+    /**
+     * Retrieve the latest result of every (moduleId, component, property)
+     *
+     * @param moduleId : Module ID, all Modules if null
+     * @return List<SewSelfAwarenessRealTimeMonitoringResultsDto>
+     */
+    public synchronized List<SewSelfAwarenessRealTimeMonitoringResultsDto> retrieveLatest(String moduleId) {
+        List<SewSelfAwarenessRealTimeMonitoringResultsDto> latest = new ArrayList<>();
+        states.forEach((key, state) -> {
+            if (moduleId == null || moduleId.equals(key.moduleId()))
+                latest.add(toDto(state.results.latest()));
+        });
+        return latest;
+    }
+
+    /**
+     * Retrieve the most recent results of every (moduleId, component, property)
+     *
+     * @param moduleId : Module ID, all Modules if null
+     * @param limit : Maximum number of results per key, capped at the buffer size
+     * @return List<SewRealTimeMonitoringSeriesDto>
+     */
+    public synchronized List<SewRealTimeMonitoringSeriesDto> retrieveRecent(String moduleId, int limit) {
+        List<SewRealTimeMonitoringSeriesDto> recent = new ArrayList<>();
+        states.forEach((key, state) -> {
+            if (moduleId == null || moduleId.equals(key.moduleId()))
+                recent.add(SewRealTimeMonitoringSeriesDto.builder()
+                        .moduleId(key.moduleId())
+                        .component(key.component())
+                        .property(key.property())
+                        .results(state.results.last(limit).stream().map(this::toDto).toList())
+                        .build());
+        });
+        return recent;
+    }
+
+    /**
+     * Retrieve the number of (moduleId, component, property) keys kept in memory
+     *
+     * @return Number of keys
+     */
+    public synchronized int getKeyCount() {
+        return states.size();
+    }
+
+    /**
+     * Push the latest state of the keys changed since the last push as a single WebSocket message
+     */
+    public void pushDeltas() {
+        String deltasTopic = monitoringProperties.eventTopic() + DELTAS_TOPIC_SUFFIX;
+        // Without subscribers the changes are dropped instead of serialized
+        if (!webSocketService.hasSubscribers(deltasTopic)) {
+            discardDeltas();
+            return;
+        }
+
+        List<SewRealTimeMonitoringDeltaDto> deltas = collectDeltas();
+        if (deltas.isEmpty())
+            return;
+
+        try {
+            webSocketService.notifyInWebSocketTopic(objectMapper.writeValueAsString(deltas), deltasTopic);
+        } catch (JsonProcessingException e) {
+            logger.error("Unable to serialize Real-Time Monitoring deltas - Error: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * Helper method to reset the changed keys without building their deltas. When the last subscribers left,
+     * the pushed thresholds are forgotten so that the next subscribers receive them with the first delta of every key
+     */
+    private synchronized void discardDeltas() {
+        changedKeys.clear();
+        if (!deltasSubscribed)
+            return;
+
+        for (KeyState state : states.values()) {
+            state.pushed = false;
+            state.pushedLowThreshold = null;
+            state.pushedHighThreshold = null;
+        }
+        deltasSubscribed = false;
+    }
+
+    /*
+     * Helper method to build the deltas of the changed keys and reset them
+     */
+    private synchronized List<SewRealTimeMonitoringDeltaDto> collectDeltas() {
+        deltasSubscribed = true;
+        List<SewRealTimeMonitoringDeltaDto> deltas = new ArrayList<>(changedKeys.size());
+        for (MonitoringKey key : changedKeys) {
+            KeyState state = states.get(key);
+            SewSelfAwarenessRealTimeMonitoringResults latest = state.results.latest();
+            SewRealTimeMonitoringDeltaDto.SewRealTimeMonitoringDeltaDtoBuilder delta = SewRealTimeMonitoringDeltaDto.builder()
+                    .moduleId(key.moduleId())
+                    .component(key.component())
+                    .property(key.property())
+                    .timestamp(latest.getTimestamp())
+                    .value(latest.getValue())
+                    .deviationPercentage(latest.getDeviationPercentage());
+
+            // Thresholds rarely change, so they are only sent on the first push of a key or when they differ
+            if (!state.pushed || !Objects.equals(state.pushedLowThreshold, latest.getLowThreshold())
+                    || !Objects.equals(state.pushedHighThreshold, latest.getHighThreshold())) {
+                delta.lowThreshold(latest.getLowThreshold()).highThreshold(latest.getHighThreshold());
+                state.pushed = true;
+                state.pushedLowThreshold = latest.getLowThreshold();
+                state.pushedHighThreshold = latest.getHighThreshold();
+            }
+            deltas.add(delta.build());
+        }
+        changedKeys.clear();
+        return deltas;
+    }
+
+    /*
+     * Helper method to make room for a new key, the caller holds the lock
+     */
+    private void evictLeastRecentlyUpdated() {
+        if (states.size() < monitoringProperties.maxKeys())
+            return;
+
+        Iterator<Map.Entry<MonitoringKey, KeyState>> iterator = states.entrySet().iterator();
+        MonitoringKey evicted = iterator.next().getKey();
+        iterator.remove();
+        changedKeys.remove(evicted);
+        logger.debug("Evicted Real-Time Monitoring state of {}", evicted);
+    }
+
+    private SewSelfAwarenessRealTimeMonitoringResultsDto toDto(SewSelfAwarenessRealTimeMonitoringResults result) {
+        return modelMapper.map(result, SewSelfAwarenessRealTimeMonitoringResultsDto.class);
+    }
+}
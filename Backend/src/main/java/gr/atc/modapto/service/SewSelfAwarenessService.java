@@ -1,19 +1,30 @@
 package gr.atc.modapto.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.ScheduledTaskDto;
 import gr.atc.modapto.dto.dt.DtResponseDto;
 import gr.atc.modapto.dto.dt.SmartServiceResponse;
 import gr.atc.modapto.dto.serviceInvocations.GlobalRequestDto;
@@ -21,11 +32,22 @@ import gr.atc.modapto.dto.serviceInvocations.SewLocalAnalyticsInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessMonitoringKpisInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessRealTimeMonitoringInputDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewHistogramDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiQueryResultDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiStoreStatusDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewRealTimeMonitoringSeriesDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessRealTimeMonitoringResultsDto;
+import gr.atc.modapto.dto.sew.SewKpiQueryDto;
 import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
+import gr.atc.modapto.enums.FrequencyType;
+import gr.atc.modapto.enums.HistogramEngine;
+import gr.atc.modapto.enums.LatestResultType;
+import gr.atc.modapto.events.ScheduledTaskRegistrationEvent;
 import gr.atc.modapto.exception.CustomExceptions.ResourceNotFoundException;
 import gr.atc.modapto.exception.CustomExceptions.SmartServiceInvocationException;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessRealTimeMonitoringResults;
 import gr.atc.modapto.model.sew.SewMonitorKpisComponents;
 import gr.atc.modapto.repository.SewMonitorKpisComponentsRepository;
 import gr.atc.modapto.repository.SewSelfAwarenessMonitoringKpisResultsRepository;
@@ -51,13 +73,43 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
 
     private final ModelMapper modelMapper;
 
+    private final SearchAfterPaginationService paginationService;
+
+    private final SewLocalAnalyticsQueryService localAnalyticsQueryService;
+
+    private final SewHistogramService histogramService;
+
+    private final SewKpiColumnarStore kpiStore;
+
+    private final SewRealTimeMonitoringStore realTimeMonitoringStore;
+
+    private final SewMonitorKpisComponentsCacheService componentsCacheService;
+
+    private final LatestResultCacheService latestResultCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String MONITORING_KPIS_TYPE = "SELF_AWARENESS_MONITORING_KPIS";
+
+    private static final String REAL_TIME_MONITORING_TYPE = "SELF_AWARENESS_REAL_TIME_MONITORING";
+
+    private static final Sort RESULTS_SORT = Sort.by(Sort.Direction.DESC, "timestamp");
+
     public SewSelfAwarenessService(SewSelfAwarenessMonitoringKpisResultsRepository sewSelfAwarenessMonitoringKpisResultsRepository,
                                    SewSelfAwarenessRealTimeMonitoringResultsRepository sewSelfAwarenessRealTimeMonitoringResultsRepository,
                                    SewMonitorKpisComponentsRepository sewMonitorKpisComponentsRepository,
                                    SmartServicesInvocationService smartServicesInvocationService,
                                    ExceptionHandlerService exceptionHandler,
                                    ModelMapper modelMapper,
-                                   ObjectMapper objectMapper){
+                                   ObjectMapper objectMapper,
+                                   SearchAfterPaginationService paginationService,
+                                   SewLocalAnalyticsQueryService localAnalyticsQueryService,
+                                   SewHistogramService histogramService,
+                                   SewKpiColumnarStore kpiStore,
+                                   SewRealTimeMonitoringStore realTimeMonitoringStore,
+                                   SewMonitorKpisComponentsCacheService componentsCacheService,
+                                   LatestResultCacheService latestResultCache,
+                                   ApplicationEventPublisher eventPublisher){
         this.sewSelfAwarenessMonitoringKpisResultsRepository = sewSelfAwarenessMonitoringKpisResultsRepository;
         this.sewSelfAwarenessRealTimeMonitoringResultsRepository = sewSelfAwarenessRealTimeMonitoringResultsRepository;
         this.sewMonitorKpisComponentsRepository = sewMonitorKpisComponentsRepository;
@@ -65,6 +117,33 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
         this.exceptionHandler = exceptionHandler;
         this.modelMapper = modelMapper;
         this.objectMapper =objectMapper;
+        this.paginationService = paginationService;
+        this.localAnalyticsQueryService = localAnalyticsQueryService;
+        this.histogramService = histogramService;
+        this.kpiStore = kpiStore;
+        this.realTimeMonitoringStore = realTimeMonitoringStore;
+        this.componentsCacheService = componentsCacheService;
+        this.latestResultCache = latestResultCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Invoke Self Awareness Monitoring KPIs algorithm and Register the Scheduled Task with the input data, if a frequency is given
+     *
+     * @param invocationData: Input Data
+     */
+    @Override
+    public void invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(SewSelfAwarenessMonitoringKpisInputDto invocationData) {
+        invokeSelfAwarenessMonitoringKpisAlgorithm(invocationData);
+
+        if (invocationData.getFrequencyValue() == null || invocationData.getFrequencyType() == null)
+            return;
+
+        // Reset components, each scheduled run retrieves them for its Module
+        invocationData.setComponents(null);
+
+        publishScheduledTaskRegistration(MONITORING_KPIS_TYPE, invocationData.getModuleId(), invocationData.getSmartServiceId(),
+                invocationData.getFrequencyValue(), invocationData.getFrequencyType(), invocationData);
     }
 
     /**
@@ -88,8 +167,9 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
      */
     @Override
     public SewSelfAwarenessMonitoringKpisResultsDto retrieveLatestSelfAwarenessMonitoringKpisResults() {
-        return exceptionHandler.handleOperation(() -> sewSelfAwarenessMonitoringKpisResultsRepository.findFirstByOrderByTimestampDesc()
-                .map(result -> modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class))
+        return exceptionHandler.handleOperation(() -> latestResultCache.retrieveLatest(LatestResultType.SEW_SELF_AWARENESS_MONITORING_KPIS, null,
+                        () -> sewSelfAwarenessMonitoringKpisResultsRepository.findFirstByOrderByTimestampDesc()
+                                .map(result -> modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class)))
                 .orElseThrow(() -> new ResourceNotFoundException("There are no available SEW Self-Awareness Monitoring KPIs results")), "retrieveLatestSelfAwarenessMonitoringKpisResults");
     }
 
@@ -101,8 +181,9 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
      */
     @Override
     public SewSelfAwarenessMonitoringKpisResultsDto retrieveLatestSelfAwarenessMonitoringKpisResultsByModuleId(String moduleId) {
-        return exceptionHandler.handleOperation(() -> sewSelfAwarenessMonitoringKpisResultsRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId)
-                .map(result -> modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class))
+        return exceptionHandler.handleOperation(() -> latestResultCache.retrieveLatest(LatestResultType.SEW_SELF_AWARENESS_MONITORING_KPIS, moduleId,
+                        () -> sewSelfAwarenessMonitoringKpisResultsRepository.findFirstByModuleIdOrderByTimestampDesc(moduleId)
+                                .map(result -> modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class)))
                 .orElseThrow(() -> new ResourceNotFoundException("There are no available SEW Self-Awareness Monitoring KPIs results for Module ID: " + moduleId)), "retrieveLatestSelfAwarenessMonitoringKpisResultsByModuleId");
     }
 
@@ -136,6 +217,60 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
                 .toList(), "retrieveAllSelfAwarenessMonitoringKpisResultsByModuleId");
     }
 
+    /**
+     * Retrieve a page of Self Awareness Monitoring KPI Results, newest first, using a cursor instead of offsets
+     *
+     * @param moduleId : ID of Module, null for all Modules
+     * @param cursor : Cursor of the page, null for the first page
+     * @param size : Results per page
+     * @return CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto>
+     */
+    @Override
+    public CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> retrieveSelfAwarenessMonitoringKpisResultsPage(String moduleId, String cursor, int size) {
+        CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResults> page = paginationService.retrievePage(
+                SewSelfAwarenessMonitoringKpisResults.class, moduleCriteria(moduleId), RESULTS_SORT, cursor, size);
+        return exceptionHandler.handleOperation(() -> new CursorPaginatedResultsDto<>(
+                page.getResults().stream()
+                        .map(result -> modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class))
+                        .toList(),
+                page.getNextCursor(),
+                page.getLastPage()), "retrieveSelfAwarenessMonitoringKpisResultsPage");
+    }
+
+    /**
+     * Stream all Self Awareness Monitoring KPI Results, newest first, one page at a time
+     *
+     * @param moduleId : ID of Module, null for all Modules
+     * @param pageConsumer : Consumer of every page of results
+     */
+    @Override
+    public void streamSelfAwarenessMonitoringKpisResults(String moduleId, Consumer<List<SewSelfAwarenessMonitoringKpisResultsDto>> pageConsumer) {
+        paginationService.streamAll(SewSelfAwarenessMonitoringKpisResults.class, moduleCriteria(moduleId), RESULTS_SORT,
+                SearchAfterPaginationService.DEFAULT_PAGE_SIZE,
+                page -> pageConsumer.accept(page.stream()
+                        .map(result -> modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class))
+                        .toList()));
+    }
+
+    /**
+     * Invoke Self Awareness Real-Time Monitoring algorithm and Register the Scheduled Task with the input data, if a frequency is given
+     *
+     * @param invocationData: Input Data
+     */
+    @Override
+    public void invokeAndRegisterSelfAwarenessRealTimeMonitoringAlgorithm(SewSelfAwarenessRealTimeMonitoringInputDto invocationData) {
+        invokeSelfAwarenessRealTimeMonitoringAlgorithm(invocationData);
+
+        if (invocationData.getFrequencyValue() == null || invocationData.getFrequencyType() == null)
+            return;
+
+        // Reset components, each scheduled run retrieves them for its Module
+        invocationData.setComponents(null);
+
+        publishScheduledTaskRegistration(REAL_TIME_MONITORING_TYPE, invocationData.getModuleId(), invocationData.getSmartServiceId(),
+                invocationData.getFrequencyValue(), invocationData.getFrequencyType(), invocationData);
+    }
+
     /**
      * Invoke Self Awareness Real-Time Monitoring algorithm (Self-Awareness 2)
      *
@@ -179,6 +314,71 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
                 .toList(), "retrieveAllSelfAwarenessRealTimeMonitoringResultsByModuleId");
     }
 
+    /**
+     * Retrieve a page of Self Awareness Real-Time Monitoring Results, newest first, using a cursor instead of offsets
+     *
+     * @param moduleId : ID of Module, null for all Modules
+     * @param cursor : Cursor of the page, null for the first page
+     * @param size : Results per page
+     * @return CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResultsDto>
+     */
+    @Override
+    public CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResultsDto> retrieveSelfAwarenessRealTimeMonitoringResultsPage(String moduleId, String cursor, int size) {
+        CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResults> page = paginationService.retrievePage(
+                SewSelfAwarenessRealTimeMonitoringResults.class, moduleCriteria(moduleId), RESULTS_SORT, cursor, size);
+        return exceptionHandler.handleOperation(() -> new CursorPaginatedResultsDto<>(
+                page.getResults().stream()
+                        .map(result -> modelMapper.map(result, SewSelfAwarenessRealTimeMonitoringResultsDto.class))
+                        .toList(),
+                page.getNextCursor(),
+                page.getLastPage()), "retrieveSelfAwarenessRealTimeMonitoringResultsPage");
+    }
+
+    /**
+     * Retrieve the latest Self Awareness Real-Time Monitoring Result of every component property from memory
+     *
+     * @param moduleId : ID of Module, null for all Modules
+     * @return List<SewSelfAwarenessRealTimeMonitoringResultsDto>
+     */
+    @Override
+    public List<SewSelfAwarenessRealTimeMonitoringResultsDto> retrieveCurrentSelfAwarenessRealTimeMonitoringResults(String moduleId) {
+        return exceptionHandler.handleOperation(() -> realTimeMonitoringStore.retrieveLatest(moduleId), "retrieveCurrentSelfAwarenessRealTimeMonitoringResults");
+    }
+
+    /**
+     * Retrieve the most recent Self Awareness Real-Time Monitoring Results of every component property from memory
+     *
+     * @param moduleId : ID of Module, null for all Modules
+     * @param limit : Maximum number of results per component property
+     * @return List<SewRealTimeMonitoringSeriesDto>
+     */
+    @Override
+    public List<SewRealTimeMonitoringSeriesDto> retrieveRecentSelfAwarenessRealTimeMonitoringResults(String moduleId, int limit) {
+        return exceptionHandler.handleOperation(() -> realTimeMonitoringStore.retrieveRecent(moduleId, limit), "retrieveRecentSelfAwarenessRealTimeMonitoringResults");
+    }
+
+    /**
+     * Stream all Self Awareness Real-Time Monitoring Results, newest first, one page at a time
+     *
+     * @param moduleId : ID of Module, null for all Modules
+     * @param pageConsumer : Consumer of every page of results
+     */
+    @Override
+    public void streamSelfAwarenessRealTimeMonitoringResults(String moduleId, Consumer<List<SewSelfAwarenessRealTimeMonitoringResultsDto>> pageConsumer) {
+        paginationService.streamAll(SewSelfAwarenessRealTimeMonitoringResults.class, moduleCriteria(moduleId), RESULTS_SORT,
+                SearchAfterPaginationService.DEFAULT_PAGE_SIZE,
+                page -> pageConsumer.accept(page.stream()
+                        .map(result -> modelMapper.map(result, SewSelfAwarenessRealTimeMonitoringResultsDto.class))
+                        .toList()));
+    }
+
+    /*
+     * Helper method to filter results by Module ID, if given
+     */
+    private Criteria moduleCriteria(String moduleId) {
+        return moduleId == null ? new Criteria() : new Criteria("moduleId").is(moduleId);
+    }
+
     /**
      * Upload Module Components List for Self-Awareness Operations
      *
@@ -187,20 +387,18 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
     @Override
     public void uploadModuleComponentsList(SewMonitorKpisComponentsDto componentsData) {
         exceptionHandler.handleOperation(() -> {
-            // Delete existing components list to replace it if it exists
-            if (sewMonitorKpisComponentsRepository.findByModuleId(componentsData.getModuleId()).isPresent()) {
-                sewMonitorKpisComponentsRepository.deleteByModuleId(componentsData.getModuleId());
-                logger.debug("Deleted existing component list for module: {}", componentsData.getModuleId());
-            }
-
-            // Map DTO to entity
+            // Map DTO to entity, the Module ID is the document ID so that the upload replaces any previous list atomically
             SewMonitorKpisComponents entity = modelMapper.map(componentsData, SewMonitorKpisComponents.class);
+            entity.setId(componentsData.getModuleId());
             entity.setTimestampCreated(LocalDateTime.parse(LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME)));
 
-            // Save the new components list
-            sewMonitorKpisComponentsRepository.save(entity);
+            SewMonitorKpisComponents storedEntity = sewMonitorKpisComponentsRepository.save(entity);
+            componentsCacheService.cacheComponentList(storedEntity != null ? storedEntity : entity);
             logger.debug("Successfully uploaded component list for module: {}", componentsData.getModuleId());
 
+            // Remove lists stored with generated IDs before the Module ID became the document ID
+            sewMonitorKpisComponentsRepository.deleteByModuleIdAndIdNot(componentsData.getModuleId(), componentsData.getModuleId());
+
             return null;
         }, "uploadModuleComponentsList");
     }
@@ -213,10 +411,7 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
      */
     @Override
     public SewMonitorKpisComponentsDto retrieveSelfAwarenessComponentListByModuleId(String moduleId) {
-        return exceptionHandler.handleOperation(() -> sewMonitorKpisComponentsRepository.findByModuleId(moduleId)
-                .map(components -> {
-                    return modelMapper.map(components, SewMonitorKpisComponentsDto.class);
-                })
+        return exceptionHandler.handleOperation(() -> componentsCacheService.retrieveComponentList(moduleId)
                 .orElseThrow(() -> new ResourceNotFoundException("No component list found for Module ID: " + moduleId)), "retrieveSelfAwarenessComponentListByModuleId");
     }
 
@@ -229,33 +424,32 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
     public void deleteSelfAwarenessComponentListByModuleId(String moduleId) {
         exceptionHandler.handleOperation(() -> {
             // Verify component list exists before deletion
-            if (sewMonitorKpisComponentsRepository.findByModuleId(moduleId).isEmpty()) {
+            if (componentsCacheService.findComponentList(moduleId).isEmpty()) {
                 throw new ResourceNotFoundException("No component list found for Module ID: " + moduleId);
             }
 
             sewMonitorKpisComponentsRepository.deleteByModuleId(moduleId);
+            componentsCacheService.invalidate(moduleId);
             logger.debug("Successfully deleted component list for module: {}", moduleId);
 
             return null;
         }, "deleteSelfAwarenessComponentListByModuleId");
     }
 
+    /**
+     * Retrieve the filtering options of Local Analytics along with the distinct values of each category.
+     * By default the options are computed locally with a single Elasticsearch aggregation, otherwise all
+     * Monitoring KPIs results are sent to the DTM Local Analytics service
+     *
+     * @param request : Local Analytics request
+     * @return SewFilteringOptionsDto
+     */
     @Override
     public SewFilteringOptionsDto retrieveFilteringOptionsForLocalAnalytics(GlobalRequestDto request) {
         return exceptionHandler.handleOperation(() -> {
-            List<SewSelfAwarenessMonitoringKpisResultsDto> inputData = sewSelfAwarenessMonitoringKpisResultsRepository.findAll(Pageable.unpaged())
-                    .stream()
-                    .map(output -> modelMapper.map(output, SewSelfAwarenessMonitoringKpisResultsDto.class))
-                    .toList();
-
-            ResponseEntity<DtResponseDto> response = smartServicesInvocationService.formulateAndImplementSyncSmartServiceRequest(inputData, request.getModuleId(), request.getSmartServiceId());
-
-            logger.debug("Successfully invoked Local-Analytics to provide the filtering options..Processing results..");
-
-            // Use processor for the important response type
-            SewFilteringOptionsDto results = null;
-            if (smartServicesInvocationService.validateDigitalTwinResponse(response, "Local Analytics"))
-                results = smartServicesInvocationService.decodeDigitalTwinResponseToDto(SewFilteringOptionsDto.class, response.getBody(), "Local Analytics");
+            SewFilteringOptionsDto results = localAnalyticsQueryService.isLocalFilteringOptionsEnabled()
+                    ? new SewFilteringOptionsDto(localAnalyticsQueryService.aggregateFilteringOptions(), null)
+                    : retrieveFilteringOptionsFromDigitalTwin(request);
 
             // Locate the Distinct values
             results.setDistinctValues(generateDistinctValuesFromFilteringOptions(results.getFilteringOptions()));
@@ -265,82 +459,94 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
     }
 
     /*
-     * Helper method to locate the distinct values for each category
+     * Helper method to retrieve the filtering options from the DTM Local Analytics service
      */
-    private SewFilteringOptionsDto.DistinctValues generateDistinctValuesFromFilteringOptions(List<SewFilteringOptionsDto.Options> filteringOptions) {
+    private SewFilteringOptionsDto retrieveFilteringOptionsFromDigitalTwin(GlobalRequestDto request) {
+        List<SewSelfAwarenessMonitoringKpisResultsDto> inputData = sewSelfAwarenessMonitoringKpisResultsRepository.findAll(Pageable.unpaged())
+                .stream()
+                .map(output -> modelMapper.map(output, SewSelfAwarenessMonitoringKpisResultsDto.class))
+                .toList();
 
-        // Handle null or empty filtering options
-        if (filteringOptions == null || filteringOptions.isEmpty()) {
-            return new SewFilteringOptionsDto.DistinctValues(
-                    new ArrayList<>(),
-                    new ArrayList<>(),
-                    new ArrayList<>(),
-                    new ArrayList<>(),
-                    new ArrayList<>()
-            );
-        }
+        ResponseEntity<DtResponseDto> response = smartServicesInvocationService.formulateAndImplementSyncSmartServiceRequest(inputData, request.getModuleId(), request.getSmartServiceId());
 
-        // Extract distinct values for each category using streams
-        List<String> distinctCells = filteringOptions.stream()
-                .map(SewFilteringOptionsDto.Options::getCell)
-                .filter(cell -> cell != null && !cell.trim().isEmpty())
-                .distinct()
-                .sorted()
-                .toList();
+        logger.debug("Successfully invoked Local-Analytics to provide the filtering options..Processing results..");
 
-        List<String> distinctModules = filteringOptions.stream()
-                .map(SewFilteringOptionsDto.Options::getModule)
-                .filter(module -> module != null && !module.trim().isEmpty())
-                .distinct()
-                .sorted()
-                .toList();
+        // Use processor for the important response type
+        SewFilteringOptionsDto results = null;
+        if (smartServicesInvocationService.validateDigitalTwinResponse(response, "Local Analytics"))
+            results = smartServicesInvocationService.decodeDigitalTwinResponseToDto(SewFilteringOptionsDto.class, response.getBody(), "Local Analytics");
 
-        List<String> distinctSubElements = filteringOptions.stream()
-                .map(SewFilteringOptionsDto.Options::getSubElement)
-                .filter(subElement -> subElement != null && !subElement.trim().isEmpty())
-                .distinct()
-                .sorted()
-                .toList();
+        return results;
+    }
 
-        List<String> distinctComponents = filteringOptions.stream()
-                .map(SewFilteringOptionsDto.Options::getComponent)
-                .filter(component -> component != null && !component.trim().isEmpty())
-                .distinct()
-                .sorted()
-                .toList();
+    /*
+     * Helper method to locate the sorted distinct values for each category in a single pass
+     */
+    private SewFilteringOptionsDto.DistinctValues generateDistinctValuesFromFilteringOptions(List<SewFilteringOptionsDto.Options> filteringOptions) {
+        Set<String> distinctCells = new TreeSet<>();
+        Set<String> distinctModules = new TreeSet<>();
+        Set<String> distinctSubElements = new TreeSet<>();
+        Set<String> distinctComponents = new TreeSet<>();
+        Set<String> distinctVariables = new TreeSet<>();
 
-        List<String> distinctVariables = filteringOptions.stream()
-                .map(SewFilteringOptionsDto.Options::getVariable)
-                .filter(variable -> variable != null && !variable.trim().isEmpty())
-                .distinct()
-                .sorted()
-                .toList();
+        // Handle null or empty filtering options
+        if (filteringOptions != null) {
+            filteringOptions.forEach(option -> {
+                addIfNotBlank(distinctCells, option.getCell());
+                addIfNotBlank(distinctModules, option.getModule());
+                addIfNotBlank(distinctSubElements, option.getSubElement());
+                addIfNotBlank(distinctComponents, option.getComponent());
+                addIfNotBlank(distinctVariables, option.getVariable());
+            });
+        }
 
         // Construct and return the DistinctValues object
         return new SewFilteringOptionsDto.DistinctValues(
-                distinctCells,
-                distinctModules,
-                distinctSubElements,
-                distinctComponents,
-                distinctVariables
+                new ArrayList<>(distinctCells),
+                new ArrayList<>(distinctModules),
+                new ArrayList<>(distinctSubElements),
+                new ArrayList<>(distinctComponents),
+                new ArrayList<>(distinctVariables)
         );
     }
 
+    /*
+     * Helper method to collect a non-blank category value
+     */
+    private void addIfNotBlank(Set<String> values, String value) {
+        if (value != null && !value.trim().isEmpty())
+            values.add(value);
+    }
+
+    /**
+     * Generate the Histogram comparing two modules. Only the Monitoring KPIs results matching the parameters of the compared
+     * modules are fetched and they are streamed page by page directly into the encoded request of the Local Analytics service.
+     * With the LOCAL engine the image is rendered in-process instead
+     *
+     * @param request : Local Analytics request with the parameters of the compared modules
+     * @return Base64 encoded image of the Histogram
+     */
     @Override
     public String generateHistogramForComparingModules(GlobalRequestDto<SewLocalAnalyticsInputDto> request) {
         return exceptionHandler.handleOperation(() -> {
-            List<SewSelfAwarenessMonitoringKpisResultsDto> inputData = sewSelfAwarenessMonitoringKpisResultsRepository.findAll(Pageable.unpaged())
-                    .stream()
-                    .map(output -> modelMapper.map(output, SewSelfAwarenessMonitoringKpisResultsDto.class))
-                    .toList();
-
-            SewLocalAnalyticsInputDto serviceInput = SewLocalAnalyticsInputDto.builder()
-                    .firstParameters(request.getInput().getFirstParameters())
-                    .secondParameters(request.getInput().getSecondParameters())
-                    .histogramData(inputData)
-                    .build();
-
-            ResponseEntity<DtResponseDto> response = smartServicesInvocationService.formulateAndImplementSyncSmartServiceRequest(serviceInput, request.getModuleId(), request.getSmartServiceId());
+            if (request.getInput().getEngine() == HistogramEngine.LOCAL)
+                return histogramService.renderHistogram(request.getInput());
+
+            SewFilteringOptionsDto.Options firstParameters = request.getInput().getFirstParameters();
+            SewFilteringOptionsDto.Options secondParameters = request.getInput().getSecondParameters();
+            Criteria histogramCriteria = localAnalyticsQueryService.createHistogramCriteria(firstParameters, secondParameters);
+
+            ResponseEntity<DtResponseDto> response = smartServicesInvocationService.formulateAndImplementStreamedSyncSmartServiceRequest(generator -> {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(SewLocalAnalyticsInputDto.HISTOGRAM_DATA_FIELD);
+                paginationService.streamAll(SewSelfAwarenessMonitoringKpisResults.class, histogramCriteria, RESULTS_SORT, SearchAfterPaginationService.DEFAULT_PAGE_SIZE,
+                        page -> page.forEach(result -> writeHistogramData(generator, modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class))));
+                generator.writeEndArray();
+                generator.writeObjectField(SewLocalAnalyticsInputDto.FIRST_PARAMETERS_FIELD, firstParameters);
+                if (secondParameters != null)
+                    generator.writeObjectField(SewLocalAnalyticsInputDto.SECOND_PARAMETERS_FIELD, secondParameters);
+                generator.writeEndObject();
+            }, request.getModuleId(), request.getSmartServiceId());
 
             logger.debug("Successfully invoked Local-Analytics to produce the Histogram..Processing results..");
 
@@ -353,6 +559,49 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
         }, "generateHistogramForComparingModules");
     }
 
+    /**
+     * Compute the Histogram comparing two modules in-process, returning the bin edges, counts and summary statistics
+     *
+     * @param request : Local Analytics request with the parameters of the compared modules and the bin options
+     * @return SewHistogramDto
+     */
+    @Override
+    public SewHistogramDto computeHistogramForComparingModules(GlobalRequestDto<SewLocalAnalyticsInputDto> request) {
+        return exceptionHandler.handleOperation(() -> histogramService.computeHistogram(request.getInput()), "computeHistogramForComparingModules");
+    }
+
+    /**
+     * Query the range statistics of the SEW Monitoring KPIs series kept in memory
+     *
+     * @param query : Filters, time range, grouping dimensions and percentiles
+     * @return SewKpiQueryResultDto with the statistics of every group
+     */
+    @Override
+    public SewKpiQueryResultDto queryMonitoringKpisStore(SewKpiQueryDto query) {
+        return exceptionHandler.handleOperation(() -> kpiStore.query(query), "queryMonitoringKpisStore");
+    }
+
+    /**
+     * Retrieve the size and memory footprint of the in-memory SEW Monitoring KPIs store
+     *
+     * @return SewKpiStoreStatusDto
+     */
+    @Override
+    public SewKpiStoreStatusDto retrieveMonitoringKpisStoreStatus() {
+        return kpiStore.getStatus();
+    }
+
+    /*
+     * Helper method to write a single Monitoring KPIs result into the Histogram request
+     */
+    private void writeHistogramData(JsonGenerator generator, SewSelfAwarenessMonitoringKpisResultsDto result) {
+        try {
+            generator.writeObject(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Helper method to set component data for algorithm invocation
      *
@@ -363,15 +612,10 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
             // Use reflection to get moduleId and set components
             String moduleId = (String) invocationData.getClass().getMethod("getModuleId").invoke(invocationData);
 
-            // Retrieve component list for given Module
-            SewMonitorKpisComponents componentData = sewMonitorKpisComponentsRepository.findByModuleId(moduleId)
+            // Retrieve the pre-mapped component list of the given Module, served from the cache after the first lookup
+            List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto> componentsDto = componentsCacheService.retrieveComponents(moduleId)
                     .orElseThrow(() -> new ResourceNotFoundException("Component list information for module '" + moduleId + "' not found"));
 
-            // Transform components to DTO format
-            List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto> componentsDto = componentData.getComponents().stream()
-                    .map(component -> modelMapper.map(component, SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto.class))
-                    .toList();
-
             // Set components using reflection
             invocationData.getClass().getMethod("setComponents", List.class).invoke(invocationData, componentsDto);
         } catch (Exception e) {
@@ -399,4 +643,24 @@ public class SewSelfAwarenessService implements ISewSelfAwarenessService {
             throw new SmartServiceInvocationException("Failed to extract Base64 image from Digital Twin response: " + e.getMessage());
         }
     }
+
+    /*
+     * Helper method to publish the event that registers a new Scheduled Task
+     */
+    private void publishScheduledTaskRegistration(String type, String moduleId, String smartServiceId, Integer frequencyValue, FrequencyType frequencyType, Object requestBody) {
+        // Create the scheduled task
+        ScheduledTaskDto newTask = ScheduledTaskDto.builder()
+                .frequencyValue(frequencyValue)
+                .frequencyType(frequencyType)
+                .smartServiceId(smartServiceId)
+                .moduleId(moduleId)
+                .smartServiceType(type)
+                .requestBody(requestBody)
+                .build();
+
+        // Publish event
+        ScheduledTaskRegistrationEvent event = new ScheduledTaskRegistrationEvent(this, newTask, type);
+        eventPublisher.publishEvent(event);
+        logger.debug("Event published to register a new Scheduled Task - Event: {}", event);
+    }
 }
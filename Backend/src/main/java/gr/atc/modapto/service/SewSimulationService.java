@@ -1,10 +1,13 @@
 package gr.atc.modapto.service;
 
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import gr.atc.modapto.dto.ScheduledTaskDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSimulationInputDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSimulationResultsDto;
 import gr.atc.modapto.dto.sew.SewPlantEnvironmentDto;
-import gr.atc.modapto.model.serviceResults.SewSimulationResults;
+import gr.atc.modapto.enums.FrequencyType;
+import gr.atc.modapto.enums.LatestResultType;
+import gr.atc.modapto.events.ScheduledTaskRegistrationEvent;
 import gr.atc.modapto.model.sew.SewPlantEnvironment;
 import gr.atc.modapto.repository.SewPlantEnvironmentRepository;
 import gr.atc.modapto.repository.SewSimulationResultsRepository;
@@ -13,6 +16,7 @@ import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.stereotype.Service;
 import gr.atc.modapto.exception.CustomExceptions.*;
@@ -37,11 +41,19 @@ public class SewSimulationService implements IProductionScheduleSimulationServic
 
     private final ModelMapper modelMapper;
 
-    public SewSimulationService(SewSimulationResultsRepository sewSimulationResultsRepository, SewPlantEnvironmentRepository sewPlantEnvironmentRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService){
+    private final LatestResultCacheService latestResultCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String SCHEDULED_TASK_TYPE = "SEW_SIMULATION";
+
+    public SewSimulationService(SewSimulationResultsRepository sewSimulationResultsRepository, SewPlantEnvironmentRepository sewPlantEnvironmentRepository, ModelMapper modelMapper, SmartServicesInvocationService smartServicesInvocationService, LatestResultCacheService latestResultCache, ApplicationEventPublisher eventPublisher){
         this.sewSimulationResultsRepository = sewSimulationResultsRepository;
         this.sewPlantEnvironmentRepository = sewPlantEnvironmentRepository;
         this.modelMapper = modelMapper;
         this.smartServicesInvocationService = smartServicesInvocationService;
+        this.latestResultCache = latestResultCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -54,11 +66,12 @@ public class SewSimulationService implements IProductionScheduleSimulationServic
     @Override
     public SewSimulationResultsDto retrieveLatestSimulationResults() {
         try {
-            Optional<SewSimulationResults> latestResult = sewSimulationResultsRepository.findFirstByOrderByTimestampDesc();
+            Optional<SewSimulationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.SEW_SIMULATION, null,
+                    () -> sewSimulationResultsRepository.findFirstByOrderByTimestampDesc().map(result -> modelMapper.map(result, SewSimulationResultsDto.class)));
             if (latestResult.isEmpty())
                 throw new ResourceNotFoundException("No SEW Simulation Results found");
 
-            return modelMapper.map(latestResult.get(), SewSimulationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e){
             log.error(MAPPING_ERROR + "{}", e.getMessage());
             throw new ModelMappingException("Unable to parse SEW Simulation Results to DTO - Error: " + e.getMessage());
@@ -79,17 +92,32 @@ public class SewSimulationService implements IProductionScheduleSimulationServic
     @Override
     public SewSimulationResultsDto retrieveLatestSimulationResultsByModule(String module) {
         try {
-            Optional<SewSimulationResults> latestResult = sewSimulationResultsRepository.findFirstByModuleIdOrderByTimestampDesc(module);
+            Optional<SewSimulationResultsDto> latestResult = latestResultCache.retrieveLatest(LatestResultType.SEW_SIMULATION, module,
+                    () -> sewSimulationResultsRepository.findFirstByModuleIdOrderByTimestampDesc(module).map(result -> modelMapper.map(result, SewSimulationResultsDto.class)));
             if (latestResult.isEmpty())
                 throw new ResourceNotFoundException("No SEW Simulation Results for Module: " + module + " found");
 
-            return modelMapper.map(latestResult.get(), SewSimulationResultsDto.class);
+            return latestResult.get();
         } catch (MappingException e){
             log.error(MAPPING_ERROR + "for Module {} - {}", module, e.getMessage());
             throw new ModelMappingException("Unable to parse SEW Simulation Results to DTO for Module: " + module + " - Error: " + e.getMessage());
         }
     }
 
+    /**
+     * Invoke Simulation of Production Schedules and Register the Scheduled Task with the input data, if a frequency is given
+     *
+     * @param invocationData Invocation Data for Simulation of Prod. Schedules
+     */
+    @Override
+    public void invokeAndRegisterSimulationOfProductionSchedules(SewSimulationInputDto invocationData) {
+        invokeSimulationOfProductionSchedules(invocationData);
+
+        if (invocationData.getFrequencyValue() != null && invocationData.getFrequencyType() != null)
+            publishScheduledTaskRegistration(invocationData.getModuleId(), invocationData.getSmartServiceId(),
+                    invocationData.getFrequencyValue(), invocationData.getFrequencyType(), invocationData);
+    }
+
     /**
      * Invoke Simulation of Production Schedules
      *
@@ -129,4 +157,24 @@ public class SewSimulationService implements IProductionScheduleSimulationServic
             throw new ServiceOperationException("Failed to upload SEW Current Environment - Error: " + e.getMessage());
         }
     }
+
+    /*
+     * Helper method to publish the event that registers a new Scheduled Task
+     */
+    private void publishScheduledTaskRegistration(String moduleId, String smartServiceId, Integer frequencyValue, FrequencyType frequencyType, Object requestBody) {
+        // Create the scheduled task
+        ScheduledTaskDto newTask = ScheduledTaskDto.builder()
+                .frequencyValue(frequencyValue)
+                .frequencyType(frequencyType)
+                .smartServiceId(smartServiceId)
+                .moduleId(moduleId)
+                .smartServiceType(SCHEDULED_TASK_TYPE)
+                .requestBody(requestBody)
+                .build();
+
+        // Publish event
+        ScheduledTaskRegistrationEvent event = new ScheduledTaskRegistrationEvent(this, newTask, SCHEDULED_TASK_TYPE);
+        eventPublisher.publishEvent(event);
+        log.debug("Event published to register a new Scheduled Task - Event: {}", event);
+    }
 }
@@ -1,5 +1,6 @@
 package gr.atc.modapto.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gr.atc.modapto.config.properties.KeycloakProperties;
@@ -28,7 +29,11 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -406,11 +411,47 @@ public class SmartServicesInvocationService {
         // Encode the invocationData to Base64
         String encodedInput;
         try {
-            encodedInput = Base64.getEncoder().encodeToString(objectMapper.writeValueAsString(inputData).getBytes());
+            encodedInput = Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(inputData));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
 
+        return implementSyncSmartServiceRequest(encodedInput, moduleId, smartServiceId);
+    }
+
+    /**
+     * Writer of a JSON request body that is generated incrementally
+     */
+    @FunctionalInterface
+    public interface JsonPayloadWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Implement SYNC request to Smart Services via DT with a request body that is written directly into the Base64 encoder,
+     * so that large inputs (e.g. stored results streamed page by page) are never held as intermediate objects or JSON strings
+     *
+     * @param payloadWriter : Writer of the JSON request body
+     * @param moduleId : Module ID
+     * @param smartServiceId : Smart Service ID
+     * @return ResponseEntity<DtResponseDto>
+     */
+    public ResponseEntity<DtResponseDto> formulateAndImplementStreamedSyncSmartServiceRequest(JsonPayloadWriter payloadWriter, String moduleId, String smartServiceId) {
+        ByteArrayOutputStream encodedOutput = new ByteArrayOutputStream();
+        try (OutputStream base64Output = Base64.getEncoder().wrap(encodedOutput);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(base64Output)) {
+            payloadWriter.writeTo(generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return implementSyncSmartServiceRequest(encodedOutput.toString(StandardCharsets.US_ASCII), moduleId, smartServiceId);
+    }
+
+    /*
+     * Helper method to wrap the Base64 encoded input and invoke the Smart Service synchronously
+     */
+    private ResponseEntity<DtResponseDto> implementSyncSmartServiceRequest(String encodedInput, String moduleId, String smartServiceId) {
         SmartServiceRequest smartServiceRequest = SmartServiceRequest.builder()
                 .request(encodedInput)
                 .build();
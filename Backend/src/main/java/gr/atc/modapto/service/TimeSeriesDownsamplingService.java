@@ -0,0 +1,100 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.enums.DownsamplingMethod;
+import gr.atc.modapto.util.TimeSeriesDownsampler;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server-side downsampling of the Self-Awareness Monitoring KPIs series, so that dashboards receive
+ * only the points they can render. Downsampling is a single linear pass over a series that has already been
+ * loaded and mapped, hence series are downsampled on every request instead of being cached
+ */
+@Service
+public class TimeSeriesDownsamplingService {
+
+    public static final int DEFAULT_TARGET_POINTS = 500;
+    public static final int MIN_TARGET_POINTS = 3;
+    public static final int MAX_TARGET_POINTS = 10000;
+
+    /**
+     * Downsample the series of a Self-Awareness Monitoring KPIs result. If neither method nor target points
+     * are given the result is returned as it is, otherwise LTTB and 500 points are used as defaults
+     *
+     * @param result : Self-Awareness Monitoring KPIs result
+     * @param method : Downsampling method
+     * @param targetPoints : Maximum number of points
+     * @return SewSelfAwarenessMonitoringKpisResultsDto with the downsampled series
+     */
+    public SewSelfAwarenessMonitoringKpisResultsDto downsample(SewSelfAwarenessMonitoringKpisResultsDto result, DownsamplingMethod method, Integer targetPoints) {
+        if (result == null || (method == null && targetPoints == null))
+            return result;
+
+        DownsamplingMethod resolvedMethod = method != null ? method : DownsamplingMethod.LTTB;
+        int resolvedTargetPoints = targetPoints != null ? targetPoints : DEFAULT_TARGET_POINTS;
+        if (result.getData() == null || result.getData().size() <= resolvedTargetPoints)
+            return result;
+
+        TimeSeriesDownsampler.Series series = TimeSeriesDownsampler.downsample(toPrimitiveArray(result.getData()), resolvedTargetPoints, resolvedMethod);
+
+        List<Double> values = new ArrayList<>(series.size());
+        List<Integer> indices = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            values.add(series.values()[i]);
+            indices.add(series.indices()[i]);
+        }
+
+        return result.toBuilder()
+                .data(values)
+                .dataIndices(indices)
+                .build();
+    }
+
+    /**
+     * Downsample the series of a list of Self-Awareness Monitoring KPIs results
+     *
+     * @param results : Self-Awareness Monitoring KPIs results
+     * @param method : Downsampling method
+     * @param targetPoints : Maximum number of points
+     * @return List<SewSelfAwarenessMonitoringKpisResultsDto> with the downsampled series
+     */
+    public List<SewSelfAwarenessMonitoringKpisResultsDto> downsample(List<SewSelfAwarenessMonitoringKpisResultsDto> results, DownsamplingMethod method, Integer targetPoints) {
+        if (results == null || (method == null && targetPoints == null))
+            return results;
+
+        return results.stream()
+                .map(result -> downsample(result, method, targetPoints))
+                .toList();
+    }
+
+    /**
+     * Downsample the series of a page of Self-Awareness Monitoring KPIs results
+     *
+     * @param page : Page of Self-Awareness Monitoring KPIs results
+     * @param method : Downsampling method
+     * @param targetPoints : Maximum number of points
+     * @return CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> with the downsampled series
+     */
+    public CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> downsample(CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> page,
+                                                                                           DownsamplingMethod method, Integer targetPoints) {
+        if (page == null || (method == null && targetPoints == null))
+            return page;
+
+        return new CursorPaginatedResultsDto<>(downsample(page.getResults(), method, targetPoints), page.getNextCursor(), page.getLastPage());
+    }
+
+    /*
+     * Helper method to unbox a series once into a primitive array
+     */
+    private double[] toPrimitiveArray(List<Double> data) {
+        double[] values = new double[data.size()];
+        int i = 0;
+        for (Double value : data)
+            values[i++] = value != null ? value : Double.NaN;
+        return values;
+    }
+}
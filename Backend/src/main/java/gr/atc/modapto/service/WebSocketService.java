@@ -1,38 +1,103 @@
 package gr.atc.modapto.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.messaging.Message;
 import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
-import lombok.AllArgsConstructor;
+import gr.atc.modapto.config.properties.WebSocketLoggingProperties;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@AllArgsConstructor
 @Slf4j
 public class WebSocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
 
+    private final WebSocketLoggingProperties loggingProperties;
+
+    private final WebSocketSubscriptionRegistry subscriptionRegistry;
+
+    private final AtomicLong sentMessages = new AtomicLong();
+
+    public WebSocketService(SimpMessagingTemplate messagingTemplate, WebSocketLoggingProperties loggingProperties,
+                            WebSocketSubscriptionRegistry subscriptionRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.loggingProperties = loggingProperties;
+        this.subscriptionRegistry = subscriptionRegistry;
+    }
+
+    /**
+     * Check whether any client is subscribed to the WebSocket topic, so that messages without receivers are not built
+     *
+     * @param topicName : Topic to publish messages
+     * @return True if at least one client is subscribed, False otherwise
+     */
+    public boolean hasSubscribers(String topicName) {
+        return subscriptionRegistry.hasSubscribers(topicName);
+    }
+
     /**
      * Notify all users listening to a specific topic through WebSocket
-     * 
+     *
      * @param message : String message
      * @param topicName : Topic to publish message
      */
     public void notifyInWebSocketTopic(String message, String topicName){
+        if (!hasSubscribers(topicName))
+            return;
+
         try {
             String websocketTopic = "/topic/events/" + topicName.toLowerCase();
-            log.info("Notifying websocket topic: {} with message: {}", websocketTopic, message);
+            logMessage(websocketTopic, message.length(), message);
             messagingTemplate.convertAndSend(websocketTopic, message);
         } catch (MessagingException e) {
             log.error("Error in sending data via websockets - {}", e.getMessage());
         }
     }
 
+    /**
+     * Notify all users listening to a specific topic through WebSocket with a serialized JSON message, sent as is
+     *
+     * @param payload : JSON bytes of the message
+     * @param topicName : Topic to publish message
+     */
+    public void notifyInWebSocketTopic(byte[] payload, String topicName) {
+        notifyInWebSocketTopic(List.of(payload), topicName);
+    }
+
+    /**
+     * Notify all users listening to a specific topic through WebSocket with several serialized JSON messages, in the given order
+     *
+     * @param payloads : JSON bytes of the messages
+     * @param topicName : Topic to publish messages
+     */
+    public void notifyInWebSocketTopic(List<byte[]> payloads, String topicName) {
+        if (!hasSubscribers(topicName))
+            return;
+
+        String websocketTopic = "/topic/events/" + topicName.toLowerCase();
+        for (byte[] payload : payloads) {
+            try {
+                logMessage(websocketTopic, payload.length, payload);
+                messagingTemplate.send(websocketTopic, createJsonMessage(payload));
+            } catch (MessagingException e) {
+                log.error("Error in sending data via websockets - {}", e.getMessage());
+            }
+        }
+    }
+
     /**
      * Notify specific user through WebSocket
-     * 
+     *
      * @param userId : User ID of user that will be connected to specific topics
      * @param message : String message
      */
@@ -45,5 +110,38 @@ public class WebSocketService {
             log.error("Error in sending data to user via websockets - {}", e.getMessage());
         }
     }
-}
 
+    /*
+     * Helper method to create a message with a JSON payload, bypassing the message converters
+     */
+    private Message<byte[]> createJsonMessage(byte[] payload) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerAccessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headerAccessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
+    }
+
+    /*
+     * Helper method to log a sent message. Bodies are only logged for one in every 'bodySampleRate' messages and truncated,
+     * so that large results are neither copied nor written to the logs on every message
+     */
+    private void logMessage(String websocketTopic, int size, Object body) {
+        long sequence = sentMessages.incrementAndGet();
+        int sampleRate = loggingProperties.bodySampleRate();
+        if (sampleRate > 0 && (sequence - 1) % sampleRate == 0 && log.isInfoEnabled()) {
+            log.info("Notifying websocket topic: {} with message (sampled, length {}): {}", websocketTopic, size, truncate(body));
+        } else {
+            log.debug("Notifying websocket topic: {} with message of length {}", websocketTopic, size);
+        }
+    }
+
+    private String truncate(Object body) {
+        int maxLength = loggingProperties.bodyMaxLength();
+        if (body instanceof byte[] bytes) {
+            String prefix = new String(bytes, 0, Math.min(bytes.length, maxLength), StandardCharsets.UTF_8);
+            return bytes.length > maxLength ? prefix + "..." : prefix;
+        }
+        String text = body.toString();
+        return text.length() > maxLength ? text.substring(0, maxLength) + "..." : text;
+    }
+}
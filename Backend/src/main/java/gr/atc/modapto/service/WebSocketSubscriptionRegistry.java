@@ -0,0 +1,165 @@
+package gr.atc.modapto.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Active STOMP subscriptions to the event topics, tracked from the subscribe, unsubscribe and disconnect events of the
+ * WebSocket sessions. Used to skip the dispatch of events to topics without subscribers. The number of subscribers
+ * of every subscribed topic is exposed as 'websocket.topic.subscribers', a topic and its gauge are removed once its last
+ * subscription ends so that arbitrary destinations do not accumulate
+ */
+@Component
+@Slf4j
+public class WebSocketSubscriptionRegistry {
+
+    static final String EVENTS_DESTINATION_PREFIX = "/topic/events/";
+
+    private final MeterRegistry meterRegistry;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    // Session ID -> Subscription ID -> Destination
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, TopicSubscribers> destinationSubscribers = new ConcurrentHashMap<>();
+
+    public WebSocketSubscriptionRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record TopicSubscribers(AtomicInteger count, Gauge gauge) {}
+
+    /**
+     * Register a subscription to an event topic
+     *
+     * @param event : STOMP SUBSCRIBE of a session
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor headers = headersOf(event);
+        String destination = headers.getDestination();
+        if (headers.getSessionId() == null || headers.getSubscriptionId() == null
+                || destination == null || !destination.startsWith(EVENTS_DESTINATION_PREFIX))
+            return;
+
+        String previousDestination = sessionSubscriptions
+                .computeIfAbsent(headers.getSessionId(), sessionId -> new ConcurrentHashMap<>())
+                .put(headers.getSubscriptionId(), destination);
+        if (previousDestination != null)
+            decrement(previousDestination);
+        increment(destination);
+        log.debug("Session {} subscribed to {}", headers.getSessionId(), destination);
+    }
+
+    /**
+     * Remove a subscription of a session
+     *
+     * @param event : STOMP UNSUBSCRIBE of a session
+     */
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor headers = headersOf(event);
+        if (headers.getSessionId() == null || headers.getSubscriptionId() == null)
+            return;
+
+        Map<String, String> subscriptions = sessionSubscriptions.get(headers.getSessionId());
+        if (subscriptions == null)
+            return;
+        String destination = subscriptions.remove(headers.getSubscriptionId());
+        if (destination != null)
+            decrement(destination);
+    }
+
+    /**
+     * Remove every subscription of a closed session
+     *
+     * @param event : Disconnect of a session, possibly published more than once
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null)
+            subscriptions.values().forEach(this::decrement);
+    }
+
+    /**
+     * Check whether any session is subscribed to the WebSocket topic of an event topic, directly or with a pattern
+     *
+     * @param topicName : Event topic
+     * @return True if at least one session is subscribed, False otherwise
+     */
+    public boolean hasSubscribers(String topicName) {
+        String destination = EVENTS_DESTINATION_PREFIX + topicName.toLowerCase();
+        TopicSubscribers subscribers = destinationSubscribers.get(destination);
+        if (subscribers != null && subscribers.count().get() > 0)
+            return true;
+
+        return destinationSubscribers.entrySet().stream()
+                .anyMatch(entry -> entry.getValue().count().get() > 0
+                        && pathMatcher.isPattern(entry.getKey())
+                        && pathMatcher.match(entry.getKey(), destination));
+    }
+
+    /**
+     * Retrieve the number of subscriptions to the WebSocket topic of an event topic
+     *
+     * @param topicName : Event topic
+     * @return Number of subscriptions
+     */
+    public int getSubscriberCount(String topicName) {
+        TopicSubscribers subscribers = destinationSubscribers.get(EVENTS_DESTINATION_PREFIX + topicName.toLowerCase());
+        return subscribers != null ? subscribers.count().get() : 0;
+    }
+
+    /*
+     * Helper method to count a subscription of a destination, registering its gauge on the first one
+     */
+    private void increment(String destination) {
+        destinationSubscribers.compute(destination, (key, current) -> {
+            TopicSubscribers subscribers = current;
+            if (subscribers == null) {
+                AtomicInteger count = new AtomicInteger();
+                Gauge gauge = Gauge.builder("websocket.topic.subscribers", count, AtomicInteger::get)
+                        .description("Number of STOMP subscriptions to a WebSocket event topic")
+                        .tag("topic", key.substring(EVENTS_DESTINATION_PREFIX.length()))
+                        .register(meterRegistry);
+                subscribers = new TopicSubscribers(count, gauge);
+            }
+            subscribers.count().incrementAndGet();
+            return subscribers;
+        });
+    }
+
+    /*
+     * Helper method to remove a subscription of a destination, removing the destination and its gauge with the last one
+     */
+    private void decrement(String destination) {
+        destinationSubscribers.computeIfPresent(destination, (key, subscribers) -> {
+            if (subscribers.count().decrementAndGet() > 0)
+                return subscribers;
+            meterRegistry.remove(subscribers.gauge());
+            return null;
+        });
+    }
+
+    private static SimpMessageHeaderAccessor headersOf(AbstractSubProtocolEvent event) {
+        return SimpMessageHeaderAccessor.wrap(event.getMessage());
+    }
+}
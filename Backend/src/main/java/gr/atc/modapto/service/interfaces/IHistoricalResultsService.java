@@ -0,0 +1,16 @@
+package gr.atc.modapto.service.interfaces;
+
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.HistoricalResultsQueryDto;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface IHistoricalResultsService {
+
+    CursorPaginatedResultsDto<Object> retrieveHistoricalResults(HistoricalResultsQueryDto query, String cursor, int size);
+
+    void validateHistoricalResultsQuery(HistoricalResultsQueryDto query);
+
+    void streamHistoricalResults(HistoricalResultsQueryDto query, Consumer<List<Object>> pageConsumer);
+}
@@ -6,6 +6,8 @@ import gr.atc.modapto.dto.serviceResults.crf.CrfOptimizationResultsDto;
 
 public interface IKhPickingSequenceOptimizationService extends IOptimizationService<CrfOptimizationResultsDto> {
 
+    void invokeAndRegisterOptimizationOfKhPickingSequence(CrfInvocationInputDto invocationData);
+
     void invokeOptimizationOfKhPickingSequence(CrfInvocationInputDto invocationData);
 
     CrfOptimizationKittingConfigDto retrieveOptimizationKittingConfig();
@@ -24,12 +24,18 @@ public interface IPredictiveMaintenanceService {
 
     void locateLastMaintenanceActionForStoredComponents();
 
+    void invokeAndRegisterGroupingPredictiveMaintenance(SewGroupingPredictiveMaintenanceInputDataDto invocationData);
+
     void invokeGroupingPredictiveMaintenance(SewGroupingPredictiveMaintenanceInputDataDto invocationData);
 
     SewThresholdBasedPredictiveMaintenanceOutputDto invokeAndRegisterThresholdBasedPredictiveMaintenance(SewThresholdBasedMaintenanceInputDataDto invocationData);
 
     SewThresholdBasedPredictiveMaintenanceOutputDto invokeThresholdBasedPredictiveMaintenance(SewThresholdBasedMaintenanceInputDataDto invocationData);
 
+    SewThresholdBasedPredictiveMaintenanceOutputDto invokeThresholdBasedPredictiveMaintenance(SewThresholdBasedMaintenanceInputDataDto invocationData, List<MaintenanceDataDto> maintenanceEvents);
+
+    List<MaintenanceDataDto> retrieveThresholdBasedMaintenanceEvents();
+
     SewThresholdBasedPredictiveMaintenanceOutputDto retrieveLatestThresholdBasedMaintenanceResults(String moduleId);
 
     SewGroupingPredictiveMaintenanceOutputDto retrieveLatestGroupingMaintenanceResults(String moduleId);
@@ -6,6 +6,8 @@ import gr.atc.modapto.dto.sew.SewPlantEnvironmentDto;
 
 public interface IProductionScheduleSimulationService extends ISimulationService<SewSimulationResultsDto> {
 
+    void invokeAndRegisterSimulationOfProductionSchedules(SewSimulationInputDto invocationData);
+
     void invokeSimulationOfProductionSchedules(SewSimulationInputDto invocationData);
 
     SewPlantEnvironmentDto retrieveLatestPlantEnvironment();
@@ -1,9 +1,13 @@
 package gr.atc.modapto.service.interfaces;
 
 import gr.atc.modapto.dto.ScheduledTaskDto;
+import gr.atc.modapto.dto.ScheduledTaskExecutionDto;
+import gr.atc.modapto.dto.ScheduledTaskRecoveryStatusDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface IScheduledTaskService {
 
     boolean registerScheduledTask(ScheduledTaskDto task);
@@ -11,4 +15,8 @@ public interface IScheduledTaskService {
     Page<ScheduledTaskDto> retrieveScheduledTaskBySmartServiceType(Pageable pageable, String smartServiceType);
 
     void deleteScheduledTaskById(String taskId);
+
+    ScheduledTaskRecoveryStatusDto retrieveRecoveryStatus();
+
+    List<ScheduledTaskExecutionDto> retrieveRecentExecutions(String taskId, int limit);
 }
@@ -1,18 +1,27 @@
 package gr.atc.modapto.service.interfaces;
 
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
 import gr.atc.modapto.dto.serviceInvocations.GlobalRequestDto;
 import gr.atc.modapto.dto.serviceInvocations.SewLocalAnalyticsInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessMonitoringKpisInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessRealTimeMonitoringInputDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewHistogramDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiQueryResultDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiStoreStatusDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewRealTimeMonitoringSeriesDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessRealTimeMonitoringResultsDto;
+import gr.atc.modapto.dto.sew.SewKpiQueryDto;
 import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ISewSelfAwarenessService {
 
+    void invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(SewSelfAwarenessMonitoringKpisInputDto invocationData);
+
     void invokeSelfAwarenessMonitoringKpisAlgorithm(SewSelfAwarenessMonitoringKpisInputDto invocationData);
 
     SewSelfAwarenessMonitoringKpisResultsDto retrieveLatestSelfAwarenessMonitoringKpisResults();
@@ -23,12 +32,26 @@ public interface ISewSelfAwarenessService {
 
     List<SewSelfAwarenessMonitoringKpisResultsDto> retrieveAllSelfAwarenessMonitoringKpisResultsByModuleId(String moduleId);
 
+    CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> retrieveSelfAwarenessMonitoringKpisResultsPage(String moduleId, String cursor, int size);
+
+    void streamSelfAwarenessMonitoringKpisResults(String moduleId, Consumer<List<SewSelfAwarenessMonitoringKpisResultsDto>> pageConsumer);
+
+    void invokeAndRegisterSelfAwarenessRealTimeMonitoringAlgorithm(SewSelfAwarenessRealTimeMonitoringInputDto invocationData);
+
     void invokeSelfAwarenessRealTimeMonitoringAlgorithm(SewSelfAwarenessRealTimeMonitoringInputDto invocationData);
 
     List<SewSelfAwarenessRealTimeMonitoringResultsDto> retrieveAllSelfAwarenessRealTimeMonitoringResults();
 
     List<SewSelfAwarenessRealTimeMonitoringResultsDto> retrieveAllSelfAwarenessRealTimeMonitoringResultsByModuleId(String moduleId);
 
+    CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResultsDto> retrieveSelfAwarenessRealTimeMonitoringResultsPage(String moduleId, String cursor, int size);
+
+    List<SewSelfAwarenessRealTimeMonitoringResultsDto> retrieveCurrentSelfAwarenessRealTimeMonitoringResults(String moduleId);
+
+    List<SewRealTimeMonitoringSeriesDto> retrieveRecentSelfAwarenessRealTimeMonitoringResults(String moduleId, int limit);
+
+    void streamSelfAwarenessRealTimeMonitoringResults(String moduleId, Consumer<List<SewSelfAwarenessRealTimeMonitoringResultsDto>> pageConsumer);
+
     void uploadModuleComponentsList(SewMonitorKpisComponentsDto componentsData);
 
     SewMonitorKpisComponentsDto retrieveSelfAwarenessComponentListByModuleId(String moduleId);
@@ -38,4 +61,10 @@ public interface ISewSelfAwarenessService {
     SewFilteringOptionsDto retrieveFilteringOptionsForLocalAnalytics(GlobalRequestDto request);
 
     String generateHistogramForComparingModules(GlobalRequestDto<SewLocalAnalyticsInputDto> request);
+
+    SewHistogramDto computeHistogramForComparingModules(GlobalRequestDto<SewLocalAnalyticsInputDto> request);
+
+    SewKpiQueryResultDto queryMonitoringKpisStore(SewKpiQueryDto query);
+
+    SewKpiStoreStatusDto retrieveMonitoringKpisStoreStatus();
 }
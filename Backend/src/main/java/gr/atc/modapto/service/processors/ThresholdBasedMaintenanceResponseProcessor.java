@@ -7,8 +7,10 @@ import static gr.atc.modapto.exception.CustomExceptions.*;
 
 import gr.atc.modapto.dto.dt.SmartServiceResponse;
 import gr.atc.modapto.dto.serviceResults.sew.SewThresholdBasedPredictiveMaintenanceOutputDto;
+import gr.atc.modapto.enums.LatestResultType;
 import gr.atc.modapto.model.serviceResults.SewThresholdBasedPredictiveMaintenanceResult;
 import gr.atc.modapto.repository.SewThresholdBasedPredictiveMaintenanceRepository;
+import gr.atc.modapto.service.LatestResultCacheService;
 import gr.atc.modapto.service.interfaces.IResponseProcessor;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
@@ -29,14 +31,17 @@ public class ThresholdBasedMaintenanceResponseProcessor implements IResponseProc
     private final SewThresholdBasedPredictiveMaintenanceRepository repository;
     private final ModelMapper modelMapper;
     private final ObjectMapper objectMapper;
+    private final LatestResultCacheService latestResultCache;
 
     public ThresholdBasedMaintenanceResponseProcessor(
             SewThresholdBasedPredictiveMaintenanceRepository repository,
             ModelMapper modelMapper,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            LatestResultCacheService latestResultCache) {
         this.repository = repository;
         this.modelMapper = modelMapper;
         this.objectMapper = objectMapper;
+        this.latestResultCache = latestResultCache;
     }
 
     @Override
@@ -86,6 +91,10 @@ public class ThresholdBasedMaintenanceResponseProcessor implements IResponseProc
                     SewThresholdBasedPredictiveMaintenanceResult.class
             );
             repository.save(result);
+
+            // Cache a copy of the stored result, as the returned DTO is owned by the caller
+            latestResultCache.update(LatestResultType.SEW_THRESHOLD_PREDICTIVE_MAINTENANCE, moduleId,
+                    modelMapper.map(result, SewThresholdBasedPredictiveMaintenanceOutputDto.class));
             
             logger.debug("Successfully processed and saved  threshold-based predictive maintenance results for module: {}", moduleId);
             
@@ -0,0 +1,178 @@
+package gr.atc.modapto.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Time-series stored as two primitive columns (timestamps and values) split in fixed-size segments.
+ * Values are kept in ascending timestamp order, so time ranges are resolved with a binary search,
+ * and memory is released by evicting the oldest segment. Not thread-safe, callers are expected to guard it with a lock
+ * <p>
+ * Footprint: 16 bytes per value (one long and one double) plus two array headers per segment
+ */
+public final class ColumnarSeries {
+
+    /** Approximate overhead of a series with its segment lists, independent of the number of values */
+    public static final long SERIES_OVERHEAD_BYTES = 256;
+
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    private final int segmentSize;
+
+    private final List<long[]> timestampSegments = new ArrayList<>();
+
+    private final List<double[]> valueSegments = new ArrayList<>();
+
+    private int size;
+
+    public ColumnarSeries(int segmentSize) {
+        if (segmentSize < 1)
+            throw new IllegalArgumentException("Segment size must be positive");
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Append a value to the end of the series
+     *
+     * @param timestamp : Epoch milliseconds of the value, not older than the last value
+     * @param value : KPI value
+     */
+    public void append(long timestamp, double value) {
+        if (size > 0 && timestamp < lastTimestamp())
+            throw new IllegalArgumentException("Values must be appended in ascending timestamp order");
+
+        int offset = size % segmentSize;
+        if (offset == 0) {
+            timestampSegments.add(new long[segmentSize]);
+            valueSegments.add(new double[segmentSize]);
+        }
+        timestampSegments.getLast()[offset] = timestamp;
+        valueSegments.getLast()[offset] = value;
+        size++;
+    }
+
+    /**
+     * Insert a value at its timestamp position, shifting the newer values of the affected tail segments by one
+     * Values with the same timestamp keep their insertion order
+     *
+     * @param timestamp : Epoch milliseconds of the value
+     * @param value : KPI value
+     */
+    public void insert(long timestamp, double value) {
+        if (size == 0 || timestamp >= lastTimestamp()) {
+            append(timestamp, value);
+            return;
+        }
+
+        int position = lowerBound(timestamp + 1);
+        // Duplicate the last value to grow the series, then shift the tail from the last segment down to the position
+        append(lastTimestamp(), valueAt(size - 1));
+        int lastSegment = (size - 1) / segmentSize;
+        int firstSegment = position / segmentSize;
+        for (int segment = lastSegment; segment >= firstSegment; segment--) {
+            long[] timestamps = timestampSegments.get(segment);
+            double[] values = valueSegments.get(segment);
+            int from = segment == firstSegment ? position % segmentSize : 0;
+            int last = segment == lastSegment ? (size - 1) % segmentSize : segmentSize - 1;
+            System.arraycopy(timestamps, from, timestamps, from + 1, last - from);
+            System.arraycopy(values, from, values, from + 1, last - from);
+            if (segment > firstSegment) {
+                timestamps[0] = timestampSegments.get(segment - 1)[segmentSize - 1];
+                values[0] = valueSegments.get(segment - 1)[segmentSize - 1];
+            } else {
+                timestamps[from] = timestamp;
+                values[from] = value;
+            }
+        }
+    }
+
+    /**
+     * Evict the oldest segment of the series
+     *
+     * @return Number of evicted values
+     */
+    public int evictOldestSegment() {
+        if (size == 0)
+            return 0;
+
+        int evicted = Math.min(segmentSize, size);
+        timestampSegments.removeFirst();
+        valueSegments.removeFirst();
+        size -= evicted;
+        return evicted;
+    }
+
+    /**
+     * Find the first position with a timestamp equal to or after the given one
+     *
+     * @param timestamp : Epoch milliseconds
+     * @return Position of the first matching value, the size of the series if there is none
+     */
+    public int lowerBound(long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestampAt(middle) < timestamp)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * Hand the values of a range of positions to the consumer, one segment at a time
+     *
+     * @param from : First position, inclusive
+     * @param to : Last position, exclusive
+     * @param consumer : Consumer of the values
+     */
+    public void forEachValue(int from, int to, DoubleConsumer consumer) {
+        int position = Math.max(from, 0);
+        int end = Math.min(to, size);
+        while (position < end) {
+            double[] segment = valueSegments.get(position / segmentSize);
+            int offset = position % segmentSize;
+            int length = Math.min(segmentSize - offset, end - position);
+            for (int i = offset; i < offset + length; i++)
+                consumer.accept(segment[i]);
+            position += length;
+        }
+    }
+
+    public long timestampAt(int position) {
+        return timestampSegments.get(position / segmentSize)[position % segmentSize];
+    }
+
+    public double valueAt(int position) {
+        return valueSegments.get(position / segmentSize)[position % segmentSize];
+    }
+
+    public long firstTimestamp() {
+        return timestampAt(0);
+    }
+
+    public long lastTimestamp() {
+        return timestampAt(size - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Estimate the memory allocated by the series, including the unused part of the last segment
+     *
+     * @return Estimated size in bytes
+     */
+    public long estimatedBytes() {
+        long segmentBytes = 2 * (ARRAY_HEADER_BYTES + (long) segmentSize * Long.BYTES);
+        return SERIES_OVERHEAD_BYTES + timestampSegments.size() * segmentBytes;
+    }
+}
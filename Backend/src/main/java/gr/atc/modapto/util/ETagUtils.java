@@ -0,0 +1,97 @@
+package gr.atc.modapto.util;
+
+import gr.atc.modapto.controller.BaseResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for the polled result endpoints. The ETag of a result is derived from its ID and timestamp,
+ * which change with every stored result, so that unchanged results are answered with '304 Not Modified' before their
+ * response body is built or serialized
+ */
+public class ETagUtils {
+
+    private static final String WILDCARD = "*";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagUtils() {
+    }
+
+    /**
+     * Create the strong ETag of a result
+     *
+     * @param id : Result ID
+     * @param timestamp : Result timestamp
+     * @param variants : Request parameters changing the representation of the result, e.g. the encoding of a series
+     * @return Quoted ETag, null if the result has neither ID nor timestamp
+     */
+    public static String resultETag(String id, Object timestamp, Object... variants) {
+        if (id == null && timestamp == null)
+            return null;
+
+        StringBuilder key = new StringBuilder()
+                .append(id).append('|')
+                .append(timestamp);
+        for (Object variant : variants)
+            key.append('|').append(variant);
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Check whether an 'If-None-Match' header matches an ETag, using the weak comparison required for 'If-None-Match'
+     *
+     * @param ifNoneMatch : Value of the 'If-None-Match' header, may be null
+     * @param eTag : Quoted ETag of the current result, may be null
+     * @return True if the client already holds the current result
+     */
+    public static boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null)
+            return false;
+
+        String current = stripWeakPrefix(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals(WILDCARD) || stripWeakPrefix(trimmed).equals(current))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Create the response of a polled result, either '304 Not Modified' if the client holds the current result
+     * or '200 OK' with the body created by the given supplier
+     *
+     * @param ifNoneMatch : Value of the 'If-None-Match' header, may be null
+     * @param eTag : Quoted ETag of the current result, no ETag is sent if null
+     * @param cacheControl : Cache-Control of the endpoint
+     * @param body : Supplier of the response body, only called for '200 OK'
+     * @return ResponseEntity<BaseResponse<T>>
+     */
+    public static <T> ResponseEntity<BaseResponse<T>> conditionalResponse(String ifNoneMatch, String eTag, CacheControl cacheControl,
+                                                                          Supplier<BaseResponse<T>> body) {
+        if (isNotModified(ifNoneMatch, eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(cacheControl);
+        if (eTag != null)
+            response.eTag(eTag);
+        return response.body(body.get());
+    }
+
+    /*
+     * Helper method to remove the weak indicator of an ETag
+     */
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+}
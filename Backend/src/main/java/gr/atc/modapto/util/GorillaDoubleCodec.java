@@ -0,0 +1,198 @@
+package gr.atc.modapto.util;
+
+import java.util.Arrays;
+
+/**
+ * Lossless XOR compression of double series as introduced by Facebook's Gorilla time-series database.
+ * Every value is XOR-ed with its predecessor, so that repeated values cost a single bit and slowly changing
+ * values only store the bits that differ. The encoded form starts with the number of values as an unsigned varint
+ */
+public class GorillaDoubleCodec {
+
+    private static final int MAX_LEADING_ZEROS = 31;
+
+    private GorillaDoubleCodec() {
+    }
+
+    /**
+     * Compress a series of values. NaN and infinite values are kept as they are
+     *
+     * @param values : Series
+     * @return Encoded series
+     */
+    public static byte[] encode(double[] values) {
+        BitWriter writer = new BitWriter(values.length * 2 + 10);
+        writeVarInt(writer, values.length);
+        if (values.length == 0)
+            return writer.toByteArray();
+
+        long previous = Double.doubleToRawLongBits(values[0]);
+        writer.writeBits(previous, Long.SIZE);
+
+        int previousLeading = -1;
+        int previousTrailing = 0;
+        for (int i = 1; i < values.length; i++) {
+            long current = Double.doubleToRawLongBits(values[i]);
+            long xor = current ^ previous;
+            previous = current;
+
+            if (xor == 0) {
+                writer.writeBit(false);
+                continue;
+            }
+            writer.writeBit(true);
+
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), MAX_LEADING_ZEROS);
+            int trailing = Long.numberOfTrailingZeros(xor);
+            if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                // The differing bits fit in the window of the previous value
+                writer.writeBit(false);
+                writer.writeBits(xor >>> previousTrailing, Long.SIZE - previousLeading - previousTrailing);
+            } else {
+                int meaningful = Long.SIZE - leading - trailing;
+                writer.writeBit(true);
+                writer.writeBits(leading, 5);
+                writer.writeBits(meaningful - 1L, 6);
+                writer.writeBits(xor >>> trailing, meaningful);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decompress a series of values
+     *
+     * @param encoded : Encoded series
+     * @return Series
+     * @throws IllegalArgumentException if the encoded series is truncated or corrupted
+     */
+    public static double[] decode(byte[] encoded) {
+        BitReader reader = new BitReader(encoded);
+        int count = readVarInt(reader);
+        // Every value after the first takes at least one bit
+        if (count < 0 || (count > 0 && count - 1L > (long) encoded.length * Byte.SIZE - Long.SIZE))
+            throw new IllegalArgumentException("Invalid number of encoded values: " + count);
+
+        double[] values = new double[count];
+        if (count == 0)
+            return values;
+
+        long previous = reader.readBits(Long.SIZE);
+        values[0] = Double.longBitsToDouble(previous);
+
+        int previousLeading = 0;
+        int previousTrailing = 0;
+        for (int i = 1; i < count; i++) {
+            if (reader.readBit()) {
+                if (reader.readBit()) {
+                    previousLeading = (int) reader.readBits(5);
+                    previousTrailing = Long.SIZE - previousLeading - ((int) reader.readBits(6) + 1);
+                    if (previousTrailing < 0)
+                        throw new IllegalArgumentException("Invalid encoded block at value " + i);
+                }
+                previous ^= reader.readBits(Long.SIZE - previousLeading - previousTrailing) << previousTrailing;
+            }
+            values[i] = Double.longBitsToDouble(previous);
+        }
+        return values;
+    }
+
+    /*
+     * Helper method to write a non-negative int as an unsigned varint, 7 bits per byte
+     */
+    private static void writeVarInt(BitWriter writer, int value) {
+        while ((value & ~0x7F) != 0) {
+            writer.writeBits((value & 0x7F) | 0x80, Byte.SIZE);
+            value >>>= 7;
+        }
+        writer.writeBits(value, Byte.SIZE);
+    }
+
+    /*
+     * Helper method to read an unsigned varint
+     */
+    private static int readVarInt(BitReader reader) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int current = (int) reader.readBits(Byte.SIZE);
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Invalid number of encoded values");
+    }
+
+    /*
+     * Growable bit stream, bits are written from the most significant bit of every byte
+     */
+    private static final class BitWriter {
+        private byte[] bytes;
+        private long bitPosition;
+
+        BitWriter(int initialCapacity) {
+            this.bytes = new byte[Math.max(initialCapacity, 16)];
+        }
+
+        void writeBit(boolean bit) {
+            writeBits(bit ? 1 : 0, 1);
+        }
+
+        void writeBits(long value, int count) {
+            ensureCapacity(count);
+            while (count > 0) {
+                int byteIndex = (int) (bitPosition >>> 3);
+                int freeBits = Byte.SIZE - (int) (bitPosition & 7);
+                int written = Math.min(freeBits, count);
+                int chunk = (int) ((value >>> (count - written)) & ((1 << written) - 1));
+                bytes[byteIndex] |= (byte) (chunk << (freeBits - written));
+                bitPosition += written;
+                count -= written;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, (int) ((bitPosition + 7) >>> 3));
+        }
+
+        private void ensureCapacity(int count) {
+            long requiredBytes = (bitPosition + count + 7) >>> 3;
+            if (requiredBytes > bytes.length)
+                bytes = Arrays.copyOf(bytes, (int) Math.max(requiredBytes, bytes.length * 2L));
+        }
+    }
+
+    /*
+     * Bit stream over an encoded series
+     */
+    private static final class BitReader {
+        private final byte[] bytes;
+        private long bitPosition;
+
+        BitReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean readBit() {
+            return readBits(1) == 1;
+        }
+
+        long readBits(int count) {
+            if (bitPosition + count > (long) bytes.length * Byte.SIZE)
+                throw new IllegalArgumentException("Encoded series is truncated");
+
+            long value = 0;
+            while (count > 0) {
+                int byteIndex = (int) (bitPosition >>> 3);
+                int availableBits = Byte.SIZE - (int) (bitPosition & 7);
+                int read = Math.min(availableBits, count);
+                int chunk = ((bytes[byteIndex] & 0xFF) >>> (availableBits - read)) & ((1 << read) - 1);
+                value = (value << read) | chunk;
+                bitPosition += read;
+                count -= read;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package gr.atc.modapto.util;
+
+import gr.atc.modapto.enums.HistogramBinStrategy;
+
+import java.util.Arrays;
+
+/**
+ * Binning and summary statistics of KPI series held in primitive arrays.
+ * Both compared series are binned over the same edges, so that their counts are directly comparable
+ */
+public class HistogramBinning {
+
+    public static final int DEFAULT_BINS = 20;
+    public static final int MAX_BINS = 1000;
+
+    private HistogramBinning() {
+    }
+
+    /**
+     * Summary statistics of a series. All values except the count are NaN for an empty series
+     */
+    public record Statistics(int count, double min, double max, double mean, double standardDeviation,
+                             double firstQuartile, double median, double thirdQuartile) {}
+
+    /**
+     * Compute the common bin edges of the given series. NaN values are ignored
+     *
+     * @param series : Series sharing the bins
+     * @param strategy : Bin strategy
+     * @param bins : Number of bins of the FIXED_WIDTH strategy, optional
+     * @param binWidth : Width of the bins of the FIXED_WIDTH strategy, optional and overrides the number of bins
+     * @return Ascending bin edges, one more than the number of bins
+     */
+    public static double[] binEdges(double[][] series, HistogramBinStrategy strategy, Integer bins, Double binWidth) {
+        double[] combined = sortedValues(series);
+        if (combined.length == 0)
+            throw new IllegalArgumentException("No values to bin");
+
+        double min = combined[0];
+        double max = combined[combined.length - 1];
+        if (min == max)
+            return new double[]{min - 0.5, max + 0.5};
+
+        double range = max - min;
+        if (strategy == HistogramBinStrategy.FIXED_WIDTH && binWidth == null) {
+            // The number of bins is used as given, deriving it from the rounded width may add a bin
+            int binCount = Math.min(bins != null && bins > 0 ? bins : DEFAULT_BINS, MAX_BINS);
+            return equalWidthEdges(min, max, binCount, range / binCount);
+        }
+
+        double width = strategy == HistogramBinStrategy.FIXED_WIDTH ? binWidth : freedmanDiaconisWidth(combined);
+        // Degenerate or excessively narrow widths fall back to the maximum number of equally wide bins
+        int binCount = width > 0 ? (int) Math.ceil(range / width) : DEFAULT_BINS;
+        if (binCount > MAX_BINS) {
+            binCount = MAX_BINS;
+            width = range / MAX_BINS;
+        } else if (width <= 0) {
+            width = range / binCount;
+        }
+        return equalWidthEdges(min, max, Math.max(binCount, 1), width);
+    }
+
+    /*
+     * Helper method to build the edges of equally wide bins, the last edge always covering the maximum value
+     */
+    private static double[] equalWidthEdges(double min, double max, int binCount, double width) {
+        double[] edges = new double[binCount + 1];
+        for (int i = 0; i <= binCount; i++)
+            edges[i] = min + i * width;
+        edges[binCount] = Math.max(edges[binCount], max);
+        return edges;
+    }
+
+    /**
+     * Count the values of a series per bin. Every bin includes its lower edge, the last bin also includes its upper edge
+     *
+     * @param data : Series
+     * @param edges : Ascending bin edges
+     * @return Count of values per bin
+     */
+    public static long[] counts(double[] data, double[] edges) {
+        int binCount = edges.length - 1;
+        long[] counts = new long[binCount];
+        double min = edges[0];
+        double max = edges[binCount];
+        double width = (max - min) / binCount;
+
+        for (double value : data) {
+            if (Double.isNaN(value) || value < min || value > max)
+                continue;
+            int bin = Math.min((int) ((value - min) / width), binCount - 1);
+            // Correct floating point rounding around the edges
+            while (bin > 0 && value < edges[bin])
+                bin--;
+            while (bin < binCount - 1 && value >= edges[bin + 1])
+                bin++;
+            counts[bin]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Compute the summary statistics of a series. NaN values are ignored
+     *
+     * @param data : Series
+     * @return Statistics
+     */
+    public static Statistics statistics(double[] data) {
+        double[] sorted = sortedValues(new double[][]{data});
+        int count = sorted.length;
+        if (count == 0)
+            return new Statistics(0, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+
+        // Welford's algorithm for a numerically stable variance
+        double mean = 0;
+        double squaredDifferences = 0;
+        for (int i = 0; i < count; i++) {
+            double delta = sorted[i] - mean;
+            mean += delta / (i + 1);
+            squaredDifferences += delta * (sorted[i] - mean);
+        }
+
+        return new Statistics(count, sorted[0], sorted[count - 1], mean,
+                count > 1 ? Math.sqrt(squaredDifferences / (count - 1)) : 0,
+                quantile(sorted, 0.25), quantile(sorted, 0.5), quantile(sorted, 0.75));
+    }
+
+    /*
+     * Helper method to compute the Freedman-Diaconis bin width: 2 * IQR / n^(1/3)
+     */
+    private static double freedmanDiaconisWidth(double[] sorted) {
+        double interQuartileRange = quantile(sorted, 0.75) - quantile(sorted, 0.25);
+        return 2 * interQuartileRange / Math.cbrt(sorted.length);
+    }
+
+    /**
+     * Compute a quantile of sorted values with linear interpolation
+     *
+     * @param sorted : Ascending values without NaN, not empty
+     * @param probability : Probability between 0 and 1
+     * @return Quantile
+     */
+    public static double quantile(double[] sorted, double probability) {
+        double position = probability * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (position - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    /*
+     * Helper method to merge the non-NaN values of the series into a single sorted array
+     */
+    private static double[] sortedValues(double[][] series) {
+        int length = 0;
+        for (double[] data : series)
+            length += data.length;
+
+        double[] values = new double[length];
+        int count = 0;
+        for (double[] data : series) {
+            for (double value : data) {
+                if (!Double.isNaN(value))
+                    values[count++] = value;
+            }
+        }
+
+        double[] sorted = count == length ? values : Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
@@ -0,0 +1,144 @@
+package gr.atc.modapto.util;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * Headless PNG rendering of a Histogram comparing up to two series over common bins.
+ * Only an in-memory image is used, so no display or native graphics environment is required
+ */
+public class HistogramImageRenderer {
+
+    private static final int WIDTH = 1000;
+    private static final int HEIGHT = 600;
+    private static final int MARGIN_LEFT = 80;
+    private static final int MARGIN_RIGHT = 30;
+    private static final int MARGIN_TOP = 50;
+    private static final int MARGIN_BOTTOM = 70;
+    private static final int AXIS_TICKS = 5;
+
+    private static final Color FIRST_SERIES_COLOR = new Color(31, 119, 180, 150);
+    private static final Color SECOND_SERIES_COLOR = new Color(255, 127, 14, 150);
+
+    private HistogramImageRenderer() {
+    }
+
+    /**
+     * Render the Histogram as PNG. The second series is drawn over the first one with transparency
+     *
+     * @param edges : Ascending bin edges
+     * @param firstCounts : Counts of the first series per bin
+     * @param secondCounts : Counts of the second series per bin, optional
+     * @param firstLabel : Legend label of the first series
+     * @param secondLabel : Legend label of the second series, optional
+     * @return PNG image bytes
+     */
+    public static byte[] renderPng(double[] edges, long[] firstCounts, long[] secondCounts, String firstLabel, String secondLabel) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, WIDTH, HEIGHT);
+
+            long maxCount = Math.max(max(firstCounts), max(secondCounts));
+            maxCount = Math.max(maxCount, 1);
+            int plotWidth = WIDTH - MARGIN_LEFT - MARGIN_RIGHT;
+            int plotHeight = HEIGHT - MARGIN_TOP - MARGIN_BOTTOM;
+            int baseline = MARGIN_TOP + plotHeight;
+
+            drawBars(graphics, firstCounts, FIRST_SERIES_COLOR, maxCount, plotWidth, plotHeight, baseline);
+            if (secondCounts != null)
+                drawBars(graphics, secondCounts, SECOND_SERIES_COLOR, maxCount, plotWidth, plotHeight, baseline);
+
+            // Axes and ticks
+            graphics.setColor(Color.BLACK);
+            graphics.setStroke(new BasicStroke(1.5f));
+            graphics.drawLine(MARGIN_LEFT, baseline, MARGIN_LEFT + plotWidth, baseline);
+            graphics.drawLine(MARGIN_LEFT, MARGIN_TOP, MARGIN_LEFT, baseline);
+            graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+            for (int tick = 0; tick <= AXIS_TICKS; tick++) {
+                int x = MARGIN_LEFT + plotWidth * tick / AXIS_TICKS;
+                double value = edges[0] + (edges[edges.length - 1] - edges[0]) * tick / AXIS_TICKS;
+                graphics.drawLine(x, baseline, x, baseline + 5);
+                graphics.drawString(formatValue(value), x - 20, baseline + 20);
+
+                int y = baseline - plotHeight * tick / AXIS_TICKS;
+                graphics.drawLine(MARGIN_LEFT - 5, y, MARGIN_LEFT, y);
+                graphics.drawString(Long.toString(maxCount * tick / AXIS_TICKS), 10, y + 4);
+            }
+            graphics.drawString("Value", MARGIN_LEFT + plotWidth / 2 - 15, HEIGHT - 20);
+            graphics.drawString("Count", 10, MARGIN_TOP - 20);
+
+            // Legend
+            drawLegendEntry(graphics, FIRST_SERIES_COLOR, firstLabel, 0);
+            if (secondCounts != null)
+                drawLegendEntry(graphics, SECOND_SERIES_COLOR, secondLabel, 1);
+        } finally {
+            graphics.dispose();
+        }
+
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * Helper method to draw the bars of a series
+     */
+    private static void drawBars(Graphics2D graphics, long[] counts, Color color, long maxCount, int plotWidth, int plotHeight, int baseline) {
+        graphics.setColor(color);
+        for (int bin = 0; bin < counts.length; bin++) {
+            int left = MARGIN_LEFT + (int) ((long) plotWidth * bin / counts.length);
+            int right = MARGIN_LEFT + (int) ((long) plotWidth * (bin + 1) / counts.length);
+            int barHeight = (int) Math.round((double) counts[bin] / maxCount * plotHeight);
+            graphics.fillRect(left, baseline - barHeight, Math.max(right - left - 1, 1), barHeight);
+        }
+    }
+
+    /*
+     * Helper method to draw a legend entry at the top right corner
+     */
+    private static void drawLegendEntry(Graphics2D graphics, Color color, String label, int position) {
+        int x = WIDTH - MARGIN_RIGHT - 220;
+        int y = MARGIN_TOP - 35 + position * 18;
+        graphics.setColor(color);
+        graphics.fillRect(x, y, 12, 12);
+        graphics.setColor(Color.BLACK);
+        graphics.drawString(label != null ? label : "", x + 18, y + 11);
+    }
+
+    /*
+     * Helper method to format an axis value compactly
+     */
+    private static String formatValue(double value) {
+        return Math.abs(value) >= 1000 || (value != 0 && Math.abs(value) < 0.01)
+                ? String.format(Locale.ROOT, "%.2e", value)
+                : String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    /*
+     * Helper method to find the largest count
+     */
+    private static long max(long[] counts) {
+        long max = 0;
+        if (counts != null) {
+            for (long count : counts)
+                max = Math.max(max, count);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,71 @@
+package gr.atc.modapto.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of keyword values. Every distinct value is stored once and referenced by a dense integer code.
+ * Not thread-safe, callers are expected to guard writes and reads with the same lock
+ */
+public final class KeywordDictionary {
+
+    public static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    private String[] values = new String[16];
+
+    /**
+     * Encode a value, assigning the next code to values seen for the first time
+     *
+     * @param value : Keyword value
+     * @return Code of the value, NULL_CODE for null values
+     */
+    public int encode(String value) {
+        if (value == null)
+            return NULL_CODE;
+
+        Integer code = codes.get(value);
+        if (code != null)
+            return code;
+
+        int newCode = codes.size();
+        if (newCode == values.length)
+            values = Arrays.copyOf(values, values.length * 2);
+        values[newCode] = value;
+        codes.put(value, newCode);
+        return newCode;
+    }
+
+    /**
+     * Look up the code of a value without adding it
+     *
+     * @param value : Keyword value
+     * @return Code of the value, NULL_CODE if the value is null or unknown
+     */
+    public int codeOf(String value) {
+        if (value == null)
+            return NULL_CODE;
+        return codes.getOrDefault(value, NULL_CODE);
+    }
+
+    /**
+     * Decode a code to its value
+     *
+     * @param code : Code of a value
+     * @return Keyword value, null for NULL_CODE
+     */
+    public String decode(int code) {
+        return code == NULL_CODE ? null : values[code];
+    }
+
+    /**
+     * Retrieve the number of distinct values
+     *
+     * @return Number of distinct values
+     */
+    public int size() {
+        return codes.size();
+    }
+}
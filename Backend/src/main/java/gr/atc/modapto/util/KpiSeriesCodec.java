@@ -0,0 +1,172 @@
+package gr.atc.modapto.util;
+
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.enums.SeriesEncoding;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Conversions of the Self-Awareness Monitoring KPIs series between the 'Data_list' shape and the
+ * Base64 of the Gorilla-compressed series. Null points are encoded as NaN, which JSON series never contain
+ */
+public class KpiSeriesCodec {
+
+    private static final double[] EMPTY_SERIES = new double[0];
+
+    private KpiSeriesCodec() {
+    }
+
+    /**
+     * Compress a series into its Base64 encoded form
+     *
+     * @param data : Series, null points are allowed
+     * @return Base64 of the compressed series, null if the series is null
+     */
+    public static String encode(List<Double> data) {
+        if (data == null)
+            return null;
+
+        double[] values = new double[data.size()];
+        int i = 0;
+        for (Double value : data)
+            values[i++] = value != null ? value : Double.NaN;
+        return encode(values);
+    }
+
+    /**
+     * Compress a primitive series into its Base64 encoded form
+     *
+     * @param values : Series
+     * @return Base64 of the compressed series
+     */
+    public static String encode(double[] values) {
+        return Base64.getEncoder().encodeToString(GorillaDoubleCodec.encode(values));
+    }
+
+    /**
+     * Decompress a Base64 encoded series into a primitive series
+     *
+     * @param encodedData : Base64 of the compressed series
+     * @return Series
+     * @throws IllegalArgumentException if the encoded series is not valid
+     */
+    public static double[] decodeValues(String encodedData) {
+        return GorillaDoubleCodec.decode(Base64.getDecoder().decode(encodedData));
+    }
+
+    /**
+     * Decompress a Base64 encoded series into the 'Data_list' shape
+     *
+     * @param encodedData : Base64 of the compressed series
+     * @return Series with NaN points as null, null if the encoded series is null
+     */
+    public static List<Double> decode(String encodedData) {
+        if (encodedData == null)
+            return null;
+
+        double[] values = decodeValues(encodedData);
+        List<Double> data = new ArrayList<>(values.length);
+        for (double value : values)
+            data.add(Double.isNaN(value) ? null : value);
+        return data;
+    }
+
+    /**
+     * Retrieve the series of a stored result as primitive values, whichever form it is stored in
+     *
+     * @param result : Stored Self-Awareness Monitoring KPIs result
+     * @return Series with null points as NaN, empty if the result has no series
+     */
+    public static double[] values(SewSelfAwarenessMonitoringKpisResults result) {
+        if (result.getEncodedData() != null)
+            return decodeValues(result.getEncodedData());
+        if (result.getData() == null)
+            return EMPTY_SERIES;
+
+        double[] values = new double[result.getData().size()];
+        int i = 0;
+        for (Double value : result.getData())
+            values[i++] = value != null ? value : Double.NaN;
+        return values;
+    }
+
+    /**
+     * Convert a stored result to the compressed storage form in place
+     *
+     * @param result : Stored Self-Awareness Monitoring KPIs result
+     * @return True if the result was converted, False if it was already compressed or has no series
+     */
+    public static boolean compress(SewSelfAwarenessMonitoringKpisResults result) {
+        if (result.getEncodedData() != null || result.getData() == null)
+            return false;
+
+        result.setEncodedData(encode(result.getData()));
+        result.setData(null);
+        return true;
+    }
+
+    /**
+     * Move the compressed series of a mapped result into 'Data_list' in place
+     *
+     * @param result : Mapped Self-Awareness Monitoring KPIs result
+     */
+    public static void decompress(SewSelfAwarenessMonitoringKpisResultsDto result) {
+        if (result.getEncodedData() == null)
+            return;
+
+        result.setData(decode(result.getEncodedData()));
+        result.setEncodedData(null);
+    }
+
+    /**
+     * Represent the series of a result with the requested encoding. The 'Data_indices' of a downsampled series are kept as they are
+     *
+     * @param result : Self-Awareness Monitoring KPIs result with its series in 'Data_list'
+     * @param encoding : Requested encoding, LIST if null
+     * @return SewSelfAwarenessMonitoringKpisResultsDto with the series in the requested encoding
+     */
+    public static SewSelfAwarenessMonitoringKpisResultsDto applyEncoding(SewSelfAwarenessMonitoringKpisResultsDto result, SeriesEncoding encoding) {
+        if (result == null || encoding != SeriesEncoding.GORILLA || result.getData() == null)
+            return result;
+
+        return result.toBuilder()
+                .data(null)
+                .encodedData(encode(result.getData()))
+                .build();
+    }
+
+    /**
+     * Represent the series of a list of results with the requested encoding
+     *
+     * @param results : Self-Awareness Monitoring KPIs results with their series in 'Data_list'
+     * @param encoding : Requested encoding, LIST if null
+     * @return List<SewSelfAwarenessMonitoringKpisResultsDto> with the series in the requested encoding
+     */
+    public static List<SewSelfAwarenessMonitoringKpisResultsDto> applyEncoding(List<SewSelfAwarenessMonitoringKpisResultsDto> results, SeriesEncoding encoding) {
+        if (results == null || encoding != SeriesEncoding.GORILLA)
+            return results;
+
+        return results.stream()
+                .map(result -> applyEncoding(result, encoding))
+                .toList();
+    }
+
+    /**
+     * Represent the series of a page of results with the requested encoding
+     *
+     * @param page : Page of Self-Awareness Monitoring KPIs results with their series in 'Data_list'
+     * @param encoding : Requested encoding, LIST if null
+     * @return CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> with the series in the requested encoding
+     */
+    public static CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> applyEncoding(CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> page,
+                                                                                                     SeriesEncoding encoding) {
+        if (page == null || encoding != SeriesEncoding.GORILLA)
+            return page;
+
+        return new CursorPaginatedResultsDto<>(applyEncoding(page.getResults(), encoding), page.getNextCursor(), page.getLastPage());
+    }
+}
@@ -0,0 +1,58 @@
+package gr.atc.modapto.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming of paged results as newline-delimited JSON, so that only one page of results is held in memory
+ */
+public class NdjsonStreamUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonStreamUtils.class);
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private NdjsonStreamUtils() {
+    }
+
+    /**
+     * Create a response writing the pages of results as newline-delimited JSON, flushing after every page
+     *
+     * @param objectMapper : Serializer of the results
+     * @param resultsStream : Producer of the pages of results, handing every page to the given consumer
+     * @return ResponseEntity<StreamingResponseBody>
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> streamAsNdjson(ObjectMapper objectMapper, Consumer<Consumer<List<T>>> resultsStream) {
+        StreamingResponseBody body = outputStream -> {
+            try {
+                resultsStream.accept(page -> writePage(objectMapper, outputStream, page));
+            } catch (UncheckedIOException e) {
+                // Client disconnected, the remaining pages are not read
+                logger.debug("Streaming of results stopped - Error: {}", e.getMessage());
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private static <T> void writePage(ObjectMapper objectMapper, OutputStream outputStream, List<T> page) {
+        try {
+            for (T result : page) {
+                outputStream.write(objectMapper.writeValueAsBytes(result));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package gr.atc.modapto.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity buffer keeping the most recent items, the oldest item is overwritten once the buffer is full.
+ * Not thread-safe, callers are expected to guard it with a lock
+ */
+public final class RingBuffer<T> {
+
+    private final Object[] items;
+
+    private int next;
+
+    private int size;
+
+    public RingBuffer(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be positive");
+        this.items = new Object[capacity];
+    }
+
+    /**
+     * Add an item, overwriting the oldest one if the buffer is full
+     *
+     * @param item : Item to add
+     */
+    public void add(T item) {
+        items[next] = item;
+        next = (next + 1) % items.length;
+        size = Math.min(size + 1, items.length);
+    }
+
+    /**
+     * Retrieve an item by its age
+     *
+     * @param age : 0 for the most recent item, 1 for the one before it etc.
+     * @return Item or null if the buffer holds fewer items
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int age) {
+        if (age < 0 || age >= size)
+            return null;
+        return (T) items[Math.floorMod(next - 1 - age, items.length)];
+    }
+
+    /**
+     * Retrieve the most recent item
+     *
+     * @return Item or null if the buffer is empty
+     */
+    public T latest() {
+        return get(0);
+    }
+
+    /**
+     * Retrieve the most recent items in insertion order
+     *
+     * @param limit : Maximum number of items
+     * @return Oldest to most recent items
+     */
+    public List<T> last(int limit) {
+        int count = Math.min(Math.max(limit, 0), size);
+        List<T> result = new ArrayList<>(count);
+        for (int age = count - 1; age >= 0; age--)
+            result.add(get(age));
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+}
@@ -0,0 +1,203 @@
+package gr.atc.modapto.util;
+
+import gr.atc.modapto.enums.DownsamplingMethod;
+
+/**
+ * Downsampling of evenly spaced time-series held in primitive arrays.
+ * The position of every sample in the original series is used as its X coordinate and is returned
+ * alongside the kept values, so that clients can still place the points on the original time axis
+ */
+public class TimeSeriesDownsampler {
+
+    private TimeSeriesDownsampler() {
+    }
+
+    /**
+     * Downsampled series with the original positions of the kept points
+     *
+     * @param indices : Positions of the points in the original series
+     * @param values : Values of the points
+     */
+    public record Series(int[] indices, double[] values) {
+        public int size() {
+            return values.length;
+        }
+    }
+
+    /**
+     * Reduce a series to at most the given number of points. Series that already fit are returned as they are
+     *
+     * @param data : Original series
+     * @param targetPoints : Maximum number of points, at least 3
+     * @param method : Downsampling method
+     * @return Series with at most targetPoints points
+     */
+    public static Series downsample(double[] data, int targetPoints, DownsamplingMethod method) {
+        if (targetPoints < 3)
+            throw new IllegalArgumentException("Target points must be at least 3");
+
+        if (data.length <= targetPoints)
+            return identity(data);
+
+        return switch (method) {
+            case LTTB -> largestTriangleThreeBuckets(data, targetPoints);
+            case MIN_MAX -> minMax(data, targetPoints);
+            case AVERAGE -> average(data, targetPoints);
+        };
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets: keeps the first and last points and from every bucket in between
+     * the point forming the largest triangle with the previously kept point and the average of the next bucket
+     *
+     * @param data : Original series
+     * @param targetPoints : Number of points, at least 3
+     * @return Series with exactly targetPoints points
+     */
+    public static Series largestTriangleThreeBuckets(double[] data, int targetPoints) {
+        int length = data.length;
+        int[] indices = new int[targetPoints];
+        double[] values = new double[targetPoints];
+
+        double bucketSize = (double) (length - 2) / (targetPoints - 2);
+        int selected = 0;
+        indices[0] = 0;
+        values[0] = data[0];
+
+        for (int bucket = 0; bucket < targetPoints - 2; bucket++) {
+            // Average of the next bucket (last point for the final bucket)
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, length);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += i;
+                averageY += data[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            if (nextCount > 0) {
+                averageX /= nextCount;
+                averageY /= nextCount;
+            } else {
+                averageX = length - 1.0;
+                averageY = data[length - 1];
+            }
+
+            // Point of the current bucket with the largest triangle area
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = Math.min((int) Math.floor((bucket + 1) * bucketSize) + 1, length - 1);
+            double selectedX = selected;
+            double selectedY = data[selected];
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((selectedX - averageX) * (data[i] - selectedY) - (selectedX - i) * (averageY - selectedY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected = maxIndex;
+            indices[bucket + 1] = maxIndex;
+            values[bucket + 1] = data[maxIndex];
+        }
+
+        indices[targetPoints - 1] = length - 1;
+        values[targetPoints - 1] = data[length - 1];
+        return new Series(indices, values);
+    }
+
+    /**
+     * Min/Max buckets: keeps the minimum and the maximum of every bucket in their original order, preserving spikes
+     *
+     * @param data : Original series
+     * @param targetPoints : Maximum number of points
+     * @return Series with at most targetPoints points
+     */
+    public static Series minMax(double[] data, int targetPoints) {
+        int buckets = targetPoints / 2;
+        int[] indices = new int[buckets * 2];
+        double[] values = new double[buckets * 2];
+        int count = 0;
+
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int start = bucketStart(data.length, buckets, bucket);
+            int end = bucketStart(data.length, buckets, bucket + 1);
+            int minIndex = start;
+            int maxIndex = start;
+            for (int i = start + 1; i < end; i++) {
+                if (data[i] < data[minIndex])
+                    minIndex = i;
+                if (data[i] > data[maxIndex])
+                    maxIndex = i;
+            }
+
+            int first = Math.min(minIndex, maxIndex);
+            int second = Math.max(minIndex, maxIndex);
+            indices[count] = first;
+            values[count++] = data[first];
+            if (second != first) {
+                indices[count] = second;
+                values[count++] = data[second];
+            }
+        }
+
+        return trim(indices, values, count);
+    }
+
+    /**
+     * Average buckets: replaces every bucket with its mean, positioned at the middle of the bucket
+     *
+     * @param data : Original series
+     * @param targetPoints : Number of points
+     * @return Series with exactly targetPoints points
+     */
+    public static Series average(double[] data, int targetPoints) {
+        int[] indices = new int[targetPoints];
+        double[] values = new double[targetPoints];
+
+        for (int bucket = 0; bucket < targetPoints; bucket++) {
+            int start = bucketStart(data.length, targetPoints, bucket);
+            int end = bucketStart(data.length, targetPoints, bucket + 1);
+            double sum = 0;
+            for (int i = start; i < end; i++)
+                sum += data[i];
+            indices[bucket] = (start + end - 1) / 2;
+            values[bucket] = sum / (end - start);
+        }
+
+        return new Series(indices, values);
+    }
+
+    /*
+     * Helper method to compute the first position of a bucket when splitting a series in equally sized buckets
+     */
+    private static int bucketStart(int length, int buckets, int bucket) {
+        return (int) ((long) bucket * length / buckets);
+    }
+
+    /*
+     * Helper method to wrap a series that needs no downsampling
+     */
+    private static Series identity(double[] data) {
+        int[] indices = new int[data.length];
+        for (int i = 0; i < data.length; i++)
+            indices[i] = i;
+        return new Series(indices, data.clone());
+    }
+
+    /*
+     * Helper method to drop the unused tail of the result arrays
+     */
+    private static Series trim(int[] indices, double[] values, int count) {
+        if (count == values.length)
+            return new Series(indices, values);
+
+        int[] trimmedIndices = new int[count];
+        double[] trimmedValues = new double[count];
+        System.arraycopy(indices, 0, trimmedIndices, 0, count);
+        System.arraycopy(values, 0, trimmedValues, 0, count);
+        return new Series(trimmedIndices, trimmedValues);
+    }
+}
@@ -80,6 +80,15 @@ class ModaptoEvaluationAndDecisionSupportApplicationTests {
     @MockitoBean
     private FftOptimizationResultsRepository fftOptimizationResultsRepository;
 
+    @MockitoBean
+    private SewComponentLastMaintenanceRepository sewComponentLastMaintenanceRepository;
+
+    @MockitoBean
+    private ScheduledTaskLeaseRepository scheduledTaskLeaseRepository;
+
+    @MockitoBean
+    private SchedulerInstanceRepository schedulerInstanceRepository;
+
 	@Test
 	void contextLoads() {
 		Assertions.assertNotNull(ApplicationContext.class);
@@ -1,5 +1,6 @@
 package gr.atc.modapto.config;
 
+import gr.atc.modapto.config.properties.KafkaProducerProperties;
 import gr.atc.modapto.dto.EventDto;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -15,6 +16,7 @@ import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,7 +30,7 @@ class KafkaProducerConfigTest {
 
     @BeforeEach
     void setUp() {
-        kafkaProducerConfig = new KafkaProducerConfig();
+        kafkaProducerConfig = new KafkaProducerConfig(new KafkaProducerProperties(null, null, null, null, null, null, null));
         ReflectionTestUtils.setField(kafkaProducerConfig, "kafkaBootstrapServers", TEST_BOOTSTRAP_SERVERS);
     }
 
@@ -196,10 +198,57 @@ class KafkaProducerConfigTest {
             ProducerFactory<String, EventDto> producerFactory = kafkaProducerConfig.producerFactory();
             Map<String, Object> configProps = producerFactory.getConfigurationProperties();
 
-            assertEquals(3, configProps.size(), "Configuration should contain exactly 3 properties");
+            assertEquals(8, configProps.size(), "Configuration should contain exactly 8 properties");
             assertTrue(configProps.containsKey(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
             assertTrue(configProps.containsKey(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG));
             assertTrue(configProps.containsKey(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG));
+            assertTrue(configProps.containsKey(ProducerConfig.LINGER_MS_CONFIG));
+            assertTrue(configProps.containsKey(ProducerConfig.BATCH_SIZE_CONFIG));
+            assertTrue(configProps.containsKey(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+            assertTrue(configProps.containsKey(ProducerConfig.ACKS_CONFIG));
+            assertTrue(configProps.containsKey(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        }
+    }
+
+    @Nested
+    @DisplayName("When tuning the publishing")
+    class PublishingTuning {
+
+        @Test
+        @DisplayName("Apply default batching, compression and acknowledgement properties : Success")
+        void givenDefaultProperties_whenCreateProducerFactory_thenBatchesCompressesAndAcknowledges() {
+            Map<String, Object> configProps = kafkaProducerConfig.producerFactory().getConfigurationProperties();
+
+            assertEquals(20, configProps.get(ProducerConfig.LINGER_MS_CONFIG));
+            assertEquals(65536, configProps.get(ProducerConfig.BATCH_SIZE_CONFIG));
+            assertEquals("lz4", configProps.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+            assertEquals("all", configProps.get(ProducerConfig.ACKS_CONFIG));
+            assertEquals(true, configProps.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        }
+
+        @Test
+        @DisplayName("Apply configured batching and compression properties : Success")
+        void givenConfiguredProperties_whenCreateProducerFactory_thenUsesConfiguredValues() {
+            KafkaProducerConfig tunedConfig = new KafkaProducerConfig(
+                    new KafkaProducerProperties(Duration.ofMillis(50), 131072, "ZSTD", false, null, null, null));
+            ReflectionTestUtils.setField(tunedConfig, "kafkaBootstrapServers", TEST_BOOTSTRAP_SERVERS);
+
+            Map<String, Object> configProps = tunedConfig.producerFactory().getConfigurationProperties();
+
+            assertEquals(50, configProps.get(ProducerConfig.LINGER_MS_CONFIG));
+            assertEquals(131072, configProps.get(ProducerConfig.BATCH_SIZE_CONFIG));
+            assertEquals("zstd", configProps.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+            assertEquals(false, configProps.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        }
+
+        @Test
+        @DisplayName("Fall back to lz4 on unknown compression type : Success")
+        void givenUnknownCompressionType_whenCreateProperties_thenUsesLz4() {
+            KafkaProducerProperties properties = new KafkaProducerProperties(null, null, "brotli", null, null, null, null);
+
+            assertEquals("lz4", properties.compressionType());
+            assertEquals(0, properties.retryBufferCapacity());
+            assertEquals(3, properties.maxRetryAttempts());
         }
     }
 
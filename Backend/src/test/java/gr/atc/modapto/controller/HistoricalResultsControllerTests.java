@@ -0,0 +1,178 @@
+package gr.atc.modapto.controller;
+
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.HistoricalResultsQueryDto;
+import gr.atc.modapto.dto.serviceResults.crf.CrfSimulationResultsDto;
+import gr.atc.modapto.enums.HistoricalResultType;
+import gr.atc.modapto.exception.CustomExceptions.InvalidQueryException;
+import gr.atc.modapto.service.interfaces.IHistoricalResultsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(value = HistoricalResultsController.class)
+@ActiveProfiles("test")
+@DisplayName("HistoricalResultsController Tests")
+class HistoricalResultsControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IHistoricalResultsService historicalResultsService;
+
+    private CrfSimulationResultsDto createSampleResult(String id) {
+        return CrfSimulationResultsDto.builder()
+                .id(id)
+                .productionModule("TEST_MODULE")
+                .timestamp(LocalDateTime.of(2025, 1, 15, 10, 0))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Retrieve Historical Results")
+    class RetrieveHistoricalResults {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve historical results : Success with filters")
+        void givenFilters_whenRetrieveHistoricalResults_thenReturnsPage() throws Exception {
+            when(historicalResultsService.retrieveHistoricalResults(any(), eq("cursor-1"), eq(20)))
+                    .thenReturn(new CursorPaginatedResultsDto<>(List.of(createSampleResult("1")), "cursor-2", false));
+
+            mockMvc.perform(get("/api/eds/results/CRF_SIMULATION/history")
+                            .param("moduleId", "TEST_MODULE")
+                            .param("from", "2025-01-01T00:00:00")
+                            .param("to", "2025-01-31T23:59:59")
+                            .param("fields", "best_phase", "simulation_run")
+                            .param("ascending", "true")
+                            .param("cursor", "cursor-1")
+                            .param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success", is(true)))
+                    .andExpect(jsonPath("$.data.results", hasSize(1)))
+                    .andExpect(jsonPath("$.data.results[0].id", is("1")))
+                    .andExpect(jsonPath("$.data.nextCursor", is("cursor-2")));
+
+            ArgumentCaptor<HistoricalResultsQueryDto> queryCaptor = ArgumentCaptor.forClass(HistoricalResultsQueryDto.class);
+            verify(historicalResultsService).retrieveHistoricalResults(queryCaptor.capture(), eq("cursor-1"), eq(20));
+            HistoricalResultsQueryDto query = queryCaptor.getValue();
+            assertThat(query.getResultType()).isEqualTo(HistoricalResultType.CRF_SIMULATION);
+            assertThat(query.getModuleId()).isEqualTo("TEST_MODULE");
+            assertThat(query.getFrom()).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+            assertThat(query.getTo()).isEqualTo(LocalDateTime.of(2025, 1, 31, 23, 59, 59));
+            assertThat(query.getFields()).containsExactly("best_phase", "simulation_run");
+            assertThat(query.isAscending()).isTrue();
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve historical results : Unknown result type")
+        void givenUnknownResultType_whenRetrieveHistoricalResults_thenReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/eds/results/UNKNOWN/history"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(historicalResultsService);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve historical results : Invalid query")
+        void givenInvalidQuery_whenRetrieveHistoricalResults_thenReturnsBadRequest() throws Exception {
+            when(historicalResultsService.retrieveHistoricalResults(any(), any(), eq(100)))
+                    .thenThrow(new InvalidQueryException("Start of the time range must be before or equal to its end"));
+
+            mockMvc.perform(get("/api/eds/results/CRF_SIMULATION/history")
+                            .param("from", "2025-02-01T00:00:00")
+                            .param("to", "2025-01-01T00:00:00"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success", is(false)))
+                    .andExpect(jsonPath("$.message", is("Invalid query parameters were given")));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve historical results : Size out of range")
+        void givenOversizedPage_whenRetrieveHistoricalResults_thenReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/eds/results/CRF_SIMULATION/history")
+                            .param("size", "1001"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(historicalResultsService);
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : Unauthorized")
+        void givenNoAuthentication_whenRetrieveHistoricalResults_thenReturnsUnauthorized() throws Exception {
+            mockMvc.perform(get("/api/eds/results/CRF_SIMULATION/history"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream Historical Results")
+    class StreamHistoricalResults {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Stream historical results : One JSON document per line")
+        @SuppressWarnings("unchecked")
+        void givenStoredResults_whenStreamHistoricalResults_thenWritesNdjson() throws Exception {
+            doAnswer(invocation -> {
+                Consumer<List<Object>> pageConsumer = invocation.getArgument(1);
+                pageConsumer.accept(List.of(createSampleResult("1"), createSampleResult("2")));
+                pageConsumer.accept(List.of(createSampleResult("3")));
+                return null;
+            }).when(historicalResultsService).streamHistoricalResults(any(), any());
+
+            MvcResult mvcResult = mockMvc.perform(get("/api/eds/results/CRF_SIMULATION/history/stream")
+                            .param("moduleId", "TEST_MODULE"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String body = mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andReturn().getResponse().getContentAsString();
+
+            assertThat(body.lines().toList()).hasSize(3);
+            assertThat(body.lines().toList().get(2)).contains("\"id\":\"3\"");
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Stream historical results : Invalid query rejected before streaming")
+        void givenInvalidQuery_whenStreamHistoricalResults_thenReturnsBadRequest() throws Exception {
+            doThrow(new InvalidQueryException("Unknown field 'unknown' for results of type CRF_SIMULATION"))
+                    .when(historicalResultsService).validateHistoricalResultsQuery(any());
+
+            mockMvc.perform(get("/api/eds/results/CRF_SIMULATION/history/stream")
+                            .param("fields", "unknown"))
+                    .andExpect(status().isBadRequest());
+
+            verify(historicalResultsService, never()).streamHistoricalResults(any(), any());
+        }
+    }
+}
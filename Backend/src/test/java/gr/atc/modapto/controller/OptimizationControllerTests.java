@@ -33,6 +33,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 @WebMvcTest(OptimizationController.class)
@@ -81,6 +82,29 @@ class OptimizationControllerTests {
 
             verify(khPickingSequenceOptimizationService).retrieveLatestOptimizationResults();
         }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve latest CRF results : Not modified for a matching ETag")
+        void givenMatchingETag_whenRetrieveLatestCrfResults_thenReturnsNotModified() throws Exception {
+            // Given
+            CrfOptimizationResultsDto mockResult = CrfOptimizationResultsDto.builder()
+                    .id("1")
+                    .timestamp(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
+                    .message("Optimization completed successfully")
+                    .build();
+            when(khPickingSequenceOptimizationService.retrieveLatestOptimizationResults()).thenReturn(mockResult);
+            String eTag = mockMvc.perform(get("/api/eds/optimization/pilots/crf/latest"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/eds/optimization/pilots/crf/latest")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(content().string(""));
+        }
     }
 
     @Nested
@@ -133,7 +157,7 @@ class OptimizationControllerTests {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.message").value("Request for optimization of CRF KH Picking Sequence has been successfully submitted"));
 
-            verify(khPickingSequenceOptimizationService).invokeOptimizationOfKhPickingSequence(any());
+            verify(khPickingSequenceOptimizationService).invokeAndRegisterOptimizationOfKhPickingSequence(any());
         }
     }
 
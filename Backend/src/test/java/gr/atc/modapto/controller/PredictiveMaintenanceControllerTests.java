@@ -524,7 +524,7 @@ class PredictiveMaintenanceControllerTests {
                     .timeWindowEnd(LocalDateTime.parse("2025-01-02T10:00:00"))
                     .build();
 
-            doNothing().when(predictiveMaintenanceService).invokeGroupingPredictiveMaintenance(any());
+            doNothing().when(predictiveMaintenanceService).invokeAndRegisterGroupingPredictiveMaintenance(any());
 
             mockMvc.perform(post("/api/eds/maintenance/predict/grouping-maintenance")
                     .contentType(MediaType.APPLICATION_JSON)
@@ -534,7 +534,7 @@ class PredictiveMaintenanceControllerTests {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.message").value("Predictive Maintenance service for Grouping Maintenance invoked successfully"));
 
-            verify(predictiveMaintenanceService).invokeGroupingPredictiveMaintenance(any(SewGroupingPredictiveMaintenanceInputDataDto.class));
+            verify(predictiveMaintenanceService).invokeAndRegisterGroupingPredictiveMaintenance(any(SewGroupingPredictiveMaintenanceInputDataDto.class));
         }
 
         @Test
@@ -553,7 +553,7 @@ class PredictiveMaintenanceControllerTests {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.success").value(false));
 
-            verify(predictiveMaintenanceService, never()).invokeGroupingPredictiveMaintenance(any());
+            verify(predictiveMaintenanceService, never()).invokeAndRegisterGroupingPredictiveMaintenance(any());
         }
 
         @Test
@@ -573,7 +573,7 @@ class PredictiveMaintenanceControllerTests {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.success").value(false));
 
-            verify(predictiveMaintenanceService, never()).invokeGroupingPredictiveMaintenance(any());
+            verify(predictiveMaintenanceService, never()).invokeAndRegisterGroupingPredictiveMaintenance(any());
         }
 
         @Test
@@ -592,7 +592,7 @@ class PredictiveMaintenanceControllerTests {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.success").value(false));
 
-            verify(predictiveMaintenanceService, never()).invokeGroupingPredictiveMaintenance(any());
+            verify(predictiveMaintenanceService, never()).invokeAndRegisterGroupingPredictiveMaintenance(any());
         }
 
         @Test
@@ -609,7 +609,7 @@ class PredictiveMaintenanceControllerTests {
                     .with(csrf()))
                     .andExpect(status().isUnauthorized());
 
-            verify(predictiveMaintenanceService, never()).invokeGroupingPredictiveMaintenance(any());
+            verify(predictiveMaintenanceService, never()).invokeAndRegisterGroupingPredictiveMaintenance(any());
         }
     }
 
@@ -845,7 +845,7 @@ class PredictiveMaintenanceControllerTests {
                     .with(csrf()))
                     .andExpect(status().isUnsupportedMediaType());
 
-            verify(predictiveMaintenanceService, never()).invokeGroupingPredictiveMaintenance(any());
+            verify(predictiveMaintenanceService, never()).invokeAndRegisterGroupingPredictiveMaintenance(any());
         }
 
         @Test
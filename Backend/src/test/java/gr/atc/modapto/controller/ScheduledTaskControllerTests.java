@@ -0,0 +1,85 @@
+package gr.atc.modapto.controller;
+
+import gr.atc.modapto.dto.ScheduledTaskExecutionDto;
+import gr.atc.modapto.enums.ScheduledTaskExecutionOutcome;
+import gr.atc.modapto.service.interfaces.IScheduledTaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ScheduledTaskController.class)
+@ActiveProfiles("test")
+@DisplayName("ScheduledTaskController Tests")
+class ScheduledTaskControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IScheduledTaskService scheduledTaskService;
+
+    @Nested
+    @DisplayName("Retrieve Scheduled Task Executions")
+    class RetrieveScheduledTaskExecutions {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve scheduled task executions : Success")
+        void givenTaskId_whenRetrieveScheduledTaskExecutions_thenReturnsRecentRuns() throws Exception {
+            ScheduledTaskExecutionDto execution = ScheduledTaskExecutionDto.builder()
+                    .taskId("task-1")
+                    .smartServiceType("THRESHOLD_BASED_PREDICTIVE_MAINTENANCE")
+                    .outcome(ScheduledTaskExecutionOutcome.SUCCESS)
+                    .lagMillis(120L)
+                    .durationMillis(850L)
+                    .build();
+            when(scheduledTaskService.retrieveRecentExecutions("task-1", 5)).thenReturn(List.of(execution));
+
+            mockMvc.perform(get("/api/eds/scheduled-tasks/{taskId}/executions", "task-1")
+                    .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data[0].taskId").value("task-1"))
+                    .andExpect(jsonPath("$.data[0].outcome").value("SUCCESS"))
+                    .andExpect(jsonPath("$.data[0].durationMillis").value(850))
+                    .andExpect(jsonPath("$.message").value("Scheduled Task executions retrieved successfully"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve scheduled task executions : Invalid limit")
+        void givenInvalidLimit_whenRetrieveScheduledTaskExecutions_thenReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/eds/scheduled-tasks/{taskId}/executions", "task-1")
+                    .param("limit", "500"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+
+            verify(scheduledTaskService, never()).retrieveRecentExecutions(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Retrieve scheduled task executions : Unauthorized")
+        void givenNoAuthentication_whenRetrieveScheduledTaskExecutions_thenReturnsUnauthorized() throws Exception {
+            mockMvc.perform(get("/api/eds/scheduled-tasks/{taskId}/executions", "task-1"))
+                    .andExpect(status().isUnauthorized());
+
+            verify(scheduledTaskService, never()).retrieveRecentExecutions(any(), anyInt());
+        }
+    }
+}
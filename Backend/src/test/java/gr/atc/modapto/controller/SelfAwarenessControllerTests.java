@@ -1,6 +1,7 @@
 package gr.atc.modapto.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
 import gr.atc.modapto.dto.PaginatedResultsDto;
 import gr.atc.modapto.dto.crf.CrfKitHolderEventDto;
 import gr.atc.modapto.dto.crf.CrfSelfAwarenessParametersDto;
@@ -8,8 +9,17 @@ import gr.atc.modapto.dto.serviceInvocations.GlobalRequestDto;
 import gr.atc.modapto.dto.serviceInvocations.SewLocalAnalyticsInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessMonitoringKpisInputDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewHistogramDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiQueryResultDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessRealTimeMonitoringResultsDto;
+import gr.atc.modapto.enums.HistogramBinStrategy;
+import gr.atc.modapto.enums.KpiDimension;
+import gr.atc.modapto.util.HistogramBinning;
+import gr.atc.modapto.util.KpiSeriesCodec;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.dto.sew.SewKpiQueryDto;
 import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
+import gr.atc.modapto.service.TimeSeriesDownsamplingService;
 import gr.atc.modapto.service.interfaces.ICrfSelfAwarenessService;
 import gr.atc.modapto.service.interfaces.ISewSelfAwarenessService;
 import org.junit.jupiter.api.DisplayName;
@@ -17,29 +27,40 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(value = SelfAwarenessController.class)
+@Import(TimeSeriesDownsamplingService.class)
 @ActiveProfiles("test")
 @DisplayName("SelfAwarenessController Tests")
 class SelfAwarenessControllerTests {
@@ -66,7 +87,7 @@ class SelfAwarenessControllerTests {
         void givenValidInput_whenInvokeMonitoringKpis_thenReturnsSuccess() throws Exception {
             SewSelfAwarenessMonitoringKpisInputDto inputData = createValidInputData("TEST_MODULE");
 
-            doNothing().when(sewSelfAwarenessService).invokeSelfAwarenessMonitoringKpisAlgorithm(any());
+            doNothing().when(sewSelfAwarenessService).invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(any());
 
             mockMvc.perform(post("/api/eds/self-awareness/pilots/sew/monitor-kpis/invoke")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -76,7 +97,7 @@ class SelfAwarenessControllerTests {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.message").value("Self-Awareness Monitoring KPIs algorithm invoked successfully"));
 
-            verify(sewSelfAwarenessService).invokeSelfAwarenessMonitoringKpisAlgorithm(any(SewSelfAwarenessMonitoringKpisInputDto.class));
+            verify(sewSelfAwarenessService).invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(any(SewSelfAwarenessMonitoringKpisInputDto.class));
         }
 
         @Test
@@ -85,7 +106,7 @@ class SelfAwarenessControllerTests {
         void givenValidInputAsAdmin_whenInvokeMonitoringKpis_thenReturnsSuccess() throws Exception {
             SewSelfAwarenessMonitoringKpisInputDto inputData = createValidInputData("ADMIN_MODULE");
 
-            doNothing().when(sewSelfAwarenessService).invokeSelfAwarenessMonitoringKpisAlgorithm(any());
+            doNothing().when(sewSelfAwarenessService).invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(any());
 
             mockMvc.perform(post("/api/eds/self-awareness/pilots/sew/monitor-kpis/invoke")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -94,7 +115,7 @@ class SelfAwarenessControllerTests {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true));
 
-            verify(sewSelfAwarenessService).invokeSelfAwarenessMonitoringKpisAlgorithm(any(SewSelfAwarenessMonitoringKpisInputDto.class));
+            verify(sewSelfAwarenessService).invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(any(SewSelfAwarenessMonitoringKpisInputDto.class));
         }
 
         @Test
@@ -108,7 +129,7 @@ class SelfAwarenessControllerTests {
                             .with(csrf()))
                     .andExpect(status().isUnauthorized());
 
-            verify(sewSelfAwarenessService, never()).invokeSelfAwarenessMonitoringKpisAlgorithm(any());
+            verify(sewSelfAwarenessService, never()).invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(any());
         }
 
         @Test
@@ -126,7 +147,7 @@ class SelfAwarenessControllerTests {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.success").value(false));
 
-            verify(sewSelfAwarenessService, never()).invokeSelfAwarenessMonitoringKpisAlgorithm(any());
+            verify(sewSelfAwarenessService, never()).invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(any());
         }
 
         @Test
@@ -145,7 +166,103 @@ class SelfAwarenessControllerTests {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.success").value(false));
 
-            verify(sewSelfAwarenessService, never()).invokeSelfAwarenessMonitoringKpisAlgorithm(any());
+            verify(sewSelfAwarenessService, never()).invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursor Paginated and Streamed Results")
+    class CursorPaginatedAndStreamedResults {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve monitoring KPIs results page : Success")
+        void givenCursor_whenRetrieveMonitoringKpisPage_thenReturnsPageWithNextCursor() throws Exception {
+            when(sewSelfAwarenessService.retrieveSelfAwarenessMonitoringKpisResultsPage("TEST_MODULE", "cursor-1", 50))
+                    .thenReturn(new CursorPaginatedResultsDto<>(List.of(createSampleResultDto("1", "TEST_MODULE")), "cursor-2", false));
+
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/pages")
+                            .param("moduleId", "TEST_MODULE")
+                            .param("cursor", "cursor-1")
+                            .param("size", "50"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.results[0].id").value("1"))
+                    .andExpect(jsonPath("$.data.nextCursor").value("cursor-2"))
+                    .andExpect(jsonPath("$.data.lastPage").value(false));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve real-time monitoring results page : Invalid size")
+        void givenSizeAboveLimit_whenRetrieveRealTimeMonitoringPage_thenReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/real-time-monitoring/results/pages")
+                            .param("size", "5000"))
+                    .andExpect(status().isBadRequest());
+
+            verify(sewSelfAwarenessService, never()).retrieveSelfAwarenessRealTimeMonitoringResultsPage(any(), any(), anyInt());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve current real-time monitoring results : Served from memory")
+        void givenModuleId_whenRetrieveCurrentRealTimeMonitoring_thenReturnsLatestPerProperty() throws Exception {
+            when(sewSelfAwarenessService.retrieveCurrentSelfAwarenessRealTimeMonitoringResults("TEST_MODULE"))
+                    .thenReturn(List.of(SewSelfAwarenessRealTimeMonitoringResultsDto.builder().moduleId("TEST_MODULE").property("Speed").value("1500").build()));
+
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/real-time-monitoring/results/current")
+                            .param("moduleId", "TEST_MODULE"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data[0].value").value("1500"))
+                    .andExpect(jsonPath("$.message").value("Current Self-Awareness Real-Time Monitoring results retrieved successfully"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve recent real-time monitoring results : Invalid limit")
+        void givenZeroLimit_whenRetrieveRecentRealTimeMonitoring_thenReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/real-time-monitoring/results/recent")
+                            .param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+
+            verify(sewSelfAwarenessService, never()).retrieveRecentSelfAwarenessRealTimeMonitoringResults(any(), anyInt());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Stream monitoring KPIs results : One JSON document per line")
+        @SuppressWarnings("unchecked")
+        void givenStoredResults_whenStreamMonitoringKpis_thenWritesNdjson() throws Exception {
+            doAnswer(invocation -> {
+                Consumer<List<SewSelfAwarenessMonitoringKpisResultsDto>> pageConsumer = invocation.getArgument(1);
+                pageConsumer.accept(List.of(createSampleResultDto("1", "TEST_MODULE"), createSampleResultDto("2", "TEST_MODULE")));
+                pageConsumer.accept(List.of(createSampleResultDto("3", "TEST_MODULE")));
+                return null;
+            }).when(sewSelfAwarenessService).streamSelfAwarenessMonitoringKpisResults(eq("TEST_MODULE"), any());
+
+            MvcResult mvcResult = mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/stream")
+                            .param("moduleId", "TEST_MODULE"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String body = mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(3);
+            assertThat(objectMapper.readValue(lines.get(2), SewSelfAwarenessMonitoringKpisResultsDto.class).getId()).isEqualTo("3");
+        }
+
+        @Test
+        @DisplayName("Stream real-time monitoring results : Unauthorized")
+        void givenNoAuthentication_whenStreamRealTimeMonitoring_thenReturnsUnauthorized() throws Exception {
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/real-time-monitoring/results/stream"))
+                    .andExpect(status().isUnauthorized());
+
+            verify(sewSelfAwarenessService, never()).streamSelfAwarenessRealTimeMonitoringResults(any(), any());
         }
     }
 
@@ -198,6 +315,152 @@ class SelfAwarenessControllerTests {
         }
     }
 
+    @Nested
+    @DisplayName("Downsampled Self-Awareness Monitoring KPIs Results")
+    class DownsampledResults {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Downsample latest result : Series reduced to target points")
+        void givenLongSeries_whenRetrieveLatestWithDownsampling_thenReturnsTargetPoints() throws Exception {
+            SewSelfAwarenessMonitoringKpisResultsDto result = createSampleResultDto("test-id", "TEST_MODULE");
+            result.setData(IntStream.range(0, 1000).mapToObj(i -> Math.sin(i / 10.0)).toList());
+            when(sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResults()).thenReturn(result);
+
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest")
+                            .param("downsampling", "LTTB")
+                            .param("points", "50"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.Data_list.length()").value(50))
+                    .andExpect(jsonPath("$.data.Data_indices.length()").value(50))
+                    .andExpect(jsonPath("$.data.Data_indices[0]").value(0))
+                    .andExpect(jsonPath("$.data.Data_indices[49]").value(999));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Downsample all results : Without parameters the full series is returned")
+        void givenNoDownsamplingParameters_whenRetrieveAll_thenReturnsFullSeries() throws Exception {
+            SewSelfAwarenessMonitoringKpisResultsDto result = createSampleResultDto("test-id", "TEST_MODULE");
+            result.setData(IntStream.range(0, 1000).mapToObj(i -> (double) i).toList());
+            when(sewSelfAwarenessService.retrieveAllSelfAwarenessMonitoringKpisResults()).thenReturn(List.of(result));
+
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].Data_list.length()").value(1000))
+                    .andExpect(jsonPath("$.data[0].Data_indices").doesNotExist());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Downsample latest result : Invalid target points")
+        void givenTooFewPoints_whenRetrieveLatestWithDownsampling_thenReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest")
+                            .param("points", "2"))
+                    .andExpect(status().isBadRequest());
+
+            verify(sewSelfAwarenessService, never()).retrieveLatestSelfAwarenessMonitoringKpisResults();
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Encode latest result : Compressed series replaces the list")
+        void givenGorillaEncoding_whenRetrieveLatest_thenReturnsEncodedSeries() throws Exception {
+            SewSelfAwarenessMonitoringKpisResultsDto result = createSampleResultDto("test-id", "TEST_MODULE");
+            List<Double> data = IntStream.range(0, 1000).mapToObj(i -> Math.sin(i / 10.0)).toList();
+            result.setData(data);
+            when(sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResults()).thenReturn(result);
+
+            String response = mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest")
+                            .param("encoding", "GORILLA"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.Data_list").doesNotExist())
+                    .andExpect(jsonPath("$.data.Data_encoded").isString())
+                    .andReturn().getResponse().getContentAsString();
+
+            String encodedData = objectMapper.readTree(response).at("/data/Data_encoded").asText();
+            assertThat(KpiSeriesCodec.decode(encodedData)).isEqualTo(data);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Encode latest result : Invalid encoding")
+        void givenUnknownEncoding_whenRetrieveLatest_thenReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest")
+                            .param("encoding", "ZIP"))
+                    .andExpect(status().isBadRequest());
+
+            verify(sewSelfAwarenessService, never()).retrieveLatestSelfAwarenessMonitoringKpisResults();
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional Requests for Latest Self-Awareness Monitoring KPIs Results")
+    class ConditionalLatestResults {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve latest results : ETag and Cache-Control are sent")
+        void givenExistingResults_whenRetrieveLatest_thenReturnsETagAndCacheControl() throws Exception {
+            when(sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResults())
+                    .thenReturn(createSampleResultDto("test-id", "TEST_MODULE"));
+
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve latest results : Not modified for a matching ETag")
+        void givenMatchingETag_whenRetrieveLatest_thenReturnsNotModifiedWithoutBody() throws Exception {
+            when(sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResults())
+                    .thenReturn(createSampleResultDto("test-id", "TEST_MODULE"));
+            String eTag = mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve latest results : New result is sent for a stale ETag")
+        void givenNewerResult_whenRetrieveLatestWithStaleETag_thenReturnsResult() throws Exception {
+            when(sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResults())
+                    .thenReturn(createSampleResultDto("test-id", "TEST_MODULE"))
+                    .thenReturn(createSampleResultDto("new-id", "TEST_MODULE"));
+            String eTag = mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/latest")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.id").value("new-id"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Retrieve latest results : ETag depends on the series encoding")
+        void givenETagOfListEncoding_whenRetrieveLatestWithGorillaEncoding_thenReturnsResult() throws Exception {
+            when(sewSelfAwarenessService.retrieveLatestSelfAwarenessMonitoringKpisResultsByModuleId("TEST_MODULE"))
+                    .thenReturn(createSampleResultDto("test-id", "TEST_MODULE"));
+            String eTag = mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/{moduleId}/latest", "TEST_MODULE"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/{moduleId}/latest", "TEST_MODULE")
+                            .param("encoding", "GORILLA")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+        }
+    }
+
     @Nested
     @DisplayName("Retrieve Latest Self-Awareness Monitoring KPIs Results by Module ID")
     class RetrieveLatestSelfAwarenessMonitoringKpisResultsByModuleId {
@@ -388,7 +651,7 @@ class SelfAwarenessControllerTests {
             mockMvc.perform(get("/api/eds/self-awareness/pilots/sew/monitor-kpis/results/TEST"))
                     .andExpect(status().isUnauthorized());
 
-            verify(sewSelfAwarenessService, never()).invokeSelfAwarenessMonitoringKpisAlgorithm(any());
+            verify(sewSelfAwarenessService, never()).invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(any());
             verify(sewSelfAwarenessService, never()).retrieveLatestSelfAwarenessMonitoringKpisResults();
             verify(sewSelfAwarenessService, never()).retrieveLatestSelfAwarenessMonitoringKpisResultsByModuleId(any());
             verify(sewSelfAwarenessService, never()).retrieveAllSelfAwarenessMonitoringKpisResults();
@@ -617,6 +880,132 @@ class SelfAwarenessControllerTests {
 
             verify(sewSelfAwarenessService).generateHistogramForComparingModules(any(GlobalRequestDto.class));
         }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Compute histogram : Success")
+        void givenValidRequest_whenComputeHistogram_thenReturnsBinsAndStatistics() throws Exception {
+            // Given
+            GlobalRequestDto<SewLocalAnalyticsInputDto> request = GlobalRequestDto.<SewLocalAnalyticsInputDto>builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_1")
+                    .input(SewLocalAnalyticsInputDto.builder()
+                            .firstParameters(new SewFilteringOptionsDto.Options())
+                            .binStrategy(HistogramBinStrategy.FREEDMAN_DIACONIS)
+                            .build())
+                    .build();
+
+            SewHistogramDto histogram = SewHistogramDto.builder()
+                    .binStrategy("FREEDMAN_DIACONIS")
+                    .binEdges(List.of(0.0, 1.0, 2.0))
+                    .firstSeries(SewHistogramDto.Series.builder().counts(List.of(3L, 4L)).build())
+                    .build();
+            when(sewSelfAwarenessService.computeHistogramForComparingModules(any(GlobalRequestDto.class)))
+                    .thenReturn(histogram);
+
+            // When & Then
+            mockMvc.perform(post("/api/eds/self-awareness/pilots/sew/analytics/histogram")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.bin_edges.length()").value(3))
+                    .andExpect(jsonPath("$.data.first_series.counts[1]").value(4))
+                    .andExpect(jsonPath("$.message").value("Histogram computed successfully"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Query KPI store : Success")
+        void givenValidQuery_whenQueryKpiStore_thenReturnsGroups() throws Exception {
+            // Given
+            SewKpiQueryDto query = SewKpiQueryDto.builder()
+                    .moduleIds(List.of("sew_module_1"))
+                    .groupBy(List.of(KpiDimension.VARIABLE))
+                    .percentiles(List.of(95.0))
+                    .build();
+            SewKpiQueryResultDto result = SewKpiQueryResultDto.builder()
+                    .groups(List.of(SewKpiQueryResultDto.Group.builder().key(Map.of("VARIABLE", "Speed")).count(10L).build()))
+                    .build();
+            when(sewSelfAwarenessService.queryMonitoringKpisStore(any(SewKpiQueryDto.class))).thenReturn(result);
+
+            // When & Then
+            mockMvc.perform(post("/api/eds/self-awareness/pilots/sew/analytics/kpis/query")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(query))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.groups[0].key.VARIABLE").value("Speed"))
+                    .andExpect(jsonPath("$.message").value("KPI statistics retrieved successfully"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Query KPI store : Invalid percentile")
+        void givenPercentileAboveHundred_whenQueryKpiStore_thenReturnsBadRequest() throws Exception {
+            // Given
+            SewKpiQueryDto query = SewKpiQueryDto.builder().percentiles(List.of(150.0)).build();
+
+            // When & Then
+            mockMvc.perform(post("/api/eds/self-awareness/pilots/sew/analytics/kpis/query")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(query))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+
+            verify(sewSelfAwarenessService, never()).queryMonitoringKpisStore(any());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Compute histogram : Invalid number of bins")
+        void givenTooManyBins_whenComputeHistogram_thenReturnsBadRequest() throws Exception {
+            // Given
+            GlobalRequestDto<SewLocalAnalyticsInputDto> request = GlobalRequestDto.<SewLocalAnalyticsInputDto>builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_1")
+                    .input(SewLocalAnalyticsInputDto.builder()
+                            .firstParameters(new SewFilteringOptionsDto.Options())
+                            .bins(HistogramBinning.MAX_BINS + 1)
+                            .build())
+                    .build();
+
+            // When & Then
+            mockMvc.perform(post("/api/eds/self-awareness/pilots/sew/analytics/histogram")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest());
+
+            verify(sewSelfAwarenessService, never()).computeHistogramForComparingModules(any(GlobalRequestDto.class));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("Generate histogram : Invalid bin width")
+        void givenNegativeBinWidth_whenGenerateHistogram_thenReturnsBadRequest() throws Exception {
+            // Given
+            GlobalRequestDto<SewLocalAnalyticsInputDto> request = GlobalRequestDto.<SewLocalAnalyticsInputDto>builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_1")
+                    .input(SewLocalAnalyticsInputDto.builder()
+                            .firstParameters(new SewFilteringOptionsDto.Options())
+                            .binWidth(-1.0)
+                            .build())
+                    .build();
+
+            // When & Then
+            mockMvc.perform(post("/api/eds/self-awareness/pilots/sew/analytics/generate-histogram")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .with(csrf()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors['input.binWidth']").value("Bin width must be positive"));
+
+            verify(sewSelfAwarenessService, never()).generateHistogramForComparingModules(any(GlobalRequestDto.class));
+        }
     }
 
     private SewSelfAwarenessMonitoringKpisInputDto createValidInputData(String moduleId) {
@@ -0,0 +1,92 @@
+package gr.atc.modapto.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.enums.MessagePriority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EventEnvelope Tests")
+class EventEnvelopeTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Read envelope : Fields read and results kept exactly as serialized")
+    void givenEventWithResults_whenRead_thenReadsFieldsAndKeepsResultsBytes() throws IOException {
+        String results = "{ \"id\" : \"ü-1\", \"values\": [1, {\"nested\": [true, null]}] }";
+        String event = "{\"description\":\"Test\",\"priority\":\"HIGH\",\"module\":\"ModuleA\",\"tags\":{\"a\":[1]},"
+                + "\"results\": " + results + ",\"topic\":\"test-topic\",\"eventType\":\"Type\"}";
+
+        EventEnvelope envelope = EventEnvelope.read(bytes(event));
+
+        assertThat(envelope.priority()).isEqualTo(MessagePriority.HIGH);
+        assertThat(envelope.module()).isEqualTo("ModuleA");
+        assertThat(envelope.topic()).isEqualTo("test-topic");
+        assertThat(envelope.eventType()).isEqualTo("Type");
+        assertThat(envelope.description()).isEqualTo("Test");
+        assertThat(envelope.hasResults()).isTrue();
+        assertThat(new String(envelope.results(), StandardCharsets.UTF_8)).isEqualTo(results);
+        assertThat(envelope.readResults(objectMapper)).isEqualTo(objectMapper.readTree(results));
+    }
+
+    @Test
+    @DisplayName("Read envelope : Scalar results kept as serialized")
+    void givenEventWithScalarResults_whenRead_thenKeepsResultsBytes() throws IOException {
+        EventEnvelope envelope = EventEnvelope.read(bytes("{\"priority\":\"LOW\",\"results\":\"done\"}"));
+
+        assertThat(new String(envelope.results(), StandardCharsets.UTF_8)).isEqualTo("\"done\"");
+    }
+
+    @Test
+    @DisplayName("Read envelope : Null or missing results")
+    void givenEventWithoutResults_whenRead_thenHasNoResults() throws IOException {
+        assertThat(EventEnvelope.read(bytes("{\"priority\":\"LOW\",\"results\":null}")).hasResults()).isFalse();
+        assertThat(EventEnvelope.read(bytes("{\"priority\":\"LOW\"}")).hasResults()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Read envelope : Missing fields read as null")
+    void givenEventWithoutFields_whenRead_thenFieldsAreNull() throws IOException {
+        EventEnvelope envelope = EventEnvelope.read(bytes("{}"));
+
+        assertThat(envelope.priority()).isNull();
+        assertThat(envelope.module()).isNull();
+        assertThat(envelope.topic()).isNull();
+    }
+
+    @Test
+    @DisplayName("Read envelope : Topic replaced")
+    void givenEnvelope_whenWithTopic_thenOnlyTopicReplaced() throws IOException {
+        EventEnvelope envelope = EventEnvelope.read(bytes("{\"topic\":\"mqtt\",\"results\":[1]}")).withTopic("key-topic");
+
+        assertThat(envelope.topic()).isEqualTo("key-topic");
+        assertThat(new String(envelope.results(), StandardCharsets.UTF_8)).isEqualTo("[1]");
+    }
+
+    @Test
+    @DisplayName("Read envelope : Error on unknown priority")
+    void givenUnknownPriority_whenRead_thenThrowsException() {
+        assertThatThrownBy(() -> EventEnvelope.read(bytes("{\"priority\":\"URGENT\"}")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unknown priority");
+    }
+
+    @Test
+    @DisplayName("Read envelope : Error on malformed event")
+    void givenMalformedEvent_whenRead_thenThrowsException() {
+        assertThatThrownBy(() -> EventEnvelope.read(bytes("{\"priority\":\"HIGH\",\"results\":{\"id\":")))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> EventEnvelope.read(bytes("[1, 2]")))
+                .isInstanceOf(IOException.class);
+    }
+}
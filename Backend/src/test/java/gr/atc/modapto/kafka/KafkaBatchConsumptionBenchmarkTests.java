@@ -0,0 +1,193 @@
+package gr.atc.modapto.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.KafkaConfig;
+import gr.atc.modapto.config.properties.KafkaListenerProperties;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
+import gr.atc.modapto.dto.EventDto;
+import gr.atc.modapto.enums.MessagePriority;
+import gr.atc.modapto.service.LatestResultCacheService;
+import gr.atc.modapto.service.SewRealTimeMonitoringStore;
+import gr.atc.modapto.service.WebSocketService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Throughput of the record listener (one consumer thread, one record per call) against the batch listener
+ * (concurrency matched to the partitions, one poll per call) over an embedded Kafka broker
+ */
+@Slf4j
+@DisplayName("Kafka Batch Consumption Benchmark")
+class KafkaBatchConsumptionBenchmarkTests {
+
+    private static final String TOPIC = "benchmark-events";
+    private static final int PARTITIONS = 3;
+    private static final int RECORDS = 3000;
+    // Simulated duration of a WebSocket send
+    private static final long DISPATCH_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+        publishEvents();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    private static void publishEvents() {
+        Map<String, Object> props = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        DefaultKafkaProducerFactory<String, EventDto> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        KafkaTemplate<String, EventDto> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        ObjectMapper mapper = new ObjectMapper();
+        for (int sequence = 0; sequence < RECORDS; sequence++) {
+            int partition = sequence % PARTITIONS;
+            EventDto event = EventDto.builder()
+                    .priority(MessagePriority.MID)
+                    .module("MODULE_" + partition)
+                    .topic("benchmark-results")
+                    .results(mapper.valueToTree(Map.of("partition", partition, "sequence", sequence)))
+                    .build();
+            kafkaTemplate.send(TOPIC, partition, "key-" + partition, event);
+        }
+        kafkaTemplate.flush();
+        producerFactory.destroy();
+    }
+
+    private KafkaConfig createKafkaConfig(String groupId) {
+        KafkaConfig kafkaConfig = new KafkaConfig(new KafkaListenerProperties(0, null, null, null));
+        ReflectionTestUtils.setField(kafkaConfig, "kafkaBrokers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(kafkaConfig, "kafkaGroupId", groupId);
+        ReflectionTestUtils.setField(kafkaConfig, "kafkaOffsetStrategy", "earliest");
+        ReflectionTestUtils.setField(kafkaConfig, "kafkaTopics", TOPIC);
+        return kafkaConfig;
+    }
+
+    private KafkaMessageHandler createHandler(RecordingWebSocketService webSocketService, SimpleMeterRegistry meterRegistry) {
+        return new KafkaMessageHandler(webSocketService,
+                mock(SewRealTimeMonitoringStore.class),
+                new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), objectMapper),
+                new KafkaTopicConsumptionMetrics(meterRegistry));
+    }
+
+    private double consumeAll(ConcurrentMessageListenerContainer<String, byte[]> container, RecordingWebSocketService webSocketService) throws InterruptedException {
+        long start = System.nanoTime();
+        container.start();
+        try {
+            assertThat(webSocketService.received.await(60, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            container.stop();
+        }
+        return RECORDS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    @Test
+    @DisplayName("Consume events : Record and batch listeners deliver every event in partition order")
+    void givenPublishedEvents_whenConsumedByRecordAndBatchListeners_thenAllEventsDeliveredInPartitionOrder() throws Exception {
+        // Record listener, as configured before the batch mode
+        KafkaConfig recordConfig = createKafkaConfig("benchmark-record");
+        RecordingWebSocketService recordWebSocket = new RecordingWebSocketService();
+        KafkaMessageHandler recordHandler = createHandler(recordWebSocket, new SimpleMeterRegistry());
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> recordFactory = new ConcurrentKafkaListenerContainerFactory<>();
+        recordFactory.setConsumerFactory(recordConfig.consumerFactory());
+        ConcurrentMessageListenerContainer<String, byte[]> recordContainer = recordFactory.createContainer(TOPIC);
+        recordContainer.getContainerProperties().setGroupId("benchmark-record");
+        recordContainer.setupMessageListener((MessageListener<String, byte[]>) consumerRecord ->
+                recordHandler.consume(consumerRecord.value(), consumerRecord.topic(), consumerRecord.key()));
+        double recordThroughput = consumeAll(recordContainer, recordWebSocket);
+
+        // Batch listener with concurrency matched to the partitions
+        KafkaConfig batchConfig = createKafkaConfig("benchmark-batch");
+        RecordingWebSocketService batchWebSocket = new RecordingWebSocketService();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KafkaMessageHandler batchHandler = createHandler(batchWebSocket, meterRegistry);
+        ConcurrentMessageListenerContainer<String, byte[]> batchContainer = batchConfig.kafkaListenerContainerFactory().createContainer(TOPIC);
+        batchContainer.getContainerProperties().setGroupId("benchmark-batch");
+        batchContainer.setupMessageListener((BatchConsumerAwareMessageListener<String, byte[]>) batchHandler::consumeBatch);
+        double batchThroughput = consumeAll(batchContainer, batchWebSocket);
+
+        log.info("Kafka consumption benchmark ({} records, {} partitions) - Record listener: {} records/s, Batch listener: {} records/s",
+                RECORDS, PARTITIONS, Math.round(recordThroughput), Math.round(batchThroughput));
+
+        assertThat(batchContainer.getConcurrency()).isEqualTo(PARTITIONS);
+        assertThat(recordWebSocket.sequences.values()).allSatisfy(sequences -> assertThat(sequences).isSorted());
+        assertThat(batchWebSocket.sequences.values()).allSatisfy(sequences -> assertThat(sequences).isSorted());
+        assertThat(batchWebSocket.sequences.values().stream().mapToInt(List::size).sum()).isEqualTo(RECORDS);
+        assertThat(meterRegistry.get("kafka.consumer.records").tag("topic", TOPIC).counter().count()).isEqualTo(RECORDS);
+    }
+
+    /*
+     * WebSocket service recording the sequence of every notification per partition, with a simulated send duration
+     */
+    private class RecordingWebSocketService extends WebSocketService {
+
+        private final CountDownLatch received = new CountDownLatch(RECORDS);
+
+        private final Map<Integer, List<Integer>> sequences = new ConcurrentHashMap<>();
+
+        RecordingWebSocketService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public boolean hasSubscribers(String topicName) {
+            return true;
+        }
+
+        @Override
+        public void notifyInWebSocketTopic(byte[] payload, String topicName) {
+            try {
+                JsonNode results = objectMapper.readTree(payload);
+                sequences.computeIfAbsent(results.get("partition").asInt(), partition -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(results.get("sequence").asInt());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            LockSupport.parkNanos(DISPATCH_NANOS);
+            received.countDown();
+        }
+
+        @Override
+        public void notifyInWebSocketTopic(List<byte[]> payloads, String topicName) {
+            payloads.forEach(payload -> notifyInWebSocketTopic(payload, topicName));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package gr.atc.modapto.kafka;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -9,14 +10,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -32,6 +41,8 @@ import gr.atc.modapto.dto.serviceResults.sew.SewOptimizationResultsDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSimulationResultsDto;
 import gr.atc.modapto.enums.MessagePriority;
+import gr.atc.modapto.service.LatestResultCacheService;
+import gr.atc.modapto.service.SewRealTimeMonitoringStore;
 import gr.atc.modapto.service.WebSocketService;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +52,18 @@ class KafkaMessageHandlerTests {
     @Mock
     private WebSocketService webSocketService;
 
+    @Mock
+    private SewRealTimeMonitoringStore realTimeMonitoringStore;
+
+    @Mock
+    private LatestResultCacheService latestResultCache;
+
+    @Mock
+    private KafkaTopicConsumptionMetrics consumerMetrics;
+
+    @Mock
+    private Consumer<String, byte[]> consumer;
+
     @InjectMocks
     private KafkaMessageHandler kafkaMessageHandler;
 
@@ -54,6 +77,7 @@ class KafkaMessageHandlerTests {
         baseEvent.setPriority(MessagePriority.HIGH);
         baseEvent.setModule("ModuleA");
         baseEvent.setTopic("test-topic");
+        lenient().when(webSocketService.hasSubscribers(anyString())).thenReturn(true);
     }
 
     @Nested
@@ -77,14 +101,14 @@ class KafkaMessageHandlerTests {
             baseEvent.setTopic("crf-simulation-topic");
             String topic = "crf-simulation-topic";
 
-            kafkaMessageHandler.consume(baseEvent, topic, "sampleKey");
+            consume(baseEvent, topic, "sampleKey");
 
-            ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
             ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
 
             verify(webSocketService, times(1)).notifyInWebSocketTopic(messageCaptor.capture(), topicCaptor.capture());
 
-            assertEquals(objectMapper.writeValueAsString(simulationResult), messageCaptor.getValue());
+            assertEquals(objectMapper.writeValueAsString(simulationResult), new String(messageCaptor.getValue(), StandardCharsets.UTF_8));
             assertEquals("crf-simulation-topic", topicCaptor.getValue());
         }
 
@@ -105,9 +129,9 @@ class KafkaMessageHandlerTests {
             baseEvent.setTopic("original-event-topic");
             String mqttTopic = "modapto-mqtt-topics";
 
-            kafkaMessageHandler.consume(baseEvent, mqttTopic, "sampleKey");
+            consume(baseEvent, mqttTopic, "sampleKey");
 
-            verify(webSocketService, times(1)).notifyInWebSocketTopic(anyString(), eq("sampleKey"));
+            verify(webSocketService, times(1)).notifyInWebSocketTopic(any(byte[].class), eq("sampleKey"));
         }
     }
 
@@ -132,14 +156,14 @@ class KafkaMessageHandlerTests {
             baseEvent.setTopic("crf-optimization-topic");
             String topic = "crf-optimization-topic";
 
-            kafkaMessageHandler.consume(baseEvent, topic, "sampleKey");
+            consume(baseEvent, topic, "sampleKey");
 
-            ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
             ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
 
             verify(webSocketService, times(1)).notifyInWebSocketTopic(messageCaptor.capture(), topicCaptor.capture());
 
-            assertEquals(objectMapper.writeValueAsString(optimizationResult), messageCaptor.getValue());
+            assertEquals(objectMapper.writeValueAsString(optimizationResult), new String(messageCaptor.getValue(), StandardCharsets.UTF_8));
             assertEquals("crf-optimization-topic", topicCaptor.getValue());
         }
     }
@@ -162,14 +186,14 @@ class KafkaMessageHandlerTests {
             baseEvent.setTopic("sew-simulation-topic");
             String topic = "sew-simulation-topic";
 
-            kafkaMessageHandler.consume(baseEvent, topic, "sampleKey");
+            consume(baseEvent, topic, "sampleKey");
 
-            ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
             ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
 
             verify(webSocketService, times(1)).notifyInWebSocketTopic(messageCaptor.capture(), topicCaptor.capture());
 
-            assertEquals(objectMapper.writeValueAsString(simulationResult), messageCaptor.getValue());
+            assertEquals(objectMapper.writeValueAsString(simulationResult), new String(messageCaptor.getValue(), StandardCharsets.UTF_8));
             assertEquals("sew-simulation-topic", topicCaptor.getValue());
         }
     }
@@ -192,14 +216,14 @@ class KafkaMessageHandlerTests {
             baseEvent.setTopic("sew-optimization-topic");
             String topic = "sew-optimization-topic";
 
-            kafkaMessageHandler.consume(baseEvent, topic, "sampleKey");
+            consume(baseEvent, topic, "sampleKey");
 
-            ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
             ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
 
             verify(webSocketService, times(1)).notifyInWebSocketTopic(messageCaptor.capture(), topicCaptor.capture());
 
-            assertEquals(objectMapper.writeValueAsString(optimizationResult), messageCaptor.getValue());
+            assertEquals(objectMapper.writeValueAsString(optimizationResult), new String(messageCaptor.getValue(), StandardCharsets.UTF_8));
             assertEquals("sew-optimization-topic", topicCaptor.getValue());
         }
     }
@@ -217,9 +241,9 @@ class KafkaMessageHandlerTests {
             // Missing priority
             String topic = "test-kafka-topic";
 
-            kafkaMessageHandler.consume(invalidEvent, topic, "sampleKey");
+            consume(invalidEvent, topic, "sampleKey");
 
-            verify(webSocketService, never()).notifyInWebSocketTopic(anyString(), anyString());
+            verify(webSocketService, never()).notifyInWebSocketTopic(any(byte[].class), anyString());
         }
 
         @Test
@@ -231,9 +255,9 @@ class KafkaMessageHandlerTests {
             // Missing module
             String topic = "test-kafka-topic";
 
-            kafkaMessageHandler.consume(invalidEvent, topic, "sampleKey");
+            consume(invalidEvent, topic, "sampleKey");
 
-            verify(webSocketService, never()).notifyInWebSocketTopic(anyString(), anyString());
+            verify(webSocketService, never()).notifyInWebSocketTopic(any(byte[].class), anyString());
         }
 
         @Test
@@ -245,9 +269,9 @@ class KafkaMessageHandlerTests {
             // Missing topic
             String topic = "test-kafka-topic";
 
-            kafkaMessageHandler.consume(invalidEvent, topic, "sampleKey");
+            consume(invalidEvent, topic, "sampleKey");
 
-            verify(webSocketService, never()).notifyInWebSocketTopic(anyString(), anyString());
+            verify(webSocketService, never()).notifyInWebSocketTopic(any(byte[].class), anyString());
         }
     }
 
@@ -300,14 +324,14 @@ class KafkaMessageHandlerTests {
             baseEvent.setTopic("sew-grouping-predictive-maintenance-topic");
             String topic = "sew-grouping-predictive-maintenance-topic";
 
-            kafkaMessageHandler.consume(baseEvent, topic, "sampleKey");
+            consume(baseEvent, topic, "sampleKey");
 
-            ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
             ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
 
             verify(webSocketService, times(1)).notifyInWebSocketTopic(messageCaptor.capture(), topicCaptor.capture());
 
-            assertEquals(objectMapper.writeValueAsString(maintenanceResult), messageCaptor.getValue());
+            assertEquals(objectMapper.writeValueAsString(maintenanceResult), new String(messageCaptor.getValue(), StandardCharsets.UTF_8));
             assertEquals("sew-grouping-predictive-maintenance-topic", topicCaptor.getValue());
         }
     }
@@ -344,18 +368,128 @@ class KafkaMessageHandlerTests {
             baseEvent.setTopic("sew-self-awareness-monitoring-kpis-topic");
             String topic = "sew-self-awareness-monitoring-kpis-topic";
 
-            kafkaMessageHandler.consume(baseEvent, topic, "sampleKey");
+            consume(baseEvent, topic, "sampleKey");
 
-            ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
             ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
 
             verify(webSocketService, times(1)).notifyInWebSocketTopic(messageCaptor.capture(), topicCaptor.capture());
 
-            assertEquals(objectMapper.writeValueAsString(kpisResult), messageCaptor.getValue());
+            assertEquals(objectMapper.writeValueAsString(kpisResult), new String(messageCaptor.getValue(), StandardCharsets.UTF_8));
             assertEquals("sew-self-awareness-monitoring-kpis-topic", topicCaptor.getValue());
         }
     }
 
+    @Nested
+    @DisplayName("SEW Self-Awareness Real-Time Monitoring Results")
+    class SewSelfAwarenessRealTimeMonitoringResults {
+
+        @Test
+        @DisplayName("Consume real-time monitoring event : Results are kept in memory and forwarded")
+        void givenRealTimeMonitoringEvent_whenConsume_thenRecordsResultsAndNotifiesWebSocket() {
+            // Given
+            JsonNode resultNode = objectMapper.createObjectNode()
+                    .put("moduleId", "ModuleA")
+                    .put("component", "Motor")
+                    .put("property", "Temperature")
+                    .put("value", "71.5");
+            baseEvent.setResults(resultNode);
+            baseEvent.setTopic("self-awareness-real-time-monitoring");
+            when(realTimeMonitoringStore.isRealTimeMonitoringTopic("self-awareness-real-time-monitoring")).thenReturn(true);
+
+            // When
+            consume(baseEvent, "self-awareness-real-time-monitoring", "sampleKey");
+
+            // Then
+            verify(realTimeMonitoringStore).recordEventResults(resultNode);
+            verify(webSocketService).notifyInWebSocketTopic(any(byte[].class), eq("self-awareness-real-time-monitoring"));
+        }
+
+        @Test
+        @DisplayName("Consume other event : Results are not kept in memory")
+        void givenOtherTopic_whenConsume_thenSkipsRealTimeMonitoringStore() {
+            // Given
+            baseEvent.setResults(objectMapper.createObjectNode().put("kpi", "value"));
+
+            // When
+            consume(baseEvent, "test-topic", "sampleKey");
+
+            // Then
+            verify(realTimeMonitoringStore, never()).recordEventResults(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("WebSocket Subscriptions")
+    class WebSocketSubscriptions {
+
+        @Test
+        @DisplayName("Consume event without subscribers : Results not dispatched")
+        void givenTopicWithoutSubscribers_whenConsume_thenSkipsWebSocketNotification() {
+            // Given
+            baseEvent.setResults(objectMapper.createObjectNode().put("message", "Unobserved"));
+            when(webSocketService.hasSubscribers("test-topic")).thenReturn(false);
+
+            // When
+            consume(baseEvent, "test-topic", "sampleKey");
+
+            // Then
+            verify(webSocketService, never()).notifyInWebSocketTopic(any(byte[].class), anyString());
+        }
+
+        @Test
+        @DisplayName("Consume results event without subscribers : Latest results still updated")
+        void givenResultsTopicWithoutSubscribers_whenConsume_thenRecordsLatestResultOnly() {
+            // Given
+            JsonNode resultNode = objectMapper.createObjectNode().put("message", "Optimization completed");
+            baseEvent.setResults(resultNode);
+            baseEvent.setTopic("production-schedule-optimization");
+            when(latestResultCache.isResultEventTopic("production-schedule-optimization")).thenReturn(true);
+            when(webSocketService.hasSubscribers("production-schedule-optimization")).thenReturn(false);
+
+            // When
+            consume(baseEvent, "production-schedule-optimization", "sampleKey");
+
+            // Then
+            verify(latestResultCache).recordResultEvent("production-schedule-optimization", "ModuleA", resultNode);
+            verify(webSocketService, never()).notifyInWebSocketTopic(any(byte[].class), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Latest Results Cache")
+    class LatestResultsCache {
+
+        @Test
+        @DisplayName("Consume results event : Latest results of the Module are updated")
+        void givenResultsEvent_whenConsume_thenRecordsLatestResult() {
+            // Given
+            JsonNode resultNode = objectMapper.createObjectNode().put("message", "Optimization completed");
+            baseEvent.setResults(resultNode);
+            baseEvent.setTopic("production-schedule-optimization");
+            when(latestResultCache.isResultEventTopic("production-schedule-optimization")).thenReturn(true);
+
+            // When
+            consume(baseEvent, "production-schedule-optimization", "sampleKey");
+
+            // Then
+            verify(latestResultCache).recordResultEvent("production-schedule-optimization", "ModuleA", resultNode);
+        }
+
+        @Test
+        @DisplayName("Consume event without results : Cache is not updated")
+        void givenEventWithoutResults_whenConsume_thenDoesNotRecordLatestResult() {
+            // Given
+            baseEvent.setResults(objectMapper.nullNode());
+
+            // When
+            consume(baseEvent, "test-topic", "sampleKey");
+
+            // Then
+            verify(latestResultCache, never()).recordResultEvent(any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Enhanced Event Validation")
     class EnhancedEventValidation {
@@ -380,9 +514,9 @@ class KafkaMessageHandlerTests {
             eventWithModule.setResults(resultNode);
             String topic = "test-topic";
 
-            kafkaMessageHandler.consume(eventWithModule, topic, "sampleKey");
+            consume(eventWithModule, topic, "sampleKey");
 
-            verify(webSocketService, times(1)).notifyInWebSocketTopic(anyString(), anyString());
+            verify(webSocketService, times(1)).notifyInWebSocketTopic(any(byte[].class), anyString());
         }
 
         @Test
@@ -407,16 +541,107 @@ class KafkaMessageHandlerTests {
                         .results(resultNode)
                         .build();
                 
-                kafkaMessageHandler.consume(eventWithPriority, "test-topic", "sampleKey");
+                consume(eventWithPriority, "test-topic", "sampleKey");
             }
 
-            verify(webSocketService, times(priorities.length)).notifyInWebSocketTopic(anyString(), anyString());
+            verify(webSocketService, times(priorities.length)).notifyInWebSocketTopic(any(byte[].class), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Consumption")
+    class BatchConsumption {
+
+        private ConsumerRecord<String, byte[]> createRecord(int partition, long offset, String eventTopic, String resultId) {
+            EventDto event = EventDto.builder()
+                    .priority(MessagePriority.HIGH)
+                    .module("ModuleA")
+                    .topic(eventTopic)
+                    .results(objectMapper.valueToTree(Map.of("id", resultId)))
+                    .build();
+            return new ConsumerRecord<>("kafka-topic", partition, offset, "key", serialize(event));
+        }
+
+        private List<String> payloadsOf(List<byte[]> payloads) {
+            return payloads.stream().map(payload -> new String(payload, StandardCharsets.UTF_8)).toList();
+        }
+
+        @Test
+        @DisplayName("Consume batch : Notifications grouped per WebSocket topic in partition order")
+        @SuppressWarnings("unchecked")
+        void givenRecordsOfSeveralPartitions_whenConsumeBatch_thenNotifiesEachTopicOnceInPartitionOrder() {
+            List<ConsumerRecord<String, byte[]>> records = List.of(
+                    createRecord(0, 0, "topic-a", "a-0"),
+                    createRecord(1, 0, "topic-a", "a-1"),
+                    createRecord(0, 1, "topic-a", "a-2"),
+                    createRecord(1, 1, "topic-b", "b-0"));
+            when(consumer.currentLag(any())).thenReturn(OptionalLong.empty());
+
+            kafkaMessageHandler.consumeBatch(records, consumer);
+
+            ArgumentCaptor<List<byte[]>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(webSocketService).notifyInWebSocketTopic(messagesCaptor.capture(), eq("topic-a"));
+            assertEquals(List.of("{\"id\":\"a-0\"}", "{\"id\":\"a-2\"}", "{\"id\":\"a-1\"}"), payloadsOf(messagesCaptor.getValue()));
+            verify(webSocketService).notifyInWebSocketTopic(messagesCaptor.capture(), eq("topic-b"));
+            assertEquals(List.of("{\"id\":\"b-0\"}"), payloadsOf(messagesCaptor.getValue()));
+            verify(webSocketService, never()).notifyInWebSocketTopic(any(byte[].class), anyString());
+        }
+
+        @Test
+        @DisplayName("Consume batch : Empty, malformed and failing records are skipped")
+        @SuppressWarnings("unchecked")
+        void givenMalformedAndFailingRecords_whenConsumeBatch_thenProcessesRemainingRecords() {
+            ConsumerRecord<String, byte[]> empty = new ConsumerRecord<>("kafka-topic", 0, 0, "key", null);
+            ConsumerRecord<String, byte[]> malformed = new ConsumerRecord<>("kafka-topic", 0, 1, "key", "{\"priority\":\"HIGH\",".getBytes(StandardCharsets.UTF_8));
+            ConsumerRecord<String, byte[]> failing = createRecord(0, 2, "failing-topic", "failing");
+            ConsumerRecord<String, byte[]> valid = createRecord(0, 3, "topic-a", "valid");
+            when(latestResultCache.isResultEventTopic(anyString())).thenReturn(true);
+            doThrow(new IllegalStateException("Store failure")).when(latestResultCache).recordResultEvent(eq("failing-topic"), any(), any());
+            when(consumer.currentLag(any())).thenReturn(OptionalLong.empty());
+
+            kafkaMessageHandler.consumeBatch(List.of(empty, malformed, failing, valid), consumer);
+
+            ArgumentCaptor<List<byte[]>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(webSocketService).notifyInWebSocketTopic(messagesCaptor.capture(), eq("topic-a"));
+            assertEquals(List.of("{\"id\":\"valid\"}"), payloadsOf(messagesCaptor.getValue()));
+            verify(webSocketService, never()).notifyInWebSocketTopic(any(List.class), eq("failing-topic"));
+        }
+
+        @Test
+        @DisplayName("Consume batch : Records and lag recorded per partition")
+        void givenPolledPartitions_whenConsumeBatch_thenRecordsConsumedRecordsAndLag() {
+            TopicPartition firstPartition = new TopicPartition("kafka-topic", 0);
+            TopicPartition secondPartition = new TopicPartition("kafka-topic", 1);
+            when(consumer.currentLag(firstPartition)).thenReturn(OptionalLong.of(42));
+            when(consumer.currentLag(secondPartition)).thenReturn(OptionalLong.empty());
+
+            kafkaMessageHandler.consumeBatch(List.of(
+                    createRecord(0, 0, "topic-a", "1"),
+                    createRecord(0, 1, "topic-a", "2"),
+                    createRecord(1, 0, "topic-a", "3")), consumer);
+
+            verify(consumerMetrics).recordConsumed("kafka-topic", 2);
+            verify(consumerMetrics).recordConsumed("kafka-topic", 1);
+            verify(consumerMetrics).recordLag(firstPartition, 42);
+            verify(consumerMetrics, never()).recordLag(eq(secondPartition), anyLong());
+            verify(consumerMetrics).recordBatchDuration(any());
         }
     }
 
     /*
      * Helper Methods
      */
+    private byte[] serialize(EventDto event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void consume(EventDto event, String topic, String messageKey) {
+        kafkaMessageHandler.consume(serialize(event), topic, messageKey);
+    }
     private Object createSampleSimulationData() {
         Map<String, Object> simulationData = new HashMap<>();
         simulationData.put("kpi", "performance_data");
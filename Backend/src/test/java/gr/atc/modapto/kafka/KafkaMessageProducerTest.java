@@ -1,5 +1,6 @@
 package gr.atc.modapto.kafka;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 
@@ -13,20 +14,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.apache.kafka.common.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.TaskScheduler;
 
+import gr.atc.modapto.config.properties.KafkaProducerProperties;
 import gr.atc.modapto.dto.EventDto;
 import gr.atc.modapto.enums.KafkaTopics;
 import gr.atc.modapto.enums.MessagePriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("KafkaMessageProducer Tests")
@@ -35,13 +41,18 @@ class KafkaMessageProducerTest {
     @Mock
     private KafkaTemplate<String, EventDto> kafkaTemplate;
 
-    @InjectMocks
+    @Mock
+    private TaskScheduler taskScheduler;
+
     private KafkaMessageProducer kafkaMessageProducer;
 
     private EventDto testEvent;
 
     @BeforeEach
     void setUp() {
+        kafkaMessageProducer = new KafkaMessageProducer(kafkaTemplate, taskScheduler,
+                new KafkaProducerProperties(null, null, null, null, null, null, null),
+                new KafkaPublishMetrics(new SimpleMeterRegistry()));
         testEvent = EventDto.builder()
                 .id("test-event-1")
                 .description("Test event for Kafka producer")
@@ -64,11 +75,11 @@ class KafkaMessageProducerTest {
         void givenValidEventAndTopic_whenSendMessage_thenMessageIsSentToKafka() {
             String targetTopic = "test-kafka-topic";
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(targetTopic), eq(testEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(targetTopic), eq(testEvent.getModule()), eq(testEvent))).thenReturn(future);
 
             kafkaMessageProducer.sendMessage(targetTopic, testEvent);
 
-            verify(kafkaTemplate, times(1)).send(targetTopic, testEvent);
+            verify(kafkaTemplate, times(1)).send(targetTopic, testEvent.getModule(), testEvent);
         }
 
         @Test
@@ -76,11 +87,11 @@ class KafkaMessageProducerTest {
         void givenValidEventAndKafkaTopicEnum_whenSendMessage_thenMessageIsSentToCorrectTopic() {
             String targetTopic = KafkaTopics.SEW_SIMULATION_RESULTS.toString();
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(targetTopic), eq(testEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(targetTopic), eq(testEvent.getModule()), eq(testEvent))).thenReturn(future);
 
             kafkaMessageProducer.sendMessage(targetTopic, testEvent);
 
-            verify(kafkaTemplate, times(1)).send(targetTopic, testEvent);
+            verify(kafkaTemplate, times(1)).send(targetTopic, testEvent.getModule(), testEvent);
         }
 
         @ParameterizedTest(name = "Should send message to topic: {0}")
@@ -89,11 +100,11 @@ class KafkaMessageProducerTest {
         void givenValidEvent_whenSendMessageToAllTopics_thenMessageIsSentSuccessfully(KafkaTopics kafkaTopic) {
             String topicName = kafkaTopic.toString();
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(topicName), eq(testEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(topicName), eq(testEvent.getModule()), eq(testEvent))).thenReturn(future);
 
             kafkaMessageProducer.sendMessage(topicName, testEvent);
 
-            verify(kafkaTemplate, times(1)).send(topicName, testEvent);
+            verify(kafkaTemplate, times(1)).send(topicName, testEvent.getModule(), testEvent);
         }
 
         @Test
@@ -116,14 +127,14 @@ class KafkaMessageProducerTest {
 
             CompletableFuture<SendResult<String, EventDto>> future1 = mock(CompletableFuture.class);
             CompletableFuture<SendResult<String, EventDto>> future2 = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(topic1), eq(event1))).thenReturn(future1);
-            when(kafkaTemplate.send(eq(topic2), eq(event2))).thenReturn(future2);
+            when(kafkaTemplate.send(eq(topic1), eq(event1.getModule()), eq(event1))).thenReturn(future1);
+            when(kafkaTemplate.send(eq(topic2), eq(event2.getModule()), eq(event2))).thenReturn(future2);
 
             kafkaMessageProducer.sendMessage(topic1, event1);
             kafkaMessageProducer.sendMessage(topic2, event2);
 
-            verify(kafkaTemplate, times(1)).send(topic1, event1);
-            verify(kafkaTemplate, times(1)).send(topic2, event2);
+            verify(kafkaTemplate, times(1)).send(topic1, event1.getModule(), event1);
+            verify(kafkaTemplate, times(1)).send(topic2, event2.getModule(), event2);
         }
     }
 
@@ -136,11 +147,11 @@ class KafkaMessageProducerTest {
         void givenNullTopic_whenSendMessage_thenKafkaTemplateIsCalledWithNull() {
             String nullTopic = null;
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(nullTopic), eq(testEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(nullTopic), eq(testEvent.getModule()), eq(testEvent))).thenReturn(future);
 
             assertDoesNotThrow(() -> kafkaMessageProducer.sendMessage(nullTopic, testEvent));
 
-            verify(kafkaTemplate, times(1)).send(nullTopic, testEvent);
+            verify(kafkaTemplate, times(1)).send(nullTopic, testEvent.getModule(), testEvent);
         }
 
         @Test
@@ -149,11 +160,11 @@ class KafkaMessageProducerTest {
             String topic = "test-topic";
             EventDto nullEvent = null;
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(topic), eq(nullEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(topic), eq((String) null), eq(nullEvent))).thenReturn(future);
 
             assertDoesNotThrow(() -> kafkaMessageProducer.sendMessage(topic, nullEvent));
 
-            verify(kafkaTemplate, times(1)).send(topic, nullEvent);
+            verify(kafkaTemplate, times(1)).send(topic, null, nullEvent);
         }
 
         @Test
@@ -161,11 +172,11 @@ class KafkaMessageProducerTest {
         void givenEmptyTopic_whenSendMessage_thenKafkaTemplateIsCalledWithEmptyString() {
             String emptyTopic = "";
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(emptyTopic), eq(testEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(emptyTopic), eq(testEvent.getModule()), eq(testEvent))).thenReturn(future);
 
             assertDoesNotThrow(() -> kafkaMessageProducer.sendMessage(emptyTopic, testEvent));
 
-            verify(kafkaTemplate, times(1)).send(emptyTopic, testEvent);
+            verify(kafkaTemplate, times(1)).send(emptyTopic, testEvent.getModule(), testEvent);
         }
 
         @Test
@@ -178,11 +189,11 @@ class KafkaMessageProducerTest {
                     .build();
             String topic = KafkaTopics.SEW_PROCESS_DRIFT.toString();
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(topic), eq(minimalEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(topic), eq(minimalEvent.getModule()), eq(minimalEvent))).thenReturn(future);
 
             kafkaMessageProducer.sendMessage(topic, minimalEvent);
 
-            verify(kafkaTemplate, times(1)).send(topic, minimalEvent);
+            verify(kafkaTemplate, times(1)).send(topic, minimalEvent.getModule(), minimalEvent);
         }
 
         @Test
@@ -201,11 +212,128 @@ class KafkaMessageProducerTest {
                     .build();
             String topic = KafkaTopics.CRF_SELF_AWARENESS_WEAR_DETECTION.toString();
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(topic), eq(completeEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(topic), eq(completeEvent.getModule()), eq(completeEvent))).thenReturn(future);
 
             kafkaMessageProducer.sendMessage(topic, completeEvent);
 
-            verify(kafkaTemplate, times(1)).send(topic, completeEvent);
+            verify(kafkaTemplate, times(1)).send(topic, completeEvent.getModule(), completeEvent);
+        }
+    }
+
+    @Nested
+    @DisplayName("When tracking acknowledgements and retries")
+    class AcknowledgementsAndRetries {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        private KafkaPublishMetrics publishMetrics;
+
+        private KafkaMessageProducer createProducer(Integer retryBufferCapacity, Integer maxRetryAttempts) {
+            publishMetrics = new KafkaPublishMetrics(meterRegistry);
+            return new KafkaMessageProducer(kafkaTemplate, taskScheduler,
+                    new KafkaProducerProperties(null, null, null, null, retryBufferCapacity, Duration.ofSeconds(5), maxRetryAttempts),
+                    publishMetrics);
+        }
+
+        @Test
+        @DisplayName("Acknowledged event : Success and latency recorded")
+        void givenAcknowledgedEvent_whenSendMessage_thenRecordsSuccessAndLatency() {
+            KafkaMessageProducer producer = createProducer(10, 3);
+            when(kafkaTemplate.send("test-topic", "TestModule", testEvent)).thenReturn(CompletableFuture.completedFuture(null));
+
+            producer.sendMessage("test-topic", testEvent);
+
+            assertEquals(1, publishMetrics.getCount("test-topic", KafkaPublishMetrics.SUCCESS));
+            assertEquals(1, meterRegistry.get("kafka.producer.send.latency").tag("topic", "test-topic").timer().count());
+            assertEquals(0, producer.getRetryBufferSize());
+        }
+
+        @Test
+        @DisplayName("Failed event : Buffered and published again")
+        void givenFailedEvent_whenRetryBufferedEvents_thenEventPublishedAgain() {
+            KafkaMessageProducer producer = createProducer(10, 3);
+            when(kafkaTemplate.send("test-topic", "TestModule", testEvent))
+                    .thenReturn(CompletableFuture.failedFuture(new KafkaException("Broker unavailable")))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            producer.sendMessage("test-topic", testEvent);
+
+            assertEquals(1, producer.getRetryBufferSize());
+            assertEquals(1, publishMetrics.getCount("test-topic", KafkaPublishMetrics.FAILURE));
+            assertEquals(1, meterRegistry.get("kafka.producer.retry.buffer.size").gauge().value());
+
+            producer.retryBufferedEvents();
+
+            verify(kafkaTemplate, times(2)).send("test-topic", "TestModule", testEvent);
+            assertEquals(0, producer.getRetryBufferSize());
+            assertEquals(1, publishMetrics.getCount("test-topic", KafkaPublishMetrics.SUCCESS));
+        }
+
+        @Test
+        @DisplayName("Event failing on send : Buffered")
+        void givenSendThrowingException_whenSendMessage_thenEventBuffered() {
+            KafkaMessageProducer producer = createProducer(10, 3);
+            when(kafkaTemplate.send("test-topic", "TestModule", testEvent)).thenThrow(new KafkaException("Buffer exhausted"));
+
+            assertDoesNotThrow(() -> producer.sendMessage("test-topic", testEvent));
+
+            assertEquals(1, producer.getRetryBufferSize());
+        }
+
+        @Test
+        @DisplayName("Event failing on every attempt : Dropped after the maximum attempts")
+        void givenAlwaysFailingEvent_whenAttemptsExhausted_thenEventDropped() {
+            KafkaMessageProducer producer = createProducer(10, 2);
+            when(kafkaTemplate.send("test-topic", "TestModule", testEvent))
+                    .thenReturn(CompletableFuture.failedFuture(new KafkaException("Broker unavailable")));
+
+            producer.sendMessage("test-topic", testEvent);
+            producer.retryBufferedEvents();
+            producer.retryBufferedEvents();
+
+            verify(kafkaTemplate, times(2)).send("test-topic", "TestModule", testEvent);
+            assertEquals(0, producer.getRetryBufferSize());
+            assertEquals(2, publishMetrics.getCount("test-topic", KafkaPublishMetrics.FAILURE));
+            assertEquals(1, publishMetrics.getCount("test-topic", KafkaPublishMetrics.DROPPED));
+        }
+
+        @Test
+        @DisplayName("Full retry buffer : Event dropped")
+        void givenFullRetryBuffer_whenSendFails_thenEventDropped() {
+            KafkaMessageProducer producer = createProducer(1, 3);
+            when(kafkaTemplate.send(eq("test-topic"), any(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new KafkaException("Broker unavailable")));
+
+            producer.sendMessage("test-topic", testEvent);
+            producer.sendMessage("test-topic", testEvent);
+
+            assertEquals(1, producer.getRetryBufferSize());
+            assertEquals(1, publishMetrics.getCount("test-topic", KafkaPublishMetrics.DROPPED));
+        }
+
+        @Test
+        @DisplayName("Retry buffer disabled by default : Failed event dropped and retries not scheduled")
+        void givenDefaultRetryBuffer_whenSendFails_thenEventDropped() {
+            KafkaMessageProducer producer = createProducer(null, 3);
+            when(kafkaTemplate.send("test-topic", "TestModule", testEvent))
+                    .thenReturn(CompletableFuture.failedFuture(new KafkaException("Broker unavailable")));
+
+            producer.sendMessage("test-topic", testEvent);
+            producer.startRetries();
+
+            assertEquals(0, producer.getRetryBufferSize());
+            assertEquals(1, publishMetrics.getCount("test-topic", KafkaPublishMetrics.DROPPED));
+            verify(taskScheduler, never()).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("Start retries : Buffered events published periodically")
+        void givenRetryBuffer_whenStartRetries_thenSchedulesRetriesWithInterval() {
+            KafkaMessageProducer producer = createProducer(10, 3);
+
+            producer.startRetries();
+
+            verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofSeconds(5)));
         }
     }
 
@@ -237,7 +365,7 @@ class KafkaMessageProducerTest {
             String topic = "immutability-test-topic";
             
             CompletableFuture<SendResult<String, EventDto>> future = mock(CompletableFuture.class);
-            when(kafkaTemplate.send(eq(topic), eq(testEvent))).thenReturn(future);
+            when(kafkaTemplate.send(eq(topic), eq(testEvent.getModule()), eq(testEvent))).thenReturn(future);
 
             kafkaMessageProducer.sendMessage(topic, testEvent);
 
@@ -0,0 +1,58 @@
+package gr.atc.modapto.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KafkaTopicConsumptionMetrics Tests")
+class KafkaTopicConsumptionMetricsTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private KafkaTopicConsumptionMetrics consumerMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumerMetrics = new KafkaTopicConsumptionMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Record consumed records : Counted per topic")
+    void givenConsumedRecords_whenRecordConsumed_thenCountsPerTopic() {
+        consumerMetrics.recordConsumed("topic-a", 3);
+        consumerMetrics.recordConsumed("topic-a", 2);
+        consumerMetrics.recordConsumed("topic-b", 1);
+
+        assertThat(meterRegistry.get("kafka.consumer.records").tag("topic", "topic-a").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("kafka.consumer.records").tag("topic", "topic-b").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Record lag : Sum of the last known lag of every partition of the topic")
+    void givenPartitionLags_whenRecordLag_thenGaugeSumsLatestLagPerTopic() {
+        consumerMetrics.recordLag(new TopicPartition("topic-a", 0), 10);
+        consumerMetrics.recordLag(new TopicPartition("topic-a", 1), 5);
+        consumerMetrics.recordLag(new TopicPartition("topic-a", 0), 2);
+        consumerMetrics.recordLag(new TopicPartition("topic-b", 0), 7);
+
+        assertThat(meterRegistry.get("kafka.consumer.lag").tag("topic", "topic-a").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get("kafka.consumer.lag").tag("topic", "topic-b").gauge().value()).isEqualTo(7);
+        assertThat(consumerMetrics.getLag("topic-a")).isEqualTo(7);
+        assertThat(consumerMetrics.getLag("unknown")).isZero();
+    }
+
+    @Test
+    @DisplayName("Record batch duration : Timed")
+    void givenBatchDuration_whenRecordBatchDuration_thenTimerIsUpdated() {
+        consumerMetrics.recordBatchDuration(Duration.ofMillis(15));
+
+        assertThat(meterRegistry.get("kafka.consumer.batch.duration").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,365 @@
+package gr.atc.modapto.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimingWheelTaskScheduler Unit Tests")
+class TimingWheelTaskSchedulerTests {
+
+    private static final Duration TICK_DURATION = Duration.ofMillis(10);
+
+    private final Instant epoch = Instant.parse("2025-01-01T00:00:00Z");
+
+    // Elapsed time driving both the clock and the wheel, advanced explicitly by the tests
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    private final Clock manualClock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return epoch.plusNanos(elapsedNanos.get());
+        }
+    };
+
+    private TimingWheelTaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        // Due tasks run on the thread advancing the wheel
+        taskScheduler = createScheduler(Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+    }
+
+    private TimingWheelTaskScheduler createScheduler(Executor dispatchExecutor) {
+        return new TimingWheelTaskScheduler(TICK_DURATION, 64, 8, manualClock, elapsedNanos::get, dispatchExecutor, false);
+    }
+
+    /*
+     * Helper method to move the time forward and advance the wheel up to it
+     */
+    private void advanceBy(Duration duration) {
+        elapsedNanos.addAndGet(duration.toNanos());
+        taskScheduler.advance();
+    }
+
+    @Nested
+    @DisplayName("Timing Wheel")
+    class TimingWheel {
+
+        private HierarchicalTimingWheel createEntryWheel() {
+            return new HierarchicalTimingWheel(8, 0);
+        }
+
+        private HierarchicalTimingWheel.Entry createEntry(long deadlineTick) {
+            HierarchicalTimingWheel.Entry entry = new HierarchicalTimingWheel.Entry();
+            entry.deadlineTick = deadlineTick;
+            return entry;
+        }
+
+        private long advanceUntilExpired(HierarchicalTimingWheel wheel, HierarchicalTimingWheel.Entry entry, long maxTicks) {
+            List<HierarchicalTimingWheel.Entry> expired = new ArrayList<>();
+            while (expired.isEmpty() && wheel.currentTick() < maxTicks)
+                wheel.advance(expired::add);
+            assertThat(expired).containsExactly(entry);
+            return wheel.currentTick();
+        }
+
+        @Test
+        @DisplayName("Wheel : Entry expires exactly at its deadline tick")
+        void givenEntry_whenAdvance_thenExpiresAtDeadline() {
+            HierarchicalTimingWheel wheel = createEntryWheel();
+            HierarchicalTimingWheel.Entry entry = createEntry(5);
+
+            assertThat(wheel.insert(entry)).isTrue();
+
+            assertThat(advanceUntilExpired(wheel, entry, 100)).isEqualTo(5);
+            assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Wheel : Distant entries cascade across levels")
+        void givenDistantDeadlines_whenAdvance_thenCascadeAndExpireAtDeadline() {
+            for (long deadline : new long[]{9, 64, 100, 511, 513, 4097}) {
+                HierarchicalTimingWheel wheel = createEntryWheel();
+                HierarchicalTimingWheel.Entry entry = createEntry(deadline);
+                wheel.insert(entry);
+
+                assertThat(advanceUntilExpired(wheel, entry, deadline + 1)).isEqualTo(deadline);
+            }
+        }
+
+        @Test
+        @DisplayName("Wheel : Entry beyond the wheel range is parked and expires at its deadline")
+        void givenDeadlineBeyondRange_whenAdvance_thenExpiresAtDeadline() {
+            HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(2, 0);
+            HierarchicalTimingWheel.Entry entry = createEntry(40);
+            wheel.insert(entry);
+
+            assertThat(advanceUntilExpired(wheel, entry, 41)).isEqualTo(40);
+        }
+
+        @Test
+        @DisplayName("Wheel : Due entry is not inserted")
+        void givenDueDeadline_whenInsert_thenReturnsFalse() {
+            HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(8, 10);
+
+            assertThat(wheel.insert(createEntry(10))).isFalse();
+            assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Wheel : Removed entry never expires")
+        void givenRemovedEntry_whenAdvance_thenDoesNotExpire() {
+            HierarchicalTimingWheel wheel = createEntryWheel();
+            HierarchicalTimingWheel.Entry removed = createEntry(3);
+            HierarchicalTimingWheel.Entry kept = createEntry(3);
+            wheel.insert(removed);
+            wheel.insert(kept);
+
+            wheel.remove(removed);
+
+            assertThat(removed.isQueued()).isFalse();
+            assertThat(advanceUntilExpired(wheel, kept, 10)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Wheel : Empty wheel skips idle ticks")
+        void givenEmptyWheel_whenSkipTo_thenJumpsToTick() {
+            HierarchicalTimingWheel wheel = createEntryWheel();
+            wheel.skipTo(1000);
+            assertThat(wheel.currentTick()).isEqualTo(1000);
+
+            wheel.insert(createEntry(1005));
+            wheel.skipTo(2000);
+            assertThat(wheel.currentTick()).isEqualTo(1000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Task Execution")
+    class TaskExecution {
+
+        @Test
+        @DisplayName("Schedule : Task runs at its scheduled time and not earlier")
+        void givenScheduledTask_whenTimeReached_thenRunsTask() {
+            AtomicInteger runs = new AtomicInteger();
+            ScheduledFuture<?> future = taskScheduler.schedule(runs::incrementAndGet, manualClock.instant().plusMillis(100));
+
+            advanceBy(Duration.ofMillis(90));
+            assertThat(runs.get()).isZero();
+            assertThat(future.isDone()).isFalse();
+
+            advanceBy(Duration.ofMillis(10));
+            assertThat(runs.get()).isEqualTo(1);
+            assertThat(future.isDone()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Schedule : Past start time runs immediately")
+        void givenPastStartTime_whenSchedule_thenRunsImmediately() {
+            AtomicInteger runs = new AtomicInteger();
+
+            taskScheduler.schedule(runs::incrementAndGet, manualClock.instant().minusSeconds(10));
+
+            assertThat(runs.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Cancel : Cancelled task never runs")
+        void givenCancelledTask_whenTimeReached_thenDoesNotRun() {
+            AtomicInteger runs = new AtomicInteger();
+            ScheduledFuture<?> future = taskScheduler.schedule(runs::incrementAndGet, manualClock.instant().plusMillis(50));
+
+            assertThat(future.cancel(false)).isTrue();
+            advanceBy(Duration.ofMillis(200));
+
+            assertThat(runs.get()).isZero();
+            assertThat(future.isCancelled()).isTrue();
+            assertThat(taskScheduler.getPendingTaskCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Recurring : Fixed delay task runs repeatedly until cancelled")
+        void givenFixedDelayTask_whenRunning_thenRepeatsUntilCancelled() {
+            AtomicInteger runs = new AtomicInteger();
+
+            ScheduledFuture<?> future = taskScheduler.scheduleWithFixedDelay(runs::incrementAndGet, Duration.ofMillis(20));
+            advanceBy(Duration.ofMillis(20));
+            advanceBy(Duration.ofMillis(20));
+            assertThat(runs.get()).isEqualTo(3);
+
+            future.cancel(false);
+            advanceBy(Duration.ofMillis(100));
+
+            assertThat(runs.get()).isEqualTo(3);
+            assertThat(future.isCancelled()).isTrue();
+            assertThat(taskScheduler.getPendingTaskCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Recurring : Failing task keeps running")
+        void givenFailingRecurringTask_whenRunning_thenKeepsRescheduling() {
+            AtomicInteger runs = new AtomicInteger();
+
+            ScheduledFuture<?> future = taskScheduler.scheduleAtFixedRate(() -> {
+                runs.incrementAndGet();
+                throw new IllegalStateException("Task failed");
+            }, Duration.ofMillis(20));
+            advanceBy(Duration.ofMillis(20));
+
+            assertThat(runs.get()).isEqualTo(2);
+            future.cancel(false);
+        }
+
+        @Test
+        @DisplayName("Concurrency : Running tasks never exceed the limit")
+        void givenManyDueTasks_whenDispatched_thenRespectsConcurrencyLimit() throws Exception {
+            int taskCount = 40;
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch completed = new CountDownLatch(taskCount);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+
+            try (ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                taskScheduler = createScheduler(virtualThreadExecutor);
+                for (int i = 0; i < taskCount; i++) {
+                    taskScheduler.schedule(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.decrementAndGet();
+                        completed.countDown();
+                    }, manualClock.instant().plusMillis(30));
+                }
+
+                advanceBy(Duration.ofMillis(30));
+                release.countDown();
+
+                assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Concurrency : Due tasks beyond the limit wait without a thread")
+        void givenManyDueTasks_whenLimitReached_thenStartsThreadsOnlyForPermits() throws Exception {
+            int taskCount = 40;
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch completed = new CountDownLatch(taskCount);
+            AtomicInteger startedThreads = new AtomicInteger();
+
+            try (ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                taskScheduler = createScheduler(task -> {
+                    startedThreads.incrementAndGet();
+                    virtualThreadExecutor.execute(task);
+                });
+                for (int i = 0; i < taskCount; i++) {
+                    taskScheduler.schedule(() -> {
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        completed.countDown();
+                    }, manualClock.instant().plusMillis(30));
+                }
+
+                advanceBy(Duration.ofMillis(30));
+
+                assertThat(startedThreads.get()).isEqualTo(8);
+                assertThat(taskScheduler.getWaitingTaskCount()).isEqualTo(taskCount - 8);
+
+                release.countDown();
+                assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            assertThat(taskScheduler.getWaitingTaskCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Scale")
+    class Scale {
+
+        @Test
+        @DisplayName("Scale : 50k scheduled tasks run at their deadline")
+        void givenFiftyThousandTasks_whenScheduled_thenAllRunAtTheirDeadline() {
+            int taskCount = 50_000;
+            Random random = new Random(42);
+            AtomicInteger lateRuns = new AtomicInteger();
+            AtomicInteger runs = new AtomicInteger();
+            Instant now = manualClock.instant();
+
+            for (int i = 0; i < taskCount; i++) {
+                Instant startTime = now.plusMillis(random.nextInt(2000));
+                taskScheduler.schedule(() -> {
+                    runs.incrementAndGet();
+                    // A task runs at most one tick after its scheduled time
+                    if (manualClock.instant().isAfter(startTime.plus(TICK_DURATION)))
+                        lateRuns.incrementAndGet();
+                }, startTime);
+            }
+            for (int tick = 0; tick < 200; tick++)
+                advanceBy(TICK_DURATION);
+
+            assertThat(runs.get()).isEqualTo(taskCount);
+            assertThat(lateRuns.get()).isZero();
+            assertThat(taskScheduler.getPendingTaskCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Scale : 50k cancellations")
+        void givenFiftyThousandPendingTasks_whenCancelled_thenNoneRun() {
+            int taskCount = 50_000;
+            Random random = new Random(42);
+            AtomicInteger runs = new AtomicInteger();
+            Instant now = manualClock.instant();
+            List<ScheduledFuture<?>> futures = new ArrayList<>(taskCount);
+            for (int i = 0; i < taskCount; i++)
+                futures.add(taskScheduler.schedule(runs::incrementAndGet, now.plusSeconds(60 + random.nextInt(3600))));
+
+            futures.forEach(future -> future.cancel(false));
+            advanceBy(Duration.ofHours(2));
+
+            assertThat(taskScheduler.getPendingTaskCount()).isZero();
+            assertThat(runs.get()).isZero();
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package gr.atc.modapto.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
 import gr.atc.modapto.dto.crf.CrfOptimizationKittingConfigDto;
 import gr.atc.modapto.dto.serviceInvocations.CrfInvocationInputDto;
 import gr.atc.modapto.dto.serviceResults.crf.CrfOptimizationResultsDto;
+import gr.atc.modapto.enums.FrequencyType;
+import gr.atc.modapto.events.ScheduledTaskRegistrationEvent;
 import gr.atc.modapto.exception.CustomExceptions;
 import gr.atc.modapto.model.crf.CrfOptimizationKittingConfig;
 import gr.atc.modapto.model.serviceResults.CrfOptimizationResults;
@@ -13,10 +17,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -46,6 +53,13 @@ class CrfOptimizationServiceTests {
     @Mock
     private ExceptionHandlerService exceptionHandlerService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // Pass-through cache, every lookup queries the repository
+    @Spy
+    private LatestResultCacheService latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), new ObjectMapper());
+
     @InjectMocks
     private CrfOptimizationService crfOptimizationService;
 
@@ -240,6 +254,42 @@ class CrfOptimizationServiceTests {
             );
         }
 
+        @Test
+        @DisplayName("Invoke and register KH picking sequence optimization : Frequency registers a Scheduled Task")
+        void givenFrequency_whenInvokeAndRegisterOptimizationOfKhPickingSequence_thenPublishesRegistrationEvent() {
+            CrfInvocationInputDto inputDto = CrfInvocationInputDto.builder()
+                    .moduleId("crf_module_1")
+                    .smartServiceId("service_1")
+                    .frequencyValue(1)
+                    .frequencyType(FrequencyType.DAYS)
+                    .build();
+
+            crfOptimizationService.invokeAndRegisterOptimizationOfKhPickingSequence(inputDto);
+
+            verify(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(
+                    inputDto,
+                    "robot-picking-seq",
+                    "CRF KH Picking Sequence Optimization"
+            );
+            ArgumentCaptor<ScheduledTaskRegistrationEvent> eventCaptor = ArgumentCaptor.forClass(ScheduledTaskRegistrationEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getTaskType()).isEqualTo("CRF_OPTIMIZATION");
+            assertThat(eventCaptor.getValue().getScheduledTask().getRequestBody()).isSameAs(inputDto);
+        }
+
+        @Test
+        @DisplayName("Invoke and register KH picking sequence optimization : No frequency skips the registration")
+        void givenNoFrequency_whenInvokeAndRegisterOptimizationOfKhPickingSequence_thenDoesNotPublishEvent() {
+            CrfInvocationInputDto inputDto = CrfInvocationInputDto.builder()
+                    .moduleId("crf_module_1")
+                    .smartServiceId("service_1")
+                    .build();
+
+            crfOptimizationService.invokeAndRegisterOptimizationOfKhPickingSequence(inputDto);
+
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
         @Test
         @DisplayName("Invoke KH picking sequence optimization : Service exception")
         void givenServiceError_whenInvokeOptimizationOfKhPickingSequence_thenThrowsException() {
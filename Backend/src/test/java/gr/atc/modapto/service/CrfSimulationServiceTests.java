@@ -1,5 +1,7 @@
 package gr.atc.modapto.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
 import gr.atc.modapto.dto.crf.CrfSimulationKittingConfigDto;
 import gr.atc.modapto.dto.serviceResults.crf.CrfSimulationResultsDto;
 import gr.atc.modapto.exception.CustomExceptions;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 
@@ -42,6 +45,10 @@ class CrfSimulationServiceTests {
     @Mock
     private ExceptionHandlerService exceptionHandlerService;
 
+    // Pass-through cache, every lookup queries the repository
+    @Spy
+    private LatestResultCacheService latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), new ObjectMapper());
+
     @InjectMocks
     private CrfSimulationService crfSimulationResultsService;
 
@@ -1,5 +1,7 @@
 package gr.atc.modapto.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
 import gr.atc.modapto.dto.serviceInvocations.FftOptimizationInputDto;
 import gr.atc.modapto.dto.serviceResults.fft.FftOptimizationResultsDto;
 import gr.atc.modapto.exception.CustomExceptions;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 
@@ -36,6 +39,10 @@ class FftOptimizationServiceTests {
     @Mock
     private SmartServicesInvocationService smartServicesInvocationService;
 
+    // Pass-through cache, every lookup queries the repository
+    @Spy
+    private LatestResultCacheService latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), new ObjectMapper());
+
     @InjectMocks
     private FftOptimizationService fftOptimizationService;
 
@@ -0,0 +1,322 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.HistoricalResultsQueryDto;
+import gr.atc.modapto.dto.serviceResults.crf.CrfSimulationResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSimulationResultsDto;
+import gr.atc.modapto.enums.HistoricalResultType;
+import gr.atc.modapto.exception.CustomExceptions.InvalidQueryException;
+import gr.atc.modapto.model.serviceResults.CrfSimulationResults;
+import gr.atc.modapto.model.serviceResults.SewSimulationResults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoricalResultsService Unit Tests")
+class HistoricalResultsServiceTests {
+
+    @Mock
+    private SearchAfterPaginationService paginationService;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ExceptionHandlerService exceptionHandler;
+
+    @Mock
+    private ModelMapper modelMapper;
+
+    private HistoricalResultsService historicalResultsService;
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 1, 31, 23, 59, 59);
+
+    @BeforeEach
+    void setUp() {
+        historicalResultsService = new HistoricalResultsService(paginationService, elasticsearchOperations, exceptionHandler, modelMapper);
+    }
+
+    private void givenMappingContext() {
+        when(elasticsearchOperations.getElasticsearchConverter())
+                .thenReturn(new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+    }
+
+    private void givenExceptionHandlerPassThrough() {
+        when(exceptionHandler.handleOperation(any(), eq("retrieveHistoricalResults")))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get());
+    }
+
+    private HistoricalResultsQueryDto.HistoricalResultsQueryDtoBuilder crfQuery() {
+        return HistoricalResultsQueryDto.builder().resultType(HistoricalResultType.CRF_SIMULATION);
+    }
+
+    private Criteria captureCriteria() {
+        ArgumentCaptor<Criteria> criteriaCaptor = ArgumentCaptor.forClass(Criteria.class);
+        verify(paginationService).retrievePage(eq(CrfSimulationResults.class), criteriaCaptor.capture(), any(), any(), any(), anyInt());
+        return criteriaCaptor.getValue();
+    }
+
+    private SourceFilter captureSourceFilter(Class<?> entityClass) {
+        ArgumentCaptor<SourceFilter> filterCaptor = ArgumentCaptor.forClass(SourceFilter.class);
+        verify(paginationService).retrievePage(eq(entityClass), any(), any(), filterCaptor.capture(), any(), anyInt());
+        return filterCaptor.getValue();
+    }
+
+    private List<String> criteriaFields(Criteria criteria) {
+        return criteria.getCriteriaChain().stream()
+                .filter(c -> c.getField() != null)
+                .map(c -> c.getField().getName())
+                .toList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void givenPage(Class<?> entityClass, List<?> results) {
+        when(paginationService.retrievePage(eq(entityClass), any(), any(), any(), any(), anyInt()))
+                .thenReturn((CursorPaginatedResultsDto) new CursorPaginatedResultsDto<>(results, "next", false));
+    }
+
+    @Nested
+    @DisplayName("Filters")
+    class Filters {
+
+        @Test
+        @DisplayName("Retrieve historical results : Module and time range filters")
+        void givenModuleAndTimeRange_whenRetrieve_thenFiltersByModuleAndTimestamp() {
+            givenExceptionHandlerPassThrough();
+            givenPage(CrfSimulationResults.class, List.of());
+
+            historicalResultsService.retrieveHistoricalResults(crfQuery().moduleId("MODULE_1").from(FROM).to(TO).build(), null, 50);
+
+            Criteria criteria = captureCriteria();
+            assertThat(criteriaFields(criteria)).containsExactly("moduleId", "timestamp", "timestamp");
+            assertThat(criteria.getCriteriaChain().getLast().getQueryCriteriaEntries())
+                    .anySatisfy(entry -> assertThat(entry.getValue()).isEqualTo(TO));
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : No filters matches all results")
+        void givenNoFilters_whenRetrieve_thenCriteriaIsEmpty() {
+            givenExceptionHandlerPassThrough();
+            givenPage(CrfSimulationResults.class, List.of());
+
+            historicalResultsService.retrieveHistoricalResults(crfQuery().build(), null, 50);
+
+            assertThat(criteriaFields(captureCriteria())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : Keyword timestamps use fixed-width string bounds")
+        void givenKeywordTimestampType_whenRetrieve_thenBoundsAreFormattedStrings() {
+            givenExceptionHandlerPassThrough();
+            givenPage(SewSimulationResults.class, List.of());
+
+            historicalResultsService.retrieveHistoricalResults(HistoricalResultsQueryDto.builder()
+                    .resultType(HistoricalResultType.SEW_SIMULATION)
+                    .smartServiceId("SERVICE_1")
+                    .from(FROM)
+                    .build(), null, 50);
+
+            ArgumentCaptor<Criteria> criteriaCaptor = ArgumentCaptor.forClass(Criteria.class);
+            verify(paginationService).retrievePage(eq(SewSimulationResults.class), criteriaCaptor.capture(), any(), any(), any(), anyInt());
+            Criteria criteria = criteriaCaptor.getValue();
+            assertThat(criteriaFields(criteria)).containsExactly("smartServiceId", "timestamp");
+            assertThat(criteria.getCriteriaChain().getLast().getQueryCriteriaEntries())
+                    .anySatisfy(entry -> assertThat(entry.getValue()).isEqualTo("2025-01-01T00:00:00"));
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : Newest first unless ascending")
+        void givenAscendingFlag_whenRetrieve_thenSortsByTimestampAccordingly() {
+            givenExceptionHandlerPassThrough();
+            givenPage(CrfSimulationResults.class, List.of());
+
+            historicalResultsService.retrieveHistoricalResults(crfQuery().build(), null, 50);
+            historicalResultsService.retrieveHistoricalResults(crfQuery().ascending(true).build(), null, 50);
+
+            ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+            verify(paginationService, times(2)).retrievePage(eq(CrfSimulationResults.class), any(), sortCaptor.capture(), any(), any(), anyInt());
+            assertThat(sortCaptor.getAllValues().get(0).getOrderFor("timestamp").getDirection()).isEqualTo(Sort.Direction.DESC);
+            assertThat(sortCaptor.getAllValues().get(1).getOrderFor("timestamp").getDirection()).isEqualTo(Sort.Direction.ASC);
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : Invalid time range")
+        void givenFromAfterTo_whenRetrieve_thenThrowsInvalidQueryException() {
+            HistoricalResultsQueryDto query = crfQuery().from(TO).to(FROM).build();
+
+            assertThatThrownBy(() -> historicalResultsService.retrieveHistoricalResults(query, null, 50))
+                    .isInstanceOf(InvalidQueryException.class)
+                    .hasMessageContaining("time range");
+
+            verifyNoInteractions(paginationService);
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : Smart Service filter on type without Smart Service ID")
+        void givenSmartServiceIdForCrfType_whenRetrieve_thenThrowsInvalidQueryException() {
+            HistoricalResultsQueryDto query = crfQuery().smartServiceId("SERVICE_1").build();
+
+            assertThatThrownBy(() -> historicalResultsService.retrieveHistoricalResults(query, null, 50))
+                    .isInstanceOf(InvalidQueryException.class)
+                    .hasMessageContaining("CRF_SIMULATION");
+
+            verifyNoInteractions(paginationService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Projections")
+    class Projections {
+
+        @Test
+        @DisplayName("Retrieve historical results : Large fields excluded by default")
+        void givenNoFields_whenRetrieve_thenLargeFieldsAreExcluded() {
+            givenExceptionHandlerPassThrough();
+            givenPage(CrfSimulationResults.class, List.of());
+
+            historicalResultsService.retrieveHistoricalResults(crfQuery().build(), null, 50);
+
+            SourceFilter sourceFilter = captureSourceFilter(CrfSimulationResults.class);
+            assertThat(sourceFilter.getExcludes()).containsExactlyInAnyOrder("baseline", "best_phase");
+            assertThat(sourceFilter.getIncludes()).isNullOrEmpty();
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : All fields fetched with wildcard")
+        void givenWildcardField_whenRetrieve_thenNoSourceFilter() {
+            givenExceptionHandlerPassThrough();
+            givenPage(CrfSimulationResults.class, List.of());
+
+            historicalResultsService.retrieveHistoricalResults(crfQuery().fields(List.of(HistoricalResultsService.ALL_FIELDS)).build(), null, 50);
+
+            assertThat(captureSourceFilter(CrfSimulationResults.class)).isNull();
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : Requested fields with timestamp and Module ID")
+        void givenRequestedFields_whenRetrieve_thenIncludesRequestedAndIdentifyingFields() {
+            givenMappingContext();
+            givenExceptionHandlerPassThrough();
+            givenPage(CrfSimulationResults.class, List.of());
+
+            historicalResultsService.retrieveHistoricalResults(crfQuery().fields(List.of("best_phase", "simulation_run")).build(), null, 50);
+
+            assertThat(captureSourceFilter(CrfSimulationResults.class).getIncludes())
+                    .containsExactly("timestamp", "moduleId", "best_phase", "simulation_run");
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : Sub-fields selected with dotted path")
+        void givenDottedField_whenRetrieve_thenRootFieldIsValidated() {
+            givenMappingContext();
+            givenExceptionHandlerPassThrough();
+            givenPage(CrfSimulationResults.class, List.of());
+
+            historicalResultsService.retrieveHistoricalResults(crfQuery().fields(List.of("best_phase.kpis")).build(), null, 50);
+
+            assertThat(captureSourceFilter(CrfSimulationResults.class).getIncludes()).contains("best_phase.kpis");
+        }
+
+        @Test
+        @DisplayName("Retrieve historical results : Unknown field")
+        void givenUnknownField_whenRetrieve_thenThrowsInvalidQueryException() {
+            givenMappingContext();
+            HistoricalResultsQueryDto query = crfQuery().fields(List.of("unknown")).build();
+
+            assertThatThrownBy(() -> historicalResultsService.retrieveHistoricalResults(query, null, 50))
+                    .isInstanceOf(InvalidQueryException.class)
+                    .hasMessageContaining("unknown");
+
+            verifyNoInteractions(paginationService);
+        }
+
+        @Test
+        @DisplayName("Validate historical results query : Unknown field rejected without searching")
+        void givenUnknownField_whenValidate_thenThrowsInvalidQueryException() {
+            givenMappingContext();
+            HistoricalResultsQueryDto query = crfQuery().fields(List.of("bestPhase")).build();
+
+            assertThatThrownBy(() -> historicalResultsService.validateHistoricalResultsQuery(query))
+                    .isInstanceOf(InvalidQueryException.class);
+
+            verifyNoInteractions(paginationService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Results")
+    class Results {
+
+        @Test
+        @DisplayName("Retrieve historical results : Results mapped to DTOs with cursor")
+        void givenStoredResults_whenRetrieve_thenMapsResultsAndKeepsCursor() {
+            CrfSimulationResults entity = new CrfSimulationResults();
+            entity.setId("1");
+            entity.setModuleId("MODULE_1");
+            CrfSimulationResultsDto dto = CrfSimulationResultsDto.builder().id("1").productionModule("MODULE_1").build();
+            givenExceptionHandlerPassThrough();
+            givenPage(CrfSimulationResults.class, List.of(entity));
+            when(modelMapper.map(entity, CrfSimulationResultsDto.class)).thenReturn(dto);
+
+            CursorPaginatedResultsDto<Object> page = historicalResultsService.retrieveHistoricalResults(crfQuery().build(), "cursor", 10);
+
+            assertThat(page.getResults()).containsExactly(dto);
+            assertThat(page.getNextCursor()).isEqualTo("next");
+            assertThat(page.getLastPage()).isFalse();
+            verify(paginationService).retrievePage(eq(CrfSimulationResults.class), any(), any(), any(), eq("cursor"), eq(10));
+        }
+
+        @Test
+        @DisplayName("Stream historical results : Every page mapped to DTOs")
+        @SuppressWarnings("unchecked")
+        void givenStoredResults_whenStream_thenMapsEveryPage() {
+            SewSimulationResults first = new SewSimulationResults();
+            first.setId("1");
+            SewSimulationResults second = new SewSimulationResults();
+            second.setId("2");
+            SewSimulationResultsDto firstDto = SewSimulationResultsDto.builder().id("1").build();
+            SewSimulationResultsDto secondDto = SewSimulationResultsDto.builder().id("2").build();
+            when(modelMapper.map(first, SewSimulationResultsDto.class)).thenReturn(firstDto);
+            when(modelMapper.map(second, SewSimulationResultsDto.class)).thenReturn(secondDto);
+            doAnswer(invocation -> {
+                Consumer<List<SewSimulationResults>> pageConsumer = invocation.getArgument(5);
+                pageConsumer.accept(List.of(first));
+                pageConsumer.accept(List.of(second));
+                return null;
+            }).when(paginationService).streamAll(eq(SewSimulationResults.class), any(), any(), any(),
+                    eq(SearchAfterPaginationService.DEFAULT_PAGE_SIZE), any());
+
+            List<List<Object>> pages = new ArrayList<>();
+            historicalResultsService.streamHistoricalResults(HistoricalResultsQueryDto.builder()
+                    .resultType(HistoricalResultType.SEW_SIMULATION)
+                    .moduleId("MODULE_1")
+                    .build(), pages::add);
+
+            assertThat(pages).containsExactly(List.of(firstDto), List.of(secondDto));
+        }
+    }
+}
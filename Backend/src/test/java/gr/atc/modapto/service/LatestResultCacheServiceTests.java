@@ -0,0 +1,307 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
+import gr.atc.modapto.dto.serviceResults.crf.CrfOptimizationResultsDto;
+import gr.atc.modapto.enums.LatestResultType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LatestResultCacheService Unit Tests")
+class LatestResultCacheServiceTests {
+
+    private static final String OPTIMIZATION_TOPIC = "kh-picking-sequence-optimization";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private LatestResultCacheService latestResultCache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(true, null, null), objectMapper);
+        loads = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("Read-Through Lookup")
+    class ReadThroughLookup {
+
+        @Test
+        @DisplayName("Retrieve latest : Loaded once and reused")
+        void givenRepeatedLookups_whenRetrieveLatest_thenLoadsOnce() {
+            CrfOptimizationResultsDto stored = createResult("1", LocalDateTime.now());
+
+            Optional<CrfOptimizationResultsDto> first = latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(stored));
+            Optional<CrfOptimizationResultsDto> second = latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(stored));
+
+            assertThat(first).containsSame(stored);
+            assertThat(second).containsSame(stored);
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Retrieve latest : Missing results are cached")
+        void givenNoStoredResult_whenRetrieveLatestTwice_thenLoadsOnce() {
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).isEmpty();
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).isEmpty();
+
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Retrieve latest : Modules and result types are cached separately")
+        void givenDifferentKeys_whenRetrieveLatest_thenLoadsEachKey() {
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null));
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleB", loader(null));
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, null, loader(null));
+            latestResultCache.retrieveLatest(LatestResultType.CRF_SIMULATION, "ModuleA", loader(null));
+
+            assertThat(loads).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("Retrieve latest : Expired results are loaded again")
+        void givenExpiredResult_whenRetrieveLatest_thenLoadsAgain() throws InterruptedException {
+            latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(true, Duration.ofMillis(1), null), objectMapper);
+
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null));
+            Thread.sleep(10);
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null));
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Cache properties : Results expire within seconds by default")
+        void givenMissingCacheProperties_whenCreated_thenMaxAgeIsSeconds() {
+            LatestResultCacheProperties properties = new LatestResultCacheProperties(null, null, null);
+
+            assertThat(properties.maxAge()).isEqualTo(Duration.ofSeconds(10));
+        }
+
+        @Test
+        @DisplayName("Retrieve latest : Disabled cache always loads")
+        void givenDisabledCache_whenRetrieveLatest_thenLoadsEveryTime() {
+            latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), objectMapper);
+
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null));
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null));
+
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Retrieve latest : Failed loads are not cached")
+        void givenFailingLoader_whenRetrieveLatest_thenThrowsAndLoadsAgain() {
+            Supplier<Optional<CrfOptimizationResultsDto>> failingLoader = () -> {
+                loads.incrementAndGet();
+                throw new IllegalStateException("Elasticsearch unavailable");
+            };
+
+            assertThatThrownBy(() -> latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", failingLoader))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).isEmpty();
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Retrieve latest : Concurrent misses share a single load")
+        void givenConcurrentMisses_whenRetrieveLatest_thenLoadsOnce() throws Exception {
+            CrfOptimizationResultsDto stored = createResult("1", LocalDateTime.now());
+            CountDownLatch loadStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoad = new CountDownLatch(1);
+            Supplier<Optional<CrfOptimizationResultsDto>> slowLoader = () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                try {
+                    releaseLoad.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of(stored);
+            };
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Optional<CrfOptimizationResultsDto>>> lookups = new ArrayList<>();
+                lookups.add(executor.submit(() -> latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", slowLoader)));
+                assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                for (int i = 0; i < 7; i++)
+                    lookups.add(executor.submit(() -> latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", slowLoader)));
+                releaseLoad.countDown();
+
+                for (Future<Optional<CrfOptimizationResultsDto>> lookup : lookups)
+                    assertThat(lookup.get(5, TimeUnit.SECONDS)).containsSame(stored);
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Retrieve latest : Load racing with a newer result is not cached")
+        void givenUpdateDuringLoad_whenRetrieveLatest_thenLoadedResultIsNotCached() {
+            CrfOptimizationResultsDto stale = createResult("1", LocalDateTime.now().minusMinutes(1));
+            CrfOptimizationResultsDto fresh = createResult("2", LocalDateTime.now());
+            Supplier<Optional<CrfOptimizationResultsDto>> racingLoader = () -> {
+                latestResultCache.update(LatestResultType.CRF_OPTIMIZATION, "ModuleA", fresh);
+                return Optional.of(stale);
+            };
+
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", racingLoader);
+
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).containsSame(fresh);
+            assertThat(loads).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Write-Through Updates")
+    class WriteThroughUpdates {
+
+        @Test
+        @DisplayName("Update : Module and overall latest results are served without loading")
+        void givenUpdatedResult_whenRetrieveLatest_thenServedFromCache() {
+            CrfOptimizationResultsDto result = createResult("1", LocalDateTime.now());
+
+            latestResultCache.update(LatestResultType.CRF_OPTIMIZATION, "ModuleA", result);
+
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).containsSame(result);
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, null, loader(null))).containsSame(result);
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Update : Older results do not replace newer ones")
+        void givenOlderResult_whenUpdate_thenKeepsNewerResult() {
+            CrfOptimizationResultsDto newer = createResult("2", LocalDateTime.now());
+            CrfOptimizationResultsDto older = createResult("1", LocalDateTime.now().minusMinutes(1));
+
+            latestResultCache.update(LatestResultType.CRF_OPTIMIZATION, "ModuleA", newer);
+            latestResultCache.update(LatestResultType.CRF_OPTIMIZATION, "ModuleA", older);
+
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).containsSame(newer);
+        }
+
+        @Test
+        @DisplayName("Update : Replaces a cached missing result")
+        void givenCachedMissingResult_whenUpdate_thenServesNewResult() {
+            latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null));
+            CrfOptimizationResultsDto result = createResult("1", LocalDateTime.now());
+
+            latestResultCache.update(LatestResultType.CRF_OPTIMIZATION, "ModuleA", result);
+
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).containsSame(result);
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Invalidate : Next lookup loads again")
+        void givenCachedResult_whenInvalidate_thenLoadsAgain() {
+            latestResultCache.update(LatestResultType.CRF_OPTIMIZATION, "ModuleA", createResult("1", LocalDateTime.now()));
+
+            latestResultCache.invalidate(LatestResultType.CRF_OPTIMIZATION, "ModuleA");
+
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).isEmpty();
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, null, loader(null))).isEmpty();
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Result Events")
+    class ResultEvents {
+
+        @Test
+        @DisplayName("Record result event : Results are read as their DTO")
+        void givenResultEvent_whenRecordResultEvent_thenCachesMappedResult() {
+            JsonNode eventResults = objectMapper.valueToTree(createResult("1", LocalDateTime.of(2025, 1, 15, 10, 30)));
+
+            latestResultCache.recordResultEvent(OPTIMIZATION_TOPIC, "ModuleA", eventResults);
+
+            Optional<CrfOptimizationResultsDto> cached = latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null));
+            assertThat(cached).isPresent();
+            assertThat(cached.get().getId()).isEqualTo("1");
+            assertThat(cached.get().getTimestamp()).isEqualTo(LocalDateTime.of(2025, 1, 15, 10, 30));
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Record result event : Newest result of an array is cached")
+        void givenResultArrayEvent_whenRecordResultEvent_thenCachesNewestResult() {
+            JsonNode eventResults = objectMapper.valueToTree(List.of(
+                    createResult("1", LocalDateTime.of(2025, 1, 15, 10, 30)),
+                    createResult("2", LocalDateTime.of(2025, 1, 15, 12, 0)),
+                    createResult("3", LocalDateTime.of(2025, 1, 15, 11, 0))));
+
+            latestResultCache.recordResultEvent(OPTIMIZATION_TOPIC, "ModuleA", eventResults);
+
+            Optional<CrfOptimizationResultsDto> cached = latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null));
+            assertThat(cached).isPresent();
+            assertThat(cached.get().getId()).isEqualTo("2");
+        }
+
+        @Test
+        @DisplayName("Record result event : Unreadable results invalidate the cached ones")
+        void givenUnreadableResultEvent_whenRecordResultEvent_thenInvalidatesCachedResult() {
+            latestResultCache.update(LatestResultType.CRF_OPTIMIZATION, "ModuleA", createResult("1", LocalDateTime.now()));
+
+            latestResultCache.recordResultEvent(OPTIMIZATION_TOPIC, "ModuleA", objectMapper.createObjectNode().put("timestamp", "not-a-timestamp"));
+
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).isEmpty();
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Record result event : Other topics are ignored")
+        void givenOtherTopic_whenRecordResultEvent_thenKeepsCachedResult() {
+            CrfOptimizationResultsDto result = createResult("1", LocalDateTime.now());
+            latestResultCache.update(LatestResultType.CRF_OPTIMIZATION, "ModuleA", result);
+
+            latestResultCache.recordResultEvent("self-awareness-real-time-monitoring", "ModuleA", objectMapper.createObjectNode().put("value", "1"));
+
+            assertThat(latestResultCache.retrieveLatest(LatestResultType.CRF_OPTIMIZATION, "ModuleA", loader(null))).containsSame(result);
+        }
+    }
+
+    /*
+     * Helper method to create a loader returning a stored result and counting its calls
+     */
+    private Supplier<Optional<CrfOptimizationResultsDto>> loader(CrfOptimizationResultsDto stored) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(stored);
+        };
+    }
+
+    private CrfOptimizationResultsDto createResult(String id, LocalDateTime timestamp) {
+        return CrfOptimizationResultsDto.builder()
+                .id(id)
+                .timestamp(timestamp)
+                .message("Optimization completed")
+                .module("ModuleA")
+                .optimizationRun(true)
+                .build();
+    }
+}
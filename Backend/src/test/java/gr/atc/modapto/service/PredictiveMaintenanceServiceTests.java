@@ -2,6 +2,10 @@ package gr.atc.modapto.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
 import gr.atc.modapto.dto.dt.DtInputDto;
 import gr.atc.modapto.dto.dt.DtResponseDto;
 import gr.atc.modapto.dto.serviceInvocations.SewGroupingPredictiveMaintenanceInputDataDto;
@@ -9,9 +13,12 @@ import gr.atc.modapto.dto.serviceInvocations.SewThresholdBasedMaintenanceInputDa
 import gr.atc.modapto.dto.serviceResults.sew.SewThresholdBasedPredictiveMaintenanceOutputDto;
 import gr.atc.modapto.dto.sew.MaintenanceDataDto;
 import gr.atc.modapto.dto.sew.SewComponentInfoDto;
+import gr.atc.modapto.enums.FrequencyType;
 import gr.atc.modapto.enums.ModaptoHeader;
+import gr.atc.modapto.events.ScheduledTaskRegistrationEvent;
 import gr.atc.modapto.model.MaintenanceData;
 import gr.atc.modapto.model.sew.SewComponentInfo;
+import gr.atc.modapto.model.sew.SewComponentLastMaintenance;
 import gr.atc.modapto.repository.*;
 import gr.atc.modapto.service.processors.NoOpResponseProcessor;
 import gr.atc.modapto.service.processors.ThresholdBasedMaintenanceResponseProcessor;
@@ -24,9 +31,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
@@ -34,10 +43,13 @@ import org.modelmapper.spi.ErrorMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
@@ -48,7 +60,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -64,6 +78,9 @@ class PredictiveMaintenanceServiceTests {
     @Mock
     private SewComponentInfoRepository componentInfoRepository;
 
+    @Mock
+    private SewComponentLastMaintenanceRepository componentLastMaintenanceRepository;
+
     @Mock
     private ModelMapper modelMapper;
 
@@ -97,6 +114,13 @@ class PredictiveMaintenanceServiceTests {
     @Mock
     private gr.atc.modapto.kafka.KafkaMessageProducer kafkaMessageProducer;
 
+    @Mock
+    private SewComponentCatalogService componentCatalogService;
+
+    // Pass-through cache, every lookup queries the repository
+    @Spy
+    private LatestResultCacheService latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), new ObjectMapper());
+
     @InjectMocks
     private PredictiveMaintenanceService predictiveMaintenanceService;
 
@@ -494,6 +518,44 @@ class PredictiveMaintenanceServiceTests {
             verify(smartServicesInvocationService).invokeSmartService(eq("THRESHOLD_SERVICE"), eq("TEST_MODULE"), any(DtInputDto.class), any(ModaptoHeader.class));
             verify(thresholdMaintenanceResponseProcessor).processResponse(mockResponse, "TEST_MODULE", "THRESHOLD_SERVICE");
         }
+
+        @Test
+        @DisplayName("Invoke threshold-based maintenance : Shared maintenance events snapshot")
+        void givenMaintenanceEventsSnapshot_whenInvokeThresholdMaintenance_thenSkipsRepository() throws JsonProcessingException {
+            List<MaintenanceDataDto> maintenanceEvents = List.of(sampleDto);
+            ResponseEntity<DtResponseDto> mockResponse = new ResponseEntity<>(new DtResponseDto(), HttpStatus.OK);
+            when(smartServicesInvocationService.invokeSmartService(anyString(), anyString(), any(DtInputDto.class), any(ModaptoHeader.class)))
+                    .thenReturn(mockResponse);
+            when(thresholdMaintenanceResponseProcessor.processResponse(any(), anyString(), anyString()))
+                    .thenReturn(SewThresholdBasedPredictiveMaintenanceOutputDto.builder().id("test-id").build());
+            when(objectMapper.writeValueAsString(any())).thenReturn("{\"mockJson\":\"data\"}");
+
+            for (String moduleId : List.of("MODULE_1", "MODULE_2", "MODULE_3")) {
+                SewThresholdBasedMaintenanceInputDataDto inputData = SewThresholdBasedMaintenanceInputDataDto.builder()
+                        .moduleId(moduleId)
+                        .smartServiceId("THRESHOLD_SERVICE")
+                        .build();
+
+                predictiveMaintenanceService.invokeThresholdBasedPredictiveMaintenance(inputData, maintenanceEvents);
+
+                assertThat(inputData.getEvents()).isSameAs(maintenanceEvents);
+            }
+
+            verifyNoInteractions(maintenanceDataRepository);
+            verify(smartServicesInvocationService, times(3)).invokeSmartService(eq("THRESHOLD_SERVICE"), anyString(), any(DtInputDto.class), any(ModaptoHeader.class));
+        }
+
+        @Test
+        @DisplayName("Retrieve threshold-based maintenance events : Hides unnecessary fields")
+        void givenStoredMaintenanceData_whenRetrieveThresholdBasedMaintenanceEvents_thenReturnsRefactoredEvents() {
+            when(maintenanceDataRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(sampleEntityList));
+            when(modelMapper.map(any(MaintenanceData.class), eq(MaintenanceDataDto.class))).thenReturn(sampleDto);
+
+            List<MaintenanceDataDto> result = predictiveMaintenanceService.retrieveThresholdBasedMaintenanceEvents();
+
+            assertThat(result).hasSize(sampleEntityList.size());
+            assertThat(result).allMatch(event -> event.getComponent() == null && event.getModule() == null);
+        }
     }
 
     @Nested
@@ -511,28 +573,18 @@ class PredictiveMaintenanceServiceTests {
                     .noRepairmen(3)
                     .build();
 
-            List<SewComponentInfo> componentEntities = Arrays.asList(
-                    createSewComponentInfo("1", "Stage1", "Cell1", "Module1", "MOD1"),
-                    createSewComponentInfo("2", "Stage2", "Cell2", "Module2", "MOD2")
+            List<SewComponentInfoDto> catalogComponents = Arrays.asList(
+                    SewComponentInfoDto.builder().stage("Stage1").cell("Cell1").module("Module1").moduleId("MOD1").build(),
+                    SewComponentInfoDto.builder().stage("Stage2").cell("Cell2").module("Module2").moduleId("MOD2").build()
             );
-            Page<SewComponentInfo> mockPage = new PageImpl<>(componentEntities);
-            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(mockPage);
-
-            SewComponentInfoDto componentDto = SewComponentInfoDto.builder()
-                    .stage("Stage1")
-                    .cell("Cell1")
-                    .module("Module1")
-                    .moduleId("MOD1")
-                    .build();
-            when(modelMapper.map(any(SewComponentInfo.class), eq(SewComponentInfoDto.class)))
-                    .thenReturn(componentDto);
-
-            ResponseEntity<DtResponseDto> mockResponse = new ResponseEntity<>(new DtResponseDto(), HttpStatus.OK);
+            when(componentCatalogService.retrieveComponentsByModuleId("TEST_MODULE")).thenReturn(Collections.emptyList());
+            when(componentCatalogService.retrieveAllComponents()).thenReturn(catalogComponents);
 
             predictiveMaintenanceService.invokeGroupingPredictiveMaintenance(inputData);
 
-            verify(componentInfoRepository).findAll(any(Pageable.class));
-            verify(modelMapper, times(2)).map(any(SewComponentInfo.class), eq(SewComponentInfoDto.class));
+            verify(componentCatalogService).retrieveAllComponents();
+            verify(componentInfoRepository, never()).findAll(any(Pageable.class));
+            verify(modelMapper, never()).map(any(SewComponentInfo.class), eq(SewComponentInfoDto.class));
             verify(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(
                     eq(inputData),
                     eq(null),
@@ -542,6 +594,78 @@ class PredictiveMaintenanceServiceTests {
             assertThat(inputData.getComponentList()).hasSize(2);
         }
 
+        @Test
+        @DisplayName("Invoke and register grouping maintenance : Frequency registers a Scheduled Task")
+        void givenFrequency_whenInvokeAndRegisterGroupingMaintenance_thenPublishesRegistrationEvent() {
+            SewGroupingPredictiveMaintenanceInputDataDto inputData = SewGroupingPredictiveMaintenanceInputDataDto.builder()
+                    .moduleId("TEST_MODULE")
+                    .smartServiceId("GROUPING_SERVICE")
+                    .frequencyValue(1)
+                    .frequencyType(FrequencyType.DAYS)
+                    .build();
+            when(componentCatalogService.retrieveComponentsByModuleId("TEST_MODULE")).thenReturn(Collections.emptyList());
+            when(componentCatalogService.retrieveAllComponents()).thenReturn(List.of(
+                    SewComponentInfoDto.builder().stage("Stage1").cell("Cell1").module("Module1").moduleId("MOD1").build()));
+
+            predictiveMaintenanceService.invokeAndRegisterGroupingPredictiveMaintenance(inputData);
+
+            ArgumentCaptor<ScheduledTaskRegistrationEvent> eventCaptor = ArgumentCaptor.forClass(ScheduledTaskRegistrationEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getTaskType()).isEqualTo("GROUPING_PREDICTIVE_MAINTENANCE");
+            assertThat(eventCaptor.getValue().getScheduledTask().getFrequencyType()).isEqualTo(FrequencyType.DAYS);
+            assertThat(eventCaptor.getValue().getScheduledTask().getRequestBody()).isSameAs(inputData);
+            // Components are located again on every scheduled run
+            assertThat(inputData.getComponentList()).isNull();
+        }
+
+        @Test
+        @DisplayName("Invoke and register grouping maintenance : No frequency skips the registration")
+        void givenNoFrequency_whenInvokeAndRegisterGroupingMaintenance_thenDoesNotPublishEvent() {
+            SewGroupingPredictiveMaintenanceInputDataDto inputData = SewGroupingPredictiveMaintenanceInputDataDto.builder()
+                    .moduleId("TEST_MODULE")
+                    .smartServiceId("GROUPING_SERVICE")
+                    .build();
+            when(componentCatalogService.retrieveComponentsByModuleId("TEST_MODULE")).thenReturn(Collections.emptyList());
+            when(componentCatalogService.retrieveAllComponents()).thenReturn(List.of(
+                    SewComponentInfoDto.builder().stage("Stage1").cell("Cell1").module("Module1").moduleId("MOD1").build()));
+
+            predictiveMaintenanceService.invokeAndRegisterGroupingPredictiveMaintenance(inputData);
+
+            verify(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(eq(inputData), eq(null), eq("Grouping Predictive Maintenance"));
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Invoke grouping maintenance : Only components of the requested module")
+        void givenModuleWithComponents_whenInvokeGroupingMaintenance_thenUsesModuleSliceOnly() {
+            SewGroupingPredictiveMaintenanceInputDataDto inputData = SewGroupingPredictiveMaintenanceInputDataDto.builder()
+                    .moduleId("MOD1")
+                    .smartServiceId("GROUPING_SERVICE")
+                    .build();
+
+            SewComponentInfoDto catalogComponent = SewComponentInfoDto.builder()
+                    .stage("Stage1").cell("Cell1").module("Module1").moduleId("MOD1")
+                    .lastMaintenanceActionTime("")
+                    .build();
+            when(componentCatalogService.retrieveComponentsByModuleId("MOD1")).thenReturn(List.of(catalogComponent));
+
+            String componentKey = "Stage1|Cell1|Module1|MOD1";
+            SewComponentLastMaintenance lastMaintenance = SewComponentLastMaintenance.builder()
+                    .id(componentKey)
+                    .lastMaintenanceActionTime(LocalDateTime.parse("2024-01-20T08:00:00"))
+                    .build();
+            when(componentLastMaintenanceRepository.findAllById(Set.of(componentKey))).thenReturn(List.of(lastMaintenance));
+
+            predictiveMaintenanceService.invokeGroupingPredictiveMaintenance(inputData);
+
+            verify(componentCatalogService, never()).retrieveAllComponents();
+            assertThat(inputData.getComponentList()).hasSize(1);
+            assertThat(inputData.getComponentList().getFirst().getLastMaintenanceActionTime()).isEqualTo("2024-01-20T08:00:00");
+            // The shared catalog entry must remain untouched
+            assertThat(catalogComponent.getLastMaintenanceActionTime()).isEmpty();
+            assertThat(inputData.getComponentList().getFirst()).isNotSameAs(catalogComponent);
+        }
+
         @Test
         @DisplayName("Invoke grouping maintenance : Component mapping exception")
         void givenComponentMappingError_whenInvokeGroupingMaintenance_thenThrowsModelMappingException() {
@@ -550,18 +674,13 @@ class PredictiveMaintenanceServiceTests {
                     .smartServiceId("GROUPING_SERVICE")
                     .build();
 
-            List<SewComponentInfo> componentEntities = List.of(createSewComponentInfo("1", "Stage1", "Cell1", "Module1", "MOD1"));
-            Page<SewComponentInfo> mockPage = new PageImpl<>(componentEntities);
-            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(mockPage);
-
-            when(modelMapper.map(any(SewComponentInfo.class), eq(SewComponentInfoDto.class)))
+            when(componentCatalogService.retrieveComponentsByModuleId("TEST_MODULE"))
                     .thenThrow(new MappingException(List.of(new ErrorMessage("Component mapping error"))));
 
             assertThatThrownBy(() -> predictiveMaintenanceService.invokeGroupingPredictiveMaintenance(inputData))
                     .isInstanceOf(ModelMappingException.class)
                     .hasMessageContaining("Exception occurred while mapping Grouping Predictive Maintenance Entity to DTO");
 
-            verify(componentInfoRepository).findAll(any(Pageable.class));
             verify(smartServicesInvocationService, never()).formulateAndImplementSmartServiceRequest(any(), any(), any());
         }
 
@@ -573,15 +692,12 @@ class PredictiveMaintenanceServiceTests {
                     .smartServiceId("GROUPING_SERVICE")
                     .build();
 
-            Page<SewComponentInfo> emptyPage = new PageImpl<>(Collections.emptyList());
-            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
-
-            ResponseEntity<DtResponseDto> mockResponse = new ResponseEntity<>(new DtResponseDto(), HttpStatus.OK);
-
+            when(componentCatalogService.retrieveComponentsByModuleId("TEST_MODULE")).thenReturn(Collections.emptyList());
+            when(componentCatalogService.retrieveAllComponents()).thenReturn(Collections.emptyList());
 
             predictiveMaintenanceService.invokeGroupingPredictiveMaintenance(inputData);
 
-            verify(componentInfoRepository).findAll(any(Pageable.class));
+            verify(componentLastMaintenanceRepository, never()).findAllById(any());
             verify(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(
                     eq(inputData),
                     eq(null),
@@ -599,15 +715,8 @@ class PredictiveMaintenanceServiceTests {
                     .smartServiceId("GROUPING_SERVICE")
                     .build();
 
-            List<SewComponentInfo> componentEntities = Arrays.asList(
-                    createSewComponentInfo("1", "Stage1", "Cell1", "Module1", "MOD1")
-            );
-            Page<SewComponentInfo> mockPage = new PageImpl<>(componentEntities);
-            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(mockPage);
-
-            SewComponentInfoDto componentDto = SewComponentInfoDto.builder().build();
-            when(modelMapper.map(any(SewComponentInfo.class), eq(SewComponentInfoDto.class)))
-                    .thenReturn(componentDto);
+            when(componentCatalogService.retrieveComponentsByModuleId("TEST_MODULE"))
+                    .thenReturn(List.of(SewComponentInfoDto.builder().build()));
 
             doThrow(new RuntimeException("Smart service invocation failed"))
                     .when(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(any(), any(), any());
@@ -616,7 +725,6 @@ class PredictiveMaintenanceServiceTests {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Smart service invocation failed");
 
-            verify(componentInfoRepository).findAll(any(Pageable.class));
             verify(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(
                     eq(inputData),
                     eq(null),
@@ -861,6 +969,81 @@ class PredictiveMaintenanceServiceTests {
         }
     }
 
+    @Nested
+    @DisplayName("Materialized Last Maintenance Actions")
+    class MaterializedLastMaintenanceActions {
+
+        @Test
+        @DisplayName("Declare process drift : Materialized last maintenance action updated")
+        @SuppressWarnings("unchecked")
+        void givenNewProcessDrift_whenDeclareProcessDrift_thenUpdatesMaterializedLastMaintenance() {
+            LocalDateTime startedAt = LocalDateTime.parse("2024-03-01T09:00:00");
+            MaintenanceDataDto inputData = MaintenanceDataDto.builder()
+                    .stage("Stage1").cell("Cell1").module("Module1").moduleId("MOD1")
+                    .tsInterventionStarted(startedAt)
+                    .build();
+            MaintenanceData savedEntity = new MaintenanceData();
+            savedEntity.setId("drift-id");
+            savedEntity.setStage("Stage1");
+            savedEntity.setCell("Cell1");
+            savedEntity.setModule("Module1");
+            savedEntity.setModuleId("MOD1");
+            savedEntity.setTsInterventionStarted(startedAt);
+
+            when(modelMapper.map(any(MaintenanceDataDto.class), eq(MaintenanceData.class))).thenReturn(savedEntity);
+            when(maintenanceDataRepository.save(any(MaintenanceData.class))).thenReturn(savedEntity);
+
+            predictiveMaintenanceService.declareProcessDrift(inputData);
+
+            ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+            verify(elasticsearchOperations).bulkUpdate(captor.capture(), eq(SewComponentLastMaintenance.class));
+            assertThat(captor.getValue()).singleElement()
+                    .satisfies(update -> {
+                        assertThat(update.getId()).isEqualTo("Stage1|Cell1|Module1|MOD1");
+                        assertThat(update.getParams()).containsEntry("time", "2024-03-01T09:00:00");
+                        assertThat(update.getUpsert()).containsEntry("lastMaintenanceActionTime", "2024-03-01T09:00:00");
+                    });
+            verify(componentLastMaintenanceRepository, never()).saveAll(anyIterable());
+        }
+
+        @Test
+        @DisplayName("Complete process drift : Stored action is only replaced by a newer one on the server")
+        @SuppressWarnings("unchecked")
+        void givenOlderProcessDrift_whenCompleteProcessDrift_thenWritesConditionalUpsert() {
+            MaintenanceData drift = new MaintenanceData();
+            drift.setId("drift-id");
+            drift.setStage("Stage1");
+            drift.setCell("Cell1");
+            drift.setModule("Module1");
+            drift.setModuleId("MOD1");
+            drift.setTsInterventionStarted(LocalDateTime.parse("2024-01-01T09:00:00"));
+
+            when(maintenanceDataRepository.findById("drift-id")).thenReturn(Optional.of(drift));
+
+            predictiveMaintenanceService.completeProcessDrift("drift-id", LocalDateTime.parse("2024-01-01T12:00:00"));
+
+            // The stored time is compared by the update script, no read-modify-write happens in the service
+            ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+            verify(elasticsearchOperations).bulkUpdate(captor.capture(), eq(SewComponentLastMaintenance.class));
+            assertThat(captor.getValue()).singleElement()
+                    .satisfies(update -> {
+                        assertThat(update.getScript()).contains("ctx.op = 'noop'");
+                        assertThat(update.getParams()).containsEntry("time", "2024-01-01T09:00:00");
+                        assertThat(update.getRetryOnConflict()).isPositive();
+                    });
+            verify(componentLastMaintenanceRepository, never()).findAllById(anyIterable());
+            verify(componentLastMaintenanceRepository, never()).saveAll(anyIterable());
+        }
+
+        @Test
+        @DisplayName("Delete all maintenance data : Materialized view cleared")
+        void whenDeleteAllMaintenanceData_thenClearsMaterializedLastMaintenance() {
+            predictiveMaintenanceService.deleteAllMaintenanceData();
+
+            verify(componentLastMaintenanceRepository).deleteAll();
+        }
+    }
+
     @Nested
     @DisplayName("Invoke and Register Threshold-Based Predictive Maintenance")
     class InvokeAndRegisterThresholdBasedPredictiveMaintenance {
@@ -1021,6 +1204,7 @@ class PredictiveMaintenanceServiceTests {
             verify(componentInfoRepository).deleteAll();
             verify(modelMapper, times(2)).map(any(SewComponentInfoDto.class), eq(SewComponentInfo.class));
             verify(componentInfoRepository).saveAll(anyList());
+            verify(componentCatalogService).rebuildCatalog(anyList());
         }
 
         @Test
@@ -1062,6 +1246,127 @@ class PredictiveMaintenanceServiceTests {
         }
     }
 
+    @Nested
+    @DisplayName("Locate Last Maintenance Action For Stored Components")
+    class LocateLastMaintenanceActionForStoredComponents {
+
+        @Test
+        @DisplayName("Locate last maintenance action : Success with single aggregation and bulk update")
+        @SuppressWarnings("unchecked")
+        void givenStoredComponents_whenLocateLastMaintenanceAction_thenUpdatesComponentsWithBulkUpdate() {
+            List<SewComponentInfo> components = Arrays.asList(
+                    createSewComponentInfo("1", "Stage1", "Cell1", "Module1", "MOD1"),
+                    createSewComponentInfo("2", "Stage2", "Cell2", "Module2", "MOD2")
+            );
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(components));
+
+            SearchHits<MaintenanceData> searchHits = createMockAggregationSearchHits(
+                    List.of(createCompositeBucket("Stage1", "Cell1", "Module1", "MOD1", "2024-01-15T10:30:00")), null);
+            when(elasticsearchOperations.search(any(NativeQuery.class), eq(MaintenanceData.class))).thenReturn(searchHits);
+
+            predictiveMaintenanceService.locateLastMaintenanceActionForStoredComponents();
+
+            ArgumentCaptor<List<UpdateQuery>> updatesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(elasticsearchOperations, times(1)).search(any(NativeQuery.class), eq(MaintenanceData.class));
+            verify(elasticsearchOperations).bulkUpdate(updatesCaptor.capture(), eq(SewComponentInfo.class));
+            verify(componentInfoRepository, never()).saveAll(anyList());
+
+            List<UpdateQuery> updates = updatesCaptor.getValue();
+            assertThat(updates).hasSize(2);
+            assertThat(updates.get(0).getId()).isEqualTo("1");
+            assertThat(updates.get(0).getDocument()).containsEntry("last_maintenance_action_time", "2024-01-15T10:30:00");
+            assertThat(updates.get(1).getId()).isEqualTo("2");
+            assertThat(updates.get(1).getDocument()).containsEntry("last_maintenance_action_time", "");
+        }
+
+        @Test
+        @DisplayName("Locate last maintenance action : Maintenance data missing key fields is kept")
+        @SuppressWarnings("unchecked")
+        void givenMaintenanceDataWithoutModuleId_whenLocateLastMaintenanceAction_thenMatchesComponentWithoutModuleId() {
+            List<SewComponentInfo> components = List.of(createSewComponentInfo("1", "Stage1", "Cell1", "Module1", null));
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(components));
+
+            CompositeBucket bucketWithoutModuleId = CompositeBucket.of(bucket -> bucket
+                    .key(Map.of("stage", FieldValue.of("Stage1"), "cell", FieldValue.of("Cell1"), "module", FieldValue.of("Module1"), "moduleId", FieldValue.NULL))
+                    .docCount(1)
+                    .aggregations("latest_intervention", Aggregate.of(aggregate -> aggregate.max(max -> max.value(
+                            LocalDateTime.parse("2024-01-15T10:30:00").toInstant(java.time.ZoneOffset.UTC).toEpochMilli())))));
+            SearchHits<MaintenanceData> searchHits = createMockAggregationSearchHits(List.of(bucketWithoutModuleId), null);
+            when(elasticsearchOperations.search(any(NativeQuery.class), eq(MaintenanceData.class))).thenReturn(searchHits);
+
+            predictiveMaintenanceService.locateLastMaintenanceActionForStoredComponents();
+
+            ArgumentCaptor<List<UpdateQuery>> updatesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(elasticsearchOperations).bulkUpdate(updatesCaptor.capture(), eq(SewComponentInfo.class));
+            assertThat(updatesCaptor.getValue().getFirst().getDocument()).containsEntry("last_maintenance_action_time", "2024-01-15T10:30:00");
+        }
+
+        @Test
+        @DisplayName("Locate last maintenance action : Keys absent from the aggregation are deleted")
+        void givenStaleMaterializedKeys_whenLocateLastMaintenanceAction_thenDeletesKeysAbsentFromAggregation() {
+            List<SewComponentInfo> components = List.of(createSewComponentInfo("1", "Stage1", "Cell1", "Module1", "MOD1"));
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(components));
+
+            SearchHits<MaintenanceData> searchHits = createMockAggregationSearchHits(
+                    List.of(createCompositeBucket("Stage1", "Cell1", "Module1", "MOD1", "2024-01-15T10:30:00")), null);
+            when(elasticsearchOperations.search(any(NativeQuery.class), eq(MaintenanceData.class))).thenReturn(searchHits);
+            when(componentLastMaintenanceRepository.findAll()).thenReturn(List.of(
+                    new SewComponentLastMaintenance("Stage1|Cell1|Module1|MOD1", "Stage1", "Cell1", "Module1", "MOD1", LocalDateTime.parse("2024-01-15T10:30:00")),
+                    new SewComponentLastMaintenance("Stage9|Cell9|Module9|MOD9", "Stage9", "Cell9", "Module9", "MOD9", LocalDateTime.parse("2023-06-01T08:00:00"))));
+
+            predictiveMaintenanceService.locateLastMaintenanceActionForStoredComponents();
+
+            verify(componentLastMaintenanceRepository).deleteAllById(List.of("Stage9|Cell9|Module9|MOD9"));
+        }
+
+        @Test
+        @DisplayName("Locate last maintenance action : No components stored")
+        void givenNoStoredComponents_whenLocateLastMaintenanceAction_thenSkipsQueries() {
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+
+            predictiveMaintenanceService.locateLastMaintenanceActionForStoredComponents();
+
+            verify(elasticsearchOperations, never()).search(any(NativeQuery.class), eq(MaintenanceData.class));
+            verify(elasticsearchOperations, never()).bulkUpdate(anyList(), eq(SewComponentInfo.class));
+        }
+
+        @Test
+        @DisplayName("Performance : 10k components resolved with paged composite aggregation")
+        @SuppressWarnings("unchecked")
+        void givenTenThousandComponents_whenLocateLastMaintenanceAction_thenUsesPagedAggregationInsteadOfPerComponentQueries() {
+            int componentsCount = 10_000;
+            int pageSize = 1000;
+            List<SewComponentInfo> components = java.util.stream.IntStream.range(0, componentsCount)
+                    .mapToObj(i -> createSewComponentInfo(String.valueOf(i), "Stage" + i, "Cell" + i, "Module" + i, "MOD" + i))
+                    .toList();
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(components));
+
+            // Each aggregation page returns 1000 buckets, the last page returns no 'after_key'
+            List<SearchHits<MaintenanceData>> pages = java.util.stream.IntStream.range(0, componentsCount / pageSize)
+                    .mapToObj(page -> {
+                        List<CompositeBucket> buckets = java.util.stream.IntStream.range(page * pageSize, (page + 1) * pageSize)
+                                .mapToObj(i -> createCompositeBucket("Stage" + i, "Cell" + i, "Module" + i, "MOD" + i, "2024-01-15T10:30:00"))
+                                .toList();
+                        Map<String, FieldValue> afterKey = page == (componentsCount / pageSize) - 1 ? null : buckets.getLast().key();
+                        return createMockAggregationSearchHits(buckets, afterKey);
+                    })
+                    .toList();
+            when(elasticsearchOperations.search(any(NativeQuery.class), eq(MaintenanceData.class)))
+                    .thenReturn(pages.getFirst(), pages.subList(1, pages.size()).toArray(new SearchHits[0]));
+
+            long startTime = System.currentTimeMillis();
+            predictiveMaintenanceService.locateLastMaintenanceActionForStoredComponents();
+            long endTime = System.currentTimeMillis();
+
+            ArgumentCaptor<List<UpdateQuery>> updatesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(elasticsearchOperations, times(componentsCount / pageSize)).search(any(NativeQuery.class), eq(MaintenanceData.class));
+            verify(elasticsearchOperations, times(1)).bulkUpdate(updatesCaptor.capture(), eq(SewComponentInfo.class));
+            assertThat(updatesCaptor.getValue()).hasSize(componentsCount)
+                    .allSatisfy(update -> assertThat(update.getDocument()).containsEntry("last_maintenance_action_time", "2024-01-15T10:30:00"));
+            assertThat(endTime - startTime).isLessThan(5000); // Should complete within 5 seconds
+        }
+    }
+
     @Nested
     @DisplayName("Retrieve Component List Given Filter Attributes")
     class RetrieveComponentListGivenFilterAttributes {
@@ -1103,6 +1408,29 @@ class PredictiveMaintenanceServiceTests {
             verify(modelMapper, times(2)).map(any(SewComponentInfo.class), eq(SewComponentInfoDto.class));
         }
 
+        @Test
+        @DisplayName("Retrieve component list : Last maintenance action resolved from materialized view")
+        void givenMaterializedLastMaintenance_whenRetrieveComponentList_thenSetsLastMaintenanceActionTime() {
+            List<SewComponentInfo> entities = List.of(createSewComponentInfo("1", "Stage1", "Cell1", "Module1", "MOD1"));
+            SewComponentInfoDto mappedDto = SewComponentInfoDto.builder().stage("Stage1").cell("Cell1").module("Module1").moduleId("MOD1").build();
+            SewComponentLastMaintenance lastMaintenance = new SewComponentLastMaintenance("Stage1|Cell1|Module1|MOD1",
+                    "Stage1", "Cell1", "Module1", "MOD1", LocalDateTime.parse("2024-02-01T08:00:00"));
+
+            when(componentInfoRepository.findByStageAndCellAndModuleAndModuleId("Stage1", "Cell1", "Module1", "MOD1"))
+                    .thenReturn(entities);
+            when(modelMapper.map(any(SewComponentInfo.class), eq(SewComponentInfoDto.class)))
+                    .thenReturn(mappedDto);
+            when(componentLastMaintenanceRepository.findById("Stage1|Cell1|Module1|MOD1"))
+                    .thenReturn(Optional.of(lastMaintenance));
+
+            List<SewComponentInfoDto> result = predictiveMaintenanceService
+                    .retrieveComponentListGivenFilterAttributes("Stage1", "Cell1", "Module1", "MOD1");
+
+            assertThat(result).hasSize(1);
+            assertThat(result.getFirst().getLastMaintenanceActionTime()).isEqualTo("2024-02-01T08:00:00");
+            verify(componentLastMaintenanceRepository, times(1)).findById("Stage1|Cell1|Module1|MOD1");
+        }
+
         @Test
         @DisplayName("Retrieve component list : Empty result")
         void givenNoMatchingComponents_whenRetrieveComponentList_thenReturnsEmptyList() {
@@ -1231,6 +1559,27 @@ class PredictiveMaintenanceServiceTests {
         return searchHits;
     }
 
+    private CompositeBucket createCompositeBucket(String stage, String cell, String module, String moduleId, String lastIntervention) {
+        long lastInterventionMillis = LocalDateTime.parse(lastIntervention).toInstant(java.time.ZoneOffset.UTC).toEpochMilli();
+        return CompositeBucket.of(bucket -> bucket
+                .key(Map.of("stage", FieldValue.of(stage), "cell", FieldValue.of(cell), "module", FieldValue.of(module), "moduleId", FieldValue.of(moduleId)))
+                .docCount(1)
+                .aggregations("latest_intervention", Aggregate.of(aggregate -> aggregate.max(max -> max.value(lastInterventionMillis)))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<MaintenanceData> createMockAggregationSearchHits(List<CompositeBucket> buckets, Map<String, FieldValue> afterKey) {
+        SearchHits<MaintenanceData> searchHits = mock(SearchHits.class, withSettings().lenient());
+        Aggregate composite = Aggregate.of(aggregate -> aggregate.composite(c -> {
+            c.buckets(b -> b.array(buckets));
+            if (afterKey != null)
+                c.afterKey(afterKey);
+            return c;
+        }));
+        doReturn(new ElasticsearchAggregations(Map.of("component_keys", composite))).when(searchHits).getAggregations();
+        return searchHits;
+    }
+
     private SewComponentInfo createSewComponentInfo(String id, String stage, String cell, String module, String moduleId) {
         SewComponentInfo componentInfo = new SewComponentInfo();
         componentInfo.setId(id);
@@ -0,0 +1,240 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.SchedulerHistoryProperties;
+import gr.atc.modapto.dto.ScheduledTaskExecutionDto;
+import gr.atc.modapto.enums.ScheduledTaskExecutionOutcome;
+import gr.atc.modapto.model.ScheduledTaskExecution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledTaskExecutionHistoryService Unit Tests")
+class ScheduledTaskExecutionHistoryServiceTests {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ScheduledTaskExecutionHistoryService executionHistoryService;
+
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2025, 3, 1, 10, 30, 0);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executionHistoryService = createService(new SchedulerHistoryProperties(true, Duration.ofSeconds(10), 3));
+    }
+
+    private ScheduledTaskExecutionHistoryService createService(SchedulerHistoryProperties properties) {
+        return new ScheduledTaskExecutionHistoryService(elasticsearchOperations, taskScheduler, new ModelMapper(), properties, meterRegistry);
+    }
+
+    private ScheduledTaskExecution createExecution(String taskId, LocalDateTime startedAt) {
+        return ScheduledTaskExecution.builder()
+                .taskId(taskId)
+                .smartServiceType("THRESHOLD_BASED_PREDICTIVE_MAINTENANCE")
+                .moduleId("TEST_MODULE")
+                .scheduledTime(startedAt.minusSeconds(1))
+                .startedAt(startedAt)
+                .lagMillis(1000L)
+                .durationMillis(250L)
+                .outcome(ScheduledTaskExecutionOutcome.SUCCESS)
+                .payloadSize(128)
+                .build();
+    }
+
+    private void givenExistingPartitions() {
+        when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOperations);
+        when(indexOperations.exists()).thenReturn(true);
+    }
+
+    @Nested
+    @DisplayName("Flush Records")
+    class FlushRecords {
+
+        @Test
+        @DisplayName("Flush : Records are stored in bulk per monthly partition")
+        @SuppressWarnings("unchecked")
+        void givenRecordsOfTwoMonths_whenFlush_thenSendsOneBulkRequestPerPartition() {
+            givenExistingPartitions();
+            executionHistoryService.record(createExecution("task-1", STARTED_AT));
+            executionHistoryService.record(createExecution("task-2", STARTED_AT.plusMinutes(5)));
+            executionHistoryService.record(createExecution("task-1", STARTED_AT.plusMonths(1)));
+
+            executionHistoryService.flush();
+
+            ArgumentCaptor<List<IndexQuery>> queriesCaptor = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<IndexCoordinates> coordinatesCaptor = ArgumentCaptor.forClass(IndexCoordinates.class);
+            verify(elasticsearchOperations, times(2)).bulkIndex(queriesCaptor.capture(), coordinatesCaptor.capture());
+            assertThat(coordinatesCaptor.getAllValues()).extracting(IndexCoordinates::getIndexName)
+                    .containsExactlyInAnyOrder("scheduled-task-executions-2025.03", "scheduled-task-executions-2025.04");
+            assertThat(queriesCaptor.getAllValues()).extracting(List::size).containsExactlyInAnyOrder(2, 1);
+            assertThat(executionHistoryService.getPendingRecordCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Flush : Missing partition is created once with the records mapping")
+        void givenMissingPartition_whenFlushTwice_thenCreatesPartitionOnce() {
+            when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(indexOperations);
+            when(indexOperations.exists()).thenReturn(false);
+
+            executionHistoryService.record(createExecution("task-1", STARTED_AT));
+            executionHistoryService.flush();
+            executionHistoryService.record(createExecution("task-2", STARTED_AT));
+            executionHistoryService.flush();
+
+            verify(indexOperations, times(1)).create(anyMap(), any());
+            verify(indexOperations).createMapping(ScheduledTaskExecution.class);
+            verify(elasticsearchOperations, times(2)).bulkIndex(anyList(), any(IndexCoordinates.class));
+        }
+
+        @Test
+        @DisplayName("Flush : No buffered records")
+        void givenNoRecords_whenFlush_thenSkipsRequest() {
+            executionHistoryService.flush();
+
+            verifyNoInteractions(elasticsearchOperations);
+        }
+
+        @Test
+        @DisplayName("Flush : Failed records are retried on the next flush")
+        void givenPartialBulkFailure_whenFlush_thenRequeuesFailedRecords() {
+            givenExistingPartitions();
+            ScheduledTaskExecution failed = createExecution("task-1", STARTED_AT);
+            failed.setId("execution-1");
+            executionHistoryService.record(failed);
+            executionHistoryService.record(createExecution("task-2", STARTED_AT));
+            doThrow(new BulkFailureException("Bulk index failed", Map.of(
+                    "execution-1", new BulkFailureException.FailureDetails(429, "rejected execution"))))
+                    .when(elasticsearchOperations).bulkIndex(anyList(), any(IndexCoordinates.class));
+
+            executionHistoryService.flush();
+
+            assertThat(executionHistoryService.getPendingRecordCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Flush : Connection failure keeps all records")
+        void givenConnectionFailure_whenFlush_thenRequeuesAllRecords() {
+            givenExistingPartitions();
+            executionHistoryService.record(createExecution("task-1", STARTED_AT));
+            executionHistoryService.record(createExecution("task-2", STARTED_AT));
+            doThrow(new RuntimeException("Connection refused"))
+                    .when(elasticsearchOperations).bulkIndex(anyList(), any(IndexCoordinates.class));
+
+            executionHistoryService.flush();
+
+            assertThat(executionHistoryService.getPendingRecordCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Record Executions")
+    class RecordExecutions {
+
+        @Test
+        @DisplayName("Record : Records beyond the buffer capacity are dropped")
+        void givenFullBuffer_whenRecord_thenDropsRecord() {
+            for (int i = 0; i < 5; i++)
+                executionHistoryService.record(createExecution("task-" + i, STARTED_AT));
+
+            assertThat(executionHistoryService.getPendingRecordCount()).isEqualTo(3);
+            assertThat(meterRegistry.get("scheduled.tasks.history.dropped").counter().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Record : Long errors are truncated")
+        @SuppressWarnings("unchecked")
+        void givenLongError_whenRecord_thenTruncatesError() {
+            givenExistingPartitions();
+            ScheduledTaskExecution execution = createExecution("task-1", STARTED_AT);
+            execution.setError("x".repeat(1000));
+
+            executionHistoryService.record(execution);
+            executionHistoryService.flush();
+
+            ArgumentCaptor<List<IndexQuery>> queriesCaptor = ArgumentCaptor.forClass(List.class);
+            verify(elasticsearchOperations).bulkIndex(queriesCaptor.capture(), any(IndexCoordinates.class));
+            ScheduledTaskExecution stored = (ScheduledTaskExecution) queriesCaptor.getValue().getFirst().getObject();
+            assertThat(stored.getError()).hasSize(256);
+        }
+
+        @Test
+        @DisplayName("Record : Disabled history keeps nothing")
+        void givenDisabledHistory_whenRecord_thenIgnoresRecord() {
+            ScheduledTaskExecutionHistoryService disabledService = createService(new SchedulerHistoryProperties(false, null, null));
+
+            disabledService.record(createExecution("task-1", STARTED_AT));
+            disabledService.startPeriodicFlush();
+
+            assertThat(disabledService.getPendingRecordCount()).isZero();
+            verifyNoInteractions(taskScheduler);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retrieve Executions")
+    class RetrieveExecutions {
+
+        @Test
+        @DisplayName("Retrieve executions : Most recent runs across all partitions")
+        @SuppressWarnings("unchecked")
+        void givenStoredRecords_whenRetrieveRecentExecutions_thenQueriesAllPartitions() {
+            SearchHits<ScheduledTaskExecution> searchHits = mock(SearchHits.class);
+            SearchHit<ScheduledTaskExecution> searchHit = mock(SearchHit.class);
+            when(searchHit.getContent()).thenReturn(createExecution("task-1", STARTED_AT));
+            when(searchHits.stream()).thenReturn(Stream.of(searchHit));
+            when(elasticsearchOperations.search(any(Query.class), eq(ScheduledTaskExecution.class), any(IndexCoordinates.class)))
+                    .thenReturn(searchHits);
+
+            List<ScheduledTaskExecutionDto> result = executionHistoryService.retrieveRecentExecutions("task-1", 20);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.getFirst().getTaskId()).isEqualTo("task-1");
+            assertThat(result.getFirst().getOutcome()).isEqualTo(ScheduledTaskExecutionOutcome.SUCCESS);
+
+            ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+            ArgumentCaptor<IndexCoordinates> coordinatesCaptor = ArgumentCaptor.forClass(IndexCoordinates.class);
+            verify(elasticsearchOperations).search(queryCaptor.capture(), eq(ScheduledTaskExecution.class), coordinatesCaptor.capture());
+            assertThat(coordinatesCaptor.getValue().getIndexName()).isEqualTo("scheduled-task-executions-*");
+            CriteriaQuery query = (CriteriaQuery) queryCaptor.getValue();
+            assertThat(query.getPageable().getPageSize()).isEqualTo(20);
+            assertThat(query.getPageable().getSort().getOrderFor("startedAt")).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.SchedulerEngineProperties;
+import gr.atc.modapto.model.ScheduledTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledTaskExecutionTimeWriter Unit Tests")
+class ScheduledTaskExecutionTimeWriterTests {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private ScheduledTaskExecutionTimeWriter executionTimeWriter;
+
+    private static final LocalDateTime EXECUTION_TIME = LocalDateTime.of(2025, 3, 1, 10, 30, 0);
+
+    @BeforeEach
+    void setUp() {
+        SchedulerEngineProperties properties = new SchedulerEngineProperties(null, null, null, Duration.ofSeconds(5), null);
+        executionTimeWriter = new ScheduledTaskExecutionTimeWriter(elasticsearchOperations, taskScheduler, properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UpdateQuery> captureBulkUpdate() {
+        ArgumentCaptor<List<UpdateQuery>> queriesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations).bulkUpdate(queriesCaptor.capture(), eq(ScheduledTask.class));
+        return queriesCaptor.getValue();
+    }
+
+    @Nested
+    @DisplayName("Flush Updates")
+    class FlushUpdates {
+
+        @Test
+        @DisplayName("Flush : Updates are coalesced per task in a single bulk request")
+        void givenMultipleUpdates_whenFlush_thenSendsOneBulkUpdatePerTask() {
+            executionTimeWriter.enqueue("task-1", EXECUTION_TIME.minusHours(1));
+            executionTimeWriter.enqueue("task-1", EXECUTION_TIME);
+            executionTimeWriter.enqueue("task-2", EXECUTION_TIME.plusHours(1));
+
+            executionTimeWriter.flush();
+
+            List<UpdateQuery> queries = captureBulkUpdate();
+            assertThat(queries).extracting(UpdateQuery::getId).containsExactlyInAnyOrder("task-1", "task-2");
+            UpdateQuery taskQuery = queries.stream().filter(query -> query.getId().equals("task-1")).findFirst().orElseThrow();
+            assertThat(taskQuery.getDocument()).containsEntry("nextExecutionTime", "2025-03-01T10:30:00");
+            assertThat(executionTimeWriter.getPendingUpdateCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Flush : No pending updates")
+        void givenNoPendingUpdates_whenFlush_thenSkipsRequest() {
+            executionTimeWriter.flush();
+
+            verifyNoInteractions(elasticsearchOperations);
+        }
+
+        @Test
+        @DisplayName("Flush : Discarded task is not persisted")
+        void givenDiscardedTask_whenFlush_thenSkipsTask() {
+            executionTimeWriter.enqueue("task-1", EXECUTION_TIME);
+            executionTimeWriter.enqueue("task-2", EXECUTION_TIME);
+            executionTimeWriter.discard("task-1");
+
+            executionTimeWriter.flush();
+
+            assertThat(captureBulkUpdate()).extracting(UpdateQuery::getId).containsExactly("task-2");
+        }
+
+        @Test
+        @DisplayName("Flush : Failed updates are retried except for deleted tasks")
+        void givenPartialBulkFailure_whenFlush_thenRequeuesRetryableFailures() {
+            executionTimeWriter.enqueue("task-1", EXECUTION_TIME);
+            executionTimeWriter.enqueue("task-2", EXECUTION_TIME);
+            executionTimeWriter.enqueue("task-3", EXECUTION_TIME);
+            doThrow(new BulkFailureException("Bulk update failed", Map.of(
+                    "task-1", new BulkFailureException.FailureDetails(404, "document missing"),
+                    "task-2", new BulkFailureException.FailureDetails(429, "rejected execution"))))
+                    .when(elasticsearchOperations).bulkUpdate(anyList(), eq(ScheduledTask.class));
+
+            executionTimeWriter.flush();
+
+            assertThat(executionTimeWriter.getPendingUpdateCount()).isEqualTo(1);
+
+            reset(elasticsearchOperations);
+            executionTimeWriter.flush();
+            assertThat(captureBulkUpdate()).extracting(UpdateQuery::getId).containsExactly("task-2");
+        }
+
+        @Test
+        @DisplayName("Flush : Connection failure keeps all updates")
+        void givenConnectionFailure_whenFlush_thenRequeuesAllUpdates() {
+            executionTimeWriter.enqueue("task-1", EXECUTION_TIME);
+            executionTimeWriter.enqueue("task-2", EXECUTION_TIME);
+            doThrow(new RuntimeException("Connection refused"))
+                    .when(elasticsearchOperations).bulkUpdate(anyList(), eq(ScheduledTask.class));
+
+            executionTimeWriter.flush();
+
+            assertThat(executionTimeWriter.getPendingUpdateCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Flush : Newer value queued during a failed flush is kept")
+        void givenNewerValueQueued_whenFlushFails_thenKeepsNewerValue() {
+            executionTimeWriter.enqueue("task-1", EXECUTION_TIME);
+            doAnswer(invocation -> {
+                executionTimeWriter.enqueue("task-1", EXECUTION_TIME.plusHours(1));
+                throw new RuntimeException("Connection refused");
+            }).when(elasticsearchOperations).bulkUpdate(anyList(), eq(ScheduledTask.class));
+
+            executionTimeWriter.flush();
+
+            reset(elasticsearchOperations);
+            executionTimeWriter.flush();
+            assertThat(captureBulkUpdate().getFirst().getDocument()).containsEntry("nextExecutionTime", "2025-03-01T11:30:00");
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle")
+    class Lifecycle {
+
+        @Test
+        @DisplayName("Start : Periodic flush is scheduled")
+        void givenApplicationReady_whenStartPeriodicFlush_thenSchedulesFlush() {
+            executionTimeWriter.startPeriodicFlush();
+
+            verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofSeconds(5)));
+        }
+
+        @Test
+        @DisplayName("Shutdown : Pending updates are flushed")
+        void givenPendingUpdates_whenShutdown_thenFlushes() {
+            executionTimeWriter.enqueue("task-1", EXECUTION_TIME);
+
+            executionTimeWriter.shutdown();
+
+            assertThat(captureBulkUpdate()).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,511 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.SchedulerExecutorProperties;
+import gr.atc.modapto.dto.serviceInvocations.CrfInvocationInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewGroupingPredictiveMaintenanceInputDataDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessMonitoringKpisInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessRealTimeMonitoringInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSimulationInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewThresholdBasedMaintenanceInputDataDto;
+import gr.atc.modapto.dto.sew.MaintenanceDataDto;
+import gr.atc.modapto.enums.ScheduledTaskExecutionOutcome;
+import gr.atc.modapto.model.ScheduledTask;
+import gr.atc.modapto.model.ScheduledTaskExecution;
+import gr.atc.modapto.service.interfaces.IKhPickingSequenceOptimizationService;
+import gr.atc.modapto.service.interfaces.IPredictiveMaintenanceService;
+import gr.atc.modapto.service.interfaces.IProductionScheduleSimulationService;
+import gr.atc.modapto.service.interfaces.ISewSelfAwarenessService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledTaskExecutorRegistry Unit Tests")
+class ScheduledTaskExecutorRegistryTests {
+
+    private static final String SIMULATION_TYPE = ScheduledTaskExecutorRegistry.SEW_SIMULATION;
+
+    @Mock
+    private IPredictiveMaintenanceService predictiveMaintenanceService;
+
+    @Mock
+    private ISewSelfAwarenessService sewSelfAwarenessService;
+
+    @Mock
+    private IProductionScheduleSimulationService productionScheduleSimulationService;
+
+    @Mock
+    private IKhPickingSequenceOptimizationService khPickingSequenceOptimizationService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ScheduledTaskExecutionHistoryService executionHistoryService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ScheduledTaskExecutorRegistry executorRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executorRegistry = createRegistry(new SchedulerExecutorProperties(null, null, null, null, Duration.ZERO), new SyncTaskExecutor());
+    }
+
+    private ScheduledTaskExecutorRegistry createRegistry(SchedulerExecutorProperties properties, Executor executor) {
+        return new ScheduledTaskExecutorRegistry(predictiveMaintenanceService, sewSelfAwarenessService, productionScheduleSimulationService,
+                khPickingSequenceOptimizationService, executionHistoryService, new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                properties, executor, taskScheduler);
+    }
+
+    private ScheduledTask createTask(String id, String smartServiceType, Object requestBody) {
+        ScheduledTask task = new ScheduledTask();
+        task.setId(id);
+        task.setModuleId("TEST_MODULE");
+        task.setSmartServiceType(smartServiceType);
+        task.setRequestBody(requestBody);
+        task.setNextExecutionTime(LocalDateTime.now());
+        return task;
+    }
+
+    @Nested
+    @DisplayName("Task Routing")
+    class TaskRouting {
+
+        @Test
+        @DisplayName("Submit task : Threshold-based task invokes predictive maintenance")
+        void givenThresholdBasedTask_whenSubmit_thenInvokesService() {
+            SewThresholdBasedMaintenanceInputDataDto invocationData = SewThresholdBasedMaintenanceInputDataDto.builder()
+                    .moduleId("TEST_MODULE")
+                    .build();
+
+            CompletableFuture<Void> result = executorRegistry.submit(
+                    createTask("task-1", ScheduledTaskExecutorRegistry.THRESHOLD_BASED_PREDICTIVE_MAINTENANCE, invocationData));
+
+            assertThat(result).isCompleted();
+            verify(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(eq(invocationData), anyList());
+        }
+
+        @Test
+        @DisplayName("Submit task : Grouping task invokes grouping predictive maintenance")
+        void givenGroupingTask_whenSubmit_thenInvokesService() {
+            CompletableFuture<Void> result = executorRegistry.submit(createTask("task-1", ScheduledTaskExecutorRegistry.GROUPING_PREDICTIVE_MAINTENANCE,
+                    SewGroupingPredictiveMaintenanceInputDataDto.builder().moduleId("TEST_MODULE").build()));
+
+            assertThat(result).isCompleted();
+            verify(predictiveMaintenanceService).invokeGroupingPredictiveMaintenance(argThat(input -> "TEST_MODULE".equals(input.getModuleId())));
+        }
+
+        @Test
+        @DisplayName("Submit task : Monitoring KPIs task invokes self-awareness monitoring KPIs")
+        void givenMonitoringKpisTask_whenSubmit_thenInvokesService() {
+            CompletableFuture<Void> result = executorRegistry.submit(createTask("task-1", ScheduledTaskExecutorRegistry.SELF_AWARENESS_MONITORING_KPIS,
+                    SewSelfAwarenessMonitoringKpisInputDto.builder().moduleId("TEST_MODULE").build()));
+
+            assertThat(result).isCompleted();
+            verify(sewSelfAwarenessService).invokeSelfAwarenessMonitoringKpisAlgorithm(argThat(input -> "TEST_MODULE".equals(input.getModuleId())));
+        }
+
+        @Test
+        @DisplayName("Submit task : Real-time monitoring task invokes self-awareness real-time monitoring")
+        void givenRealTimeMonitoringTask_whenSubmit_thenInvokesService() {
+            CompletableFuture<Void> result = executorRegistry.submit(createTask("task-1", ScheduledTaskExecutorRegistry.SELF_AWARENESS_REAL_TIME_MONITORING,
+                    SewSelfAwarenessRealTimeMonitoringInputDto.builder().moduleId("TEST_MODULE").build()));
+
+            assertThat(result).isCompleted();
+            verify(sewSelfAwarenessService).invokeSelfAwarenessRealTimeMonitoringAlgorithm(argThat(input -> "TEST_MODULE".equals(input.getModuleId())));
+        }
+
+        @Test
+        @DisplayName("Submit task : Simulation task invokes simulation of production schedules")
+        void givenSimulationTask_whenSubmit_thenInvokesService() {
+            CompletableFuture<Void> result = executorRegistry.submit(createTask("task-1", SIMULATION_TYPE,
+                    SewSimulationInputDto.builder().moduleId("TEST_MODULE").build()));
+
+            assertThat(result).isCompleted();
+            verify(productionScheduleSimulationService).invokeSimulationOfProductionSchedules(argThat(input -> "TEST_MODULE".equals(input.getModuleId())));
+        }
+
+        @Test
+        @DisplayName("Submit task : CRF optimization task invokes optimization of KH picking sequence")
+        void givenCrfOptimizationTask_whenSubmit_thenInvokesService() {
+            CompletableFuture<Void> result = executorRegistry.submit(createTask("task-1", ScheduledTaskExecutorRegistry.CRF_OPTIMIZATION,
+                    CrfInvocationInputDto.builder().moduleId("TEST_MODULE").build()));
+
+            assertThat(result).isCompleted();
+            verify(khPickingSequenceOptimizationService).invokeOptimizationOfKhPickingSequence(argThat(input -> "TEST_MODULE".equals(input.getModuleId())));
+        }
+
+        @Test
+        @DisplayName("Submit task : Registered smart-service types are supported")
+        void givenRegisteredTypes_whenRetrieveSupportedTypes_thenContainsRegisteredTypes() {
+            assertThat(executorRegistry.retrieveSupportedTypes()).containsExactlyInAnyOrder(
+                    ScheduledTaskExecutorRegistry.THRESHOLD_BASED_PREDICTIVE_MAINTENANCE,
+                    ScheduledTaskExecutorRegistry.GROUPING_PREDICTIVE_MAINTENANCE,
+                    ScheduledTaskExecutorRegistry.SELF_AWARENESS_MONITORING_KPIS,
+                    ScheduledTaskExecutorRegistry.SELF_AWARENESS_REAL_TIME_MONITORING,
+                    ScheduledTaskExecutorRegistry.SEW_SIMULATION,
+                    ScheduledTaskExecutorRegistry.CRF_OPTIMIZATION);
+        }
+
+        @Test
+        @DisplayName("Submit task : Stored document is converted to the invocation input")
+        void givenGenericRequestBody_whenSubmit_thenConvertsToInvocationType() {
+            ScheduledTask task = createTask("task-1", SIMULATION_TYPE,
+                    Map.of("module", "TEST_MODULE", "smartService", "SIMULATION_SERVICE"));
+
+            executorRegistry.submit(task);
+
+            verify(productionScheduleSimulationService).invokeSimulationOfProductionSchedules(argThat(input ->
+                    "TEST_MODULE".equals(input.getModuleId()) && "SIMULATION_SERVICE".equals(input.getSmartServiceId())));
+            assertThat(task.getRequestBody()).isInstanceOf(SewSimulationInputDto.class);
+        }
+
+        @Test
+        @DisplayName("Submit task : Unknown smart-service type")
+        void givenUnknownType_whenSubmit_thenFails() {
+            CompletableFuture<Void> result = executorRegistry.submit(createTask("task-1", "UNKNOWN", new Object()));
+
+            assertThat(result).isCompletedExceptionally();
+            assertThat(executorRegistry.supports("UNKNOWN")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Submit task : Service failure is recorded")
+        void givenServiceFailure_whenSubmit_thenFailsAndRecordsDuration() {
+            doThrow(new RuntimeException("DTM unavailable"))
+                    .when(productionScheduleSimulationService).invokeSimulationOfProductionSchedules(any());
+
+            CompletableFuture<Void> result = executorRegistry.submit(
+                    createTask("task-1", SIMULATION_TYPE, new SewSimulationInputDto()));
+
+            assertThat(result).isCompletedExceptionally();
+            assertThat(meterRegistry.get("scheduled.tasks.duration")
+                    .tags("type", SIMULATION_TYPE, "outcome", "failure")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Register executor : Custom type can be scheduled")
+        void givenCustomExecutor_whenSubmit_thenInvokesIt() {
+            StringBuilder invocations = new StringBuilder();
+            executorRegistry.registerExecutor("CUSTOM", String.class, invocations::append);
+
+            executorRegistry.submit(createTask("task-1", "CUSTOM", "input"));
+
+            assertThat(invocations).hasToString("input");
+        }
+    }
+
+    @Nested
+    @DisplayName("Execution Pools")
+    class ExecutionPools {
+
+        @Test
+        @DisplayName("Execution pool : Full pool rejects new runs")
+        void givenFullPool_whenSubmit_thenRejects() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(productionScheduleSimulationService).invokeSimulationOfProductionSchedules(any());
+
+            meterRegistry = new SimpleMeterRegistry();
+            try (ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                ScheduledTaskExecutorRegistry registry = createRegistry(
+                        new SchedulerExecutorProperties(null, null, Map.of(SIMULATION_TYPE, 1),
+                                Map.of(SIMULATION_TYPE, 1), Duration.ZERO), virtualThreadExecutor);
+
+                CompletableFuture<Void> running = registry.submit(createTask("task-1", SIMULATION_TYPE, new SewSimulationInputDto()));
+                CompletableFuture<Void> queued = registry.submit(createTask("task-2", SIMULATION_TYPE, new SewSimulationInputDto()));
+                CompletableFuture<Void> rejected = registry.submit(createTask("task-3", SIMULATION_TYPE, new SewSimulationInputDto()));
+
+                assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+                assertThat(meterRegistry.get("scheduled.tasks.rejected")
+                        .tag("type", SIMULATION_TYPE).counter().count()).isEqualTo(1);
+
+                release.countDown();
+                CompletableFuture.allOf(running, queued).get(5, TimeUnit.SECONDS);
+            }
+            verify(productionScheduleSimulationService, times(2)).invokeSimulationOfProductionSchedules(any());
+        }
+
+        @Test
+        @DisplayName("Execution pool : Slow type does not block other types")
+        void givenSlowType_whenOtherTypeSubmitted_thenRunsIndependently() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(productionScheduleSimulationService).invokeSimulationOfProductionSchedules(any());
+
+            meterRegistry = new SimpleMeterRegistry();
+            try (ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                ScheduledTaskExecutorRegistry registry = createRegistry(
+                        new SchedulerExecutorProperties(1, 10, null, null, Duration.ZERO), virtualThreadExecutor);
+
+                for (int i = 0; i < 5; i++)
+                    registry.submit(createTask("simulation-" + i, SIMULATION_TYPE, new SewSimulationInputDto()));
+
+                CompletableFuture<Void> thresholdRun = registry.submit(createTask("threshold-task",
+                        ScheduledTaskExecutorRegistry.THRESHOLD_BASED_PREDICTIVE_MAINTENANCE, new SewThresholdBasedMaintenanceInputDataDto()));
+
+                thresholdRun.get(2, TimeUnit.SECONDS);
+                assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+                assertThat(meterRegistry.get("scheduled.tasks.queued")
+                        .tag("type", SIMULATION_TYPE).gauge().value()).isEqualTo(4);
+                release.countDown();
+            }
+            verify(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+        }
+
+        @Test
+        @DisplayName("Metrics : Lag and duration recorded per type")
+        void givenExecutedTask_whenCompleted_thenRecordsLagAndDuration() {
+            ScheduledTask task = createTask("task-1", ScheduledTaskExecutorRegistry.THRESHOLD_BASED_PREDICTIVE_MAINTENANCE,
+                    new SewThresholdBasedMaintenanceInputDataDto());
+            task.setNextExecutionTime(LocalDateTime.now().minusSeconds(30));
+
+            executorRegistry.submit(task);
+
+            assertThat(meterRegistry.get("scheduled.tasks.lag")
+                    .tag("type", ScheduledTaskExecutorRegistry.THRESHOLD_BASED_PREDICTIVE_MAINTENANCE)
+                    .timer().totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(29);
+            assertThat(meterRegistry.get("scheduled.tasks.duration")
+                    .tags("type", ScheduledTaskExecutorRegistry.THRESHOLD_BASED_PREDICTIVE_MAINTENANCE, "outcome", "success")
+                    .timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Execution History")
+    class ExecutionHistory {
+
+        private ScheduledTaskExecution captureExecution() {
+            ArgumentCaptor<ScheduledTaskExecution> executionCaptor = ArgumentCaptor.forClass(ScheduledTaskExecution.class);
+            verify(executionHistoryService).record(executionCaptor.capture());
+            return executionCaptor.getValue();
+        }
+
+        @Test
+        @DisplayName("Execution history : Successful run is recorded")
+        void givenSuccessfulRun_whenCompleted_thenRecordsExecution() {
+            when(executionHistoryService.isEnabled()).thenReturn(true);
+            ScheduledTask task = createTask("task-1", SIMULATION_TYPE, new SewSimulationInputDto());
+            task.setNextExecutionTime(LocalDateTime.now().minusSeconds(10));
+
+            executorRegistry.submit(task);
+
+            ScheduledTaskExecution execution = captureExecution();
+            assertThat(execution.getTaskId()).isEqualTo("task-1");
+            assertThat(execution.getSmartServiceType()).isEqualTo(SIMULATION_TYPE);
+            assertThat(execution.getModuleId()).isEqualTo("TEST_MODULE");
+            assertThat(execution.getOutcome()).isEqualTo(ScheduledTaskExecutionOutcome.SUCCESS);
+            assertThat(execution.getScheduledTime()).isEqualTo(task.getNextExecutionTime());
+            assertThat(execution.getLagMillis()).isGreaterThanOrEqualTo(10_000);
+            assertThat(execution.getDurationMillis()).isNotNegative();
+            assertThat(execution.getPayloadSize()).isPositive();
+            assertThat(execution.getError()).isNull();
+        }
+
+        @Test
+        @DisplayName("Execution history : Failed run is recorded with its error")
+        void givenFailedRun_whenCompleted_thenRecordsFailure() {
+            when(executionHistoryService.isEnabled()).thenReturn(true);
+            doThrow(new RuntimeException("DTM unavailable"))
+                    .when(productionScheduleSimulationService).invokeSimulationOfProductionSchedules(any());
+
+            executorRegistry.submit(createTask("task-1", SIMULATION_TYPE, new SewSimulationInputDto()));
+
+            ScheduledTaskExecution execution = captureExecution();
+            assertThat(execution.getOutcome()).isEqualTo(ScheduledTaskExecutionOutcome.FAILURE);
+            assertThat(execution.getError()).isEqualTo("DTM unavailable");
+        }
+
+        @Test
+        @DisplayName("Execution history : Rejected run is recorded")
+        void givenFullPool_whenSubmit_thenRecordsRejection() {
+            when(executionHistoryService.isEnabled()).thenReturn(true);
+            ScheduledTaskExecutorRegistry registry = createRegistry(new SchedulerExecutorProperties(1, 0, null, null, Duration.ZERO),
+                    command -> { });
+
+            registry.submit(createTask("task-1", SIMULATION_TYPE, new SewSimulationInputDto()));
+            registry.submit(createTask("task-2", SIMULATION_TYPE, new SewSimulationInputDto()));
+
+            ScheduledTaskExecution execution = captureExecution();
+            assertThat(execution.getTaskId()).isEqualTo("task-2");
+            assertThat(execution.getOutcome()).isEqualTo(ScheduledTaskExecutionOutcome.REJECTED);
+        }
+
+        @Test
+        @DisplayName("Execution history : Disabled history records nothing")
+        void givenDisabledHistory_whenCompleted_thenSkipsRecord() {
+            executorRegistry.submit(createTask("task-1", SIMULATION_TYPE, new SewSimulationInputDto()));
+
+            verify(executionHistoryService, never()).record(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Run Coalescing")
+    class RunCoalescing {
+
+        private static final Duration COALESCING_WINDOW = Duration.ofSeconds(30);
+
+        private ScheduledTaskExecutorRegistry coalescingRegistry;
+
+        @BeforeEach
+        void setUp() {
+            meterRegistry = new SimpleMeterRegistry();
+            coalescingRegistry = createRegistry(new SchedulerExecutorProperties(null, null, null, null, COALESCING_WINDOW), new SyncTaskExecutor());
+        }
+
+        @SuppressWarnings("unchecked")
+        private Runnable captureBatchDispatch(int invocations) {
+            ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+            verify(taskScheduler, times(invocations)).schedule(runnableCaptor.capture(), any(Instant.class));
+            return runnableCaptor.getValue();
+        }
+
+        private ScheduledTask createThresholdTask(int index) {
+            return createTask("task-" + index, ScheduledTaskExecutorRegistry.THRESHOLD_BASED_PREDICTIVE_MAINTENANCE,
+                    SewThresholdBasedMaintenanceInputDataDto.builder().moduleId("MODULE_" + index).build());
+        }
+
+        @Test
+        @DisplayName("Coalescing : Runs within the window share a single snapshot")
+        void givenRunsWithinWindow_whenBatchDispatched_thenLoadsSnapshotOnce() {
+            List<MaintenanceDataDto> maintenanceEvents = List.of(new MaintenanceDataDto());
+            when(predictiveMaintenanceService.retrieveThresholdBasedMaintenanceEvents()).thenReturn(maintenanceEvents);
+
+            List<CompletableFuture<Void>> results = IntStream.range(0, 10)
+                    .mapToObj(i -> coalescingRegistry.submit(createThresholdTask(i)))
+                    .toList();
+
+            assertThat(results).noneMatch(CompletableFuture::isDone);
+            verifyNoInteractions(predictiveMaintenanceService);
+
+            captureBatchDispatch(1).run();
+
+            assertThat(results).allMatch(result -> result.isDone() && !result.isCompletedExceptionally());
+            verify(predictiveMaintenanceService, times(1)).retrieveThresholdBasedMaintenanceEvents();
+            verify(predictiveMaintenanceService, times(10)).invokeThresholdBasedPredictiveMaintenance(any(), same(maintenanceEvents));
+            assertThat(meterRegistry.get("scheduled.tasks.batch.size")
+                    .tag("type", ScheduledTaskExecutorRegistry.THRESHOLD_BASED_PREDICTIVE_MAINTENANCE)
+                    .summary().max()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Coalescing : Stored invocation input is not modified by the runs")
+        void givenCoalescedRun_whenBatchDispatched_thenStoredInputKeepsNoEvents() {
+            List<MaintenanceDataDto> maintenanceEvents = List.of(new MaintenanceDataDto());
+            when(predictiveMaintenanceService.retrieveThresholdBasedMaintenanceEvents()).thenReturn(maintenanceEvents);
+            doAnswer(invocation -> {
+                invocation.<SewThresholdBasedMaintenanceInputDataDto>getArgument(0).setEvents(invocation.getArgument(1));
+                return null;
+            }).when(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+            ScheduledTask task = createThresholdTask(1);
+
+            coalescingRegistry.submit(task);
+            captureBatchDispatch(1).run();
+
+            ArgumentCaptor<SewThresholdBasedMaintenanceInputDataDto> inputCaptor = ArgumentCaptor.forClass(SewThresholdBasedMaintenanceInputDataDto.class);
+            verify(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(inputCaptor.capture(), same(maintenanceEvents));
+            assertThat(inputCaptor.getValue()).isNotSameAs(task.getRequestBody());
+            assertThat(inputCaptor.getValue().getModuleId()).isEqualTo("MODULE_1");
+            assertThat(((SewThresholdBasedMaintenanceInputDataDto) task.getRequestBody()).getEvents()).isNull();
+        }
+
+        @Test
+        @DisplayName("Coalescing : Disabled by default")
+        void givenDefaultProperties_whenSubmit_thenRunsImmediately() {
+            ScheduledTaskExecutorRegistry registry = createRegistry(new SchedulerExecutorProperties(null, null, null, null, null), new SyncTaskExecutor());
+
+            CompletableFuture<Void> result = registry.submit(createThresholdTask(1));
+
+            assertThat(result).isCompleted();
+            verifyNoInteractions(taskScheduler);
+            verify(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+        }
+
+        @Test
+        @DisplayName("Coalescing : Group is dispatched within the window")
+        void givenFirstRun_whenSubmit_thenSchedulesDispatchWithinWindow() {
+            Instant before = Instant.now();
+
+            coalescingRegistry.submit(createThresholdTask(1));
+
+            ArgumentCaptor<Instant> instantCaptor = ArgumentCaptor.forClass(Instant.class);
+            verify(taskScheduler).schedule(any(Runnable.class), instantCaptor.capture());
+            assertThat(instantCaptor.getValue()).isBetween(before, Instant.now().plus(COALESCING_WINDOW));
+        }
+
+        @Test
+        @DisplayName("Coalescing : Runs after the dispatch open a new group")
+        void givenDispatchedGroup_whenNewRunSubmitted_thenOpensNewGroup() {
+            coalescingRegistry.submit(createThresholdTask(1));
+            captureBatchDispatch(1).run();
+
+            coalescingRegistry.submit(createThresholdTask(2));
+            captureBatchDispatch(2).run();
+
+            verify(predictiveMaintenanceService, times(2)).retrieveThresholdBasedMaintenanceEvents();
+            verify(predictiveMaintenanceService, times(2)).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+        }
+
+        @Test
+        @DisplayName("Coalescing : Snapshot failure fails every run of the group")
+        void givenSnapshotFailure_whenBatchDispatched_thenFailsAllRuns() {
+            when(predictiveMaintenanceService.retrieveThresholdBasedMaintenanceEvents()).thenThrow(new RuntimeException("Elasticsearch unavailable"));
+
+            CompletableFuture<Void> first = coalescingRegistry.submit(createThresholdTask(1));
+            CompletableFuture<Void> second = coalescingRegistry.submit(createThresholdTask(2));
+            captureBatchDispatch(1).run();
+
+            assertThat(first).isCompletedExceptionally();
+            assertThat(second).isCompletedExceptionally();
+            verify(predictiveMaintenanceService, never()).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+        }
+
+        @Test
+        @DisplayName("Coalescing : Types without shared inputs run immediately")
+        void givenTypeWithoutSnapshot_whenSubmit_thenRunsImmediately() {
+            CompletableFuture<Void> result = coalescingRegistry.submit(
+                    createTask("task-1", SIMULATION_TYPE, new SewSimulationInputDto()));
+
+            assertThat(result).isCompleted();
+            verifyNoInteractions(taskScheduler);
+            verify(productionScheduleSimulationService).invokeSimulationOfProductionSchedules(any());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.SchedulerClusterProperties;
+import gr.atc.modapto.model.ScheduledTaskLease;
+import gr.atc.modapto.model.SchedulerInstance;
+import gr.atc.modapto.repository.ScheduledTaskLeaseRepository;
+import gr.atc.modapto.repository.SchedulerInstanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.elasticsearch.VersionConflictException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledTaskLeaseService Unit Tests")
+class ScheduledTaskLeaseServiceTests {
+
+    @Mock
+    private ScheduledTaskLeaseRepository leaseRepository;
+
+    @Mock
+    private SchedulerInstanceRepository instanceRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private ScheduledTaskLeaseService leaseService;
+
+    private static final String INSTANCE_ID = "eds-1";
+    private static final String OTHER_INSTANCE_ID = "eds-2";
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+
+    @BeforeEach
+    void setUp() {
+        leaseService = createLeaseService(INSTANCE_ID, true);
+    }
+
+    private ScheduledTaskLeaseService createLeaseService(String instanceId, boolean enabled) {
+        SchedulerClusterProperties properties = new SchedulerClusterProperties(enabled, instanceId, null, null, null);
+        return new ScheduledTaskLeaseService(leaseRepository, instanceRepository, elasticsearchOperations, taskScheduler, properties);
+    }
+
+    private ScheduledTaskLease createLease(String owner, LocalDateTime expiresAt) {
+        return ScheduledTaskLease.builder()
+                .id("task-1")
+                .owner(owner)
+                .acquiredAt(LocalDateTime.now().minusMinutes(10))
+                .expiresAt(expiresAt)
+                .seqNoPrimaryTerm(new SeqNoPrimaryTerm(5, 1))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Acquire Lease")
+    class AcquireLease {
+
+        @Test
+        @DisplayName("Acquire lease : No existing lease creates it")
+        void givenNoLease_whenTryAcquireLease_thenCreatesLeaseWithCreateOperation() {
+            IndexCoordinates coordinates = IndexCoordinates.of("scheduled-task-leases");
+            when(leaseRepository.findById("task-1")).thenReturn(Optional.empty());
+            when(elasticsearchOperations.getIndexCoordinatesFor(ScheduledTaskLease.class)).thenReturn(coordinates);
+
+            boolean acquired = leaseService.tryAcquireLease("task-1", LEASE_DURATION);
+
+            ArgumentCaptor<IndexQuery> queryCaptor = ArgumentCaptor.forClass(IndexQuery.class);
+            verify(elasticsearchOperations).index(queryCaptor.capture(), eq(coordinates));
+            assertThat(acquired).isTrue();
+            assertThat(queryCaptor.getValue().getOpType()).isEqualTo(IndexQuery.OpType.CREATE);
+            assertThat(((ScheduledTaskLease) queryCaptor.getValue().getObject()).getOwner()).isEqualTo(INSTANCE_ID);
+        }
+
+        @Test
+        @DisplayName("Acquire lease : Concurrent creation by another instance")
+        void givenConcurrentCreation_whenTryAcquireLease_thenReturnsFalse() {
+            when(leaseRepository.findById("task-1")).thenReturn(Optional.empty());
+            when(elasticsearchOperations.index(any(IndexQuery.class), any()))
+                    .thenThrow(new VersionConflictException("document already exists"));
+
+            assertThat(leaseService.tryAcquireLease("task-1", LEASE_DURATION)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Acquire lease : Own lease is renewed")
+        void givenOwnLease_whenTryAcquireLease_thenRenewsLease() {
+            ScheduledTaskLease lease = createLease(INSTANCE_ID, LocalDateTime.now().plusMinutes(5));
+            when(leaseRepository.findById("task-1")).thenReturn(Optional.of(lease));
+
+            boolean acquired = leaseService.tryAcquireLease("task-1", LEASE_DURATION);
+
+            assertThat(acquired).isTrue();
+            verify(leaseRepository).save(lease);
+            assertThat(lease.getSeqNoPrimaryTerm()).isEqualTo(new SeqNoPrimaryTerm(5, 1));
+            assertThat(lease.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(29));
+        }
+
+        @Test
+        @DisplayName("Acquire lease : Active lease of another instance")
+        void givenActiveForeignLease_whenTryAcquireLease_thenReturnsFalse() {
+            ScheduledTaskLease lease = createLease(OTHER_INSTANCE_ID, LocalDateTime.now().plusMinutes(5));
+            when(leaseRepository.findById("task-1")).thenReturn(Optional.of(lease));
+
+            assertThat(leaseService.tryAcquireLease("task-1", LEASE_DURATION)).isFalse();
+            verify(leaseRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Acquire lease : Expired lease of a dead instance is taken over")
+        void givenExpiredForeignLease_whenTryAcquireLease_thenTakesOverLease() {
+            ScheduledTaskLease lease = createLease(OTHER_INSTANCE_ID, LocalDateTime.now().minusMinutes(1));
+            when(leaseRepository.findById("task-1")).thenReturn(Optional.of(lease));
+
+            boolean acquired = leaseService.tryAcquireLease("task-1", LEASE_DURATION);
+
+            assertThat(acquired).isTrue();
+            assertThat(lease.getOwner()).isEqualTo(INSTANCE_ID);
+            verify(leaseRepository).save(lease);
+        }
+
+        @Test
+        @DisplayName("Acquire lease : Concurrent take over by another instance")
+        void givenSequenceNumberConflict_whenTryAcquireLease_thenReturnsFalse() {
+            ScheduledTaskLease lease = createLease(OTHER_INSTANCE_ID, LocalDateTime.now().minusMinutes(1));
+            when(leaseRepository.findById("task-1")).thenReturn(Optional.of(lease));
+            when(leaseRepository.save(lease)).thenThrow(new OptimisticLockingFailureException("seq_no conflict"));
+
+            assertThat(leaseService.tryAcquireLease("task-1", LEASE_DURATION)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Acquire lease : Repository failure")
+        void givenRepositoryFailure_whenTryAcquireLease_thenReturnsFalse() {
+            when(leaseRepository.findById("task-1")).thenThrow(new RuntimeException("Connection refused"));
+
+            assertThat(leaseService.tryAcquireLease("task-1", LEASE_DURATION)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Acquire lease : Cluster mode disabled")
+        void givenClusterModeDisabled_whenTryAcquireLease_thenAlwaysAcquires() {
+            ScheduledTaskLeaseService standaloneService = createLeaseService(INSTANCE_ID, false);
+
+            assertThat(standaloneService.tryAcquireLease("task-1", LEASE_DURATION)).isTrue();
+            verifyNoInteractions(leaseRepository, elasticsearchOperations);
+        }
+
+        @Test
+        @DisplayName("Cluster properties : Cluster mode disabled by default")
+        void givenMissingClusterProperties_whenCreated_thenClusterModeIsDisabled() {
+            SchedulerClusterProperties properties = new SchedulerClusterProperties(null, null, null, null, null);
+
+            assertThat(properties.enabled()).isFalse();
+            assertThat(properties.instanceId()).isNotBlank();
+        }
+    }
+
+    @Nested
+    @DisplayName("Task Distribution")
+    class TaskDistribution {
+
+        @Test
+        @DisplayName("Preferred owner : Single instance owns every task")
+        void givenSingleInstance_whenIsPreferredOwner_thenReturnsTrue() {
+            assertThat(IntStream.range(0, 100).allMatch(i -> leaseService.isPreferredOwner("task-" + i))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Preferred owner : Tasks are spread across live instances")
+        void givenMultipleLiveInstances_whenIsPreferredOwner_thenEachTaskHasExactlyOneOwner() {
+            List<String> instanceIds = List.of("eds-1", "eds-2", "eds-3");
+            List<SchedulerInstance> liveInstances = instanceIds.stream()
+                    .map(id -> SchedulerInstance.builder().id(id).expiresAt(LocalDateTime.now().plusSeconds(30)).build())
+                    .toList();
+            when(instanceRepository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(liveInstances);
+
+            List<ScheduledTaskLeaseService> services = instanceIds.stream()
+                    .map(id -> createLeaseService(id, true))
+                    .toList();
+            services.forEach(ScheduledTaskLeaseService::sendHeartbeat);
+
+            int[] ownedTasks = new int[services.size()];
+            for (int i = 0; i < 3000; i++) {
+                String taskId = "task-" + i;
+                int owners = 0;
+                for (int s = 0; s < services.size(); s++) {
+                    if (services.get(s).isPreferredOwner(taskId)) {
+                        owners++;
+                        ownedTasks[s]++;
+                    }
+                }
+                assertThat(owners).isEqualTo(1);
+            }
+
+            for (int owned : ownedTasks)
+                assertThat(owned).isBetween(700, 1300);
+        }
+
+        @Test
+        @DisplayName("Preferred owner : Tasks of a dead instance move to survivors")
+        void givenInstanceDied_whenIsPreferredOwner_thenSurvivorsOwnItsTasks() {
+            SchedulerInstance self = SchedulerInstance.builder().id(INSTANCE_ID).build();
+            SchedulerInstance other = SchedulerInstance.builder().id(OTHER_INSTANCE_ID).build();
+            when(instanceRepository.findByExpiresAtAfter(any(LocalDateTime.class)))
+                    .thenReturn(List.of(self, other))
+                    .thenReturn(List.of(self));
+
+            leaseService.sendHeartbeat();
+            List<String> foreignTasks = IntStream.range(0, 100)
+                    .mapToObj(i -> "task-" + i)
+                    .filter(taskId -> !leaseService.isPreferredOwner(taskId))
+                    .toList();
+
+            leaseService.sendHeartbeat();
+
+            assertThat(foreignTasks).isNotEmpty();
+            assertThat(foreignTasks).allMatch(leaseService::isPreferredOwner);
+        }
+
+        @Test
+        @DisplayName("Heartbeat : Registers instance with expiry")
+        void givenHeartbeat_whenSendHeartbeat_thenStoresInstance() {
+            when(instanceRepository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(List.of());
+
+            leaseService.sendHeartbeat();
+
+            ArgumentCaptor<SchedulerInstance> instanceCaptor = ArgumentCaptor.forClass(SchedulerInstance.class);
+            verify(instanceRepository).save(instanceCaptor.capture());
+            assertThat(instanceCaptor.getValue().getId()).isEqualTo(INSTANCE_ID);
+            assertThat(instanceCaptor.getValue().getExpiresAt()).isAfter(instanceCaptor.getValue().getLastHeartbeat());
+        }
+
+        @Test
+        @DisplayName("Shutdown : Instance leaves the cluster")
+        void givenShutdown_whenShutdown_thenDeletesInstance() {
+            leaseService.shutdown();
+
+            verify(instanceRepository).deleteById(INSTANCE_ID);
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package gr.atc.modapto.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.SchedulerExecutorProperties;
+import gr.atc.modapto.config.properties.SchedulerRecoveryProperties;
 import gr.atc.modapto.dto.ScheduledTaskDto;
+import gr.atc.modapto.dto.ScheduledTaskRecoveryStatusDto;
 import gr.atc.modapto.dto.serviceInvocations.SewThresholdBasedMaintenanceInputDataDto;
 import gr.atc.modapto.enums.FrequencyType;
+import gr.atc.modapto.enums.MissedRunPolicy;
 import gr.atc.modapto.model.ScheduledTask;
 import gr.atc.modapto.repository.ScheduledTaskRepository;
+import gr.atc.modapto.service.interfaces.IKhPickingSequenceOptimizationService;
 import gr.atc.modapto.service.interfaces.IPredictiveMaintenanceService;
+import gr.atc.modapto.service.interfaces.IProductionScheduleSimulationService;
+import gr.atc.modapto.service.interfaces.ISewSelfAwarenessService;
 import gr.atc.modapto.exception.CustomExceptions.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.MappingException;
 import org.modelmapper.ModelMapper;
@@ -21,13 +31,22 @@ import org.modelmapper.spi.ErrorMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -49,11 +68,34 @@ class ScheduledTaskServiceTests {
     @Mock
     private IPredictiveMaintenanceService predictiveMaintenanceService;
 
+    @Mock
+    private ISewSelfAwarenessService sewSelfAwarenessService;
+
+    @Mock
+    private IProductionScheduleSimulationService productionScheduleSimulationService;
+
+    @Mock
+    private IKhPickingSequenceOptimizationService khPickingSequenceOptimizationService;
+
+    @Mock
+    private ScheduledTaskLeaseService leaseService;
+
+    @Mock
+    private ScheduledTaskExecutionTimeWriter executionTimeWriter;
+
+    @Mock
+    private ScheduledTaskExecutionHistoryService executionHistoryService;
+
     @Mock
     @SuppressWarnings("rawtypes")
     private ScheduledFuture scheduledFuture;
 
-    @InjectMocks
+    @Spy
+    private SchedulerRecoveryProperties recoveryProperties = new SchedulerRecoveryProperties(MissedRunPolicy.CATCH_UP, Duration.ZERO, 2);
+
+    @Spy
+    private Executor taskExecutor = new SyncTaskExecutor();
+
     private ScheduledTaskService scheduledTaskService;
 
     private ScheduledTaskDto sampleTaskDto;
@@ -61,8 +103,19 @@ class ScheduledTaskServiceTests {
     private SewThresholdBasedMaintenanceInputDataDto sampleThresholdData;
     private static final String THRESHOLD_BASED_SERVICE_TYPE = "THRESHOLD_BASED_PREDICTIVE_MAINTENANCE";
 
+    private ScheduledTaskService createService(SchedulerRecoveryProperties properties, Executor executor) {
+        ScheduledTaskExecutorRegistry executorRegistry = new ScheduledTaskExecutorRegistry(predictiveMaintenanceService,
+                sewSelfAwarenessService, productionScheduleSimulationService, khPickingSequenceOptimizationService,
+                executionHistoryService, new ObjectMapper(), new SimpleMeterRegistry(), new SchedulerExecutorProperties(null, null, null, null, Duration.ZERO),
+                executor, taskScheduler);
+        return new ScheduledTaskService(taskRepository, taskScheduler, modelMapper, executorRegistry,
+                leaseService, executionTimeWriter, executionHistoryService, properties, executor);
+    }
+
     @BeforeEach
     void setUp() {
+        scheduledTaskService = createService(recoveryProperties, taskExecutor);
+
         sampleThresholdData = SewThresholdBasedMaintenanceInputDataDto.builder()
                 .moduleId("TEST_MODULE")
                 .smartServiceId("THRESHOLD_SERVICE")
@@ -114,6 +167,17 @@ class ScheduledTaskServiceTests {
             verify(taskScheduler).schedule(any(Runnable.class), any(java.time.Instant.class));
         }
 
+        @Test
+        @DisplayName("Register scheduled task : Unsupported smart service type")
+        void givenUnsupportedType_whenRegisterScheduledTask_thenReturnsFalse() {
+            sampleTaskDto.setSmartServiceType("UNKNOWN_SERVICE");
+
+            boolean result = scheduledTaskService.registerScheduledTask(sampleTaskDto);
+
+            assertThat(result).isFalse();
+            verifyNoInteractions(taskRepository, taskScheduler);
+        }
+
 
         @Test
         @DisplayName("Register scheduled task : Mapping exception")
@@ -337,16 +401,16 @@ class ScheduledTaskServiceTests {
 
             when(taskRepository.findAll(any(Pageable.class)))
                     .thenReturn(new PageImpl<>(List.of(overdueTask)));
-            when(taskRepository.save(any(ScheduledTask.class)))
-                    .thenReturn(overdueTask);
+            when(leaseService.tryAcquireLease(eq("overdue-task"), any(Duration.class))).thenReturn(true);
+            executeDueRunsImmediately();
             //when(taskScheduler.schedule(any(Runnable.class), any(java.time.Instant.class)))
             //        .thenReturn((ScheduledFuture<?>) scheduledFuture);
 
             scheduledTaskService.initializeScheduledTasks();
 
             verify(taskRepository).findAll(any(Pageable.class));
-            // Overdue task should be executed and rescheduled
-            verify(taskRepository, atLeastOnce()).save(any(ScheduledTask.class));
+            // Overdue task should be executed and rescheduled, with its next execution time persisted in bulk
+            verify(executionTimeWriter, atLeastOnce()).enqueue(eq("overdue-task"), any(LocalDateTime.class));
         }
 
         @Test
@@ -373,4 +437,364 @@ class ScheduledTaskServiceTests {
             verify(taskRepository).findAll(any(Pageable.class));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Cluster Lease Ownership")
+    class ClusterLeaseOwnership {
+
+        private ScheduledTask createOverdueTask(String taskId) {
+            ScheduledTask task = new ScheduledTask();
+            task.setId(taskId);
+            task.setModuleId("TEST_MODULE");
+            task.setSmartServiceType(THRESHOLD_BASED_SERVICE_TYPE);
+            task.setRequestBody(sampleThresholdData);
+            task.setFrequencyType(FrequencyType.HOURS);
+            task.setFrequencyValue(2);
+            task.setNextExecutionTime(LocalDateTime.now().minusMinutes(5));
+            return task;
+        }
+
+        @Test
+        @DisplayName("Execute task : Lease acquired with half period duration")
+        void givenLeaseAcquired_whenTaskIsDue_thenExecutesTask() throws Exception {
+            ScheduledTask overdueTask = createOverdueTask("owned-task");
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(overdueTask)));
+            when(leaseService.tryAcquireLease("owned-task", Duration.ofHours(1))).thenReturn(true);
+            executeDueRunsImmediately();
+
+            scheduledTaskService.initializeScheduledTasks();
+
+            verify(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(eq(sampleThresholdData), anyList());
+            verify(executionTimeWriter).enqueue("owned-task", overdueTask.getNextExecutionTime());
+            verify(taskRepository, never()).save(any(ScheduledTask.class));
+        }
+
+        @Test
+        @DisplayName("Execute task : Lease held by another instance")
+        void givenLeaseNotAcquired_whenTaskIsDue_thenSkipsExecutionAndFollowsOwnerSchedule() throws Exception {
+            ScheduledTask overdueTask = createOverdueTask("foreign-task");
+            ScheduledTask ownerTask = createOverdueTask("foreign-task");
+            ownerTask.setNextExecutionTime(LocalDateTime.now().plusHours(2));
+
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(overdueTask)));
+            when(leaseService.tryAcquireLease(eq("foreign-task"), any(Duration.class))).thenReturn(false);
+            when(taskRepository.findById("foreign-task")).thenReturn(Optional.of(ownerTask));
+            executeDueRunsImmediately();
+
+            scheduledTaskService.initializeScheduledTasks();
+
+            verify(predictiveMaintenanceService, never()).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+            verify(taskRepository, never()).save(any(ScheduledTask.class));
+            verifyNoInteractions(executionTimeWriter);
+            verify(taskScheduler).schedule(any(Runnable.class),
+                    eq(ownerTask.getNextExecutionTime().atZone(java.time.ZoneId.systemDefault()).toInstant()));
+        }
+
+        @Test
+        @DisplayName("Synchronize tasks : Schedules tasks registered by other instances")
+        void givenTaskRegisteredElsewhere_whenSynchronizeScheduledTasks_thenSchedulesTask() {
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(sampleTaskEntity)));
+
+            scheduledTaskService.synchronizeScheduledTasks();
+
+            verify(taskScheduler).schedule(any(Runnable.class), any(java.time.Instant.class));
+        }
+
+        @Test
+        @DisplayName("Synchronize tasks : Cancels tasks deleted by other instances")
+        @SuppressWarnings("unchecked")
+        void givenTaskDeletedElsewhere_whenSynchronizeScheduledTasks_thenCancelsTask() {
+            when(taskRepository.findAll(any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(sampleTaskEntity)))
+                    .thenReturn(new PageImpl<>(Collections.emptyList()));
+            when(taskScheduler.schedule(any(Runnable.class), any(java.time.Instant.class)))
+                    .thenReturn(scheduledFuture);
+
+            scheduledTaskService.synchronizeScheduledTasks();
+            scheduledTaskService.synchronizeScheduledTasks();
+
+            verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(java.time.Instant.class));
+            verify(scheduledFuture).cancel(false);
+        }
+
+        @Test
+        @DisplayName("Synchronize tasks : Already scheduled tasks are kept")
+        @SuppressWarnings("unchecked")
+        void givenTaskAlreadyScheduled_whenSynchronizeScheduledTasks_thenDoesNotReschedule() {
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(sampleTaskEntity)));
+            when(taskScheduler.schedule(any(Runnable.class), any(java.time.Instant.class)))
+                    .thenReturn(scheduledFuture);
+
+            scheduledTaskService.synchronizeScheduledTasks();
+            scheduledTaskService.synchronizeScheduledTasks();
+
+            verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(java.time.Instant.class));
+        }
+
+        @Test
+        @DisplayName("Synchronize tasks : Running tasks are not scheduled again")
+        @SuppressWarnings("unchecked")
+        void givenTaskRunning_whenSynchronizeScheduledTasks_thenDoesNotReschedule() {
+            List<Runnable> queuedRuns = new ArrayList<>();
+            ScheduledTaskService service = createService(recoveryProperties, queuedRuns::add);
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(sampleTaskEntity)));
+            when(taskScheduler.schedule(any(Runnable.class), any(java.time.Instant.class))).thenReturn(scheduledFuture);
+            when(leaseService.tryAcquireLease(eq("task-1"), any(Duration.class))).thenReturn(true);
+
+            service.synchronizeScheduledTasks();
+            ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+            verify(taskScheduler).schedule(runnableCaptor.capture(), any(java.time.Instant.class));
+
+            // The run has fired and waits in the pool of its type
+            when(scheduledFuture.isDone()).thenReturn(true);
+            runnableCaptor.getValue().run();
+            service.synchronizeScheduledTasks();
+
+            verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(java.time.Instant.class));
+
+            // The completed run reschedules the task once
+            queuedRuns.forEach(Runnable::run);
+            verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(java.time.Instant.class));
+            verify(executionTimeWriter).enqueue(eq("task-1"), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Delete scheduled task : Running task is not rescheduled")
+        @SuppressWarnings("unchecked")
+        void givenTaskRunning_whenDeleteScheduledTask_thenRunDoesNotReschedule() {
+            List<Runnable> queuedRuns = new ArrayList<>();
+            ScheduledTaskService service = createService(recoveryProperties, queuedRuns::add);
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(sampleTaskEntity)));
+            when(taskRepository.findById("task-1")).thenReturn(Optional.of(sampleTaskEntity));
+            when(taskScheduler.schedule(any(Runnable.class), any(java.time.Instant.class))).thenReturn(scheduledFuture);
+            when(leaseService.tryAcquireLease(eq("task-1"), any(Duration.class))).thenReturn(true);
+
+            service.synchronizeScheduledTasks();
+            ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+            verify(taskScheduler).schedule(runnableCaptor.capture(), any(java.time.Instant.class));
+            runnableCaptor.getValue().run();
+
+            service.deleteScheduledTaskById("task-1");
+            queuedRuns.forEach(Runnable::run);
+
+            verify(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(eq(sampleThresholdData), anyList());
+            verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(java.time.Instant.class));
+            verify(executionTimeWriter, never()).enqueue(anyString(), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Delete scheduled task : Lease is deleted")
+        void givenValidTaskId_whenDeleteScheduledTask_thenDeletesLease() {
+            when(taskRepository.findById("task-1")).thenReturn(Optional.of(sampleTaskEntity));
+
+            scheduledTaskService.deleteScheduledTaskById("task-1");
+
+            verify(leaseService).deleteLease("task-1");
+            verify(executionTimeWriter).discard("task-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Start-up Recovery")
+    class StartupRecovery {
+
+        private List<ScheduledTask> createOverdueTasks(int count) {
+            return IntStream.range(0, count)
+                    .mapToObj(i -> {
+                        ScheduledTask task = new ScheduledTask();
+                        task.setId("overdue-task-" + i);
+                        task.setModuleId("TEST_MODULE");
+                        task.setSmartServiceType(THRESHOLD_BASED_SERVICE_TYPE);
+                        task.setRequestBody(sampleThresholdData);
+                        task.setFrequencyType(FrequencyType.HOURS);
+                        task.setFrequencyValue(1);
+                        task.setNextExecutionTime(LocalDateTime.now().minusHours(3));
+                        return task;
+                    })
+                    .toList();
+        }
+
+        @Test
+        @DisplayName("Recover overdue tasks : Catch-up runs spread over the window")
+        void givenCatchUpPolicy_whenInitializeScheduledTasks_thenSpreadsRunsOverCatchUpWindow() {
+            ScheduledTaskService service = createService(
+                    new SchedulerRecoveryProperties(MissedRunPolicy.CATCH_UP, Duration.ofMinutes(10), 2), taskExecutor);
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(createOverdueTasks(50)));
+            executeDueRunsImmediately();
+
+            Instant before = Instant.now();
+            service.initializeScheduledTasks();
+
+            ArgumentCaptor<Instant> instantCaptor = ArgumentCaptor.forClass(Instant.class);
+            verify(taskScheduler, times(50)).schedule(any(Runnable.class), instantCaptor.capture());
+            assertThat(instantCaptor.getAllValues())
+                    .allMatch(instant -> !instant.isBefore(before) && !instant.isAfter(Instant.now().plus(Duration.ofMinutes(10))));
+            assertThat(instantCaptor.getAllValues().stream().distinct().count()).isGreaterThan(1);
+
+            // Initialization returns without executing any overdue task
+            verifyNoInteractions(predictiveMaintenanceService);
+            ScheduledTaskRecoveryStatusDto status = service.retrieveRecoveryStatus();
+            assertThat(status.getStatus()).isEqualTo("IN_PROGRESS");
+            assertThat(status.getOverdueTasks()).isEqualTo(50);
+            assertThat(status.getPendingRuns()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("Recover overdue tasks : Skip missed runs")
+        void givenSkipPolicy_whenInitializeScheduledTasks_thenReschedulesWithoutExecuting() {
+            ScheduledTaskService service = createService(
+                    new SchedulerRecoveryProperties(MissedRunPolicy.SKIP, Duration.ZERO, 2), taskExecutor);
+            List<ScheduledTask> overdueTasks = createOverdueTasks(3);
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(overdueTasks));
+            executeDueRunsImmediately();
+
+            service.initializeScheduledTasks();
+
+            verify(taskRepository).saveAll(overdueTasks);
+            verifyNoInteractions(predictiveMaintenanceService);
+            verify(leaseService, never()).tryAcquireLease(anyString(), any(Duration.class));
+            assertThat(overdueTasks).allMatch(task -> task.getNextExecutionTime().isAfter(LocalDateTime.now()));
+
+            ScheduledTaskRecoveryStatusDto status = service.retrieveRecoveryStatus();
+            assertThat(status.getStatus()).isEqualTo("COMPLETED");
+            assertThat(status.getMissedRunPolicy()).isEqualTo(MissedRunPolicy.SKIP);
+            assertThat(status.getSkippedRuns()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Recover overdue tasks : Concurrency limit is respected")
+        void givenConcurrencyLimit_whenCatchUpRunsExecute_thenLimitIsNeverExceeded() throws Exception {
+            int maxConcurrency = 3;
+            AtomicInteger activeRuns = new AtomicInteger();
+            AtomicInteger maxActiveRuns = new AtomicInteger();
+            doAnswer(invocation -> {
+                maxActiveRuns.accumulateAndGet(activeRuns.incrementAndGet(), Math::max);
+                Thread.sleep(50);
+                activeRuns.decrementAndGet();
+                return null;
+            }).when(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(createOverdueTasks(20)));
+            when(leaseService.tryAcquireLease(anyString(), any(Duration.class))).thenReturn(true);
+            executeDueRunsImmediately();
+
+            try (ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                ScheduledTaskService service = createService(
+                        new SchedulerRecoveryProperties(MissedRunPolicy.CATCH_UP, Duration.ZERO, maxConcurrency), virtualThreadExecutor);
+
+                service.initializeScheduledTasks();
+
+                long deadline = System.currentTimeMillis() + 10_000;
+                while (!"COMPLETED".equals(service.retrieveRecoveryStatus().getStatus()) && System.currentTimeMillis() < deadline)
+                    Thread.sleep(10);
+
+                ScheduledTaskRecoveryStatusDto status = service.retrieveRecoveryStatus();
+                assertThat(status.getStatus()).isEqualTo("COMPLETED");
+                assertThat(status.getRecoveredRuns()).isEqualTo(20);
+                assertThat(status.getPendingRuns()).isZero();
+            }
+
+            verify(predictiveMaintenanceService, times(20)).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+            assertThat(maxActiveRuns.get()).isLessThanOrEqualTo(maxConcurrency);
+        }
+
+        @Test
+        @DisplayName("Recover overdue tasks : Runs beyond the limit wait without holding a thread")
+        @SuppressWarnings("unchecked")
+        void givenConcurrencyLimitReached_whenCatchUpRunsFire_thenQueuesRunsWithoutBlocking() {
+            List<Runnable> queuedRuns = new ArrayList<>();
+            ScheduledTaskService service = createService(
+                    new SchedulerRecoveryProperties(MissedRunPolicy.CATCH_UP, Duration.ZERO, 1), queuedRuns::add);
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(createOverdueTasks(2)));
+            when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenReturn(scheduledFuture);
+            when(leaseService.tryAcquireLease(anyString(), any(Duration.class))).thenReturn(true);
+
+            service.initializeScheduledTasks();
+            runQueued(queuedRuns, 1);
+            ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+            verify(taskScheduler, times(2)).schedule(runnableCaptor.capture(), any(Instant.class));
+            runnableCaptor.getAllValues().forEach(Runnable::run);
+
+            // Both dispatches return at once, only the first run holds the single permit
+            runQueued(queuedRuns, 2);
+            assertThat(queuedRuns).hasSize(1);
+            verifyNoInteractions(predictiveMaintenanceService);
+
+            runQueued(queuedRuns, Integer.MAX_VALUE);
+
+            verify(predictiveMaintenanceService, times(2)).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+            ScheduledTaskRecoveryStatusDto status = service.retrieveRecoveryStatus();
+            assertThat(status.getStatus()).isEqualTo("COMPLETED");
+            assertThat(status.getRecoveredRuns()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Recover overdue tasks : Queued catch-up run is not scheduled again by the synchronization")
+        @SuppressWarnings("unchecked")
+        void givenCatchUpRunQueued_whenSynchronizeScheduledTasks_thenDoesNotReschedule() {
+            List<Runnable> queuedRuns = new ArrayList<>();
+            ScheduledTaskService service = createService(recoveryProperties, queuedRuns::add);
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(createOverdueTasks(1)));
+            when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenReturn(scheduledFuture);
+            when(leaseService.tryAcquireLease(anyString(), any(Duration.class))).thenReturn(true);
+
+            service.initializeScheduledTasks();
+            runQueued(queuedRuns, 1);
+            ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+            verify(taskScheduler).schedule(runnableCaptor.capture(), any(Instant.class));
+            when(scheduledFuture.isDone()).thenReturn(true);
+            runnableCaptor.getValue().run();
+
+            service.synchronizeScheduledTasks();
+            verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+
+            runQueued(queuedRuns, Integer.MAX_VALUE);
+
+            verify(predictiveMaintenanceService).invokeThresholdBasedPredictiveMaintenance(any(), anyList());
+            verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+            assertThat(service.retrieveRecoveryStatus().getRecoveredRuns()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Recover overdue tasks : No overdue tasks")
+        void givenNoOverdueTasks_whenInitializeScheduledTasks_thenRecoveryIsCompleted() {
+            when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(sampleTaskEntity)));
+
+            scheduledTaskService.initializeScheduledTasks();
+
+            ScheduledTaskRecoveryStatusDto status = scheduledTaskService.retrieveRecoveryStatus();
+            assertThat(status.getStatus()).isEqualTo("COMPLETED");
+            assertThat(status.getTotalTasks()).isEqualTo(1);
+            assertThat(status.getOverdueTasks()).isZero();
+        }
+
+        @Test
+        @DisplayName("Recover overdue tasks : Database exception")
+        void givenDatabaseException_whenInitializeScheduledTasks_thenRecoveryFails() {
+            when(taskRepository.findAll(any(Pageable.class))).thenThrow(new RuntimeException("Database connection failed"));
+
+            scheduledTaskService.initializeScheduledTasks();
+
+            assertThat(scheduledTaskService.retrieveRecoveryStatus().getStatus()).isEqualTo("FAILED");
+        }
+    }
+
+    /*
+     * Helper method to run up to the given number of queued executor tasks, including the ones queued meanwhile
+     */
+    private void runQueued(List<Runnable> queuedRuns, int count) {
+        for (int i = 0; i < count && !queuedRuns.isEmpty(); i++)
+            queuedRuns.removeFirst().run();
+    }
+
+    /*
+     * Helper method to run the scheduled runnables that are already due, as the Task Scheduler would
+     */
+    @SuppressWarnings("unchecked")
+    private void executeDueRunsImmediately() {
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            if (!invocation.<Instant>getArgument(1).isAfter(Instant.now()))
+                invocation.<Runnable>getArgument(0).run();
+            return scheduledFuture;
+        });
+    }
+}
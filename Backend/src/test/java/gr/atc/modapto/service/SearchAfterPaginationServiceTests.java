@@ -0,0 +1,253 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.exception.CustomExceptions.*;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessRealTimeMonitoringResults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchAfterPaginationService Unit Tests")
+class SearchAfterPaginationServiceTests {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    private SearchAfterPaginationService paginationService;
+
+    private static final Class<SewSelfAwarenessRealTimeMonitoringResults> ENTITY_CLASS = SewSelfAwarenessRealTimeMonitoringResults.class;
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "timestamp");
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("sew-self-awareness-real-time-monitoring-results");
+
+    @BeforeEach
+    void setUp() {
+        paginationService = new SearchAfterPaginationService(elasticsearchOperations, new ObjectMapper());
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<SewSelfAwarenessRealTimeMonitoringResults> createSearchHits(int count, int offset) {
+        List<SearchHit<SewSelfAwarenessRealTimeMonitoringResults>> hits = new ArrayList<>();
+        IntStream.range(offset, offset + count).forEach(i -> {
+            SearchHit<SewSelfAwarenessRealTimeMonitoringResults> hit = mock(SearchHit.class);
+            lenient().when(hit.getContent()).thenReturn(SewSelfAwarenessRealTimeMonitoringResults.builder().id("result-" + i).build());
+            lenient().when(hit.getSortValues()).thenReturn(List.of(1_700_000_000_000L - i, (long) i));
+            hits.add(hit);
+        });
+        SearchHits<SewSelfAwarenessRealTimeMonitoringResults> searchHits = mock(SearchHits.class);
+        when(searchHits.getSearchHits()).thenReturn(hits);
+        lenient().when(searchHits.getPointInTimeId()).thenReturn("pit-1");
+        return searchHits;
+    }
+
+    private void givenOpenPointInTime() {
+        when(elasticsearchOperations.getIndexCoordinatesFor(ENTITY_CLASS)).thenReturn(INDEX);
+        when(elasticsearchOperations.openPointInTime(eq(INDEX), any(Duration.class))).thenReturn("pit-1");
+    }
+
+    private Query captureQuery(int invocations) {
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(elasticsearchOperations, times(invocations)).search(queryCaptor.capture(), eq(ENTITY_CLASS));
+        return queryCaptor.getValue();
+    }
+
+    @Nested
+    @DisplayName("Retrieve Page")
+    class RetrievePage {
+
+        @Test
+        @DisplayName("Retrieve page : Single page served without a point-in-time")
+        void givenResultsFittingInOnePage_whenRetrievePage_thenDoesNotOpenPointInTime() {
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> searchHits = createSearchHits(2, 0);
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS))).thenReturn(searchHits);
+
+            CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResults> page =
+                    paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, null, 2);
+
+            assertThat(page.getResults()).extracting(SewSelfAwarenessRealTimeMonitoringResults::getId).containsExactly("result-0", "result-1");
+            assertThat(page.getLastPage()).isTrue();
+            assertThat(page.getNextCursor()).isNull();
+
+            Query query = captureQuery(1);
+            assertThat(query.getPointInTime()).isNull();
+            assertThat(query.getMaxResults()).isEqualTo(3);
+            verify(elasticsearchOperations, never()).openPointInTime(any(), any(Duration.class));
+            verify(elasticsearchOperations, never()).closePointInTime(any());
+        }
+
+        @Test
+        @DisplayName("Retrieve page : First page opens a point-in-time and returns a cursor")
+        void givenNoCursor_whenRetrievePage_thenOpensPointInTimeAndReturnsCursor() {
+            givenOpenPointInTime();
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> probeHits = createSearchHits(3, 0);
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> searchHits = createSearchHits(2, 0);
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS))).thenReturn(probeHits, searchHits);
+
+            CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResults> page =
+                    paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, null, 2);
+
+            assertThat(page.getResults()).extracting(SewSelfAwarenessRealTimeMonitoringResults::getId).containsExactly("result-0", "result-1");
+            assertThat(page.getLastPage()).isFalse();
+            assertThat(page.getNextCursor()).isNotBlank();
+
+            Query query = captureQuery(2);
+            assertThat(query.getPointInTime().id()).isEqualTo("pit-1");
+            assertThat(query.getSearchAfter()).isNull();
+            assertThat(query.getMaxResults()).isEqualTo(2);
+            verify(elasticsearchOperations, never()).closePointInTime(any());
+        }
+
+        @Test
+        @DisplayName("Retrieve page : Cursor continues after the last document of the previous page")
+        void givenCursor_whenRetrievePage_thenSearchesAfterPreviousPage() {
+            givenOpenPointInTime();
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> probeHits = createSearchHits(3, 0);
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> firstHits = createSearchHits(2, 0);
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> lastHits = createSearchHits(1, 2);
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS))).thenReturn(probeHits, firstHits, lastHits);
+
+            String cursor = paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, null, 2).getNextCursor();
+            CursorPaginatedResultsDto<SewSelfAwarenessRealTimeMonitoringResults> page =
+                    paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, cursor, 2);
+
+            assertThat(page.getResults()).extracting(SewSelfAwarenessRealTimeMonitoringResults::getId).containsExactly("result-2");
+            assertThat(page.getLastPage()).isTrue();
+            assertThat(page.getNextCursor()).isNull();
+
+            Query query = captureQuery(3);
+            assertThat(query.getSearchAfter()).containsExactly(1_700_000_000_000L - 1, 1);
+            verify(elasticsearchOperations, times(1)).openPointInTime(any(), any(Duration.class));
+            verify(elasticsearchOperations).closePointInTime("pit-1");
+        }
+
+        @Test
+        @DisplayName("Retrieve page : Invalid cursor")
+        void givenInvalidCursor_whenRetrievePage_thenThrowsPaginationException() {
+            assertThatThrownBy(() -> paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, "not-a-cursor", 10))
+                    .isInstanceOf(PaginationException.class)
+                    .hasMessageContaining("Invalid cursor");
+
+            verifyNoInteractions(elasticsearchOperations);
+        }
+
+        @Test
+        @DisplayName("Retrieve page : Cursor of another index is rejected")
+        void givenCursorOfAnotherIndex_whenRetrievePage_thenThrowsPaginationException() {
+            givenOpenPointInTime();
+            when(elasticsearchOperations.getIndexCoordinatesFor(SewSelfAwarenessMonitoringKpisResults.class))
+                    .thenReturn(IndexCoordinates.of("sew-self-awareness-monitoring-kpis-results"));
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> probeHits = createSearchHits(3, 0);
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> firstHits = createSearchHits(2, 0);
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS))).thenReturn(probeHits, firstHits);
+
+            String cursor = paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, null, 2).getNextCursor();
+
+            assertThatThrownBy(() -> paginationService.retrievePage(SewSelfAwarenessMonitoringKpisResults.class, new Criteria(), SORT, cursor, 2))
+                    .isInstanceOf(PaginationException.class)
+                    .hasMessageContaining("does not belong");
+            verify(elasticsearchOperations, never()).search(any(Query.class), eq(SewSelfAwarenessMonitoringKpisResults.class));
+        }
+
+        @Test
+        @DisplayName("Retrieve page : Expired cursor")
+        void givenExpiredPointInTime_whenRetrievePage_thenThrowsPaginationException() {
+            givenOpenPointInTime();
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> probeHits = createSearchHits(3, 0);
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> searchHits = createSearchHits(2, 0);
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS)))
+                    .thenReturn(probeHits, searchHits)
+                    .thenThrow(new RuntimeException("[es/search] failed: [search_context_missing_exception] No search context found"));
+
+            String cursor = paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, null, 2).getNextCursor();
+
+            assertThatThrownBy(() -> paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, cursor, 2))
+                    .isInstanceOf(PaginationException.class)
+                    .hasMessageContaining("expired");
+        }
+
+        @Test
+        @DisplayName("Retrieve page : Elasticsearch failure")
+        void givenElasticsearchFailure_whenRetrievePage_thenThrowsDatabaseException() {
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS))).thenThrow(new RuntimeException("Connection refused"));
+
+            assertThatThrownBy(() -> paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, null, 2))
+                    .isInstanceOf(DatabaseException.class);
+
+            verify(elasticsearchOperations, never()).openPointInTime(any(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("Retrieve page : Point-in-time is closed when the first page fails")
+        void givenFirstPageFailure_whenRetrievePage_thenClosesPointInTime() {
+            givenOpenPointInTime();
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> probeHits = createSearchHits(3, 0);
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS)))
+                    .thenReturn(probeHits)
+                    .thenThrow(new RuntimeException("Connection refused"));
+
+            assertThatThrownBy(() -> paginationService.retrievePage(ENTITY_CLASS, new Criteria(), SORT, null, 2))
+                    .isInstanceOf(DatabaseException.class);
+
+            verify(elasticsearchOperations).closePointInTime("pit-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream All")
+    class StreamAll {
+
+        @Test
+        @DisplayName("Stream all : Pages are handed over one at a time")
+        void givenMultiplePages_whenStreamAll_thenConsumesEveryPage() {
+            givenOpenPointInTime();
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> firstHits = createSearchHits(3, 0);
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> secondHits = createSearchHits(3, 3);
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> lastHits = createSearchHits(1, 6);
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS))).thenReturn(firstHits, secondHits, lastHits);
+
+            List<Integer> pageSizes = new ArrayList<>();
+            paginationService.streamAll(ENTITY_CLASS, new Criteria(), SORT, 3, page -> pageSizes.add(page.size()));
+
+            assertThat(pageSizes).containsExactly(3, 3, 1);
+            assertThat(captureQuery(3).getSearchAfter()).containsExactly(1_700_000_000_000L - 5, 5L);
+            verify(elasticsearchOperations).closePointInTime("pit-1");
+        }
+
+        @Test
+        @DisplayName("Stream all : Point-in-time is closed when the consumer fails")
+        void givenFailingConsumer_whenStreamAll_thenClosesPointInTime() {
+            givenOpenPointInTime();
+            SearchHits<SewSelfAwarenessRealTimeMonitoringResults> searchHits = createSearchHits(3, 0);
+            when(elasticsearchOperations.search(any(Query.class), eq(ENTITY_CLASS))).thenReturn(searchHits);
+
+            assertThatThrownBy(() -> paginationService.streamAll(ENTITY_CLASS, new Criteria(), SORT, 3, page -> {
+                throw new IllegalStateException("Client disconnected");
+            })).isInstanceOf(IllegalStateException.class);
+
+            verify(elasticsearchOperations).closePointInTime("pit-1");
+        }
+    }
+}
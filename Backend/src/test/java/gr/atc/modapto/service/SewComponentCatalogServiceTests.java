@@ -0,0 +1,225 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.ComponentCatalogProperties;
+import gr.atc.modapto.dto.sew.SewComponentInfoDto;
+import gr.atc.modapto.model.sew.SewComponentInfo;
+import gr.atc.modapto.repository.SewComponentInfoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SewComponentCatalogService Unit Tests")
+class SewComponentCatalogServiceTests {
+
+    @Mock
+    private SewComponentInfoRepository componentInfoRepository;
+
+    private SewComponentCatalogService componentCatalogService;
+
+    private List<SewComponentInfo> storedComponents;
+
+    @BeforeEach
+    void setUp() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        componentCatalogService = new SewComponentCatalogService(componentInfoRepository, modelMapper, new ComponentCatalogProperties(null));
+
+        storedComponents = List.of(
+                createSewComponentInfo("1", "Stage1", "Cell1", "Module1", "MOD1"),
+                createSewComponentInfo("2", "Stage1", "Cell2", "Module2", "MOD1"),
+                createSewComponentInfo("3", "Stage2", "Cell3", "Module3", "MOD2")
+        );
+    }
+
+    @Nested
+    @DisplayName("Catalog Loading")
+    class CatalogLoading {
+
+        @Test
+        @DisplayName("Load catalog : Loaded once and reused")
+        void givenRepeatedLookups_whenRetrieveComponents_thenLoadsRepositoryOnce() {
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(storedComponents));
+
+            List<SewComponentInfoDto> allComponents = componentCatalogService.retrieveAllComponents();
+            componentCatalogService.retrieveComponentsByModuleId("MOD1");
+            componentCatalogService.retrieveComponentsByModuleId("MOD2");
+
+            assertThat(allComponents).hasSize(3);
+            verify(componentInfoRepository, times(1)).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Load catalog : Concurrent first lookups load once")
+        void givenConcurrentFirstLookups_whenRetrieveComponents_thenLoadsRepositoryOnce() throws Exception {
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(storedComponents));
+
+            int threads = 16;
+            CountDownLatch startSignal = new CountDownLatch(1);
+            List<Future<List<SewComponentInfoDto>>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        startSignal.await();
+                        return componentCatalogService.retrieveAllComponents();
+                    }));
+                }
+                startSignal.countDown();
+                for (Future<List<SewComponentInfoDto>> result : results)
+                    assertThat(result.get()).hasSize(3);
+            }
+
+            verify(componentInfoRepository, times(1)).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Load catalog : Empty repository")
+        void givenNoStoredComponents_whenRetrieveComponents_thenReturnsEmptyLists() {
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(Collections.emptyList()));
+
+            assertThat(componentCatalogService.retrieveAllComponents()).isEmpty();
+            assertThat(componentCatalogService.retrieveComponentsByModuleId("MOD1")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Catalog Lookups")
+    class CatalogLookups {
+
+        @BeforeEach
+        void loadCatalog() {
+            componentCatalogService.rebuildCatalog(storedComponents);
+        }
+
+        @Test
+        @DisplayName("Retrieve by module ID : Success")
+        void givenModuleId_whenRetrieveComponentsByModuleId_thenReturnsModuleComponents() {
+            List<SewComponentInfoDto> result = componentCatalogService.retrieveComponentsByModuleId("MOD1");
+
+            assertThat(result).extracting(SewComponentInfoDto::getModule).containsExactlyInAnyOrder("Module1", "Module2");
+        }
+
+        @Test
+        @DisplayName("Retrieve by module ID : Unknown module")
+        void givenUnknownModuleId_whenRetrieveComponentsByModuleId_thenReturnsEmptyList() {
+            assertThat(componentCatalogService.retrieveComponentsByModuleId("UNKNOWN")).isEmpty();
+            verify(componentInfoRepository, never()).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Retrieve all components : Unmodifiable result")
+        void givenCatalog_whenModifyReturnedList_thenThrowsException() {
+            List<SewComponentInfoDto> result = componentCatalogService.retrieveAllComponents();
+
+            assertThatThrownBy(() -> result.add(SewComponentInfoDto.builder().build()))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Catalog Refresh")
+    class CatalogRefresh {
+
+        @Test
+        @DisplayName("Rebuild catalog : Replaces previous snapshot")
+        void givenNewComponents_whenRebuildCatalog_thenLookupsReturnNewData() {
+            componentCatalogService.rebuildCatalog(storedComponents);
+            componentCatalogService.rebuildCatalog(List.of(createSewComponentInfo("4", "Stage3", "Cell4", "Module4", "MOD3")));
+
+            assertThat(componentCatalogService.retrieveAllComponents()).hasSize(1);
+            assertThat(componentCatalogService.retrieveComponentsByModuleId("MOD1")).isEmpty();
+            assertThat(componentCatalogService.retrieveComponentsByModuleId("MOD3")).hasSize(1);
+            verify(componentInfoRepository, never()).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Invalidate catalog : Reloads from repository")
+        void givenInvalidatedCatalog_whenRetrieveComponents_thenReloadsFromRepository() {
+            componentCatalogService.rebuildCatalog(List.of(createSewComponentInfo("4", "Stage3", "Cell4", "Module4", "MOD3")));
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(storedComponents));
+
+            componentCatalogService.invalidateCatalog();
+
+            assertThat(componentCatalogService.retrieveAllComponents()).hasSize(3);
+            verify(componentInfoRepository).findAll(any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Catalog Expiry and Concurrency")
+    class CatalogExpiryAndConcurrency {
+
+        @Test
+        @DisplayName("Expired catalog : Reloaded from repository")
+        void givenExpiredCatalog_whenRetrieveComponents_thenReloadsFromRepository() {
+            ModelMapper modelMapper = new ModelMapper();
+            SewComponentCatalogService expiringCatalog = new SewComponentCatalogService(componentInfoRepository, modelMapper,
+                    new ComponentCatalogProperties(Duration.ofNanos(1)));
+            expiringCatalog.rebuildCatalog(List.of(createSewComponentInfo("4", "Stage3", "Cell4", "Module4", "MOD3")));
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(storedComponents));
+
+            assertThat(expiringCatalog.retrieveAllComponents()).hasSize(3);
+            verify(componentInfoRepository, atLeastOnce()).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Rebuild during lazy load : Rebuilt snapshot kept")
+        void givenLazyLoadInProgress_whenRebuildCatalog_thenRebuiltSnapshotIsNotOverwritten() throws Exception {
+            CountDownLatch loadStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoad = new CountDownLatch(1);
+            when(componentInfoRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                return new PageImpl<>(storedComponents);
+            });
+
+            Thread lazyLoad = new Thread(() -> componentCatalogService.retrieveAllComponents());
+            lazyLoad.start();
+            loadStarted.await();
+            Thread rebuild = new Thread(() -> componentCatalogService.rebuildCatalog(
+                    List.of(createSewComponentInfo("4", "Stage3", "Cell4", "Module4", "MOD3"))));
+            rebuild.start();
+            // The rebuild waits for the lazy load to finish
+            while (rebuild.getState() != Thread.State.BLOCKED && rebuild.isAlive())
+                Thread.onSpinWait();
+            releaseLoad.countDown();
+            lazyLoad.join();
+            rebuild.join();
+
+            assertThat(componentCatalogService.retrieveAllComponents())
+                    .extracting(SewComponentInfoDto::getModuleId)
+                    .containsExactly("MOD3");
+        }
+    }
+
+    private SewComponentInfo createSewComponentInfo(String id, String stage, String cell, String module, String moduleId) {
+        SewComponentInfo componentInfo = new SewComponentInfo();
+        componentInfo.setId(id);
+        componentInfo.setStage(stage);
+        componentInfo.setCell(cell);
+        componentInfo.setModule(module);
+        componentInfo.setModuleId(moduleId);
+        return componentInfo;
+    }
+}
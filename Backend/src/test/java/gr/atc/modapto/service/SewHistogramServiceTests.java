@@ -0,0 +1,213 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.dto.serviceInvocations.SewLocalAnalyticsInputDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewHistogramDto;
+import gr.atc.modapto.enums.HistogramBinStrategy;
+import gr.atc.modapto.enums.HistogramEngine;
+import gr.atc.modapto.exception.CustomExceptions.ResourceNotFoundException;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.util.HistogramBinning;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+
+import javax.imageio.ImageIO;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SewHistogramService Unit Tests")
+class SewHistogramServiceTests {
+
+    @Mock
+    private SearchAfterPaginationService paginationService;
+
+    @Mock
+    private SewLocalAnalyticsQueryService localAnalyticsQueryService;
+
+    private SewHistogramService histogramService;
+
+    private SewFilteringOptionsDto.Options firstParameters;
+
+    private SewFilteringOptionsDto.Options secondParameters;
+
+    private final Criteria firstCriteria = new Criteria("module").matches("Module1");
+
+    private final Criteria secondCriteria = new Criteria("module").matches("Module2");
+
+    @BeforeEach
+    void setUp() {
+        histogramService = new SewHistogramService(paginationService, localAnalyticsQueryService);
+        firstParameters = createParameters("Module1");
+        secondParameters = createParameters("Module2");
+    }
+
+    private SewFilteringOptionsDto.Options createParameters(String module) {
+        SewFilteringOptionsDto.Options parameters = new SewFilteringOptionsDto.Options();
+        parameters.setModule(module);
+        parameters.setComponent("Motor");
+        parameters.setVariable("Speed");
+        return parameters;
+    }
+
+    private SewLocalAnalyticsInputDto createInput(HistogramBinStrategy strategy, Integer bins) {
+        return SewLocalAnalyticsInputDto.builder()
+                .firstParameters(firstParameters)
+                .secondParameters(secondParameters)
+                .engine(HistogramEngine.LOCAL)
+                .binStrategy(strategy)
+                .bins(bins)
+                .build();
+    }
+
+    private List<List<SewSelfAwarenessMonitoringKpisResults>> createPages(int pages, int valuesPerResult, Random random, double offset) {
+        List<List<SewSelfAwarenessMonitoringKpisResults>> result = new ArrayList<>();
+        for (int p = 0; p < pages; p++) {
+            List<SewSelfAwarenessMonitoringKpisResults> page = new ArrayList<>();
+            for (int r = 0; r < SearchAfterPaginationService.DEFAULT_PAGE_SIZE; r++) {
+                page.add(SewSelfAwarenessMonitoringKpisResults.builder()
+                        .data(IntStream.range(0, valuesPerResult).mapToObj(i -> offset + random.nextGaussian()).toList())
+                        .build());
+            }
+            result.add(page);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSeries(Criteria criteria, List<List<SewSelfAwarenessMonitoringKpisResults>> pages) {
+        doAnswer(invocation -> {
+            Consumer<List<SewSelfAwarenessMonitoringKpisResults>> consumer = invocation.getArgument(4);
+            pages.forEach(consumer);
+            return null;
+        }).when(paginationService).streamAll(eq(SewSelfAwarenessMonitoringKpisResults.class), same(criteria), any(), anyInt(), any(Consumer.class));
+    }
+
+    private void givenCriteria() {
+        when(localAnalyticsQueryService.createHistogramCriteria(firstParameters, null)).thenReturn(firstCriteria);
+        when(localAnalyticsQueryService.createHistogramCriteria(secondParameters, null)).thenReturn(secondCriteria);
+    }
+
+    private SewSelfAwarenessMonitoringKpisResults result(Double... values) {
+        return SewSelfAwarenessMonitoringKpisResults.builder().data(List.of(values)).build();
+    }
+
+    @Nested
+    @DisplayName("Compute Histogram")
+    class ComputeHistogram {
+
+        @Test
+        @DisplayName("Compute histogram : Common bins and statistics of both modules")
+        void givenTwoModules_whenComputeHistogram_thenReturnsCountsOverCommonBins() {
+            givenCriteria();
+            givenSeries(firstCriteria, List.of(List.of(result(0.0, 1.0), result(2.0)), List.of(result(3.0))));
+            givenSeries(secondCriteria, List.of(List.of(result(2.0, 4.0))));
+
+            SewHistogramDto histogram = histogramService.computeHistogram(createInput(HistogramBinStrategy.FIXED_WIDTH, 4));
+
+            assertThat(histogram.getBinStrategy()).isEqualTo("FIXED_WIDTH");
+            assertThat(histogram.getBinEdges()).containsExactly(0.0, 1.0, 2.0, 3.0, 4.0);
+            assertThat(histogram.getFirstSeries().getCounts()).containsExactly(1L, 1L, 1L, 1L);
+            assertThat(histogram.getSecondSeries().getCounts()).containsExactly(0L, 0L, 1L, 1L);
+            assertThat(histogram.getFirstSeries().getParameters()).isEqualTo(firstParameters);
+            assertThat(histogram.getFirstSeries().getStatistics().getCount()).isEqualTo(4);
+            assertThat(histogram.getFirstSeries().getStatistics().getMean()).isEqualTo(1.5);
+            assertThat(histogram.getSecondSeries().getStatistics().getMedian()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("Compute histogram : Module without values has empty statistics")
+        void givenSecondModuleWithoutValues_whenComputeHistogram_thenOmitsStatistics() {
+            givenCriteria();
+            givenSeries(firstCriteria, List.of(List.of(result(1.0, 2.0))));
+
+            SewHistogramDto histogram = histogramService.computeHistogram(createInput(null, null));
+
+            assertThat(histogram.getBinEdges()).hasSize(HistogramBinning.DEFAULT_BINS + 1);
+            assertThat(histogram.getSecondSeries().getStatistics().getCount()).isZero();
+            assertThat(histogram.getSecondSeries().getStatistics().getMean()).isNull();
+        }
+
+        @Test
+        @DisplayName("Compute histogram : No values for both modules")
+        void givenNoValues_whenComputeHistogram_thenThrowsResourceNotFoundException() {
+            givenCriteria();
+
+            assertThatThrownBy(() -> histogramService.computeHistogram(createInput(null, null)))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessageContaining("No SEW Self-Awareness Monitoring KPIs values found");
+        }
+
+        @Test
+        @DisplayName("Render histogram : Base64 encoded PNG image")
+        void givenTwoModules_whenRenderHistogram_thenReturnsBase64Png() throws Exception {
+            givenCriteria();
+            givenSeries(firstCriteria, List.of(List.of(result(0.0, 1.0, 2.0))));
+            givenSeries(secondCriteria, List.of(List.of(result(1.5, 2.5))));
+
+            String image = histogramService.renderHistogram(createInput(HistogramBinStrategy.FREEDMAN_DIACONIS, null));
+
+            assertThat(ImageIO.read(new ByteArrayInputStream(Base64.getDecoder().decode(image)))).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Performance")
+    class Performance {
+
+        /*
+         * Stand-in of the DTM path, the KPI results are serialized to a Base64 JSON payload which is decoded and parsed again before binning
+         */
+        private long[] binThroughEncodedPayload(ObjectMapper objectMapper, List<List<SewSelfAwarenessMonitoringKpisResults>> pages, double[] edges) throws Exception {
+            List<SewSelfAwarenessMonitoringKpisResults> results = pages.stream().flatMap(List::stream).toList();
+            String payload = Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(results));
+
+            JsonNode decoded = objectMapper.readTree(Base64.getDecoder().decode(payload));
+            List<Double> values = new ArrayList<>();
+            decoded.forEach(result -> result.get("data").forEach(value -> values.add(value.asDouble())));
+            return HistogramBinning.counts(values.stream().mapToDouble(Double::doubleValue).toArray(), edges);
+        }
+
+        @Test
+        @DisplayName("Performance : 400k values binned like the encoded payload path")
+        void givenFourHundredThousandValues_whenComputeHistogram_thenMatchesEncodedPayloadInTime() throws Exception {
+            Random random = new Random(42);
+            List<List<SewSelfAwarenessMonitoringKpisResults>> firstPages = createPages(10, 200, random, 0);
+            List<List<SewSelfAwarenessMonitoringKpisResults>> secondPages = createPages(10, 200, random, 0.5);
+            givenCriteria();
+            givenSeries(firstCriteria, firstPages);
+            givenSeries(secondCriteria, secondPages);
+            SewLocalAnalyticsInputDto input = createInput(HistogramBinStrategy.FIXED_WIDTH, 50);
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+            long startTime = System.currentTimeMillis();
+            SewHistogramDto histogram = histogramService.computeHistogram(input);
+            long localTime = System.currentTimeMillis() - startTime;
+
+            double[] edges = histogram.getBinEdges().stream().mapToDouble(Double::doubleValue).toArray();
+            long[] firstCounts = binThroughEncodedPayload(objectMapper, firstPages, edges);
+
+            assertThat(histogram.getFirstSeries().getCounts()).containsExactlyElementsOf(
+                    Arrays.stream(firstCounts).boxed().toList());
+            assertThat(localTime).isLessThan(2000);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.KpiStoreProperties;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiQueryResultDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiStoreStatusDto;
+import gr.atc.modapto.dto.sew.SewKpiQueryDto;
+import gr.atc.modapto.enums.KpiDimension;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.util.KpiSeriesCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SewKpiColumnarStore Unit Tests")
+class SewKpiColumnarStoreTests {
+
+    @Mock
+    private SearchAfterPaginationService paginationService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private SewKpiColumnarStore kpiStore;
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 10, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        kpiStore = createStore(new KpiStoreProperties(true, null, 4, Duration.ofSeconds(30), Duration.ofMinutes(5)));
+    }
+
+    private SewKpiColumnarStore createStore(KpiStoreProperties properties) {
+        return new SewKpiColumnarStore(paginationService, taskScheduler, properties);
+    }
+
+    private SewSelfAwarenessMonitoringKpisResults createResult(String id, String moduleId, String variable, LocalDateTime timestamp, Double... data) {
+        return SewSelfAwarenessMonitoringKpisResults.builder()
+                .id(id)
+                .moduleId(moduleId)
+                .component("Motor")
+                .variable(variable)
+                .bucket("1h")
+                .timestamp(timestamp)
+                .data(List.of(data))
+                .build();
+    }
+
+    private void givenStoredResults() {
+        kpiStore.appendAll(List.of(
+                createResult("r1", "Module1", "Speed", START, 1.0, 2.0, 3.0),
+                createResult("r2", "Module1", "Torque", START, 10.0),
+                createResult("r3", "Module2", "Speed", START.plusHours(1), 4.0, 5.0),
+                createResult("r4", "Module1", "Speed", START.plusHours(2), 6.0, Double.NaN)));
+    }
+
+    @Nested
+    @DisplayName("Query")
+    class Query {
+
+        @Test
+        @DisplayName("Query : Statistics over all series")
+        void givenNoFilters_whenQuery_thenReturnsSingleGroup() {
+            givenStoredResults();
+
+            SewKpiQueryResultDto result = kpiStore.query(new SewKpiQueryDto());
+
+            assertThat(result.getGroups()).hasSize(1);
+            SewKpiQueryResultDto.Group group = result.getGroups().getFirst();
+            assertThat(group.getKey()).isEmpty();
+            assertThat(group.getCount()).isEqualTo(7);
+            assertThat(group.getMin()).isEqualTo(1.0);
+            assertThat(group.getMax()).isEqualTo(10.0);
+            assertThat(group.getMean()).isCloseTo(31.0 / 7, within(1e-9));
+            assertThat(result.getSeriesScanned()).isEqualTo(3);
+            assertThat(result.getValuesScanned()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Query : Filter, group-by and percentiles")
+        void givenFilterAndGroupBy_whenQuery_thenReturnsGroupPercentiles() {
+            givenStoredResults();
+            SewKpiQueryDto query = SewKpiQueryDto.builder()
+                    .variables(List.of("Speed"))
+                    .groupBy(List.of(KpiDimension.MODULE_ID))
+                    .percentiles(List.of(50.0, 99.5))
+                    .build();
+
+            SewKpiQueryResultDto result = kpiStore.query(query);
+
+            assertThat(result.getGroups()).hasSize(2);
+            SewKpiQueryResultDto.Group module1 = result.getGroups().stream()
+                    .filter(group -> "Module1".equals(group.getKey().get("MODULE_ID"))).findFirst().orElseThrow();
+            assertThat(module1.getCount()).isEqualTo(4);
+            assertThat(module1.getPercentiles()).containsEntry("p50", 2.5).containsKey("p99.5");
+        }
+
+        @Test
+        @DisplayName("Query : Time range is inclusive")
+        void givenTimeRange_whenQuery_thenScansOnlyValuesInRange() {
+            givenStoredResults();
+            SewKpiQueryDto query = SewKpiQueryDto.builder()
+                    .from(START.plusHours(1))
+                    .to(START.plusHours(2))
+                    .build();
+
+            SewKpiQueryResultDto.Group group = kpiStore.query(query).getGroups().getFirst();
+
+            assertThat(group.getCount()).isEqualTo(3);
+            assertThat(group.getMin()).isEqualTo(4.0);
+        }
+
+        @Test
+        @DisplayName("Query : Points spread between the starting and ending date of their result")
+        void givenResultWithDateRange_whenQueryTimeRange_thenUsesPointTimestamps() {
+            SewSelfAwarenessMonitoringKpisResults result = createResult("r1", "Module1", "Speed", START.plusDays(1), 1.0, 2.0, 3.0, 4.0, 5.0);
+            result.setStartingDate("2025-03-01 10:00:00");
+            result.setEndingDate("2025-03-01T14:00:00.000Z");
+            kpiStore.appendAll(List.of(result));
+
+            SewKpiQueryDto query = SewKpiQueryDto.builder()
+                    .from(START.plusHours(1))
+                    .to(START.plusHours(3))
+                    .build();
+            SewKpiQueryResultDto.Group group = kpiStore.query(query).getGroups().getFirst();
+
+            assertThat(group.getCount()).isEqualTo(3);
+            assertThat(group.getMin()).isEqualTo(2.0);
+            assertThat(group.getMax()).isEqualTo(4.0);
+        }
+
+        @Test
+        @DisplayName("Query : Unknown filter value matches nothing")
+        void givenUnknownModule_whenQuery_thenReturnsNoGroups() {
+            givenStoredResults();
+
+            SewKpiQueryResultDto result = kpiStore.query(SewKpiQueryDto.builder().moduleIds(List.of("Unknown")).build());
+
+            assertThat(result.getGroups()).isEmpty();
+            assertThat(result.getSeriesScanned()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Load and Refresh")
+    class LoadAndRefresh {
+
+        @Test
+        @DisplayName("Refresh : Continues from the latest appended result")
+        @SuppressWarnings("unchecked")
+        void givenLoadedResults_whenRefresh_thenQueriesFromWatermarkAndSkipsDuplicates() {
+            SewSelfAwarenessMonitoringKpisResults latest = createResult("r2", "Module1", "Speed", START.plusHours(1), 2.0);
+            doAnswer(invocation -> {
+                Consumer<List<SewSelfAwarenessMonitoringKpisResults>> consumer = invocation.getArgument(4);
+                consumer.accept(List.of(createResult("r1", "Module1", "Speed", START, 1.0), latest));
+                return null;
+            }).doAnswer(invocation -> {
+                Consumer<List<SewSelfAwarenessMonitoringKpisResults>> consumer = invocation.getArgument(4);
+                consumer.accept(List.of(latest, createResult("r3", "Module1", "Speed", START.plusHours(1), 3.0)));
+                return null;
+            }).when(paginationService).streamAll(eq(SewSelfAwarenessMonitoringKpisResults.class), any(Criteria.class), any(), anyInt(), any(Consumer.class));
+
+            kpiStore.refresh();
+            kpiStore.refresh();
+
+            ArgumentCaptor<Criteria> criteriaCaptor = ArgumentCaptor.forClass(Criteria.class);
+            verify(paginationService, times(2)).streamAll(eq(SewSelfAwarenessMonitoringKpisResults.class), criteriaCaptor.capture(), any(), anyInt(), any(Consumer.class));
+            assertThat(criteriaCaptor.getAllValues().getFirst().getField()).isNull();
+            assertThat(criteriaCaptor.getAllValues().getLast().getField().getName()).isEqualTo("timestamp");
+
+            SewKpiStoreStatusDto status = kpiStore.getStatus();
+            assertThat(status.getValueCount()).isEqualTo(3);
+            assertThat(status.getSeriesCount()).isEqualTo(1);
+            assertThat(status.getLatestResult()).isEqualTo(START.plusHours(1));
+        }
+
+        @Test
+        @DisplayName("Refresh : Older results indexed late are appended within the overlap window")
+        @SuppressWarnings("unchecked")
+        void givenLateIndexedOlderResult_whenRefresh_thenReadsOverlapWindowAndAppendsIt() {
+            SewSelfAwarenessMonitoringKpisResults latest = createResult("r2", "Module1", "Speed", START.plusHours(1), 2.0);
+            doAnswer(invocation -> {
+                Consumer<List<SewSelfAwarenessMonitoringKpisResults>> consumer = invocation.getArgument(4);
+                consumer.accept(List.of(latest));
+                return null;
+            }).doAnswer(invocation -> {
+                Consumer<List<SewSelfAwarenessMonitoringKpisResults>> consumer = invocation.getArgument(4);
+                consumer.accept(List.of(createResult("r1", "Module1", "Speed", START.plusHours(1).minusMinutes(2), 1.0), latest));
+                return null;
+            }).when(paginationService).streamAll(eq(SewSelfAwarenessMonitoringKpisResults.class), any(Criteria.class), any(), anyInt(), any(Consumer.class));
+
+            kpiStore.refresh();
+            kpiStore.refresh();
+
+            ArgumentCaptor<Criteria> criteriaCaptor = ArgumentCaptor.forClass(Criteria.class);
+            verify(paginationService, times(2)).streamAll(eq(SewSelfAwarenessMonitoringKpisResults.class), criteriaCaptor.capture(), any(), anyInt(), any(Consumer.class));
+            assertThat(criteriaCaptor.getValue().getQueryCriteriaEntries()).extracting(entry -> entry.getValue())
+                    .containsExactly(START.plusHours(1).minusMinutes(5));
+
+            SewKpiStoreStatusDto status = kpiStore.getStatus();
+            assertThat(status.getValueCount()).isEqualTo(2);
+            assertThat(status.getLatestResult()).isEqualTo(START.plusHours(1));
+        }
+
+        @Test
+        @DisplayName("Refresh : Elasticsearch failure keeps the loaded values")
+        @SuppressWarnings("unchecked")
+        void givenElasticsearchFailure_whenRefresh_thenKeepsStore() {
+            givenStoredResults();
+            doThrow(new RuntimeException("Connection refused"))
+                    .when(paginationService).streamAll(any(), any(), any(), anyInt(), any(Consumer.class));
+
+            kpiStore.refresh();
+
+            assertThat(kpiStore.getStatus().getValueCount()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("Append : Late results keep their own timestamps")
+        void givenLateResult_whenAppendAll_thenInsertsValuesAtTheirTimestamps() {
+            kpiStore.appendAll(List.of(createResult("r2", "Module1", "Speed", START.plusMinutes(4), 5.0)));
+            kpiStore.appendAll(List.of(createResult("r1", "Module1", "Speed", START, 1.0)));
+
+            SewKpiQueryDto query = SewKpiQueryDto.builder()
+                    .from(START)
+                    .to(START.plusMinutes(2))
+                    .build();
+            SewKpiQueryResultDto.Group group = kpiStore.query(query).getGroups().getFirst();
+
+            assertThat(group.getCount()).isEqualTo(1);
+            assertThat(group.getMax()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Append : Compressed series are decoded and invalid ones skipped")
+        void givenCompressedResults_whenAppendAll_thenAppendsDecodedValues() {
+            SewSelfAwarenessMonitoringKpisResults compressed = createResult("c1", "Module1", "Speed", START, 1.0, 2.0, 3.0);
+            KpiSeriesCodec.compress(compressed);
+            SewSelfAwarenessMonitoringKpisResults invalid = createResult("c2", "Module1", "Speed", START.plusMinutes(1));
+            invalid.setData(null);
+            invalid.setEncodedData("/////w==");
+
+            kpiStore.appendAll(List.of(compressed, invalid));
+
+            SewKpiQueryResultDto result = kpiStore.query(SewKpiQueryDto.builder().build());
+            assertThat(result.getValuesScanned()).isEqualTo(3);
+            assertThat(result.getGroups().getFirst().getMax()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("Start : Disabled store is never loaded")
+        void givenDisabledStore_whenStartPeriodicRefresh_thenSchedulesNothing() {
+            createStore(new KpiStoreProperties(false, null, null, null, null)).startPeriodicRefresh();
+
+            verifyNoInteractions(taskScheduler, paginationService);
+        }
+
+        @Test
+        @DisplayName("Bound : Oldest segments are evicted beyond the maximum number of values")
+        void givenMoreValuesThanBound_whenAppendAll_thenEvictsOldestSegments() {
+            SewKpiColumnarStore boundedStore = createStore(new KpiStoreProperties(true, 8L, 4, null, null));
+            List<SewSelfAwarenessMonitoringKpisResults> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                results.add(createResult("a" + i, "Module1", "Speed", START.plusMinutes(i), (double) i, (double) i));
+                results.add(createResult("b" + i, "Module2", "Speed", START.plusMinutes(i), (double) i));
+            }
+
+            boundedStore.appendAll(results);
+
+            SewKpiStoreStatusDto status = boundedStore.getStatus();
+            assertThat(status.getValueCount()).isLessThanOrEqualTo(8);
+            assertThat(boundedStore.query(SewKpiQueryDto.builder().moduleIds(List.of("Module1")).build()).getGroups().getFirst().getMin())
+                    .isGreaterThan(0.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Performance")
+    class Performance {
+
+        @Test
+        @DisplayName("Performance : 1M values grouped with percentiles")
+        void givenOneMillionValues_whenQuery_thenCompletesQuickly() {
+            SewKpiColumnarStore largeStore = createStore(new KpiStoreProperties(true, null, null, null, null));
+            Random random = new Random(42);
+            List<SewSelfAwarenessMonitoringKpisResults> results = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                List<Double> data = IntStream.range(0, 100).mapToObj(v -> random.nextGaussian()).toList();
+                results.add(SewSelfAwarenessMonitoringKpisResults.builder()
+                        .id("r" + i).moduleId("Module" + (i % 20)).component("Motor").variable("Speed").bucket("1h")
+                        .timestamp(START.plusSeconds(i)).data(data).build());
+            }
+            largeStore.appendAll(results);
+            SewKpiQueryDto query = SewKpiQueryDto.builder()
+                    .from(START.plusSeconds(1000))
+                    .groupBy(List.of(KpiDimension.MODULE_ID))
+                    .build();
+
+            largeStore.query(query);
+            long startTime = System.currentTimeMillis();
+            SewKpiQueryResultDto result = largeStore.query(query);
+            long queryTime = System.currentTimeMillis() - startTime;
+
+            assertThat(result.getGroups()).hasSize(20);
+            assertThat(result.getValuesScanned()).isEqualTo(900_000);
+            assertThat(queryTime).isLessThan(1000);
+        }
+    }
+}
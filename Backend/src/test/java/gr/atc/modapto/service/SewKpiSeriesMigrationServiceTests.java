@@ -0,0 +1,130 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.KpiSeriesMigrationProperties;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.repository.SewSelfAwarenessMonitoringKpisResultsRepository;
+import gr.atc.modapto.util.KpiSeriesCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SewKpiSeriesMigrationService Unit Tests")
+class SewKpiSeriesMigrationServiceTests {
+
+    @Mock
+    private SearchAfterPaginationService paginationService;
+
+    @Mock
+    private SewSelfAwarenessMonitoringKpisResultsRepository resultsRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private SewKpiSeriesMigrationService migrationService;
+
+    @BeforeEach
+    void setUp() {
+        migrationService = createService(new KpiSeriesMigrationProperties(true, 2));
+    }
+
+    private SewKpiSeriesMigrationService createService(KpiSeriesMigrationProperties properties) {
+        return new SewKpiSeriesMigrationService(paginationService, resultsRepository, elasticsearchOperations, taskScheduler, properties);
+    }
+
+    @Nested
+    @DisplayName("Migrate")
+    class Migrate {
+
+        @Test
+        @DisplayName("Migrate : Series are compressed and re-indexed page by page")
+        @SuppressWarnings("unchecked")
+        void givenLegacyResults_whenMigrate_thenSavesCompressedPages() {
+            SewSelfAwarenessMonitoringKpisResults first = SewSelfAwarenessMonitoringKpisResults.builder().id("r1").data(List.of(1.0, 2.0)).build();
+            SewSelfAwarenessMonitoringKpisResults second = SewSelfAwarenessMonitoringKpisResults.builder().id("r2").data(List.of(3.0)).build();
+            SewSelfAwarenessMonitoringKpisResults migrated = SewSelfAwarenessMonitoringKpisResults.builder().id("r3").encodedData(KpiSeriesCodec.encode(List.of(4.0))).build();
+            when(elasticsearchOperations.indexOps(SewSelfAwarenessMonitoringKpisResults.class)).thenReturn(indexOperations);
+            when(indexOperations.exists()).thenReturn(true);
+            doAnswer(invocation -> {
+                Consumer<List<SewSelfAwarenessMonitoringKpisResults>> consumer = invocation.getArgument(4);
+                consumer.accept(List.of(first, second));
+                consumer.accept(List.of(migrated));
+                return null;
+            }).when(paginationService).streamAll(eq(SewSelfAwarenessMonitoringKpisResults.class), any(Criteria.class), any(), eq(2), any(Consumer.class));
+
+            SewKpiSeriesMigrationService.MigrationSummary summary = migrationService.migrate();
+
+            assertThat(summary.migratedResults()).isEqualTo(2);
+            assertThat(summary.migratedValues()).isEqualTo(3);
+            assertThat(summary.encodedBytes()).isPositive();
+            verify(indexOperations).putMapping();
+
+            ArgumentCaptor<List<SewSelfAwarenessMonitoringKpisResults>> savedCaptor = ArgumentCaptor.forClass(List.class);
+            verify(resultsRepository, times(1)).saveAll(savedCaptor.capture());
+            assertThat(savedCaptor.getValue()).extracting(SewSelfAwarenessMonitoringKpisResults::getId).containsExactly("r1", "r2");
+            assertThat(savedCaptor.getValue()).allSatisfy(result -> assertThat(result.getData()).isNull());
+            assertThat(KpiSeriesCodec.decode(first.getEncodedData())).containsExactly(1.0, 2.0);
+
+            ArgumentCaptor<Criteria> criteriaCaptor = ArgumentCaptor.forClass(Criteria.class);
+            verify(paginationService).streamAll(any(), criteriaCaptor.capture(), any(), anyInt(), any(Consumer.class));
+            assertThat(criteriaCaptor.getValue().getField().getName()).isEqualTo("data");
+        }
+
+        @Test
+        @DisplayName("Migrate : Missing index is left untouched")
+        void givenMissingIndex_whenMigrate_thenMigratesNothing() {
+            when(elasticsearchOperations.indexOps(SewSelfAwarenessMonitoringKpisResults.class)).thenReturn(indexOperations);
+            when(indexOperations.exists()).thenReturn(false);
+
+            SewKpiSeriesMigrationService.MigrationSummary summary = migrationService.migrate();
+
+            assertThat(summary.migratedResults()).isZero();
+            verify(indexOperations, never()).putMapping();
+            verifyNoInteractions(paginationService, resultsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Schedule Migration")
+    class ScheduleMigration {
+
+        @Test
+        @DisplayName("Schedule migration : Runs in the background when enabled")
+        void givenEnabledMigration_whenApplicationReady_thenSchedulesMigration() {
+            migrationService.scheduleMigration();
+
+            verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("Schedule migration : Disabled by default")
+        void givenDefaultProperties_whenApplicationReady_thenSchedulesNothing() {
+            createService(new KpiSeriesMigrationProperties(null, null)).scheduleMigration();
+
+            verifyNoInteractions(taskScheduler, elasticsearchOperations);
+        }
+    }
+}
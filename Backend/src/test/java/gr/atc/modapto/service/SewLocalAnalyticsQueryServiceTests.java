@@ -0,0 +1,157 @@
+package gr.atc.modapto.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CompositeBucket;
+import gr.atc.modapto.config.properties.LocalAnalyticsProperties;
+import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SewLocalAnalyticsQueryService Unit Tests")
+class SewLocalAnalyticsQueryServiceTests {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    private SewLocalAnalyticsQueryService localAnalyticsQueryService;
+
+    private static final LocalDateTime LATEST_RESULT = LocalDateTime.of(2025, 9, 30, 14, 35, 0);
+
+    @BeforeEach
+    void setUp() {
+        localAnalyticsQueryService = new SewLocalAnalyticsQueryService(elasticsearchOperations, new LocalAnalyticsProperties(null));
+    }
+
+    private CompositeBucket createBucket(String cell, String module, String subElement, String component, String variable) {
+        Map<String, FieldValue> key = new HashMap<>();
+        key.put("cell", FieldValue.of(cell));
+        key.put("module", FieldValue.of(module));
+        key.put("subElement", subElement != null ? FieldValue.of(subElement) : FieldValue.NULL);
+        key.put("component", FieldValue.of(component));
+        key.put("variable", FieldValue.of(variable));
+        return CompositeBucket.of(bucket -> bucket
+                .key(key)
+                .docCount(3)
+                .aggregations("latest_result", Aggregate.of(aggregate -> aggregate.max(max -> max.value(LATEST_RESULT.toInstant(ZoneOffset.UTC).toEpochMilli())))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<SewSelfAwarenessMonitoringKpisResults> createAggregationSearchHits(List<CompositeBucket> buckets, Map<String, FieldValue> afterKey) {
+        SearchHits<SewSelfAwarenessMonitoringKpisResults> searchHits = mock(SearchHits.class);
+        Aggregate composite = Aggregate.of(aggregate -> aggregate.composite(c -> {
+            c.buckets(b -> b.array(buckets));
+            if (afterKey != null)
+                c.afterKey(afterKey);
+            return c;
+        }));
+        doReturn(new ElasticsearchAggregations(Map.of("filtering_options", composite))).when(searchHits).getAggregations();
+        return searchHits;
+    }
+
+    @Nested
+    @DisplayName("Aggregate Filtering Options")
+    class AggregateFilteringOptions {
+
+        @Test
+        @DisplayName("Aggregate filtering options : Combinations computed without fetching documents")
+        void givenStoredResults_whenAggregateFilteringOptions_thenReturnsCombinations() {
+            SearchHits<SewSelfAwarenessMonitoringKpisResults> searchHits = createAggregationSearchHits(List.of(
+                    createBucket("Cell1", "Module1", "SubElement1", "Component1", "Speed"),
+                    createBucket("Cell1", "Module1", null, "Component2", "Temperature")), null);
+            when(elasticsearchOperations.search(any(Query.class), eq(SewSelfAwarenessMonitoringKpisResults.class))).thenReturn(searchHits);
+
+            List<SewFilteringOptionsDto.Options> result = localAnalyticsQueryService.aggregateFilteringOptions();
+
+            assertThat(result).hasSize(2);
+            assertThat(result.getFirst().getVariable()).isEqualTo("Speed");
+            assertThat(result.getFirst().getDate()).isEqualTo(LATEST_RESULT);
+            assertThat(result.get(1).getSubElement()).isNull();
+
+            ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+            verify(elasticsearchOperations).search(queryCaptor.capture(), eq(SewSelfAwarenessMonitoringKpisResults.class));
+            NativeQuery query = (NativeQuery) queryCaptor.getValue();
+            assertThat(query.getMaxResults()).isZero();
+            assertThat(query.getAggregations()).containsKey("filtering_options");
+        }
+
+        @Test
+        @DisplayName("Aggregate filtering options : Pages of buckets are followed via after key")
+        void givenManyCombinations_whenAggregateFilteringOptions_thenFollowsAfterKey() {
+            List<CompositeBucket> firstPage = IntStream.range(0, 1000)
+                    .mapToObj(i -> createBucket("Cell1", "Module1", "SubElement1", "Component" + i, "Speed"))
+                    .toList();
+            SearchHits<SewSelfAwarenessMonitoringKpisResults> firstHits = createAggregationSearchHits(firstPage, Map.of("component", FieldValue.of("Component999")));
+            SearchHits<SewSelfAwarenessMonitoringKpisResults> lastHits = createAggregationSearchHits(List.of(
+                    createBucket("Cell2", "Module1", "SubElement1", "Component1", "Speed")), null);
+            when(elasticsearchOperations.search(any(Query.class), eq(SewSelfAwarenessMonitoringKpisResults.class))).thenReturn(firstHits, lastHits);
+
+            List<SewFilteringOptionsDto.Options> result = localAnalyticsQueryService.aggregateFilteringOptions();
+
+            assertThat(result).hasSize(1001);
+            verify(elasticsearchOperations, times(2)).search(any(Query.class), eq(SewSelfAwarenessMonitoringKpisResults.class));
+        }
+
+        @Test
+        @DisplayName("Aggregate filtering options : Local computation enabled by default")
+        void givenDefaultProperties_whenCheckLocalFilteringOptions_thenReturnsTrue() {
+            assertThat(localAnalyticsQueryService.isLocalFilteringOptionsEnabled()).isTrue();
+            assertThat(new SewLocalAnalyticsQueryService(elasticsearchOperations, new LocalAnalyticsProperties(false)).isLocalFilteringOptionsEnabled()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Histogram Criteria")
+    class HistogramCriteria {
+
+        @Test
+        @DisplayName("Histogram criteria : Two parameter sets combined with OR")
+        void givenTwoParameterSets_whenCreateHistogramCriteria_thenMatchesEitherSet() {
+            SewFilteringOptionsDto.Options first = new SewFilteringOptionsDto.Options("Cell1", "Module1", null, "Component1", "Speed", null);
+            SewFilteringOptionsDto.Options second = new SewFilteringOptionsDto.Options("Cell2", " ", null, null, "Speed", null);
+
+            Criteria criteria = localAnalyticsQueryService.createHistogramCriteria(first, second);
+
+            assertThat(criteria.isOr()).isTrue();
+            assertThat(criteria.getSubCriteria()).hasSize(2);
+            assertThat(criteria.getSubCriteria())
+                    .extracting(subCriteria -> subCriteria.getCriteriaChain().stream().map(c -> c.getField().getName()).toList())
+                    .containsExactlyInAnyOrder(List.of("cell", "module", "component", "variable"), List.of("cell", "variable"));
+        }
+
+        @Test
+        @DisplayName("Histogram criteria : Empty parameters match all results")
+        void givenEmptyParameters_whenCreateHistogramCriteria_thenMatchesAll() {
+            Criteria criteria = localAnalyticsQueryService.createHistogramCriteria(new SewFilteringOptionsDto.Options(), null);
+
+            assertThat(criteria.getSubCriteria()).isEmpty();
+            assertThat(criteria.getField()).isNull();
+            assertThat(criteria.isOr()).isFalse();
+        }
+    }
+}
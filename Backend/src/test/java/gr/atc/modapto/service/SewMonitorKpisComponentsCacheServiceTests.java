@@ -0,0 +1,151 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.ComponentCatalogProperties;
+import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
+import gr.atc.modapto.model.sew.SewMonitorKpisComponents;
+import gr.atc.modapto.repository.SewMonitorKpisComponentsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SewMonitorKpisComponentsCacheService Unit Tests")
+class SewMonitorKpisComponentsCacheServiceTests {
+
+    @Mock
+    private SewMonitorKpisComponentsRepository componentsRepository;
+
+    private SewMonitorKpisComponentsCacheService componentsCacheService;
+
+    @BeforeEach
+    void setUp() {
+        componentsCacheService = new SewMonitorKpisComponentsCacheService(componentsRepository, new ModelMapper(), new ComponentCatalogProperties(null));
+    }
+
+    @Nested
+    @DisplayName("Read-Through Lookup")
+    class ReadThroughLookup {
+
+        @Test
+        @DisplayName("Retrieve components : Loaded once and reused")
+        void givenRepeatedLookups_whenRetrieveComponents_thenLoadsRepositoryOnce() {
+            when(componentsRepository.findById("sew_module_1")).thenReturn(Optional.of(createComponentList("sew_module_1", "sew_module_1")));
+
+            Optional<List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto>> first = componentsCacheService.retrieveComponents("sew_module_1");
+            Optional<List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto>> second = componentsCacheService.retrieveComponents("sew_module_1");
+
+            assertThat(first).isPresent();
+            assertThat(first.get()).hasSize(1);
+            assertThat(first.get().getFirst().getComponent()).isEqualTo("Motor");
+            assertThat(second.get()).isSameAs(first.get());
+            verify(componentsRepository, times(1)).findById("sew_module_1");
+            verify(componentsRepository, never()).findByModuleId(any());
+        }
+
+        @Test
+        @DisplayName("Retrieve components : Lists stored with generated IDs are still found")
+        void givenLegacyComponentList_whenRetrieveComponents_thenFallsBackToModuleIdField() {
+            when(componentsRepository.findById("sew_module_1")).thenReturn(Optional.empty());
+            when(componentsRepository.findByModuleId("sew_module_1")).thenReturn(Optional.of(createComponentList("generated-id", "sew_module_1")));
+
+            Optional<SewMonitorKpisComponentsDto> result = componentsCacheService.retrieveComponentList("sew_module_1");
+
+            assertThat(result).isPresent();
+            assertThat(result.get().getId()).isEqualTo("generated-id");
+            assertThat(result.get().getModuleId()).isEqualTo("sew_module_1");
+        }
+
+        @Test
+        @DisplayName("Retrieve components : Missing lists are not cached")
+        void givenMissingComponentList_whenRetrieveComponents_thenLooksUpAgain() {
+            when(componentsRepository.findById("sew_module_1")).thenReturn(Optional.empty());
+            when(componentsRepository.findByModuleId("sew_module_1")).thenReturn(Optional.empty());
+
+            assertThat(componentsCacheService.retrieveComponents("sew_module_1")).isEmpty();
+            assertThat(componentsCacheService.retrieveComponents("sew_module_1")).isEmpty();
+
+            verify(componentsRepository, times(2)).findById("sew_module_1");
+        }
+
+        @Test
+        @DisplayName("Retrieve components : Cached list cannot be modified")
+        void givenCachedComponentList_whenModifyComponents_thenThrowsException() {
+            when(componentsRepository.findById("sew_module_1")).thenReturn(Optional.of(createComponentList("sew_module_1", "sew_module_1")));
+
+            List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto> components = componentsCacheService.retrieveComponents("sew_module_1").orElseThrow();
+
+            assertThatThrownBy(components::clear).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache Maintenance")
+    class CacheMaintenance {
+
+        @Test
+        @DisplayName("Cache component list : Served without Elasticsearch query")
+        void givenUploadedComponentList_whenRetrieveComponents_thenServedFromCache() {
+            componentsCacheService.cacheComponentList(createComponentList("sew_module_1", "sew_module_1"));
+
+            Optional<List<SewMonitorKpisComponentsDto.SewMonitorKpisComponentsDataDto>> result = componentsCacheService.retrieveComponents("sew_module_1");
+
+            assertThat(result).isPresent();
+            assertThat(result.get()).hasSize(1);
+            verifyNoInteractions(componentsRepository);
+        }
+
+        @Test
+        @DisplayName("Invalidate : Next lookup reads Elasticsearch")
+        void givenCachedComponentList_whenInvalidate_thenReloadsOnNextLookup() {
+            componentsCacheService.cacheComponentList(createComponentList("sew_module_1", "sew_module_1"));
+            when(componentsRepository.findById("sew_module_1")).thenReturn(Optional.empty());
+            when(componentsRepository.findByModuleId("sew_module_1")).thenReturn(Optional.empty());
+
+            componentsCacheService.invalidate("sew_module_1");
+
+            assertThat(componentsCacheService.retrieveComponents("sew_module_1")).isEmpty();
+            verify(componentsRepository).findById("sew_module_1");
+        }
+
+        @Test
+        @DisplayName("Max age : Expired list is loaded again")
+        void givenExpiredComponentList_whenRetrieveComponents_thenReloadsFromRepository() {
+            SewMonitorKpisComponentsCacheService expiringCacheService = new SewMonitorKpisComponentsCacheService(
+                    componentsRepository, new ModelMapper(), new ComponentCatalogProperties(Duration.ofNanos(1)));
+            expiringCacheService.cacheComponentList(createComponentList("sew_module_1", "sew_module_1"));
+            when(componentsRepository.findById("sew_module_1")).thenReturn(Optional.empty());
+            when(componentsRepository.findByModuleId("sew_module_1")).thenReturn(Optional.empty());
+
+            assertThat(expiringCacheService.retrieveComponents("sew_module_1")).isEmpty();
+            verify(componentsRepository).findById("sew_module_1");
+        }
+    }
+
+    private SewMonitorKpisComponents createComponentList(String id, String moduleId) {
+        SewMonitorKpisComponents.SewMonitorKpisComponentData component = new SewMonitorKpisComponents.SewMonitorKpisComponentData();
+        component.setStage("Stage1");
+        component.setCell("Cell1");
+        component.setModule(moduleId);
+        component.setComponent("Motor");
+
+        return SewMonitorKpisComponents.builder()
+                .id(id)
+                .moduleId(moduleId)
+                .timestampCreated(LocalDateTime.now())
+                .components(List.of(component))
+                .build();
+    }
+}
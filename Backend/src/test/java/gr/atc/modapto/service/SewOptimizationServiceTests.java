@@ -1,6 +1,7 @@
 package gr.atc.modapto.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
 import gr.atc.modapto.dto.serviceInvocations.SewOptimizationInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewProductionScheduleDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewOptimizationResultsDto;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 
@@ -56,6 +58,10 @@ class SewOptimizationServiceTests {
     @Mock
     private ObjectMapper objectMapper;
 
+    // Pass-through cache, every lookup queries the repository
+    @Spy
+    private LatestResultCacheService latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), new ObjectMapper());
+
     @InjectMocks
     private SewOptimizationService sewOptimizationService;
 
@@ -0,0 +1,219 @@
+package gr.atc.modapto.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.RealTimeMonitoringProperties;
+import gr.atc.modapto.dto.serviceResults.sew.SewRealTimeMonitoringSeriesDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessRealTimeMonitoringResultsDto;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessRealTimeMonitoringResults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SewRealTimeMonitoringStore Unit Tests")
+class SewRealTimeMonitoringStoreTests {
+
+    @Mock
+    private WebSocketService webSocketService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SewRealTimeMonitoringStore monitoringStore;
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 3, 1, 10, 0, 0);
+
+    private static final String DELTAS_TOPIC = "self-awareness-real-time-monitoring-deltas";
+
+    @BeforeEach
+    void setUp() {
+        monitoringStore = createStore(new RealTimeMonitoringProperties(null, 3, 10, null));
+        lenient().when(webSocketService.hasSubscribers(DELTAS_TOPIC)).thenReturn(true);
+    }
+
+    private SewRealTimeMonitoringStore createStore(RealTimeMonitoringProperties properties) {
+        return new SewRealTimeMonitoringStore(webSocketService, taskScheduler, new ModelMapper(), objectMapper, properties);
+    }
+
+    private SewSelfAwarenessRealTimeMonitoringResults createResult(String moduleId, String property, String value, Double highThreshold) {
+        return SewSelfAwarenessRealTimeMonitoringResults.builder()
+                .moduleId(moduleId)
+                .component("Motor")
+                .property(property)
+                .value(value)
+                .lowThreshold(0.0)
+                .highThreshold(highThreshold)
+                .timestamp(TIMESTAMP)
+                .build();
+    }
+
+    private JsonNode captureDeltas() throws Exception {
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(webSocketService).notifyInWebSocketTopic(messageCaptor.capture(), eq(DELTAS_TOPIC));
+        return objectMapper.readTree(messageCaptor.getValue());
+    }
+
+    @Nested
+    @DisplayName("Retrieve State")
+    class RetrieveState {
+
+        @Test
+        @DisplayName("Retrieve latest : One result per component property")
+        void givenSeveralResults_whenRetrieveLatest_thenReturnsLatestPerKey() {
+            monitoringStore.record(createResult("Module1", "Temperature", "70", 90.0));
+            monitoringStore.record(createResult("Module1", "Temperature", "72", 90.0));
+            monitoringStore.record(createResult("Module1", "Speed", "1500", 2000.0));
+            monitoringStore.record(createResult("Module2", "Speed", "1400", 2000.0));
+
+            List<SewSelfAwarenessRealTimeMonitoringResultsDto> latest = monitoringStore.retrieveLatest("Module1");
+
+            assertThat(latest).extracting(SewSelfAwarenessRealTimeMonitoringResultsDto::getValue).containsExactlyInAnyOrder("72", "1500");
+            assertThat(monitoringStore.retrieveLatest(null)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("Retrieve recent : Most recent results up to the buffer size")
+        void givenMoreResultsThanBuffer_whenRetrieveRecent_thenReturnsOldestToNewest() {
+            for (int i = 1; i <= 5; i++)
+                monitoringStore.record(createResult("Module1", "Temperature", String.valueOf(i), 90.0));
+
+            List<SewRealTimeMonitoringSeriesDto> recent = monitoringStore.retrieveRecent("Module1", 10);
+
+            assertThat(recent).hasSize(1);
+            assertThat(recent.getFirst().getProperty()).isEqualTo("Temperature");
+            assertThat(recent.getFirst().getResults()).extracting(SewSelfAwarenessRealTimeMonitoringResultsDto::getValue).containsExactly("3", "4", "5");
+            assertThat(monitoringStore.retrieveRecent("Module1", 1).getFirst().getResults()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Bound : Least recently updated key is evicted")
+        void givenMoreKeysThanBound_whenRecord_thenEvictsLeastRecentlyUpdatedKey() {
+            SewRealTimeMonitoringStore boundedStore = createStore(new RealTimeMonitoringProperties(null, 2, 2, null));
+            boundedStore.record(createResult("Module1", "Temperature", "70", 90.0));
+            boundedStore.record(createResult("Module1", "Speed", "1500", 2000.0));
+            boundedStore.record(createResult("Module1", "Temperature", "71", 90.0));
+            boundedStore.record(createResult("Module1", "Vibration", "0.2", 1.0));
+
+            assertThat(boundedStore.getKeyCount()).isEqualTo(2);
+            assertThat(boundedStore.retrieveLatest(null)).extracting(SewSelfAwarenessRealTimeMonitoringResultsDto::getProperty)
+                    .containsExactlyInAnyOrder("Temperature", "Vibration");
+        }
+
+        @Test
+        @DisplayName("Record event : Single result and array of results")
+        void givenEventResults_whenRecordEventResults_thenParsesEveryResult() throws Exception {
+            monitoringStore.recordEventResults(objectMapper.readTree("""
+                    {"moduleId": "Module1", "component": "Motor", "property": "Speed", "value": "1500", "smartServiceId": "rtm"}"""));
+            monitoringStore.recordEventResults(objectMapper.readTree("""
+                    [{"moduleId": "Module1", "component": "Motor", "property": "Temperature", "value": "70", "timestamp": "2025-03-01T10:00:00"},
+                     {"moduleId": "Module1", "property": "Missing component"}]"""));
+
+            assertThat(monitoringStore.getKeyCount()).isEqualTo(2);
+            assertThat(monitoringStore.isRealTimeMonitoringTopic("SELF-AWARENESS-REAL-TIME-MONITORING")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Push Deltas")
+    class PushDeltas {
+
+        @Test
+        @DisplayName("Push deltas : Changed keys are coalesced into one message")
+        void givenSeveralUpdates_whenPushDeltas_thenSendsLatestStatePerChangedKey() throws Exception {
+            monitoringStore.record(createResult("Module1", "Temperature", "70", 90.0));
+            monitoringStore.record(createResult("Module1", "Temperature", "72", 90.0));
+            monitoringStore.record(createResult("Module1", "Speed", "1500", 2000.0));
+
+            monitoringStore.pushDeltas();
+
+            JsonNode deltas = captureDeltas();
+            assertThat(deltas).hasSize(2);
+            assertThat(deltas.get(0).get("value").asText()).isEqualTo("72");
+            assertThat(deltas.get(0).get("highThreshold").asDouble()).isEqualTo(90.0);
+        }
+
+        @Test
+        @DisplayName("Push deltas : Unchanged thresholds are omitted")
+        void givenUnchangedThresholds_whenPushDeltasAgain_thenOmitsThresholds() throws Exception {
+            monitoringStore.record(createResult("Module1", "Temperature", "70", 90.0));
+            monitoringStore.pushDeltas();
+            clearInvocations(webSocketService);
+
+            monitoringStore.record(createResult("Module1", "Temperature", "75", 90.0));
+            monitoringStore.pushDeltas();
+
+            JsonNode delta = captureDeltas().get(0);
+            assertThat(delta.get("value").asText()).isEqualTo("75");
+            assertThat(delta.has("highThreshold")).isFalse();
+            assertThat(delta.has("lowThreshold")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Push deltas : No changes sends nothing")
+        void givenNoChanges_whenPushDeltas_thenSkipsWebSocket() {
+            monitoringStore.record(createResult("Module1", "Temperature", "70", 90.0));
+            monitoringStore.pushDeltas();
+            clearInvocations(webSocketService);
+
+            monitoringStore.pushDeltas();
+
+            verify(webSocketService, never()).notifyInWebSocketTopic(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Push deltas : Changes without subscribers are discarded unserialized")
+        void givenNoSubscribers_whenPushDeltas_thenDiscardsChanges() {
+            monitoringStore.record(createResult("Module1", "Temperature", "70", 90.0));
+            when(webSocketService.hasSubscribers(DELTAS_TOPIC)).thenReturn(false).thenReturn(true);
+
+            monitoringStore.pushDeltas();
+            monitoringStore.pushDeltas();
+
+            verify(webSocketService, never()).notifyInWebSocketTopic(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Push deltas : New subscribers receive the thresholds again")
+        void givenSubscribersLeftAndReturned_whenPushDeltas_thenResendsThresholds() throws Exception {
+            monitoringStore.record(createResult("Module1", "Temperature", "70", 90.0));
+            monitoringStore.pushDeltas();
+            clearInvocations(webSocketService);
+            when(webSocketService.hasSubscribers(DELTAS_TOPIC)).thenReturn(false).thenReturn(true);
+
+            monitoringStore.pushDeltas();
+            monitoringStore.record(createResult("Module1", "Temperature", "75", 90.0));
+            monitoringStore.pushDeltas();
+
+            JsonNode delta = captureDeltas().get(0);
+            assertThat(delta.get("value").asText()).isEqualTo("75");
+            assertThat(delta.get("highThreshold").asDouble()).isEqualTo(90.0);
+            assertThat(delta.get("lowThreshold").asDouble()).isEqualTo(0.0);
+        }
+
+        @Test
+        @DisplayName("Start : Periodic push is scheduled")
+        void givenStartedApplication_whenStartDeltaPush_thenSchedulesPush() {
+            monitoringStore.startDeltaPush();
+
+            verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofSeconds(1)));
+        }
+    }
+}
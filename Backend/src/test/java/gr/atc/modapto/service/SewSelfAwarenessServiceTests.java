@@ -1,13 +1,28 @@
 package gr.atc.modapto.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.dt.DtResponseDto;
 import gr.atc.modapto.dto.serviceInvocations.GlobalRequestDto;
 import gr.atc.modapto.dto.serviceInvocations.SewLocalAnalyticsInputDto;
 import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessMonitoringKpisInputDto;
+import gr.atc.modapto.dto.serviceInvocations.SewSelfAwarenessRealTimeMonitoringInputDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewFilteringOptionsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewHistogramDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewKpiQueryResultDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.dto.sew.SewKpiQueryDto;
 import gr.atc.modapto.dto.sew.SewMonitorKpisComponentsDto;
+import gr.atc.modapto.enums.FrequencyType;
+import gr.atc.modapto.enums.HistogramEngine;
+import gr.atc.modapto.events.ScheduledTaskRegistrationEvent;
+import gr.atc.modapto.exception.CustomExceptions.ResourceNotFoundException;
 import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessRealTimeMonitoringResults;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessRealTimeMonitoringResultsDto;
 import gr.atc.modapto.model.sew.SewMonitorKpisComponents;
 import gr.atc.modapto.repository.SewMonitorKpisComponentsRepository;
 import gr.atc.modapto.repository.SewSelfAwarenessMonitoringKpisResultsRepository;
@@ -17,22 +32,37 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.http.ResponseEntity;
 
+import java.io.StringWriter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -61,6 +91,31 @@ class SewSelfAwarenessServiceTests {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private SearchAfterPaginationService paginationService;
+
+    @Mock
+    private SewLocalAnalyticsQueryService localAnalyticsQueryService;
+
+    @Mock
+    private SewHistogramService histogramService;
+
+    @Mock
+    private SewKpiColumnarStore kpiStore;
+
+    @Mock
+    private SewRealTimeMonitoringStore realTimeMonitoringStore;
+
+    @Mock
+    private SewMonitorKpisComponentsCacheService componentsCacheService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // Pass-through cache, every lookup queries the repository
+    @Spy
+    private LatestResultCacheService latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), new ObjectMapper());
+
     @InjectMocks
     private SewSelfAwarenessService sewSelfAwarenessService;
 
@@ -96,19 +151,16 @@ class SewSelfAwarenessServiceTests {
         @Test
         @DisplayName("Invoke monitoring KPIs : Success")
         void givenValidInput_whenInvokeMonitoringKpis_thenCallsSmartServicesInvocationService() {
-            SewMonitorKpisComponents mockComponent = new SewMonitorKpisComponents();
-            mockComponent.setModuleId("sew_module_1");
-            mockComponent.setComponents(Collections.emptyList());
-
-            when(sewMonitorKpisComponentsRepository.findByModuleId("sew_module_1"))
-                    .thenReturn(Optional.of(mockComponent));
+            when(componentsCacheService.retrieveComponents("sew_module_1"))
+                    .thenReturn(Optional.of(Collections.emptyList()));
 
             doNothing().when(smartServicesInvocationService)
                     .formulateAndImplementSmartServiceRequest(any(), eq(null), eq("Self-Awareness Monitoring KPIs"));
 
             sewSelfAwarenessService.invokeSelfAwarenessMonitoringKpisAlgorithm(sampleInputData);
 
-            verify(sewMonitorKpisComponentsRepository).findByModuleId("sew_module_1");
+            verify(componentsCacheService).retrieveComponents("sew_module_1");
+            verifyNoInteractions(sewMonitorKpisComponentsRepository);
             verify(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(
                     any(SewSelfAwarenessMonitoringKpisInputDto.class),
                     eq(null),
@@ -117,6 +169,63 @@ class SewSelfAwarenessServiceTests {
         }
     }
 
+    @Nested
+    @DisplayName("Invoke and Register Self-Awareness Algorithms")
+    class InvokeAndRegisterSelfAwarenessAlgorithms {
+
+        @Test
+        @DisplayName("Invoke and register monitoring KPIs : Frequency registers a Scheduled Task")
+        void givenFrequency_whenInvokeAndRegisterMonitoringKpis_thenPublishesRegistrationEvent() {
+            sampleInputData.setFrequencyValue(6);
+            sampleInputData.setFrequencyType(FrequencyType.HOURS);
+            when(componentsCacheService.retrieveComponents("sew_module_1"))
+                    .thenReturn(Optional.of(Collections.emptyList()));
+
+            sewSelfAwarenessService.invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(sampleInputData);
+
+            ArgumentCaptor<ScheduledTaskRegistrationEvent> eventCaptor = ArgumentCaptor.forClass(ScheduledTaskRegistrationEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getTaskType()).isEqualTo("SELF_AWARENESS_MONITORING_KPIS");
+            assertThat(eventCaptor.getValue().getScheduledTask().getModuleId()).isEqualTo("sew_module_1");
+            assertThat(eventCaptor.getValue().getScheduledTask().getFrequencyValue()).isEqualTo(6);
+            // Components are retrieved again on every scheduled run
+            assertThat(sampleInputData.getComponents()).isNull();
+        }
+
+        @Test
+        @DisplayName("Invoke and register monitoring KPIs : No frequency skips the registration")
+        void givenNoFrequency_whenInvokeAndRegisterMonitoringKpis_thenDoesNotPublishEvent() {
+            when(componentsCacheService.retrieveComponents("sew_module_1"))
+                    .thenReturn(Optional.of(Collections.emptyList()));
+
+            sewSelfAwarenessService.invokeAndRegisterSelfAwarenessMonitoringKpisAlgorithm(sampleInputData);
+
+            verify(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(
+                    any(SewSelfAwarenessMonitoringKpisInputDto.class), eq(null), eq("Self-Awareness Monitoring KPIs"));
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Invoke and register real-time monitoring : Frequency registers a Scheduled Task")
+        void givenFrequency_whenInvokeAndRegisterRealTimeMonitoring_thenPublishesRegistrationEvent() {
+            SewSelfAwarenessRealTimeMonitoringInputDto inputData = SewSelfAwarenessRealTimeMonitoringInputDto.builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_2")
+                    .frequencyValue(15)
+                    .frequencyType(FrequencyType.MINUTES)
+                    .build();
+            when(componentsCacheService.retrieveComponents("sew_module_1"))
+                    .thenReturn(Optional.of(Collections.emptyList()));
+
+            sewSelfAwarenessService.invokeAndRegisterSelfAwarenessRealTimeMonitoringAlgorithm(inputData);
+
+            ArgumentCaptor<ScheduledTaskRegistrationEvent> eventCaptor = ArgumentCaptor.forClass(ScheduledTaskRegistrationEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getTaskType()).isEqualTo("SELF_AWARENESS_REAL_TIME_MONITORING");
+            assertThat(eventCaptor.getValue().getScheduledTask().getRequestBody()).isSameAs(inputData);
+        }
+    }
+
     @Nested
     @DisplayName("Retrieve Latest Monitoring KPIs Results")
     class RetrieveLatestMonitoringKpisResults {
@@ -173,6 +282,53 @@ class SewSelfAwarenessServiceTests {
         }
     }
 
+    @Nested
+    @DisplayName("Cursor Paginated Results")
+    class CursorPaginatedResults {
+
+        @Test
+        @DisplayName("Retrieve results page : Results of Module mapped with next cursor")
+        void givenModuleId_whenRetrievePage_thenReturnsMappedPageWithCursor() {
+            when(exceptionHandler.handleOperation(any(), anyString()))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(paginationService.retrievePage(eq(SewSelfAwarenessMonitoringKpisResults.class), any(Criteria.class), any(Sort.class), eq("cursor-1"), eq(1)))
+                    .thenReturn(new CursorPaginatedResultsDto<>(List.of(sampleEntity), "cursor-2", false));
+            when(modelMapper.map(sampleEntity, SewSelfAwarenessMonitoringKpisResultsDto.class)).thenReturn(sampleDto);
+
+            CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> result =
+                    sewSelfAwarenessService.retrieveSelfAwarenessMonitoringKpisResultsPage("sew_module_1", "cursor-1", 1);
+
+            assertThat(result.getResults()).containsExactly(sampleDto);
+            assertThat(result.getNextCursor()).isEqualTo("cursor-2");
+            assertThat(result.getLastPage()).isFalse();
+            verify(paginationService).retrievePage(eq(SewSelfAwarenessMonitoringKpisResults.class),
+                    argThat(criteria -> "moduleId".equals(criteria.getField().getName())),
+                    eq(Sort.by(Sort.Direction.DESC, "timestamp")), eq("cursor-1"), eq(1));
+        }
+
+        @Test
+        @DisplayName("Stream results : Every page is mapped and handed over")
+        @SuppressWarnings("unchecked")
+        void givenStoredResults_whenStream_thenConsumesMappedPages() {
+            SewSelfAwarenessRealTimeMonitoringResults entity = SewSelfAwarenessRealTimeMonitoringResults.builder().id("rt-1").build();
+            SewSelfAwarenessRealTimeMonitoringResultsDto dto = SewSelfAwarenessRealTimeMonitoringResultsDto.builder().id("rt-1").build();
+            doAnswer(invocation -> {
+                Consumer<List<SewSelfAwarenessRealTimeMonitoringResults>> pageConsumer = invocation.getArgument(4);
+                pageConsumer.accept(List.of(entity));
+                pageConsumer.accept(List.of(entity, entity));
+                return null;
+            }).when(paginationService).streamAll(eq(SewSelfAwarenessRealTimeMonitoringResults.class), any(Criteria.class), any(Sort.class), anyInt(), any());
+            when(modelMapper.map(entity, SewSelfAwarenessRealTimeMonitoringResultsDto.class)).thenReturn(dto);
+
+            List<Integer> pageSizes = new ArrayList<>();
+            sewSelfAwarenessService.streamSelfAwarenessRealTimeMonitoringResults(null, page -> pageSizes.add(page.size()));
+
+            assertThat(pageSizes).containsExactly(1, 2);
+            verify(paginationService).streamAll(eq(SewSelfAwarenessRealTimeMonitoringResults.class),
+                    argThat(criteria -> criteria.getField() == null), any(Sort.class), eq(SearchAfterPaginationService.DEFAULT_PAGE_SIZE), any());
+        }
+    }
+
     @Nested
     @DisplayName("Upload Module Components List")
     class UploadModuleComponentsList {
@@ -191,6 +347,30 @@ class SewSelfAwarenessServiceTests {
 
             verify(exceptionHandler).handleOperation(any(), eq("uploadModuleComponentsList"));
         }
+
+        @Test
+        @DisplayName("Upload components list : Stored with the Module ID as document ID and cached")
+        void givenComponentsData_whenUploadComponentsList_thenUpsertsByModuleIdAndCaches() {
+            SewMonitorKpisComponentsDto componentsData = SewMonitorKpisComponentsDto.builder()
+                    .moduleId("sew_module_1")
+                    .components(Collections.emptyList())
+                    .build();
+            SewMonitorKpisComponents entity = new SewMonitorKpisComponents();
+            entity.setModuleId("sew_module_1");
+            when(exceptionHandler.handleOperation(any(), eq("uploadModuleComponentsList")))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(modelMapper.map(componentsData, SewMonitorKpisComponents.class)).thenReturn(entity);
+            when(sewMonitorKpisComponentsRepository.save(entity)).thenReturn(entity);
+
+            sewSelfAwarenessService.uploadModuleComponentsList(componentsData);
+
+            assertThat(entity.getId()).isEqualTo("sew_module_1");
+            assertThat(entity.getTimestampCreated()).isNotNull();
+            verify(sewMonitorKpisComponentsRepository, never()).findByModuleId(anyString());
+            verify(sewMonitorKpisComponentsRepository, never()).deleteByModuleId(anyString());
+            verify(componentsCacheService).cacheComponentList(entity);
+            verify(sewMonitorKpisComponentsRepository).deleteByModuleIdAndIdNot("sew_module_1", "sew_module_1");
+        }
     }
 
     @Nested
@@ -232,6 +412,33 @@ class SewSelfAwarenessServiceTests {
 
             verify(exceptionHandler).handleOperation(any(), eq("deleteSelfAwarenessComponentListByModuleId"));
         }
+
+        @Test
+        @DisplayName("Delete component list : Cached list is invalidated")
+        void givenStoredComponentList_whenDeleteComponentList_thenInvalidatesCache() {
+            when(exceptionHandler.handleOperation(any(), eq("deleteSelfAwarenessComponentListByModuleId")))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(componentsCacheService.findComponentList("sew_module_1")).thenReturn(Optional.of(new SewMonitorKpisComponents()));
+
+            sewSelfAwarenessService.deleteSelfAwarenessComponentListByModuleId("sew_module_1");
+
+            verify(sewMonitorKpisComponentsRepository).deleteByModuleId("sew_module_1");
+            verify(componentsCacheService).invalidate("sew_module_1");
+        }
+
+        @Test
+        @DisplayName("Delete component list : Not found")
+        void givenMissingComponentList_whenDeleteComponentList_thenThrowsResourceNotFound() {
+            when(exceptionHandler.handleOperation(any(), eq("deleteSelfAwarenessComponentListByModuleId")))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(componentsCacheService.findComponentList("sew_module_1")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> sewSelfAwarenessService.deleteSelfAwarenessComponentListByModuleId("sew_module_1"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+
+            verify(sewMonitorKpisComponentsRepository, never()).deleteByModuleId(anyString());
+            verify(componentsCacheService, never()).invalidate(anyString());
+        }
     }
 
     @Nested
@@ -293,12 +500,109 @@ class SewSelfAwarenessServiceTests {
             assertThat(result).isNotNull();
             verify(exceptionHandler).handleOperation(any(), eq("retrieveFilteringOptionsForLocalAnalytics"));
         }
+
+        @Test
+        @DisplayName("Retrieve filtering options : Computed locally without invoking the DTM")
+        void givenLocalFilteringOptions_whenRetrieveFilteringOptions_thenUsesAggregation() {
+            GlobalRequestDto request = GlobalRequestDto.builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_1")
+                    .build();
+            when(exceptionHandler.handleOperation(any(), anyString()))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(localAnalyticsQueryService.isLocalFilteringOptionsEnabled()).thenReturn(true);
+            when(localAnalyticsQueryService.aggregateFilteringOptions()).thenReturn(List.of(
+                    new SewFilteringOptionsDto.Options("Cell2", "Module1", "SubElement1", "Component1", "Speed", null),
+                    new SewFilteringOptionsDto.Options("Cell1", "Module1", null, "Component2", "Temperature", null),
+                    new SewFilteringOptionsDto.Options("Cell1", "Module2", " ", "Component1", "Speed", null)));
+
+            SewFilteringOptionsDto result = sewSelfAwarenessService.retrieveFilteringOptionsForLocalAnalytics(request);
+
+            assertThat(result.getFilteringOptions()).hasSize(3);
+            assertThat(result.getDistinctValues().getCells()).containsExactly("Cell1", "Cell2");
+            assertThat(result.getDistinctValues().getModules()).containsExactly("Module1", "Module2");
+            assertThat(result.getDistinctValues().getSubElements()).containsExactly("SubElement1");
+            assertThat(result.getDistinctValues().getComponents()).containsExactly("Component1", "Component2");
+            assertThat(result.getDistinctValues().getVariables()).containsExactly("Speed", "Temperature");
+            verifyNoInteractions(smartServicesInvocationService, sewSelfAwarenessMonitoringKpisResultsRepository);
+        }
+
+        @Test
+        @DisplayName("Retrieve filtering options : DTM fallback when local computation is disabled")
+        void givenDtmFilteringOptions_whenRetrieveFilteringOptions_thenInvokesDigitalTwin() {
+            GlobalRequestDto request = GlobalRequestDto.builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_1")
+                    .build();
+            DtResponseDto dtResponse = new DtResponseDto();
+            ResponseEntity<DtResponseDto> response = ResponseEntity.ok(dtResponse);
+            SewFilteringOptionsDto dtmOptions = new SewFilteringOptionsDto(List.of(
+                    new SewFilteringOptionsDto.Options("Cell1", "Module1", "SubElement1", "Component1", "Speed", null)), null);
+            when(exceptionHandler.handleOperation(any(), anyString()))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(localAnalyticsQueryService.isLocalFilteringOptionsEnabled()).thenReturn(false);
+            when(sewSelfAwarenessMonitoringKpisResultsRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(sampleEntity)));
+            when(modelMapper.map(sampleEntity, SewSelfAwarenessMonitoringKpisResultsDto.class)).thenReturn(sampleDto);
+            when(smartServicesInvocationService.formulateAndImplementSyncSmartServiceRequest(List.of(sampleDto), "sew_module_1", "service_1")).thenReturn(response);
+            when(smartServicesInvocationService.validateDigitalTwinResponse(response, "Local Analytics")).thenReturn(true);
+            when(smartServicesInvocationService.decodeDigitalTwinResponseToDto(SewFilteringOptionsDto.class, dtResponse, "Local Analytics")).thenReturn(dtmOptions);
+
+            SewFilteringOptionsDto result = sewSelfAwarenessService.retrieveFilteringOptionsForLocalAnalytics(request);
+
+            assertThat(result.getDistinctValues().getVariables()).containsExactly("Speed");
+            verify(localAnalyticsQueryService, never()).aggregateFilteringOptions();
+        }
     }
 
     @Nested
     @DisplayName("Generate Histogram for Comparing Modules")
     class GenerateHistogramForComparingModules {
 
+        @Test
+        @DisplayName("Generate histogram : Only matching results are streamed into the request")
+        @SuppressWarnings("unchecked")
+        void givenComparedModules_whenGenerateHistogram_thenStreamsOnlyMatchingResults() throws Exception {
+            SewFilteringOptionsDto.Options firstParameters = new SewFilteringOptionsDto.Options("Cell1", "Module1", null, "Component1", "Speed", null);
+            SewFilteringOptionsDto.Options secondParameters = new SewFilteringOptionsDto.Options("Cell2", "Module2", null, "Component1", "Speed", null);
+            GlobalRequestDto<SewLocalAnalyticsInputDto> request = GlobalRequestDto.<SewLocalAnalyticsInputDto>builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_1")
+                    .input(SewLocalAnalyticsInputDto.builder().firstParameters(firstParameters).secondParameters(secondParameters).build())
+                    .build();
+            Criteria histogramCriteria = new Criteria("module").matches("Module1");
+            ResponseEntity<DtResponseDto> response = ResponseEntity.ok(new DtResponseDto());
+
+            when(exceptionHandler.handleOperation(any(), anyString()))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(localAnalyticsQueryService.createHistogramCriteria(firstParameters, secondParameters)).thenReturn(histogramCriteria);
+            doAnswer(invocation -> {
+                Consumer<List<SewSelfAwarenessMonitoringKpisResults>> pageConsumer = invocation.getArgument(4);
+                pageConsumer.accept(List.of(sampleEntity));
+                pageConsumer.accept(List.of(sampleEntity));
+                return null;
+            }).when(paginationService).streamAll(eq(SewSelfAwarenessMonitoringKpisResults.class), eq(histogramCriteria), any(Sort.class), anyInt(), any());
+            when(modelMapper.map(sampleEntity, SewSelfAwarenessMonitoringKpisResultsDto.class)).thenReturn(sampleDto);
+            when(smartServicesInvocationService.formulateAndImplementStreamedSyncSmartServiceRequest(any(), eq("sew_module_1"), eq("service_1"))).thenReturn(response);
+            when(smartServicesInvocationService.validateDigitalTwinResponse(response, "Local Analytics")).thenReturn(false);
+
+            sewSelfAwarenessService.generateHistogramForComparingModules(request);
+
+            // Replay the captured writer to verify the generated request body
+            ArgumentCaptor<SmartServicesInvocationService.JsonPayloadWriter> writerCaptor = ArgumentCaptor.forClass(SmartServicesInvocationService.JsonPayloadWriter.class);
+            verify(smartServicesInvocationService).formulateAndImplementStreamedSyncSmartServiceRequest(writerCaptor.capture(), eq("sew_module_1"), eq("service_1"));
+            verify(sewSelfAwarenessMonitoringKpisResultsRepository, never()).findAll(any(Pageable.class));
+
+            ObjectMapper realObjectMapper = new ObjectMapper().findAndRegisterModules();
+            StringWriter body = new StringWriter();
+            try (JsonGenerator generator = realObjectMapper.getFactory().createGenerator(body)) {
+                writerCaptor.getValue().writeTo(generator);
+            }
+            JsonNode payload = realObjectMapper.readTree(body.toString());
+            assertThat(payload.get("histogram_data")).hasSize(2);
+            assertThat(payload.get("params1").get("Module").asText()).isEqualTo("Module1");
+            assertThat(payload.get("params2").get("Module").asText()).isEqualTo("Module2");
+        }
+
         @Test
         @DisplayName("Generate histogram : Success")
         void givenValidRequest_whenGenerateHistogram_thenReturnsEncodedImage() {
@@ -354,6 +658,107 @@ class SewSelfAwarenessServiceTests {
             assertThat(result).isNotNull();
             verify(exceptionHandler).handleOperation(any(), eq("generateHistogramForComparingModules"));
         }
+        @Test
+        @DisplayName("Generate histogram : LOCAL engine renders the image in-process")
+        void givenLocalEngine_whenGenerateHistogram_thenSkipsDigitalTwin() {
+            SewLocalAnalyticsInputDto analyticsInput = SewLocalAnalyticsInputDto.builder()
+                    .firstParameters(new SewFilteringOptionsDto.Options())
+                    .engine(HistogramEngine.LOCAL)
+                    .build();
+            GlobalRequestDto<SewLocalAnalyticsInputDto> request = GlobalRequestDto.<SewLocalAnalyticsInputDto>builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_1")
+                    .input(analyticsInput)
+                    .build();
+
+            when(exceptionHandler.handleOperation(any(), anyString()))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(histogramService.renderHistogram(analyticsInput)).thenReturn("localImage");
+
+            String result = sewSelfAwarenessService.generateHistogramForComparingModules(request);
+
+            assertThat(result).isEqualTo("localImage");
+            verifyNoInteractions(smartServicesInvocationService, paginationService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Compute Histogram for Comparing Modules")
+    class ComputeHistogramForComparingModules {
+
+        @Test
+        @DisplayName("Compute histogram : Bins and statistics computed in-process")
+        void givenValidRequest_whenComputeHistogram_thenReturnsHistogram() {
+            SewLocalAnalyticsInputDto analyticsInput = SewLocalAnalyticsInputDto.builder()
+                    .firstParameters(new SewFilteringOptionsDto.Options())
+                    .build();
+            GlobalRequestDto<SewLocalAnalyticsInputDto> request = GlobalRequestDto.<SewLocalAnalyticsInputDto>builder()
+                    .moduleId("sew_module_1")
+                    .smartServiceId("service_1")
+                    .input(analyticsInput)
+                    .build();
+            SewHistogramDto histogram = SewHistogramDto.builder().binEdges(List.of(0.0, 1.0)).build();
+
+            when(exceptionHandler.handleOperation(any(), eq("computeHistogramForComparingModules")))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(histogramService.computeHistogram(analyticsInput)).thenReturn(histogram);
+
+            SewHistogramDto result = sewSelfAwarenessService.computeHistogramForComparingModules(request);
+
+            assertThat(result).isSameAs(histogram);
+            verifyNoInteractions(smartServicesInvocationService);
+        }
+    }
+
+    @Nested
+    @DisplayName("In-Memory Real-Time Monitoring Results")
+    class InMemoryRealTimeMonitoringResults {
+
+        @Test
+        @DisplayName("Retrieve current results : Served without Elasticsearch")
+        void givenModuleId_whenRetrieveCurrentResults_thenReadsFromMemory() {
+            List<SewSelfAwarenessRealTimeMonitoringResultsDto> expected = List.of(SewSelfAwarenessRealTimeMonitoringResultsDto.builder().property("Speed").build());
+            when(exceptionHandler.handleOperation(any(), eq("retrieveCurrentSelfAwarenessRealTimeMonitoringResults")))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(realTimeMonitoringStore.retrieveLatest("sew_module_1")).thenReturn(expected);
+
+            List<SewSelfAwarenessRealTimeMonitoringResultsDto> result = sewSelfAwarenessService.retrieveCurrentSelfAwarenessRealTimeMonitoringResults("sew_module_1");
+
+            assertThat(result).isSameAs(expected);
+            verifyNoInteractions(sewSelfAwarenessRealTimeMonitoringResultsRepository, paginationService);
+        }
+
+        @Test
+        @DisplayName("Retrieve recent results : Served without Elasticsearch")
+        void givenLimit_whenRetrieveRecentResults_thenReadsFromMemory() {
+            when(exceptionHandler.handleOperation(any(), eq("retrieveRecentSelfAwarenessRealTimeMonitoringResults")))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(realTimeMonitoringStore.retrieveRecent(null, 5)).thenReturn(List.of());
+
+            assertThat(sewSelfAwarenessService.retrieveRecentSelfAwarenessRealTimeMonitoringResults(null, 5)).isEmpty();
+            verify(realTimeMonitoringStore).retrieveRecent(null, 5);
+            verifyNoInteractions(sewSelfAwarenessRealTimeMonitoringResultsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Monitoring KPIs Store")
+    class QueryMonitoringKpisStore {
+
+        @Test
+        @DisplayName("Query KPI store : Statistics answered from memory")
+        void givenQuery_whenQueryMonitoringKpisStore_thenDelegatesToStore() {
+            SewKpiQueryDto query = SewKpiQueryDto.builder().moduleIds(List.of("sew_module_1")).build();
+            SewKpiQueryResultDto expected = SewKpiQueryResultDto.builder().groups(List.of()).build();
+            when(exceptionHandler.handleOperation(any(), eq("queryMonitoringKpisStore")))
+                    .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+            when(kpiStore.query(query)).thenReturn(expected);
+
+            SewKpiQueryResultDto result = sewSelfAwarenessService.queryMonitoringKpisStore(query);
+
+            assertThat(result).isSameAs(expected);
+            verifyNoInteractions(sewSelfAwarenessMonitoringKpisResultsRepository, paginationService);
+        }
     }
 
     @Nested
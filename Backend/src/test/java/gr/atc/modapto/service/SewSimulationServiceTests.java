@@ -1,7 +1,12 @@
 package gr.atc.modapto.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gr.atc.modapto.config.properties.LatestResultCacheProperties;
+import gr.atc.modapto.dto.serviceInvocations.SewSimulationInputDto;
 import gr.atc.modapto.dto.serviceResults.sew.SewSimulationResultsDto;
 import gr.atc.modapto.dto.sew.SewPlantEnvironmentDto;
+import gr.atc.modapto.enums.FrequencyType;
+import gr.atc.modapto.events.ScheduledTaskRegistrationEvent;
 import gr.atc.modapto.exception.CustomExceptions;
 import gr.atc.modapto.model.serviceResults.SewSimulationResults;
 import gr.atc.modapto.model.sew.SewPlantEnvironment;
@@ -12,10 +17,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -44,6 +52,13 @@ class SewSimulationServiceTests {
     @Mock
     private SmartServicesInvocationService smartServicesInvocationService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // Pass-through cache, every lookup queries the repository
+    @Spy
+    private LatestResultCacheService latestResultCache = new LatestResultCacheService(new LatestResultCacheProperties(false, null, null), new ObjectMapper());
+
     @InjectMocks
     private SewSimulationService sewSimulationService;
 
@@ -339,4 +354,42 @@ class SewSimulationServiceTests {
         Object simulationData = new Object();
         return SewSimulationResultsDto.builder().id("1").timestamp(sampleTimestamp).data(simulationData).build();
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Invoke Simulation of Production Schedules")
+    class InvokeSimulationOfProductionSchedules {
+
+        @Test
+        @DisplayName("Invoke and register simulation : Frequency registers a Scheduled Task")
+        void givenFrequency_whenInvokeAndRegisterSimulation_thenPublishesRegistrationEvent() {
+            SewSimulationInputDto inputData = SewSimulationInputDto.builder()
+                    .moduleId("test_module")
+                    .smartServiceId("test_service")
+                    .frequencyValue(12)
+                    .frequencyType(FrequencyType.HOURS)
+                    .build();
+
+            sewSimulationService.invokeAndRegisterSimulationOfProductionSchedules(inputData);
+
+            verify(smartServicesInvocationService).formulateAndImplementSmartServiceRequest(
+                    inputData, "hffs-sim", "SEW Simulation of Production Schedules");
+            ArgumentCaptor<ScheduledTaskRegistrationEvent> eventCaptor = ArgumentCaptor.forClass(ScheduledTaskRegistrationEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getTaskType()).isEqualTo("SEW_SIMULATION");
+            assertThat(eventCaptor.getValue().getScheduledTask().getFrequencyValue()).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("Invoke and register simulation : No frequency skips the registration")
+        void givenNoFrequency_whenInvokeAndRegisterSimulation_thenDoesNotPublishEvent() {
+            SewSimulationInputDto inputData = SewSimulationInputDto.builder()
+                    .moduleId("test_module")
+                    .smartServiceId("test_service")
+                    .build();
+
+            sewSimulationService.invokeAndRegisterSimulationOfProductionSchedules(inputData);
+
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+}
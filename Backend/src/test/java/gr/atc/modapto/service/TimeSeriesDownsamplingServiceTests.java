@@ -0,0 +1,88 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.enums.DownsamplingMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimeSeriesDownsamplingService Unit Tests")
+class TimeSeriesDownsamplingServiceTests {
+
+    private TimeSeriesDownsamplingService downsamplingService;
+
+    @BeforeEach
+    void setUp() {
+        downsamplingService = new TimeSeriesDownsamplingService();
+    }
+
+    private SewSelfAwarenessMonitoringKpisResultsDto createResult(String id, int length) {
+        return SewSelfAwarenessMonitoringKpisResultsDto.builder()
+                .id(id)
+                .moduleId("TEST_MODULE")
+                .variable("Temperature")
+                .data(IntStream.range(0, length).mapToObj(i -> Math.cos(i / 15.0)).toList())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Downsample : Original result is left untouched")
+    void givenLongSeries_whenDownsample_thenReturnsDownsampledCopy() {
+        SewSelfAwarenessMonitoringKpisResultsDto result = createResult("result-1", 2_000);
+
+        SewSelfAwarenessMonitoringKpisResultsDto downsampled = downsamplingService.downsample(result, DownsamplingMethod.AVERAGE, 100);
+
+        assertThat(downsampled.getData()).hasSize(100);
+        assertThat(downsampled.getDataIndices()).hasSize(100);
+        assertThat(downsampled.getVariable()).isEqualTo("Temperature");
+        assertThat(result.getData()).hasSize(2_000);
+        assertThat(result.getDataIndices()).isNull();
+    }
+
+    @Test
+    @DisplayName("Downsample : Defaults to LTTB with 500 points")
+    void givenOnlyMethod_whenDownsample_thenUsesDefaultTargetPoints() {
+        SewSelfAwarenessMonitoringKpisResultsDto downsampled = downsamplingService.downsample(createResult("result-1", 2_000), DownsamplingMethod.LTTB, null);
+
+        assertThat(downsampled.getData()).hasSize(TimeSeriesDownsamplingService.DEFAULT_TARGET_POINTS);
+    }
+
+    @Test
+    @DisplayName("Downsample : Without parameters the same result is returned")
+    void givenNoParameters_whenDownsample_thenReturnsSameResult() {
+        SewSelfAwarenessMonitoringKpisResultsDto result = createResult("result-1", 2_000);
+
+        assertThat(downsamplingService.downsample(result, null, null)).isSameAs(result);
+    }
+
+    @Test
+    @DisplayName("Downsample : Updated result with the same ID is downsampled again")
+    void givenUpdatedResultWithSameId_whenDownsample_thenDownsamplesNewSeries() {
+        List<Double> first = downsamplingService.downsample(createResult("result-1", 2_000), DownsamplingMethod.LTTB, 100).getData();
+        SewSelfAwarenessMonitoringKpisResultsDto updated = createResult("result-1", 2_000).toBuilder()
+                .data(IntStream.range(0, 2_000).mapToObj(i -> Math.sin(i / 15.0)).toList())
+                .build();
+
+        List<Double> second = downsamplingService.downsample(updated, DownsamplingMethod.LTTB, 100).getData();
+
+        assertThat(second).hasSize(100).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Downsample page : Cursor is preserved")
+    void givenPage_whenDownsample_thenKeepsCursor() {
+        CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> page =
+                new CursorPaginatedResultsDto<>(List.of(createResult("result-1", 2_000), createResult("result-2", 50)), "cursor-2", false);
+
+        CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> downsampled = downsamplingService.downsample(page, DownsamplingMethod.LTTB, 100);
+
+        assertThat(downsampled.getNextCursor()).isEqualTo("cursor-2");
+        assertThat(downsampled.getResults()).extracting(result -> result.getData().size()).containsExactly(100, 50);
+    }
+}
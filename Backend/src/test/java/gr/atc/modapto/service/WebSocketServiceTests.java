@@ -0,0 +1,95 @@
+package gr.atc.modapto.service;
+
+import gr.atc.modapto.config.properties.WebSocketLoggingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketService Tests")
+class WebSocketServiceTests {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private WebSocketSubscriptionRegistry subscriptionRegistry;
+
+    private WebSocketService webSocketService;
+
+    @BeforeEach
+    void setUp() {
+        webSocketService = new WebSocketService(messagingTemplate, new WebSocketLoggingProperties(1, 8), subscriptionRegistry);
+    }
+
+    @Test
+    @DisplayName("Notify topic : JSON payload sent unchanged with JSON content type")
+    @SuppressWarnings("unchecked")
+    void givenJsonPayload_whenNotifyInWebSocketTopic_thenSendsPayloadAsJson() {
+        byte[] payload = "{\"id\":\"result-1\",\"values\":[1,2,3]}".getBytes(StandardCharsets.UTF_8);
+        when(subscriptionRegistry.hasSubscribers("Test-Topic")).thenReturn(true);
+
+        webSocketService.notifyInWebSocketTopic(payload, "Test-Topic");
+
+        ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/events/test-topic"), messageCaptor.capture());
+        assertThat(messageCaptor.getValue().getPayload()).isSameAs(payload);
+        assertThat(messageCaptor.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    @DisplayName("Notify topic : Remaining payloads sent after a failed send")
+    void givenFailingSend_whenNotifyInWebSocketTopicWithPayloads_thenSendsRemainingPayloads() {
+        when(subscriptionRegistry.hasSubscribers("test-topic")).thenReturn(true);
+        doThrow(new MessageDeliveryException("Send failure"))
+                .doNothing()
+                .when(messagingTemplate).send(eq("/topic/events/test-topic"), any());
+
+        webSocketService.notifyInWebSocketTopic(List.of(
+                "{\"id\":1}".getBytes(StandardCharsets.UTF_8),
+                "{\"id\":2}".getBytes(StandardCharsets.UTF_8)), "test-topic");
+
+        verify(messagingTemplate, times(2)).send(eq("/topic/events/test-topic"), any());
+    }
+
+    @Test
+    @DisplayName("Notify topic : Nothing sent without subscribers")
+    void givenTopicWithoutSubscribers_whenNotifyInWebSocketTopic_thenSkipsSend() {
+        when(subscriptionRegistry.hasSubscribers("test-topic")).thenReturn(false);
+
+        webSocketService.notifyInWebSocketTopic("{\"id\":1}".getBytes(StandardCharsets.UTF_8), "test-topic");
+        webSocketService.notifyInWebSocketTopic("{\"id\":2}", "test-topic");
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("Logging properties : Defaults applied")
+    void givenMissingLoggingProperties_whenCreated_thenAppliesDefaults() {
+        WebSocketLoggingProperties properties = new WebSocketLoggingProperties(null, 0);
+
+        assertThat(properties.bodySampleRate()).isEqualTo(100);
+        assertThat(properties.bodyMaxLength()).isEqualTo(256);
+    }
+}
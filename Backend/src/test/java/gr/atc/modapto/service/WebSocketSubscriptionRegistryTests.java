@@ -0,0 +1,119 @@
+package gr.atc.modapto.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebSocketSubscriptionRegistry Tests")
+class WebSocketSubscriptionRegistryTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private WebSocketSubscriptionRegistry subscriptionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        subscriptionRegistry = new WebSocketSubscriptionRegistry(meterRegistry);
+    }
+
+    private Message<byte[]> createMessage(SimpMessageType messageType, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(messageType);
+        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setSubscriptionId(subscriptionId);
+        headerAccessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], headerAccessor.getMessageHeaders());
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        subscriptionRegistry.onSubscribe(new SessionSubscribeEvent(this, createMessage(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId, destination)));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        subscriptionRegistry.onUnsubscribe(new SessionUnsubscribeEvent(this, createMessage(SimpMessageType.UNSUBSCRIBE, sessionId, subscriptionId, null)));
+    }
+
+    private void disconnect(String sessionId) {
+        subscriptionRegistry.onDisconnect(new SessionDisconnectEvent(this, createMessage(SimpMessageType.DISCONNECT, sessionId, null, null), sessionId, CloseStatus.NORMAL));
+    }
+
+    @Test
+    @DisplayName("Subscribe : Subscribers counted per topic and exposed as gauge")
+    void givenSubscriptions_whenSubscribe_thenCountsSubscribersPerTopic() {
+        subscribe("session-1", "sub-1", "/topic/events/production-schedule-optimization");
+        subscribe("session-2", "sub-1", "/topic/events/production-schedule-optimization");
+        subscribe("session-2", "sub-2", "/topic/events/predictive-maintenance");
+
+        assertThat(subscriptionRegistry.hasSubscribers("Production-Schedule-Optimization")).isTrue();
+        assertThat(subscriptionRegistry.getSubscriberCount("production-schedule-optimization")).isEqualTo(2);
+        assertThat(subscriptionRegistry.hasSubscribers("unobserved-topic")).isFalse();
+        assertThat(meterRegistry.get("websocket.topic.subscribers").tag("topic", "production-schedule-optimization").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.topic.subscribers").tag("topic", "predictive-maintenance").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Unsubscribe : Last subscription removes the topic gauge")
+    void givenSubscription_whenUnsubscribe_thenTopicAndGaugeRemoved() {
+        subscribe("session-1", "sub-1", "/topic/events/test-topic");
+
+        unsubscribe("session-1", "sub-1");
+        unsubscribe("session-1", "sub-1");
+
+        assertThat(subscriptionRegistry.hasSubscribers("test-topic")).isFalse();
+        assertThat(meterRegistry.find("websocket.topic.subscribers").tag("topic", "test-topic").gauge()).isNull();
+    }
+
+    @Test
+    @DisplayName("Subscribe : Topic subscribed again after removal is counted from zero")
+    void givenRemovedTopic_whenSubscribeAgain_thenRegistersGaugeAgain() {
+        subscribe("session-1", "sub-1", "/topic/events/test-topic");
+        disconnect("session-1");
+
+        subscribe("session-2", "sub-1", "/topic/events/test-topic");
+
+        assertThat(subscriptionRegistry.getSubscriberCount("test-topic")).isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.topic.subscribers").tag("topic", "test-topic").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Disconnect : Every subscription of the session removed once")
+    void givenSessionSubscriptions_whenDisconnect_thenRemovesSessionSubscriptions() {
+        subscribe("session-1", "sub-1", "/topic/events/topic-a");
+        subscribe("session-1", "sub-2", "/topic/events/topic-b");
+        subscribe("session-2", "sub-1", "/topic/events/topic-a");
+
+        disconnect("session-1");
+        disconnect("session-1");
+
+        assertThat(subscriptionRegistry.getSubscriberCount("topic-a")).isEqualTo(1);
+        assertThat(subscriptionRegistry.hasSubscribers("topic-b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Subscribe with pattern : Matching topics have subscribers")
+    void givenPatternSubscription_whenHasSubscribers_thenMatchesTopics() {
+        subscribe("session-1", "sub-1", "/topic/events/sew-*");
+
+        assertThat(subscriptionRegistry.hasSubscribers("sew-process-drift")).isTrue();
+        assertThat(subscriptionRegistry.hasSubscribers("crf-process-drift")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Subscribe : Destinations outside the event topics are ignored")
+    void givenNonEventDestination_whenSubscribe_thenNotTracked() {
+        subscribe("session-1", "sub-1", "/user/queue/notifications");
+
+        assertThat(meterRegistry.find("websocket.topic.subscribers").gauges()).isEmpty();
+    }
+}
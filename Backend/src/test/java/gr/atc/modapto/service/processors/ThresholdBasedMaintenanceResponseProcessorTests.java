@@ -9,6 +9,7 @@ import gr.atc.modapto.exception.CustomExceptions.DtmServerErrorException;
 import gr.atc.modapto.exception.CustomExceptions.SmartServiceInvocationException;
 import gr.atc.modapto.model.serviceResults.SewThresholdBasedPredictiveMaintenanceResult;
 import gr.atc.modapto.repository.SewThresholdBasedPredictiveMaintenanceRepository;
+import gr.atc.modapto.service.LatestResultCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -47,6 +48,9 @@ class ThresholdBasedMaintenanceResponseProcessorTests {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private LatestResultCacheService latestResultCache;
+
     @InjectMocks
     private ThresholdBasedMaintenanceResponseProcessor processor;
 
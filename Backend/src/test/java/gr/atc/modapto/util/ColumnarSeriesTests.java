@@ -0,0 +1,135 @@
+package gr.atc.modapto.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ColumnarSeries Unit Tests")
+class ColumnarSeriesTests {
+
+    private ColumnarSeries createSeries(int segmentSize, int values) {
+        ColumnarSeries series = new ColumnarSeries(segmentSize);
+        for (int i = 0; i < values; i++)
+            series.append(1000L + i * 10, i);
+        return series;
+    }
+
+    @Nested
+    @DisplayName("Append and Scan")
+    class AppendAndScan {
+
+        @Test
+        @DisplayName("Scan : Values across segment boundaries")
+        void givenSeveralSegments_whenForEachValue_thenVisitsRangeInOrder() {
+            ColumnarSeries series = createSeries(4, 10);
+            List<Double> visited = new ArrayList<>();
+
+            series.forEachValue(2, 9, visited::add);
+
+            assertThat(visited).containsExactly(2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
+            assertThat(series.size()).isEqualTo(10);
+            assertThat(series.valueAt(5)).isEqualTo(5.0);
+            assertThat(series.lastTimestamp()).isEqualTo(1090L);
+        }
+
+        @Test
+        @DisplayName("Lower bound : First position at or after a timestamp")
+        void givenTimestamps_whenLowerBound_thenReturnsFirstMatchingPosition() {
+            ColumnarSeries series = createSeries(4, 10);
+
+            assertThat(series.lowerBound(0L)).isZero();
+            assertThat(series.lowerBound(1030L)).isEqualTo(3);
+            assertThat(series.lowerBound(1031L)).isEqualTo(4);
+            assertThat(series.lowerBound(5000L)).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Append : Older timestamp is rejected")
+        void givenOlderTimestamp_whenAppend_thenThrowsIllegalArgumentException() {
+            ColumnarSeries series = createSeries(4, 2);
+
+            assertThatThrownBy(() -> series.append(999L, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordered Insert")
+    class OrderedInsert {
+
+        @Test
+        @DisplayName("Insert : Older value is placed at its timestamp across segments")
+        void givenOlderTimestamp_whenInsert_thenShiftsNewerValuesAcrossSegments() {
+            ColumnarSeries series = createSeries(4, 8);
+
+            series.insert(1015L, 99.0);
+
+            assertThat(series.size()).isEqualTo(9);
+            assertThat(series.timestampAt(2)).isEqualTo(1015L);
+            assertThat(series.valueAt(2)).isEqualTo(99.0);
+            assertThat(series.timestampAt(3)).isEqualTo(1020L);
+            assertThat(series.timestampAt(4)).isEqualTo(1030L);
+            assertThat(series.timestampAt(8)).isEqualTo(1070L);
+            assertThat(series.valueAt(8)).isEqualTo(7.0);
+            List<Double> visited = new ArrayList<>();
+            series.forEachValue(0, series.size(), visited::add);
+            assertThat(visited).containsExactly(0.0, 1.0, 99.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0);
+        }
+
+        @Test
+        @DisplayName("Insert : Equal timestamps keep their insertion order")
+        void givenEqualTimestamp_whenInsert_thenPlacesAfterExistingValue() {
+            ColumnarSeries series = createSeries(4, 3);
+
+            series.insert(1000L, 50.0);
+            series.insert(500L, 40.0);
+            series.insert(2000L, 60.0);
+
+            List<Double> visited = new ArrayList<>();
+            series.forEachValue(0, series.size(), visited::add);
+            assertThat(visited).containsExactly(40.0, 0.0, 50.0, 1.0, 2.0, 60.0);
+            assertThat(series.firstTimestamp()).isEqualTo(500L);
+            assertThat(series.lastTimestamp()).isEqualTo(2000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction and Footprint")
+    class EvictionAndFootprint {
+
+        @Test
+        @DisplayName("Evict : Oldest segment is removed")
+        void givenSeveralSegments_whenEvictOldestSegment_thenDropsFirstValues() {
+            ColumnarSeries series = createSeries(4, 10);
+
+            assertThat(series.evictOldestSegment()).isEqualTo(4);
+            assertThat(series.size()).isEqualTo(6);
+            assertThat(series.valueAt(0)).isEqualTo(4.0);
+            assertThat(series.firstTimestamp()).isEqualTo(1040L);
+
+            series.append(2000L, 10);
+            assertThat(series.valueAt(6)).isEqualTo(10.0);
+        }
+
+        @Test
+        @DisplayName("Evict : Partial last segment empties the series")
+        void givenSingleSegment_whenEvictOldestSegment_thenSeriesIsEmpty() {
+            ColumnarSeries series = createSeries(4, 3);
+
+            assertThat(series.evictOldestSegment()).isEqualTo(3);
+            assertThat(series.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Footprint : 16 bytes per allocated value")
+        void givenValues_whenEstimatedBytes_thenCountsAllocatedSegments() {
+            ColumnarSeries series = createSeries(1024, 1025);
+
+            assertThat(series.estimatedBytes()).isEqualTo(ColumnarSeries.SERIES_OVERHEAD_BYTES + 2 * (2 * (16 + 1024 * 8)));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package gr.atc.modapto.util;
+
+import gr.atc.modapto.controller.BaseResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ETagUtils Unit Tests")
+class ETagUtilsTests {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    @Test
+    @DisplayName("Result ETag : Same result gives the same strong ETag")
+    void givenSameResult_whenResultETag_thenReturnsSameQuotedETag() {
+        String eTag = ETagUtils.resultETag("1", TIMESTAMP);
+
+        assertThat(eTag).isEqualTo(ETagUtils.resultETag("1", TIMESTAMP));
+        assertThat(eTag).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+    }
+
+    @Test
+    @DisplayName("Result ETag : Changes with ID, timestamp and variants")
+    void givenDifferentResults_whenResultETag_thenReturnsDifferentETags() {
+        String eTag = ETagUtils.resultETag("1", TIMESTAMP);
+
+        assertThat(ETagUtils.resultETag("2", TIMESTAMP)).isNotEqualTo(eTag);
+        assertThat(ETagUtils.resultETag("1", TIMESTAMP.plusSeconds(1))).isNotEqualTo(eTag);
+        assertThat(ETagUtils.resultETag("1", TIMESTAMP, "GORILLA")).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("Result ETag : No ETag without ID and timestamp")
+    void givenResultWithoutIdAndTimestamp_whenResultETag_thenReturnsNull() {
+        assertThat(ETagUtils.resultETag(null, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Is not modified : Matches lists, weak ETags and wildcard")
+    void givenIfNoneMatchHeaders_whenIsNotModified_thenComparesWeakly() {
+        String eTag = ETagUtils.resultETag("1", TIMESTAMP);
+
+        assertThat(ETagUtils.isNotModified(eTag, eTag)).isTrue();
+        assertThat(ETagUtils.isNotModified("\"other\", " + eTag, eTag)).isTrue();
+        assertThat(ETagUtils.isNotModified("W/" + eTag, eTag)).isTrue();
+        assertThat(ETagUtils.isNotModified("*", eTag)).isTrue();
+        assertThat(ETagUtils.isNotModified("\"other\"", eTag)).isFalse();
+        assertThat(ETagUtils.isNotModified(null, eTag)).isFalse();
+        assertThat(ETagUtils.isNotModified("*", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Conditional response : Body is not created when not modified")
+    void givenMatchingETag_whenConditionalResponse_thenReturnsNotModifiedWithoutBody() {
+        String eTag = ETagUtils.resultETag("1", TIMESTAMP);
+        AtomicInteger bodies = new AtomicInteger();
+
+        ResponseEntity<BaseResponse<String>> response = ETagUtils.conditionalResponse(eTag, eTag, CacheControl.noCache(), () -> {
+            bodies.incrementAndGet();
+            return BaseResponse.success("result");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(response.getBody()).isNull();
+        assertThat(bodies).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Conditional response : Body and ETag are sent when modified")
+    void givenStaleETag_whenConditionalResponse_thenReturnsBodyWithETag() {
+        String eTag = ETagUtils.resultETag("2", TIMESTAMP);
+
+        ResponseEntity<BaseResponse<String>> response = ETagUtils.conditionalResponse(ETagUtils.resultETag("1", TIMESTAMP), eTag,
+                CacheControl.noCache(), () -> BaseResponse.success("result"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(response.getBody().getData()).isEqualTo("result");
+    }
+}
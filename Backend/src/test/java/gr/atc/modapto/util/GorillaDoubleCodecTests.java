@@ -0,0 +1,97 @@
+package gr.atc.modapto.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GorillaDoubleCodec Unit Tests")
+class GorillaDoubleCodecTests {
+
+    @Nested
+    @DisplayName("Round Trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("Round trip : Random values are restored exactly")
+        void givenRandomValues_whenEncodeAndDecode_thenRestoresValues() {
+            Random random = new Random(42);
+            double[] values = IntStream.range(0, 10_000).mapToDouble(i -> random.nextGaussian() * 1000).toArray();
+
+            assertThat(GorillaDoubleCodec.decode(GorillaDoubleCodec.encode(values))).containsExactly(values);
+        }
+
+        @Test
+        @DisplayName("Round trip : Special values are restored bit for bit")
+        void givenSpecialValues_whenEncodeAndDecode_thenRestoresBits() {
+            double[] values = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                    Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, 1.0, 1.0};
+
+            double[] decoded = GorillaDoubleCodec.decode(GorillaDoubleCodec.encode(values));
+
+            assertThat(decoded).hasSize(values.length);
+            for (int i = 0; i < values.length; i++)
+                assertThat(Double.doubleToRawLongBits(decoded[i])).isEqualTo(Double.doubleToRawLongBits(values[i]));
+        }
+
+        @Test
+        @DisplayName("Round trip : Empty and single value series")
+        void givenShortSeries_whenEncodeAndDecode_thenRestoresValues() {
+            assertThat(GorillaDoubleCodec.decode(GorillaDoubleCodec.encode(new double[0]))).isEmpty();
+            assertThat(GorillaDoubleCodec.decode(GorillaDoubleCodec.encode(new double[]{42.5}))).containsExactly(42.5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Compression")
+    class Compression {
+
+        @Test
+        @DisplayName("Compression : Constant series takes one bit per repeated value")
+        void givenConstantSeries_whenEncode_thenTakesOneBitPerValue() {
+            double[] values = new double[8_000];
+            Arrays.fill(values, 21.5);
+
+            // 2 bytes of count, 8 bytes of first value and 7999 bits
+            assertThat(GorillaDoubleCodec.encode(values)).hasSize(2 + 8 + 1000);
+        }
+
+        @Test
+        @DisplayName("Compression : Sensor readings take a fraction of the raw size")
+        void givenQuantizedSensorReadings_whenEncode_thenSmallerThanRawDoubles() {
+            double[] values = IntStream.range(0, 10_000)
+                    .mapToDouble(i -> Math.round((50 + 10 * Math.sin(i / 200.0)) * 10) / 10.0)
+                    .toArray();
+
+            assertThat(GorillaDoubleCodec.encode(values).length).isLessThan(values.length * Double.BYTES / 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid Input")
+    class InvalidInput {
+
+        @Test
+        @DisplayName("Invalid input : Truncated series")
+        void givenTruncatedSeries_whenDecode_thenThrowsException() {
+            byte[] encoded = GorillaDoubleCodec.encode(new double[]{1.5, 2.5, 3.75, 100.125});
+
+            assertThatThrownBy(() -> GorillaDoubleCodec.decode(Arrays.copyOf(encoded, encoded.length - 3)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Invalid input : Count larger than the encoded bits")
+        void givenExcessiveCount_whenDecode_thenThrowsException() {
+            byte[] encoded = {(byte) 0xFF, (byte) 0xFF, 0x7F, 0, 0};
+
+            assertThatThrownBy(() -> GorillaDoubleCodec.decode(encoded))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package gr.atc.modapto.util;
+
+import gr.atc.modapto.enums.HistogramBinStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HistogramBinning Unit Tests")
+class HistogramBinningTests {
+
+    @Nested
+    @DisplayName("Bin Edges")
+    class BinEdges {
+
+        @Test
+        @DisplayName("Fixed width : Number of bins over the common range")
+        void givenTwoSeries_whenBinEdgesWithBins_thenSplitsCommonRange() {
+            double[] edges = HistogramBinning.binEdges(new double[][]{{0, 5}, {10}}, HistogramBinStrategy.FIXED_WIDTH, 4, null);
+
+            assertThat(edges).containsExactly(0, 2.5, 5, 7.5, 10);
+        }
+
+        @Test
+        @DisplayName("Fixed width : Rounded range keeps the requested number of bins")
+        void givenRangeNotExactlyDivisible_whenBinEdgesWithBins_thenReturnsRequestedBins() {
+            double[] edges = HistogramBinning.binEdges(new double[][]{{0, 0.3}}, HistogramBinStrategy.FIXED_WIDTH, 3, null);
+
+            assertThat(edges).hasSize(4);
+            assertThat(edges[0]).isZero();
+            assertThat(edges[3]).isEqualTo(0.3);
+        }
+
+        @Test
+        @DisplayName("Fixed width : Bin width overrides the number of bins")
+        void givenBinWidth_whenBinEdges_thenUsesWidth() {
+            double[] edges = HistogramBinning.binEdges(new double[][]{{0, 9}}, HistogramBinStrategy.FIXED_WIDTH, 100, 3.0);
+
+            assertThat(edges).containsExactly(0, 3, 6, 9);
+        }
+
+        @Test
+        @DisplayName("Freedman-Diaconis : Width derived from the interquartile range")
+        void givenNormalSample_whenBinEdgesWithFreedmanDiaconis_thenUsesIqrWidth() {
+            Random random = new Random(42);
+            double[] data = IntStream.range(0, 8000).mapToDouble(i -> random.nextGaussian()).toArray();
+
+            double[] edges = HistogramBinning.binEdges(new double[][]{data}, HistogramBinStrategy.FREEDMAN_DIACONIS, null, null);
+
+            // IQR of a standard normal is ~1.349, so the width is ~2 * 1.349 / 20
+            assertThat(edges[1] - edges[0]).isCloseTo(0.135, within(0.01));
+        }
+
+        @Test
+        @DisplayName("Freedman-Diaconis : Zero interquartile range falls back to default bins")
+        void givenConstantBulk_whenBinEdgesWithFreedmanDiaconis_thenUsesDefaultBins() {
+            double[] data = new double[100];
+            data[99] = 10;
+
+            double[] edges = HistogramBinning.binEdges(new double[][]{data}, HistogramBinStrategy.FREEDMAN_DIACONIS, null, null);
+
+            assertThat(edges).hasSize(HistogramBinning.DEFAULT_BINS + 1);
+        }
+
+        @Test
+        @DisplayName("Bin edges : Constant series produces a single bin")
+        void givenConstantSeries_whenBinEdges_thenReturnsSingleBin() {
+            assertThat(HistogramBinning.binEdges(new double[][]{{3, 3, 3}}, HistogramBinStrategy.FIXED_WIDTH, null, null))
+                    .containsExactly(2.5, 3.5);
+        }
+
+        @Test
+        @DisplayName("Bin edges : Number of bins is capped")
+        void givenTinyBinWidth_whenBinEdges_thenCapsBins() {
+            double[] edges = HistogramBinning.binEdges(new double[][]{{0, 1}}, HistogramBinStrategy.FIXED_WIDTH, null, 1e-9);
+
+            assertThat(edges).hasSize(HistogramBinning.MAX_BINS + 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Counts and Statistics")
+    class CountsAndStatistics {
+
+        @Test
+        @DisplayName("Counts : Upper edge belongs to the last bin and NaN is ignored")
+        void givenValuesOnEdges_whenCounts_thenAssignsToBins() {
+            long[] counts = HistogramBinning.counts(new double[]{0, 2.5, 4.99, 5, 10, Double.NaN}, new double[]{0, 2.5, 5, 7.5, 10});
+
+            assertThat(counts).containsExactly(1, 2, 1, 1);
+        }
+
+        @Test
+        @DisplayName("Counts : Total equals the number of values")
+        void givenRandomValues_whenCounts_thenTotalMatches() {
+            Random random = new Random(7);
+            double[] data = IntStream.range(0, 10_000).mapToDouble(i -> random.nextDouble() * 100).toArray();
+            double[] edges = HistogramBinning.binEdges(new double[][]{data}, HistogramBinStrategy.FIXED_WIDTH, 37, null);
+
+            assertThat(Arrays.stream(HistogramBinning.counts(data, edges)).sum()).isEqualTo(10_000);
+        }
+
+        @Test
+        @DisplayName("Statistics : Summary of a series")
+        void givenSeries_whenStatistics_thenReturnsSummary() {
+            HistogramBinning.Statistics statistics = HistogramBinning.statistics(new double[]{4, 1, 3, 2, 5, Double.NaN});
+
+            assertThat(statistics.count()).isEqualTo(5);
+            assertThat(statistics.min()).isEqualTo(1);
+            assertThat(statistics.max()).isEqualTo(5);
+            assertThat(statistics.mean()).isEqualTo(3);
+            assertThat(statistics.median()).isEqualTo(3);
+            assertThat(statistics.firstQuartile()).isEqualTo(2);
+            assertThat(statistics.thirdQuartile()).isEqualTo(4);
+            assertThat(statistics.standardDeviation()).isCloseTo(Math.sqrt(2.5), within(1e-12));
+        }
+
+        @Test
+        @DisplayName("Statistics : Empty series")
+        void givenEmptySeries_whenStatistics_thenReturnsNaN() {
+            HistogramBinning.Statistics statistics = HistogramBinning.statistics(new double[0]);
+
+            assertThat(statistics.count()).isZero();
+            assertThat(statistics.mean()).isNaN();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package gr.atc.modapto.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HistogramImageRenderer Unit Tests")
+class HistogramImageRendererTests {
+
+    @Test
+    @DisplayName("Render PNG : Valid image for two series")
+    void givenTwoSeries_whenRenderPng_thenReturnsPngImage() throws IOException {
+        byte[] png = HistogramImageRenderer.renderPng(new double[]{0, 1, 2, 3}, new long[]{5, 10, 2}, new long[]{1, 7, 9}, "Module1 / Speed", "Module2 / Speed");
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(image).isNotNull();
+        assertThat(image.getWidth()).isEqualTo(1000);
+        assertThat(image.getHeight()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("Render PNG : Single series without counts")
+    void givenEmptySingleSeries_whenRenderPng_thenReturnsPngImage() throws IOException {
+        byte[] png = HistogramImageRenderer.renderPng(new double[]{0, 1}, new long[]{0}, null, "Module1", null);
+
+        assertThat(ImageIO.read(new ByteArrayInputStream(png))).isNotNull();
+    }
+}
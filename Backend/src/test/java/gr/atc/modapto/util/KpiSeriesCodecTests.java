@@ -0,0 +1,159 @@
+package gr.atc.modapto.util;
+
+import gr.atc.modapto.config.ModelMapperConfig;
+import gr.atc.modapto.dto.CursorPaginatedResultsDto;
+import gr.atc.modapto.dto.serviceResults.sew.SewSelfAwarenessMonitoringKpisResultsDto;
+import gr.atc.modapto.enums.SeriesEncoding;
+import gr.atc.modapto.model.serviceResults.SewSelfAwarenessMonitoringKpisResults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("KpiSeriesCodec Unit Tests")
+class KpiSeriesCodecTests {
+
+    private static List<Double> sensorSeries(int length) {
+        return IntStream.range(0, length)
+                .mapToObj(i -> Math.round((50 + 10 * Math.sin(i / 200.0)) * 10) / 10.0)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Series Conversion")
+    class SeriesConversion {
+
+        @Test
+        @DisplayName("Encode series : Null points are restored as null")
+        void givenSeriesWithNullPoints_whenEncodeAndDecode_thenRestoresSeries() {
+            List<Double> data = Arrays.asList(1.5, null, 2.25, null, null, 3.0);
+
+            assertThat(KpiSeriesCodec.decode(KpiSeriesCodec.encode(data))).isEqualTo(data);
+        }
+
+        @Test
+        @DisplayName("Encode series : Null series stays null")
+        void givenNullSeries_whenEncodeAndDecode_thenReturnsNull() {
+            assertThat(KpiSeriesCodec.encode((List<Double>) null)).isNull();
+            assertThat(KpiSeriesCodec.decode(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("Stored values : Read from either storage form")
+        void givenBothStorageForms_whenRetrieveValues_thenReturnsSameValues() {
+            List<Double> data = Arrays.asList(4.0, null, 6.5);
+            SewSelfAwarenessMonitoringKpisResults legacy = SewSelfAwarenessMonitoringKpisResults.builder().data(data).build();
+            SewSelfAwarenessMonitoringKpisResults compressed = SewSelfAwarenessMonitoringKpisResults.builder().encodedData(KpiSeriesCodec.encode(data)).build();
+
+            assertThat(KpiSeriesCodec.values(legacy)).containsExactly(4.0, Double.NaN, 6.5);
+            assertThat(KpiSeriesCodec.values(compressed)).containsExactly(4.0, Double.NaN, 6.5);
+            assertThat(KpiSeriesCodec.values(new SewSelfAwarenessMonitoringKpisResults())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Compress result : Series moved to the binary field once")
+        void givenLegacyResult_whenCompress_thenReplacesDataArray() {
+            SewSelfAwarenessMonitoringKpisResults result = SewSelfAwarenessMonitoringKpisResults.builder().data(List.of(1.0, 2.0)).build();
+
+            assertThat(KpiSeriesCodec.compress(result)).isTrue();
+            assertThat(result.getData()).isNull();
+            assertThat(KpiSeriesCodec.decode(result.getEncodedData())).containsExactly(1.0, 2.0);
+            assertThat(KpiSeriesCodec.compress(result)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("API Encoding")
+    class ApiEncoding {
+
+        @Test
+        @DisplayName("Apply encoding : GORILLA replaces the list and keeps the indices")
+        void givenGorillaEncoding_whenApplyEncoding_thenReturnsEncodedSeries() {
+            SewSelfAwarenessMonitoringKpisResultsDto result = SewSelfAwarenessMonitoringKpisResultsDto.builder()
+                    .id("r1").data(List.of(1.0, 5.0)).dataIndices(List.of(0, 9)).build();
+
+            SewSelfAwarenessMonitoringKpisResultsDto encoded = KpiSeriesCodec.applyEncoding(result, SeriesEncoding.GORILLA);
+
+            assertThat(encoded.getData()).isNull();
+            assertThat(encoded.getDataIndices()).containsExactly(0, 9);
+            assertThat(KpiSeriesCodec.decode(encoded.getEncodedData())).containsExactly(1.0, 5.0);
+            assertThat(result.getData()).containsExactly(1.0, 5.0);
+        }
+
+        @Test
+        @DisplayName("Apply encoding : LIST or no encoding returns the results as they are")
+        void givenListEncoding_whenApplyEncoding_thenReturnsSameResults() {
+            SewSelfAwarenessMonitoringKpisResultsDto result = SewSelfAwarenessMonitoringKpisResultsDto.builder().data(List.of(1.0)).build();
+            CursorPaginatedResultsDto<SewSelfAwarenessMonitoringKpisResultsDto> page = new CursorPaginatedResultsDto<>(List.of(result), "cursor", false);
+
+            assertThat(KpiSeriesCodec.applyEncoding(result, SeriesEncoding.LIST)).isSameAs(result);
+            assertThat(KpiSeriesCodec.applyEncoding(page, null)).isSameAs(page);
+            assertThat(KpiSeriesCodec.applyEncoding(page, SeriesEncoding.GORILLA).getResults().getFirst().getEncodedData()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Mapping")
+    class Mapping {
+
+        @Test
+        @DisplayName("Map result : Compressed series is decoded into the list")
+        void givenCompressedResult_whenMapToDto_thenDecodesSeries() {
+            ModelMapper modelMapper = new ModelMapperConfig().modelMapper();
+            List<Double> data = sensorSeries(1000);
+            SewSelfAwarenessMonitoringKpisResults result = SewSelfAwarenessMonitoringKpisResults.builder()
+                    .id("r1").moduleId("Module1").encodedData(KpiSeriesCodec.encode(data)).build();
+
+            SewSelfAwarenessMonitoringKpisResultsDto dto = modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class);
+
+            assertThat(dto.getModuleId()).isEqualTo("Module1");
+            assertThat(dto.getData()).isEqualTo(data);
+            assertThat(dto.getEncodedData()).isNull();
+        }
+
+        @Test
+        @DisplayName("Map result : Legacy series is mapped as before")
+        void givenLegacyResult_whenMapToDto_thenCopiesSeries() {
+            ModelMapper modelMapper = new ModelMapperConfig().modelMapper();
+            SewSelfAwarenessMonitoringKpisResults result = SewSelfAwarenessMonitoringKpisResults.builder().id("r1").data(List.of(1.0, 2.0)).build();
+
+            assertThat(modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class).getData()).containsExactly(1.0, 2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Performance")
+    class Performance {
+
+        @Test
+        @DisplayName("Performance : Compressed storage and mapping of 200 series of 5000 points")
+        void givenManySeries_whenStoredCompressed_thenSmallerAndMappedInTime() {
+            ModelMapper modelMapper = new ModelMapperConfig().modelMapper();
+            List<Double> data = sensorSeries(5000);
+            List<SewSelfAwarenessMonitoringKpisResults> compressed = new ArrayList<>();
+            for (int i = 0; i < 200; i++)
+                compressed.add(SewSelfAwarenessMonitoringKpisResults.builder().id("r" + i).encodedData(KpiSeriesCodec.encode(data)).build());
+
+            long startTime = System.currentTimeMillis();
+            List<SewSelfAwarenessMonitoringKpisResultsDto> mapped = compressed.stream()
+                    .map(result -> modelMapper.map(result, SewSelfAwarenessMonitoringKpisResultsDto.class))
+                    .toList();
+            long endTime = System.currentTimeMillis();
+
+            // Every point of the double array is at least 8 bytes of doc values, besides its JSON source
+            long rawBytes = (long) data.size() * Double.BYTES;
+            long encodedBytes = KpiSeriesCodec.encode(data).length();
+
+            assertThat(encodedBytes).isLessThan(rawBytes / 2);
+            assertThat(mapped).allSatisfy(dto -> assertThat(dto.getData()).hasSize(5000));
+            assertThat(endTime - startTime).isLessThan(5000); // Should complete within 5 seconds
+        }
+    }
+}
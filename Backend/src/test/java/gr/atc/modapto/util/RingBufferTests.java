@@ -0,0 +1,40 @@
+package gr.atc.modapto.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RingBuffer Unit Tests")
+class RingBufferTests {
+
+    @Test
+    @DisplayName("Add : Oldest items are overwritten once full")
+    void givenFullBuffer_whenAdd_thenKeepsMostRecentItems() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 1; i <= 5; i++)
+            buffer.add(i);
+
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.latest()).isEqualTo(5);
+        assertThat(buffer.get(2)).isEqualTo(3);
+        assertThat(buffer.get(3)).isNull();
+        assertThat(buffer.last(10)).containsExactly(3, 4, 5);
+        assertThat(buffer.last(2)).containsExactly(4, 5);
+    }
+
+    @Test
+    @DisplayName("Last : Empty buffer")
+    void givenEmptyBuffer_whenLast_thenReturnsEmptyList() {
+        RingBuffer<String> buffer = new RingBuffer<>(4);
+
+        assertThat(buffer.latest()).isNull();
+        assertThat(buffer.last(3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Create : Capacity must be positive")
+    void givenZeroCapacity_whenCreate_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new RingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package gr.atc.modapto.util;
+
+import gr.atc.modapto.enums.DownsamplingMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimeSeriesDownsampler Unit Tests")
+class TimeSeriesDownsamplerTests {
+
+    private static double[] sineWave(int length) {
+        return IntStream.range(0, length).mapToDouble(i -> Math.sin(i / 20.0)).toArray();
+    }
+
+    @Nested
+    @DisplayName("Largest-Triangle-Three-Buckets")
+    class LargestTriangleThreeBuckets {
+
+        @Test
+        @DisplayName("LTTB : Keeps first and last points with increasing positions")
+        void givenLongSeries_whenDownsampleWithLttb_thenKeepsEndpointsInOrder() {
+            double[] data = sineWave(10_000);
+
+            TimeSeriesDownsampler.Series result = TimeSeriesDownsampler.downsample(data, 200, DownsamplingMethod.LTTB);
+
+            assertThat(result.size()).isEqualTo(200);
+            assertThat(result.indices()[0]).isZero();
+            assertThat(result.indices()[199]).isEqualTo(9_999);
+            assertThat(result.indices()).isSorted().doesNotHaveDuplicates();
+            for (int i = 0; i < result.size(); i++)
+                assertThat(result.values()[i]).isEqualTo(data[result.indices()[i]]);
+        }
+
+        @Test
+        @DisplayName("LTTB : Keeps an isolated spike")
+        void givenSeriesWithSpike_whenDownsampleWithLttb_thenKeepsSpike() {
+            double[] data = new double[1_000];
+            data[537] = 100;
+
+            TimeSeriesDownsampler.Series result = TimeSeriesDownsampler.downsample(data, 20, DownsamplingMethod.LTTB);
+
+            assertThat(result.indices()).contains(537);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bucket Aggregations")
+    class BucketAggregations {
+
+        @Test
+        @DisplayName("Min/Max : Keeps extremes of every bucket")
+        void givenSeries_whenDownsampleWithMinMax_thenKeepsGlobalExtremes() {
+            double[] data = sineWave(5_000);
+            data[1_234] = -50;
+            data[4_321] = 50;
+
+            TimeSeriesDownsampler.Series result = TimeSeriesDownsampler.downsample(data, 100, DownsamplingMethod.MIN_MAX);
+
+            assertThat(result.size()).isLessThanOrEqualTo(100);
+            assertThat(result.indices()).isSorted().contains(1_234, 4_321);
+        }
+
+        @Test
+        @DisplayName("Average : Returns the mean of every bucket")
+        void givenLinearSeries_whenDownsampleWithAverage_thenReturnsBucketMeans() {
+            double[] data = IntStream.range(0, 100).mapToDouble(i -> i).toArray();
+
+            TimeSeriesDownsampler.Series result = TimeSeriesDownsampler.downsample(data, 10, DownsamplingMethod.AVERAGE);
+
+            assertThat(result.size()).isEqualTo(10);
+            assertThat(result.values()[0]).isEqualTo(4.5);
+            assertThat(result.values()[9]).isEqualTo(94.5);
+            assertThat(result.indices()[0]).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("Short Series")
+    class ShortSeries {
+
+        @Test
+        @DisplayName("Downsample : Series shorter than the target is kept as it is")
+        void givenShortSeries_whenDownsample_thenReturnsAllPoints() {
+            double[] data = {1, 2, 3};
+
+            TimeSeriesDownsampler.Series result = TimeSeriesDownsampler.downsample(data, 10, DownsamplingMethod.LTTB);
+
+            assertThat(result.values()).containsExactly(1, 2, 3);
+            assertThat(result.indices()).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        @DisplayName("Downsample : Fewer than three target points")
+        void givenTooFewTargetPoints_whenDownsample_thenThrowsException() {
+            assertThatThrownBy(() -> TimeSeriesDownsampler.downsample(sineWave(10), 2, DownsamplingMethod.LTTB))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}